@@ -12,6 +12,7 @@ package org.eclipse.che.wsagent.server;
 
 import com.google.inject.AbstractModule;
 import com.google.inject.Provides;
+import com.google.inject.multibindings.Multibinder;
 import com.google.inject.name.Names;
 
 import org.eclipse.che.ApiEndpointAccessibilityChecker;
@@ -23,6 +24,7 @@ import org.eclipse.che.api.auth.oauth.OAuthTokenProvider;
 import org.eclipse.che.api.core.notification.WSocketEventBusClient;
 import org.eclipse.che.api.core.rest.ApiInfoService;
 import org.eclipse.che.api.core.rest.CoreRestModule;
+import org.eclipse.che.api.core.rest.RequestMetricsLogger;
 import org.eclipse.che.api.core.util.FileCleaner.FileCleanerModule;
 import org.eclipse.che.api.git.GitConnectionFactory;
 import org.eclipse.che.api.git.GitUserResolver;
@@ -75,6 +77,15 @@ public class WsAgentModule extends AbstractModule {
         bind(String.class).annotatedWith(Names.named("event.bus.url")).toProvider(EventBusURLProvider.class);
         bind(ApiEndpointAccessibilityChecker.class);
         bind(WsAgentAnalyticsAddresser.class);
+        bind(RequestMetricsLogger.class);
+
+        bind(org.eclipse.che.everrest.ETagResponseFilter.class);
+        bind(org.eclipse.che.everrest.ETagRequestFilter.class);
+        Multibinder<org.eclipse.che.everrest.ETagProvider> eTagProviders = Multibinder.newSetBinder(binder(),
+                                                                                                    org.eclipse.che.everrest.ETagProvider.class);
+        eTagProviders.addBinding().to(org.eclipse.che.api.project.server.ProjectETagProvider.class);
+        eTagProviders.addBinding().to(org.eclipse.che.api.project.server.VirtualFileETagProvider.class);
+        eTagProviders.addBinding().to(org.eclipse.che.api.git.GitETagProvider.class);
 
         bind(String.class).annotatedWith(Names.named("wsagent.endpoint"))
                           .toProvider(WsAgentURLProvider.class);
@@ -40,6 +40,11 @@ public class WsMasterModule extends AbstractModule {
         bind(org.eclipse.che.plugin.docker.machine.ext.DockerMachineTerminalChecker.class);
         bind(org.eclipse.che.everrest.EverrestDownloadFileResponseFilter.class);
         bind(org.eclipse.che.everrest.ETagResponseFilter.class);
+        bind(org.eclipse.che.everrest.ETagRequestFilter.class);
+        Multibinder<org.eclipse.che.everrest.ETagProvider> eTagProviders = Multibinder.newSetBinder(binder(),
+                                                                                                    org.eclipse.che.everrest.ETagProvider.class);
+        eTagProviders.addBinding().to(org.eclipse.che.api.workspace.server.WorkspaceETagProvider.class);
+        eTagProviders.addBinding().to(org.eclipse.che.api.workspace.server.stack.StackETagProvider.class);
 
         bind(org.eclipse.che.security.oauth.OAuthAuthenticatorProvider.class)
                 .to(org.eclipse.che.security.oauth.OAuthAuthenticatorProviderImpl.class);
@@ -80,6 +85,7 @@ public class WsMasterModule extends AbstractModule {
 
         bind(org.eclipse.che.api.machine.server.terminal.MachineTerminalLauncher.class);
         bind(org.eclipse.che.api.deploy.WsMasterAnalyticsAddresser.class);
+        bind(org.eclipse.che.api.core.rest.RequestMetricsLogger.class);
 
         Multibinder<org.eclipse.che.api.machine.server.spi.InstanceProvider> machineImageProviderMultibinder =
                 Multibinder.newSetBinder(binder(), org.eclipse.che.api.machine.server.spi.InstanceProvider.class);
@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.rest;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import org.eclipse.che.commons.env.EnvironmentContext;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.UriInfo;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonically increasing version of data which is served by REST service, e.g. all the workspaces or stacks.
+ *
+ * <p>Owner of data increments the stamp <b>after</b> every change of data, services compute {@link EntityTag}
+ * <b>before</b> reading of data. So response never gets tag which is newer than its content and conditional
+ * requests with tag of unchanged stamp may be answered with {@code 304 Not Modified} without reading data at all.
+ *
+ * <p>Stamp is kept in memory only, tags include id of the current run of server,
+ * so tags issued before restart never match.
+ */
+public class ChangeStamp {
+    private static final String RUN_ID = Long.toString(System.currentTimeMillis(), 36);
+
+    private final AtomicLong stamp = new AtomicLong();
+
+    /** Returns current value of stamp. */
+    public long get() {
+        return stamp.get();
+    }
+
+    /** Increments stamp, must be called after data is changed. */
+    public long increment() {
+        return stamp.incrementAndGet();
+    }
+
+    /**
+     * Returns tag of data in its current state.
+     *
+     * @param qualifiers
+     *         parameters of request which select part of data, e.g. user id or paging parameters,
+     *         so different responses built from the same state of data get different tags
+     */
+    public EntityTag getEntityTag(Object... qualifiers) {
+        final long current = stamp.get();
+        final Hasher hasher = Hashing.murmur3_128().newHasher();
+        for (Object qualifier : qualifiers) {
+            hasher.putUnencodedChars(String.valueOf(qualifier)).putChar('\0');
+        }
+        return new EntityTag(RUN_ID + '-' + Long.toString(current, 36) + '-' + hasher.hash());
+    }
+
+    /**
+     * Returns tag of response to the request of current user in the current state of data,
+     * requests with different uri, e.g. with different paging parameters, get different tags.
+     *
+     * @param uriInfo
+     *         info about uri of request
+     */
+    public EntityTag getEntityTag(UriInfo uriInfo) {
+        return getEntityTag(EnvironmentContext.getCurrent().getSubject().getUserId(), uriInfo.getRequestUri());
+    }
+}
@@ -10,7 +10,7 @@
  *******************************************************************************/
 package org.eclipse.che.api.core.rest;
 
-import com.google.common.io.CharStreams;
+import com.google.common.io.ByteStreams;
 
 import org.eclipse.che.api.core.BadRequestException;
 import org.eclipse.che.api.core.ConflictException;
@@ -37,9 +37,8 @@ import javax.ws.rs.core.UriBuilder;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.OutputStream;
-import java.io.Reader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.util.ArrayList;
@@ -47,6 +46,7 @@ import java.util.List;
 import java.util.Map;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -57,6 +57,11 @@ import static java.util.Objects.requireNonNull;
  * <p>The instance of this request is reusable, which means that
  * it is possible to call {@link #request()} method more than one time per instance
  *
+ * <p>Request body is written directly to the connection and response content is parsed directly
+ * from UTF-8 bytes, without intermediate strings. Connection isn't disconnected after successful request,
+ * so jdk keeps it alive and reuses it for the next requests to the same host
+ * (size of the pool is configured with {@code http.maxConnections} system property).
+ *
  * @author Yevhenii Voevodin
  * @see DefaultHttpJsonRequestFactory
  */
@@ -65,7 +70,8 @@ public class DefaultHttpJsonRequest implements HttpJsonRequest {
     private static final int      DEFAULT_QUERY_PARAMS_LIST_SIZE = 5;
     private static final Object[] EMPTY_ARRAY                    = new Object[0];
 
-    private final String url;
+    private final String                 url;
+    private final HttpJsonRequestMetrics metrics;
 
     private int                   timeout;
     private String                method;
@@ -74,11 +80,28 @@ public class DefaultHttpJsonRequest implements HttpJsonRequest {
     private String                authorizationHeaderValue;
 
     DefaultHttpJsonRequest(String url) {
-        this.url = requireNonNull(url, "Required non-null url");
+        this(url, (HttpJsonRequestMetrics)null);
     }
 
     DefaultHttpJsonRequest(Link link) {
-        this(requireNonNull(link, "Required non-null link").getHref());
+        this(link, null);
+    }
+
+    /**
+     * @param metrics
+     *         collector of latency of requests, may be null
+     */
+    DefaultHttpJsonRequest(String url, HttpJsonRequestMetrics metrics) {
+        this.url = requireNonNull(url, "Required non-null url");
+        this.metrics = metrics;
+    }
+
+    /**
+     * @param metrics
+     *         collector of latency of requests, may be null
+     */
+    DefaultHttpJsonRequest(Link link, HttpJsonRequestMetrics metrics) {
+        this(requireNonNull(link, "Required non-null link").getHref(), metrics);
         this.method = link.getMethod();
     }
 
@@ -152,7 +175,18 @@ public class DefaultHttpJsonRequest implements HttpJsonRequest {
         if (method == null) {
             throw new IllegalStateException("Could not perform request, request method wasn't set");
         }
-        return doRequest(timeout, url, method, body, queryParams, authorizationHeaderValue);
+        if (metrics == null) {
+            return doRequest(timeout, url, method, body, queryParams, authorizationHeaderValue);
+        }
+        final long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            final DefaultHttpJsonResponse response = doRequest(timeout, url, method, body, queryParams, authorizationHeaderValue);
+            failed = false;
+            return response;
+        } finally {
+            metrics.record(method, url, System.nanoTime() - start, failed);
+        }
     }
 
     /**
@@ -237,8 +271,8 @@ public class DefaultHttpJsonRequest implements HttpJsonRequest {
                     conn.setRequestProperty("X-HTTP-Method-Override", HttpMethod.DELETE);
                 }
 
-                try (OutputStream output = conn.getOutputStream()) {
-                    output.write(DtoFactory.getInstance().toJson(body).getBytes());
+                try (Writer writer = new OutputStreamWriter(conn.getOutputStream(), UTF_8)) {
+                    DtoFactory.getInstance().toJson(body, writer);
                 }
             }
 
@@ -249,8 +283,8 @@ public class DefaultHttpJsonRequest implements HttpJsonRequest {
                     in = conn.getInputStream();
                 }
                 final String str;
-                try (Reader reader = new InputStreamReader(in)) {
-                    str = CharStreams.toString(reader);
+                try (InputStream input = in) {
+                    str = new String(ByteStreams.toByteArray(input), UTF_8);
                 }
                 final String contentType = conn.getContentType();
                 if (contentType != null && contentType.startsWith(MediaType.APPLICATION_JSON)) {
@@ -281,11 +315,14 @@ public class DefaultHttpJsonRequest implements HttpJsonRequest {
                 throw new IOException(conn.getResponseMessage());
             }
 
-            try (Reader reader = new InputStreamReader(conn.getInputStream())) {
-                return new DefaultHttpJsonResponse(CharStreams.toString(reader), responseCode);
+            // content must be read till the end, otherwise connection can't be reused
+            try (InputStream input = conn.getInputStream()) {
+                return new DefaultHttpJsonResponse(ByteStreams.toByteArray(input), responseCode);
             }
-        } finally {
+        } catch (IOException x) {
+            // state of connection is unknown, don't return it to the pool of alive connections
             conn.disconnect();
+            throw x;
         }
     }
 
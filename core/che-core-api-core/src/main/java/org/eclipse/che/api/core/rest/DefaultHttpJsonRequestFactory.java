@@ -12,24 +12,43 @@ package org.eclipse.che.api.core.rest;
 
 import org.eclipse.che.api.core.rest.shared.dto.Link;
 
+import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.validation.constraints.NotNull;
 
 /**
  * Creates {@link DefaultHttpJsonRequest} instances.
  *
+ * <p>All created requests report their latency to the same {@link HttpJsonRequestMetrics}.
+ *
  * @author Yevhenii Voevodin
  */
 @Singleton
 public class DefaultHttpJsonRequestFactory implements HttpJsonRequestFactory {
 
+    private final HttpJsonRequestMetrics metrics;
+
+    public DefaultHttpJsonRequestFactory() {
+        this(new HttpJsonRequestMetrics());
+    }
+
+    @Inject
+    public DefaultHttpJsonRequestFactory(HttpJsonRequestMetrics metrics) {
+        this.metrics = metrics;
+    }
+
     @Override
     public HttpJsonRequest fromUrl(@NotNull String url) {
-        return new DefaultHttpJsonRequest(url);
+        return new DefaultHttpJsonRequest(url, metrics);
     }
 
     @Override
     public HttpJsonRequest fromLink(@NotNull Link link) {
-        return new DefaultHttpJsonRequest(link);
+        return new DefaultHttpJsonRequest(link, metrics);
+    }
+
+    /** Returns latency of requests created by this factory. */
+    public HttpJsonRequestMetrics getMetrics() {
+        return metrics;
     }
 }
@@ -10,7 +10,10 @@
  *******************************************************************************/
 package org.eclipse.che.api.core.rest;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Map;
@@ -21,6 +24,7 @@ import org.eclipse.che.dto.server.DtoFactory;
 
 import com.google.gson.reflect.TypeToken;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -32,29 +36,60 @@ public class DefaultHttpJsonResponse implements HttpJsonResponse {
 
     private static final Type STRING_MAP_TYPE = new TypeToken<Map<String, String>>() {}.getType();
 
-    private final String responseBody;
-    private final int responseCode;
+    private final byte[] responseBytes;
+    private final int    responseCode;
+
+    private String responseBody;
 
     DefaultHttpJsonResponse(String response, int responseCode) {
         this.responseBody = response;
+        this.responseBytes = null;
+        this.responseCode = responseCode;
+    }
+
+    /**
+     * Creates response from raw UTF-8 encoded content. Content is parsed directly to the requested type,
+     * string representation is created only if it is requested with {@link #asString()}.
+     */
+    DefaultHttpJsonResponse(byte[] response, int responseCode) {
+        this.responseBytes = response;
         this.responseCode = responseCode;
     }
 
     @Override
     public String asString() {
+        if (responseBody == null && responseBytes != null) {
+            responseBody = new String(responseBytes, UTF_8);
+        }
         return responseBody;
     }
 
     @Override
     public <T> T asDto(Class<T> dtoInterface) {
         requireNonNull(dtoInterface, "Required non-null dto interface");
-        return DtoFactory.getInstance().createDtoFromJson(responseBody, dtoInterface);
+        if (responseBytes == null) {
+            return DtoFactory.getInstance().createDtoFromJson(responseBody, dtoInterface);
+        }
+        try (Reader reader = openReader()) {
+            return DtoFactory.getInstance().createDtoFromJson(reader, dtoInterface);
+        } catch (IOException x) {
+            // never happens, content is read from memory
+            throw new IllegalStateException(x.getMessage(), x);
+        }
     }
 
     @Override
     public <T> List<T> asList(Class<T> dtoInterface) {
         requireNonNull(dtoInterface, "Required non-null dto interface");
-        return DtoFactory.getInstance().createListDtoFromJson(responseBody, dtoInterface);
+        if (responseBytes == null) {
+            return DtoFactory.getInstance().createListDtoFromJson(responseBody, dtoInterface);
+        }
+        try (Reader reader = openReader()) {
+            return DtoFactory.getInstance().createListDtoFromJson(reader, dtoInterface);
+        } catch (IOException x) {
+            // never happens, content is read from memory
+            throw new IllegalStateException(x.getMessage(), x);
+        }
     }
 
     @Override
@@ -67,7 +102,12 @@ public class DefaultHttpJsonResponse implements HttpJsonResponse {
     public <T> T as(Class<T> clazz, Type genericType) throws IOException {
         requireNonNull(clazz, "Required non-null class");
         try {
-            return JsonHelper.fromJson(responseBody, clazz, genericType);
+            if (responseBytes == null) {
+                return JsonHelper.fromJson(responseBody, clazz, genericType);
+            }
+            try (Reader reader = openReader()) {
+                return JsonHelper.fromJson(reader, clazz, genericType);
+            }
         } catch (JsonParseException jsonEx) {
             throw new IOException(jsonEx.getLocalizedMessage(), jsonEx);
         }
@@ -77,5 +117,9 @@ public class DefaultHttpJsonResponse implements HttpJsonResponse {
     public int getResponseCode() {
         return responseCode;
     }
+
+    private Reader openReader() {
+        return new InputStreamReader(new ByteArrayInputStream(responseBytes), UTF_8);
+    }
 }
 
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.rest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.inject.Singleton;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Collects latency of requests made with {@link DefaultHttpJsonRequest}, per endpoint.
+ *
+ * <p>Endpoint is identified by http method and path of request url. Path segments which contain digits,
+ * e.g. ids of workspaces or machines, are replaced with {@code *}, so requests to the same service of different
+ * workspaces are accounted together. Number of tracked endpoints is limited, requests to other endpoints are accounted
+ * in single bucket per http method.
+ */
+@Singleton
+public class HttpJsonRequestMetrics {
+    private static final Logger LOG = LoggerFactory.getLogger(HttpJsonRequestMetrics.class);
+
+    static final int MAX_ENDPOINTS = 500;
+
+    private static final Pattern ID_SEGMENT = Pattern.compile("/[^/]*[0-9][^/]*");
+
+    private final ConcurrentMap<String, Latency> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Records result of single request.
+     *
+     * @param method
+     *         http method of request
+     * @param url
+     *         request url
+     * @param nanos
+     *         duration of request in nanoseconds
+     * @param failed
+     *         {@code true} if request failed with i/o error or error response
+     */
+    public void record(String method, String url, long nanos, boolean failed) {
+        String endpoint = endpointOf(method, url);
+        Latency latency = endpoints.get(endpoint);
+        if (latency == null) {
+            if (endpoints.size() >= MAX_ENDPOINTS) {
+                endpoint = method + " *";
+            }
+            latency = endpoints.computeIfAbsent(endpoint, key -> new Latency());
+        }
+        latency.add(nanos, failed);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("{} {} took {} ms{}", method, url, TimeUnit.NANOSECONDS.toMillis(nanos), failed ? ", failed" : "");
+        }
+    }
+
+    /** Returns snapshot of latency of all tracked endpoints, e.g. {@code "GET /api/workspace/*"}. */
+    public Map<String, Latency> getEndpoints() {
+        return Collections.unmodifiableMap(new HashMap<>(endpoints));
+    }
+
+    static String endpointOf(String method, String url) {
+        String path;
+        try {
+            path = new URI(url).getRawPath();
+        } catch (URISyntaxException e) {
+            path = null;
+        }
+        if (path == null) {
+            final int query = url.indexOf('?');
+            path = query < 0 ? url : url.substring(0, query);
+        }
+        return method + ' ' + ID_SEGMENT.matcher(path).replaceAll("/*");
+    }
+
+    /** Accumulated latency of requests to single endpoint. */
+    public static class Latency {
+        private final AtomicLong count      = new AtomicLong();
+        private final AtomicLong errors     = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos   = new AtomicLong();
+
+        void add(long nanos, boolean failed) {
+            count.incrementAndGet();
+            if (failed) {
+                errors.incrementAndGet();
+            }
+            totalNanos.addAndGet(nanos);
+            long max;
+            while (nanos > (max = maxNanos.get()) && !maxNanos.compareAndSet(max, nanos)) {
+                // retry
+            }
+        }
+
+        /** Returns number of requests. */
+        public long getCount() {
+            return count.get();
+        }
+
+        /** Returns number of failed requests. */
+        public long getErrors() {
+            return errors.get();
+        }
+
+        /** Returns average duration of request in milliseconds. */
+        public long getAverageMillis() {
+            final long c = count.get();
+            return c == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos.get() / c);
+        }
+
+        /** Returns max duration of request in milliseconds. */
+        public long getMaxMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+        }
+
+        @Override
+        public String toString() {
+            return "Latency{" +
+                   "count=" + getCount() +
+                   ", errors=" + getErrors() +
+                   ", averageMillis=" + getAverageMillis() +
+                   ", maxMillis=" + getMaxMillis() +
+                   '}';
+        }
+    }
+}
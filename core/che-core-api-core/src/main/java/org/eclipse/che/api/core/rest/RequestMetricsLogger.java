@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.rest;
+
+import org.eclipse.che.commons.schedule.ScheduleRate;
+import org.eclipse.che.everrest.ETagMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically logs {@link ETagMetrics effectiveness of conditional GET requests} served by this server
+ * and {@link HttpJsonRequestMetrics latency of requests} made by this server to other Che servers.
+ *
+ * <p>Metrics are logged with INFO level, so logging is turned off by raising level of this logger.
+ */
+@Singleton
+public class RequestMetricsLogger {
+    private static final Logger LOG = LoggerFactory.getLogger(RequestMetricsLogger.class);
+
+    private final ETagMetrics            eTagMetrics;
+    private final HttpJsonRequestMetrics requestMetrics;
+
+    @Inject
+    public RequestMetricsLogger(ETagMetrics eTagMetrics, HttpJsonRequestMetrics requestMetrics) {
+        this.eTagMetrics = eTagMetrics;
+        this.requestMetrics = requestMetrics;
+    }
+
+    @ScheduleRate(periodParameterName = "che.rest.metrics.log_period_min",
+                  initialDelayParameterName = "che.rest.metrics.log_period_min",
+                  unit = TimeUnit.MINUTES)
+    void log() {
+        if (!LOG.isInfoEnabled()) {
+            return;
+        }
+        if (eTagMetrics.getRequests() > 0) {
+            LOG.info("Conditional GET requests: {}", eTagMetrics);
+        }
+        for (Map.Entry<String, HttpJsonRequestMetrics.Latency> entry : new TreeMap<>(requestMetrics.getEndpoints()).entrySet()) {
+            LOG.info("Requests {}: {}", entry.getKey(), entry.getValue());
+        }
+    }
+}
@@ -47,4 +47,9 @@ class DefaultProcessManager extends ProcessManager {
     int system(String command) {
         throw new UnsupportedOperationException();
     }
+
+    @Override
+    long getCpuTime(Process process) {
+        return -1;
+    }
 }
@@ -24,4 +24,7 @@ abstract class ProcessManager {
     abstract boolean isAlive(Process process);
 
     abstract int system(String command);
+
+    /** Returns CPU time of running process in milliseconds or -1 if it isn't available. */
+    abstract long getCpuTime(Process process);
 }
@@ -0,0 +1,455 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.util;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pumps output of child processes to {@link LineConsumer}s and fires timeouts of them with few threads
+ * which are shared by all processes of the server.
+ * <p/>
+ * Java doesn't provide non-blocking streams of processes, so streams are polled: each pumping thread reads
+ * everything that is available in streams of its processes and sleeps a bit when there was nothing to read.
+ * Stdout and stderr of process are read concurrently, so process never hangs on full pipe of stream which
+ * isn't read. Pumping of process ends when process exits and nothing was read from its streams during a short
+ * period after that. Streams are never read when nothing is available, so a process whose child still holds
+ * its pipes open can't block pumping thread. Lines are passed to consumers by pumping thread, so consumers
+ * should not block for long.
+ * <p/>
+ * Timeouts are fired by single timer thread, see {@link #schedule(Runnable, long, TimeUnit)}.
+ */
+public final class ProcessReactor {
+    private static final Logger LOG = LoggerFactory.getLogger(ProcessReactor.class);
+
+    private static final int SLEEP_WHEN_WAS_ACTIVE = 1;
+    private static final int SLEEP_WHEN_IDLE       = 10;
+    /** CPU time of process isn't available after its exit, so it is sampled while process runs. */
+    private static final int CPU_TIME_SAMPLE_PERIOD = 200;
+    /** Rest of output of exited process, e.g. output buffered by JVM, is read during this period. */
+    private static final int EXIT_DRAIN_PERIOD      = 50;
+
+    private static final ProcessReactor INSTANCE = new ProcessReactor(Math.max(2, Runtime.getRuntime().availableProcessors() / 2));
+
+    public static ProcessReactor getInstance() {
+        return INSTANCE;
+    }
+
+    private final Loop[]                      loops;
+    private final ScheduledThreadPoolExecutor timer;
+
+    ProcessReactor(int threads) {
+        final ThreadFactory loopThreadFactory = new ThreadFactoryBuilder().setNameFormat("ProcessReactor-%d")
+                                                                          .setDaemon(true)
+                                                                          .build();
+        loops = new Loop[threads];
+        for (int i = 0; i < threads; i++) {
+            loops[i] = new Loop();
+            loops[i].thread = loopThreadFactory.newThread(loops[i]);
+            loops[i].thread.start();
+        }
+        timer = new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder().setNameFormat("ProcessReactorTimer")
+                                                                             .setDaemon(true)
+                                                                             .build());
+        // cancelled timeouts of processes which end in time shouldn't stay in queue
+        timer.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Starts pumping of stdout and stderr of the process.
+     *
+     * @param process
+     *         process to read output from
+     * @param stdout
+     *         a consumer where stdout will be redirected
+     * @param stderr
+     *         a consumer where stderr will be redirected, may be {@code null} if stderr is redirected to stdout
+     * @return pump which tracks reading of the process output
+     */
+    public Pump pump(Process process, LineConsumer stdout, LineConsumer stderr) {
+        final Pump pump = stderr == null ? new Pump(process, new Source(process.getInputStream(), stdout))
+                                         : new Pump(process, new Source(process.getInputStream(), stdout),
+                                                    new Source(process.getErrorStream(), stderr));
+        leastLoaded().add(pump);
+        return pump;
+    }
+
+    /**
+     * Starts pumping of one stream of the process.
+     *
+     * @param process
+     *         process which writes to the stream
+     * @param input
+     *         stdout or stderr of the process
+     * @param consumer
+     *         a consumer where content of stream will be redirected
+     * @return pump which tracks reading of the stream
+     */
+    public Pump pump(Process process, InputStream input, LineConsumer consumer) {
+        final Pump pump = new Pump(process, new Source(input, consumer));
+        leastLoaded().add(pump);
+        return pump;
+    }
+
+    /**
+     * Pumps stdout and stderr of the process and waits until process ends.
+     * <p/>
+     * If it is called by pumping thread, e.g. from {@link LineConsumer}, output is pumped by calling thread.
+     *
+     * @see #pump(Process, LineConsumer, LineConsumer)
+     */
+    public Pump process(Process process, LineConsumer stdout, LineConsumer stderr) throws IOException {
+        final Pump pump;
+        if (isPumpingThread()) {
+            pump = stderr == null ? new Pump(process, new Source(process.getInputStream(), stdout))
+                                  : new Pump(process, new Source(process.getInputStream(), stdout),
+                                             new Source(process.getErrorStream(), stderr));
+            final byte[] buffer = new byte[8192];
+            while (!pump.isDone()) {
+                if (!pump.poll(buffer)) {
+                    sleep(SLEEP_WHEN_IDLE);
+                }
+            }
+        } else {
+            pump = pump(process, stdout, stderr);
+            try {
+                pump.await();
+            } catch (InterruptedException e) {
+                pump.cancel();
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while reading output of process");
+            }
+        }
+        if (pump.getException() != null) {
+            throw pump.getException();
+        }
+        return pump;
+    }
+
+    /**
+     * Runs task once after given delay by timer thread. Task should be short, e.g. kill process.
+     *
+     * @return future which cancels task if it isn't run yet
+     */
+    public Future<?> schedule(Runnable task, long delay, TimeUnit unit) {
+        return timer.schedule(task, delay, unit);
+    }
+
+    private Loop leastLoaded() {
+        Loop result = loops[0];
+        for (int i = 1; i < loops.length; i++) {
+            if (loops[i].size.get() < result.size.get()) {
+                result = loops[i];
+            }
+        }
+        return result;
+    }
+
+    private boolean isPumpingThread() {
+        final Thread current = Thread.currentThread();
+        for (Loop loop : loops) {
+            if (loop.thread == current) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ignored) {
+        }
+    }
+
+    /** Reading of output of one process. */
+    public static final class Pump {
+        private final Process  process;
+        private final Source[] sources;
+        private final long     started;
+
+        private volatile boolean cancelled;
+
+        private boolean     done;
+        private IOException exception;
+        private long        wallTime;
+        private long        cpuTime;
+        private long        cpuTimeSampled;
+        private long        exitedAt;
+
+        private Pump(Process process, Source... sources) {
+            this.process = process;
+            this.sources = sources;
+            this.started = System.currentTimeMillis();
+            this.cpuTime = -1;
+        }
+
+        /** Waits until output of process is read. */
+        public synchronized void await() throws InterruptedException {
+            while (!done) {
+                wait();
+            }
+        }
+
+        /**
+         * Waits until output of process is read but not longer than given timeout.
+         *
+         * @return {@code true} if output is read and {@code false} if timeout is reached
+         */
+        public synchronized boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+            final long end = System.currentTimeMillis() + unit.toMillis(timeout);
+            long now;
+            while (!done && (end > (now = System.currentTimeMillis()))) {
+                wait(end - now);
+            }
+            return done;
+        }
+
+        public synchronized boolean isDone() {
+            return done;
+        }
+
+        /** Returns error of reading or consuming of output or {@code null} if there was no error. */
+        public synchronized IOException getException() {
+            return exception;
+        }
+
+        /** Stops reading of output and closes streams, process isn't stopped. */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        /** Returns milliseconds between start of pumping and end of process output or -1 if pumping isn't done yet. */
+        public synchronized long getWallTime() {
+            return done ? wallTime : -1;
+        }
+
+        /**
+         * Returns CPU time of process in milliseconds or -1 if it isn't available on this system. Time is sampled
+         * while process runs, so it may miss last fraction of second of process life.
+         */
+        public synchronized long getCpuTime() {
+            return cpuTime;
+        }
+
+        /** Reads available output, returns {@code true} if something was read. */
+        boolean poll(byte[] buffer) {
+            if (cancelled) {
+                done(null);
+                return false;
+            }
+            // check before reading, so everything written by process before exit is available on this pass
+            final boolean exited = !process.isAlive();
+            final long now = System.currentTimeMillis();
+            if (!exited) {
+                sampleCpuTime(now);
+            } else if (exitedAt == 0) {
+                exitedAt = now;
+            }
+            boolean active = false;
+            boolean eof = true;
+            try {
+                for (Source source : sources) {
+                    active |= source.read(buffer);
+                    eof &= source.eof;
+                }
+                if (!eof && !active && exited && now - exitedAt >= EXIT_DRAIN_PERIOD) {
+                    // streams may be held open by children of the process, don't wait for their end
+                    for (Source source : sources) {
+                        source.endOfStream();
+                    }
+                    eof = true;
+                }
+            } catch (IOException e) {
+                done(e);
+                return true;
+            }
+            if (eof) {
+                done(null);
+            }
+            return active;
+        }
+
+        private void sampleCpuTime(long now) {
+            if (now - cpuTimeSampled >= CPU_TIME_SAMPLE_PERIOD) {
+                cpuTimeSampled = now;
+                final long sample = ProcessUtil.getCpuTime(process);
+                synchronized (this) {
+                    cpuTime = sample;
+                }
+            }
+        }
+
+        private void done(IOException error) {
+            for (Source source : sources) {
+                source.close();
+            }
+            synchronized (this) {
+                done = true;
+                exception = error;
+                wallTime = System.currentTimeMillis() - started;
+                notifyAll();
+            }
+            LOG.debug("Output of process is pumped, wall time {} ms, cpu time {} ms", wallTime, cpuTime);
+        }
+    }
+
+    /** One stream of process, splits its content to lines in the same way as {@link java.io.BufferedReader#readLine()} does. */
+    private static final class Source {
+        private final InputStream  input;
+        private final LineConsumer consumer;
+
+        private byte[]  line;
+        private int     length;
+        private boolean lastWasCR;
+        private boolean eof;
+
+        Source(InputStream input, LineConsumer consumer) {
+            this.input = input;
+            this.consumer = consumer;
+            this.line = new byte[256];
+        }
+
+        /** Reads what is available without blocking, returns {@code true} if something was read. */
+        boolean read(byte[] buffer) throws IOException {
+            if (eof) {
+                return false;
+            }
+            boolean active = false;
+            int available;
+            while ((available = input.available()) > 0) {
+                final int n = input.read(buffer, 0, Math.min(available, buffer.length));
+                if (n == -1) {
+                    endOfStream();
+                    return active;
+                }
+                consume(buffer, n);
+                active = true;
+            }
+            return active;
+        }
+
+        private void consume(byte[] buffer, int n) throws IOException {
+            for (int i = 0; i < n; i++) {
+                final byte b = buffer[i];
+                if (b == '\n') {
+                    if (!lastWasCR) {
+                        writeLine();
+                    }
+                    lastWasCR = false;
+                } else if (b == '\r') {
+                    writeLine();
+                    lastWasCR = true;
+                } else {
+                    lastWasCR = false;
+                    if (length == line.length) {
+                        line = Arrays.copyOf(line, length * 2);
+                    }
+                    line[length++] = b;
+                }
+            }
+        }
+
+        private void writeLine() throws IOException {
+            final String value = new String(line, 0, length, Charset.defaultCharset());
+            length = 0;
+            consumer.writeLine(value);
+        }
+
+        void endOfStream() throws IOException {
+            if (eof) {
+                return;
+            }
+            eof = true;
+            if (length > 0) {
+                writeLine();
+            }
+        }
+
+        void close() {
+            try {
+                input.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    /** Pumps output of processes assigned to one thread. */
+    private static final class Loop implements Runnable {
+        private final Queue<Pump>   added  = new ConcurrentLinkedQueue<>();
+        private final List<Pump>    pumps  = new ArrayList<>();
+        private final AtomicInteger size   = new AtomicInteger();
+        private final byte[]        buffer = new byte[8192];
+
+        private Thread thread;
+
+        void add(Pump pump) {
+            size.incrementAndGet();
+            added.add(pump);
+            synchronized (this) {
+                notify();
+            }
+        }
+
+        @Override
+        public void run() {
+            for (; ; ) {
+                Pump pump;
+                while ((pump = added.poll()) != null) {
+                    pumps.add(pump);
+                }
+                if (pumps.isEmpty()) {
+                    synchronized (this) {
+                        while (added.isEmpty()) {
+                            try {
+                                wait();
+                            } catch (InterruptedException ignored) {
+                            }
+                        }
+                    }
+                    continue;
+                }
+                boolean active = false;
+                for (Iterator<Pump> i = pumps.iterator(); i.hasNext(); ) {
+                    final Pump next = i.next();
+                    try {
+                        active |= next.poll(buffer);
+                    } catch (RuntimeException e) {
+                        LOG.error(e.getMessage(), e);
+                        next.done(new IOException(e.getMessage(), e));
+                    }
+                    if (next.isDone()) {
+                        i.remove();
+                        size.decrementAndGet();
+                    }
+                }
+                sleep(active ? SLEEP_WHEN_WAS_ACTIVE : SLEEP_WHEN_IDLE);
+            }
+        }
+    }
+}
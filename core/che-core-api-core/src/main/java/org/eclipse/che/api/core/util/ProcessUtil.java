@@ -10,9 +10,7 @@
  *******************************************************************************/
 package org.eclipse.che.api.core.util;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
 
 /**
  * Helpers to manage system processes.
@@ -25,7 +23,8 @@ public final class ProcessUtil {
 
     /**
      * Writes stdout and stderr of the process to consumers.<br>
-     * Supposes that stderr of the process is redirected to stdout.
+     * Stdout and stderr are read concurrently by threads of {@link ProcessReactor}, method returns when process ends and
+     * all its output is read.
      *
      * @param p
      *         process to read output from
@@ -36,16 +35,7 @@ public final class ProcessUtil {
      * @throws IOException
      */
     public static void process(Process p, LineConsumer stdout, LineConsumer stderr) throws IOException {
-        try (BufferedReader inputReader = new BufferedReader(new InputStreamReader(p.getInputStream()));
-             BufferedReader errorReader = new BufferedReader(new InputStreamReader(p.getErrorStream()))) {
-            String line;
-            while ((line = inputReader.readLine()) != null) {
-                stdout.writeLine(line);
-            }
-            while ((line = errorReader.readLine()) != null) {
-                stderr.writeLine(line);
-            }
-        }
+        ProcessReactor.getInstance().process(p, stdout, stderr);
     }
 
     /**
@@ -59,12 +49,7 @@ public final class ProcessUtil {
      * @throws IOException
      */
     public static void process(Process p, LineConsumer stdout) throws IOException {
-        try (BufferedReader inputReader = new BufferedReader(new InputStreamReader(p.getInputStream()))) {
-            String line;
-            while ((line = inputReader.readLine()) != null) {
-                stdout.writeLine(line);
-            }
-        }
+        ProcessReactor.getInstance().process(p, stdout, null);
     }
 
     /**
@@ -95,6 +80,11 @@ public final class ProcessUtil {
         PROCESS_MANAGER.kill(process);
     }
 
+    /** Returns CPU time of running process in milliseconds or -1 if it isn't available on this system. */
+    public static long getCpuTime(Process process) {
+        return PROCESS_MANAGER.getCpuTime(process);
+    }
+
     public static int system(String command) {
         return PROCESS_MANAGER.system(command);
     }
@@ -10,67 +10,45 @@
  *******************************************************************************/
 package org.eclipse.che.api.core.util;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStreamReader;
-
-/** @author andrew00x */
-public final class StreamPump implements Runnable {
-
-    private BufferedReader bufferedReader;
-    private LineConsumer   lineConsumer;
+/**
+ * Pumps stdout of process to {@link LineConsumer}. Stream is read by shared threads of {@link ProcessReactor}.
+ *
+ * @author andrew00x
+ */
+public final class StreamPump {
 
-    private Exception exception;
-    private boolean   done;
+    private ProcessReactor.Pump pump;
 
     public synchronized void start(Process process, LineConsumer lineConsumer) {
-        this.lineConsumer = lineConsumer;
-        bufferedReader = new BufferedReader(new InputStreamReader(process.getInputStream()));
-        final Thread t = new Thread(this, "StreamPump");
-        t.setDaemon(true);
-        t.start();
+        pump = ProcessReactor.getInstance().pump(process, process.getInputStream(), lineConsumer);
     }
 
     public synchronized void stop() {
-        // Not clear do we need close original stream, but since it was wrapped by BufferedReader close it anyway.
-        try {
-            bufferedReader.close();
-        } catch (IOException ignored) {
+        if (pump != null) {
+            pump.cancel();
         }
     }
 
-    public synchronized void await() throws InterruptedException {
-        while (!done) {
-            wait();
-        }
+    public void await() throws InterruptedException {
+        getPump().await();
     }
 
-    public synchronized boolean isDone() {
-        return done;
+    public boolean isDone() {
+        return getPump().isDone();
     }
 
     public boolean hasError() {
-        return null != exception;
+        return null != getPump().getException();
     }
 
     public Exception getException() {
-        return exception;
+        return getPump().getException();
     }
 
-    @Override
-    public void run() {
-        String line;
-        try {
-            while ((line = bufferedReader.readLine()) != null) {
-                lineConsumer.writeLine(line);
-            }
-        } catch (IOException e) {
-            exception = e;
-        } finally {
-            synchronized (this) {
-                done = true;
-                notifyAll();
-            }
+    private synchronized ProcessReactor.Pump getPump() {
+        if (pump == null) {
+            throw new IllegalStateException("Pump isn't started");
         }
+        return pump;
     }
 }
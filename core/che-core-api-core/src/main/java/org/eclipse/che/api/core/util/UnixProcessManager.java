@@ -18,10 +18,16 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 /**
  * Process manager for *nix like system.
  *
@@ -62,6 +68,8 @@ class UnixProcessManager extends ProcessManager {
         // kill -l
         int SIGKILL = 9;
         int SIGTERM = 15;
+        // linux
+        int SIGSTOP = 19;
 
         int kill(int pid, int signal);
 
@@ -72,6 +80,11 @@ class UnixProcessManager extends ProcessManager {
 
     private static final Pattern UNIX_PS_TABLE_PATTERN = Pattern.compile("\\s+");
 
+    private static final UnixProcessTree PROCESS_TREE = new UnixProcessTree(Paths.get("/proc"));
+
+    /** USER_HZ, the same on all common linux platforms. */
+    private static final int CLOCK_TICKS_PER_SECOND = 100;
+
     @Override
     public void kill(Process process) {
         if (C_LIBRARY != null) {
@@ -82,18 +95,59 @@ class UnixProcessManager extends ProcessManager {
     }
 
     private void killTree(int pid) {
+        if (!PROCESS_TREE.isAvailable()) {
+            killTreeWithPs(pid);
+            return;
+        }
+        // stopped process can't start new children, so whole tree is collected level by level before it is killed,
+        // children of each level are read after the level is stopped
+        final List<Integer> tree = new ArrayList<>();
+        C_LIBRARY.kill(pid, CLibrary.SIGSTOP);
+        List<Integer> level = Collections.singletonList(pid);
+        while (!level.isEmpty()) {
+            tree.addAll(level);
+            final List<Integer> nextLevel = new ArrayList<>();
+            try {
+                for (Map.Entry<Integer, int[]> entry : PROCESS_TREE.getChildren(level).entrySet()) {
+                    for (int child : entry.getValue()) {
+                        // child may exit after it is read and its id may be reused by other process, while
+                        // parent is stopped it can't reap its child, so id of child can't be reused after this check
+                        if (PROCESS_TREE.isChild(child, entry.getKey())) {
+                            C_LIBRARY.kill(child, CLibrary.SIGSTOP);
+                            nextLevel.add(child);
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                LOG.warn("Can't get child processes of {}: {}", level, e.getMessage());
+            }
+            level = nextLevel;
+        }
+        LOG.debug("PID: {}, process tree: {}", pid, tree);
+        // children first, the same order as in killing with ps
+        for (int i = tree.size() - 1; i >= 0; i--) {
+            kill(tree.get(i));
+        }
+    }
+
+    private void killTreeWithPs(int pid) {
         final int[] children = getChildProcesses(pid);
         LOG.debug("PID: {}, child PIDs: {}", pid, children);
         if (children.length > 0) {
             for (int cpid : children) {
-                killTree(cpid); // kill process tree recursively
+                killTreeWithPs(cpid); // kill process tree recursively
             }
         }
-        int r = C_LIBRARY.kill(pid, CLibrary.SIGKILL); // kill origin process
+        kill(pid); // kill origin process
+    }
+
+    private void kill(int pid) {
+        int r = C_LIBRARY.kill(pid, CLibrary.SIGKILL);
         LOG.debug("kill {}", pid);
         if (r != 0) {
             if (LOG.isDebugEnabled()) {
-                LOG.debug("kill for {} returns {}, strerror '{}'", pid, r, C_LIBRARY.strerror(r));
+                final int errno = Native.getLastError();
+                LOG.debug("kill for {} returns {}, strerror '{}'", pid, r, C_LIBRARY.strerror(errno));
             }
         }
     }
@@ -180,4 +234,28 @@ class UnixProcessManager extends ProcessManager {
     int system(String command) {
         return C_LIBRARY.system(command);
     }
+
+    @Override
+    long getCpuTime(Process process) {
+        if (PID_FIELD == null) {
+            return -1;
+        }
+        // Linux only: 'pid (comm) state ppid ... utime stime ...', times are in clock ticks
+        final String stat;
+        try {
+            stat = new String(Files.readAllBytes(Paths.get("/proc", String.valueOf(getPid(process)), "stat")), UTF_8);
+        } catch (IOException | IllegalStateException e) {
+            return -1;
+        }
+        // name of command may contain spaces and parentheses
+        final String[] fields = UNIX_PS_TABLE_PATTERN.split(stat.substring(stat.lastIndexOf(')') + 2));
+        if (fields.length < 13) {
+            return -1;
+        }
+        try {
+            return (Long.parseLong(fields[11]) + Long.parseLong(fields[12])) * 1000 / CLOCK_TICKS_PER_SECOND;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
 }
@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.util;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Lists child processes with help of {@code /proc} file system of linux, without starting of any process.
+ * <p/>
+ * Children of process are read from {@code /proc/<pid>/task/<tid>/children} if kernel provides these files.
+ * Otherwise they are found in snapshot of parents of all processes which is built from {@code /proc/<pid>/stat}.
+ * Snapshot is taken once for all processes which children are requested together, e.g. one level of process tree,
+ * and it is never reused later, since it doesn't contain processes started after it is taken.
+ */
+final class UnixProcessTree {
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+    private static final int[]   EMPTY  = new int[0];
+
+    private final Path root;
+
+    private volatile Boolean childrenFiles;
+
+    UnixProcessTree(Path root) {
+        this.root = root;
+    }
+
+    /** Returns {@code true} if {@code /proc} file system is available on this system. */
+    boolean isAvailable() {
+        return Files.isDirectory(root) && Files.exists(root.resolve("stat"));
+    }
+
+    /** Returns ids of direct children of process or empty array if process doesn't exist or doesn't have children. */
+    int[] getChildren(int pid) throws IOException {
+        return getChildren(Collections.singletonList(pid)).get(pid);
+    }
+
+    /**
+     * Returns ids of direct children of each given process, children of process which doesn't exist are empty.
+     * Processes should be stopped, otherwise children which they start while they are read may be missed.
+     */
+    Map<Integer, int[]> getChildren(Collection<Integer> pids) throws IOException {
+        final Map<Integer, int[]> result = new HashMap<>();
+        Map<Integer, List<Integer>> snapshot = null;
+        for (int pid : pids) {
+            int[] children = childrenFiles != Boolean.FALSE ? readChildrenFiles(pid) : null;
+            if (children == null) {
+                if (snapshot == null) {
+                    snapshot = readParents();
+                }
+                children = toArray(snapshot.getOrDefault(pid, Collections.emptyList()));
+            }
+            result.put(pid, children);
+        }
+        return result;
+    }
+
+    /**
+     * Returns {@code true} if process exists and it is child of given process. Children which are read earlier may exit
+     * and their ids may be reused, so it should be checked before sending of signal to child.
+     */
+    boolean isChild(int pid, int ppid) throws IOException {
+        final String stat;
+        try {
+            stat = new String(Files.readAllBytes(root.resolve(Integer.toString(pid)).resolve("stat")), UTF_8);
+        } catch (NoSuchFileException e) {
+            // process is finished
+            return false;
+        }
+        return getParent(stat) == ppid;
+    }
+
+    /** Returns {@code null} if kernel doesn't provide files with children of tasks. */
+    private int[] readChildrenFiles(int pid) throws IOException {
+        final List<Integer> children = new ArrayList<>();
+        try (DirectoryStream<Path> tasks = Files.newDirectoryStream(root.resolve(Integer.toString(pid)).resolve("task"))) {
+            for (Path task : tasks) {
+                final String content;
+                try {
+                    content = new String(Files.readAllBytes(task.resolve("children")), UTF_8).trim();
+                } catch (NoSuchFileException e) {
+                    if (Files.isDirectory(task)) {
+                        // task exists but kernel is built without support of children files
+                        childrenFiles = Boolean.FALSE;
+                        return null;
+                    }
+                    // thread is finished
+                    continue;
+                }
+                childrenFiles = Boolean.TRUE;
+                if (!content.isEmpty()) {
+                    for (String child : SPACES.split(content)) {
+                        children.add(Integer.parseInt(child));
+                    }
+                }
+            }
+        } catch (NoSuchFileException e) {
+            // process is finished
+            return EMPTY;
+        }
+        return toArray(children);
+    }
+
+    /** Maps id of every process to ids of its children. */
+    private Map<Integer, List<Integer>> readParents() throws IOException {
+        final Map<Integer, List<Integer>> children = new HashMap<>();
+        try (DirectoryStream<Path> processes = Files.newDirectoryStream(root, "[0-9]*")) {
+            for (Path process : processes) {
+                final String stat;
+                try {
+                    stat = new String(Files.readAllBytes(process.resolve("stat")), UTF_8);
+                } catch (NoSuchFileException e) {
+                    // process is finished
+                    continue;
+                }
+                final int ppid = getParent(stat);
+                if (ppid < 0) {
+                    continue;
+                }
+                final int pid = Integer.parseInt(process.getFileName().toString());
+                children.computeIfAbsent(ppid, key -> new ArrayList<>()).add(pid);
+            }
+        }
+        return children;
+    }
+
+    /** Returns id of parent from content of {@code /proc/<pid>/stat} or -1 if content is malformed. */
+    private static int getParent(String stat) {
+        // 'pid (comm) state ppid ...', name of command may contain spaces and parentheses
+        final int endOfName = stat.lastIndexOf(')');
+        if (endOfName < 0) {
+            return -1;
+        }
+        final String[] fields = SPACES.split(stat.substring(endOfName + 1).trim());
+        if (fields.length < 2) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(fields[1]);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        final int[] result = new int[list.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = list.get(i);
+        }
+        return result;
+    }
+}
@@ -13,10 +13,13 @@ package org.eclipse.che.api.core.util;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 /**
  * It controls the time of {@code Cancellable} invocation and if time if greater than timeout it terminates such {@code Cancellable}.
+ * Timeouts of all watchdogs are fired by single timer thread of {@link ProcessReactor}, so {@code Cancellable} should be
+ * cancelled quickly.
  *
  * @author <a href="mailto:andrew00x@gmail.com">Andrey Parfonov</a>
  */
@@ -28,12 +31,13 @@ public final class Watchdog implements Runnable {
 
     private boolean     watch;
     private Cancellable cancellable;
+    private Future<?>   timeoutFuture;
 
     /**
      * Create new {@code Watchdog}.
      *
      * @param name
-     *         name for background {@code Thread}. It helps to identify out threads. This parameter is optional and may be {@code null}.
+     *         name of watched task, it is used in logs. This parameter is optional and may be {@code null}.
      * @param timeout
      *         timeout
      * @param unit
@@ -60,29 +64,21 @@ public final class Watchdog implements Runnable {
     public synchronized void start(Cancellable cancellable) {
         this.cancellable = cancellable;
         this.watch = true;
-        final Thread t = name == null ? new Thread(this) : new Thread(this, name);
-        t.setDaemon(true);
-        t.start();
+        this.timeoutFuture = ProcessReactor.getInstance().schedule(this, timeout, TimeUnit.MILLISECONDS);
     }
 
     /** Stop watching. */
     public synchronized void stop() {
         watch = false;
-        notify();
+        if (timeoutFuture != null) {
+            timeoutFuture.cancel(false);
+        }
     }
 
     /** NOTE: Not expected to call directly by regular users of this class. */
     public synchronized void run() {
-        final long end = System.currentTimeMillis() + timeout;
-        long now;
-        while (watch && (end > (now = System.currentTimeMillis()))) {
-            try {
-                wait(end - now);
-            } catch (InterruptedException ignored) {
-                // Not expected to be thrown
-            }
-        }
         if (watch) {
+            LOG.debug("Timeout {} ms of {} is reached", timeout, name);
             try {
                 cancellable.cancel();
             } catch (Exception e) {
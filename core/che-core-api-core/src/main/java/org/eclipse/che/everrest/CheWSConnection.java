@@ -10,23 +10,214 @@
  *******************************************************************************/
 package org.eclipse.che.everrest;
 
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
 import static org.eclipse.che.everrest.ServerContainerInitializeListener.ENVIRONMENT_CONTEXT;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.everrest.core.impl.provider.json.JsonException;
 import org.everrest.websockets.WSConnectionImpl;
+import org.everrest.websockets.message.ChannelBroadcastMessage;
+import org.everrest.websockets.message.JsonMessageConverter;
+import org.everrest.websockets.message.OutputMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import javax.websocket.CloseReason;
+import javax.websocket.EncodeException;
 import javax.websocket.EndpointConfig;
+import javax.websocket.SendResult;
 import javax.websocket.Session;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
+ * Websocket connection which packs channel messages into batches when client asks for it.
+ * <p/>
+ * Client asks for batched framing with {@code framing=batch} query parameter of websocket URL. For such
+ * clients channel messages are collected for a short time and sent as a single frame with JSON array of
+ * messages. Other messages, e.g. replies to requests, are sent right after the pending batch.
+ * Compression of frames is left to websocket container, e.g. permessage-deflate extension.
+ * <p/>
+ * Frames of such clients are sent asynchronously one by one, neither the caller nor the shared timer which
+ * ends batch windows waits for network, so a slow client doesn't delay messages of other clients. Frames
+ * which wait for sending are limited, the connection of a client which can't keep up with them is closed.
+ *
  * @author Sergii Kabashniuk
  */
 public class CheWSConnection extends WSConnectionImpl {
+    private static final Logger LOG = LoggerFactory.getLogger(CheWSConnection.class);
+
+    /** Query parameter of websocket URL by which client negotiates framing of messages. */
+    public static final String FRAMING_PARAMETER = "framing";
+    /** Value of {@link #FRAMING_PARAMETER} which enables batching of channel messages. */
+    public static final String BATCH_FRAMING     = "batch";
+
+    /** How long channel messages are collected before they are sent. */
+    private static final long BATCH_WINDOW_MS   = 25;
+    /** Max number of messages in a single frame. */
+    private static final int  MAX_BATCH_SIZE    = 256;
+    /** Max number of frames which wait for sending. */
+    private static final int  MAX_QUEUED_FRAMES = 64;
+
+    /** Only ends batch windows, frames are never sent by its thread. */
+    private static final ScheduledExecutorService FLUSHER =
+            newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat("CheWSConnection-Flusher-%d")
+                                                                       .setDaemon(true)
+                                                                       .build());
+
+    private final JsonMessageConverter jsonMessageConverter = new JsonMessageConverter();
+    /** Guards all the fields below, it's never held while frame is passed to websocket container. */
+    private final Object               lock                 = new Object();
+    private final List<String>         pending              = new ArrayList<>();
+    private final Deque<String>        frames               = new ArrayDeque<>();
+
+    private Session session;
+    private boolean batchFraming;
+    private boolean flushScheduled;
+    /** Whether a frame is being sent, websocket container allows only one asynchronous send at a time. */
+    private boolean sending;
+    private boolean overflowed;
+
     @Override
     public void onOpen(Session session, EndpointConfig config) {
         final Map<String, Object> userProperties = config.getUserProperties();
         setAttribute(ENVIRONMENT_CONTEXT, userProperties.get(ENVIRONMENT_CONTEXT));
+        final List<String> framing = session.getRequestParameterMap().get(FRAMING_PARAMETER);
+        this.batchFraming = framing != null && framing.contains(BATCH_FRAMING);
+        this.session = session;
         super.onOpen(session, config);
 
     }
+
+    @Override
+    public void onClose(Session session, CloseReason closeReason) {
+        synchronized (lock) {
+            pending.clear();
+            frames.clear();
+        }
+        super.onClose(session, closeReason);
+    }
+
+    @Override
+    public void sendMessage(OutputMessage output) throws EncodeException, IOException {
+        if (!batchFraming) {
+            super.sendMessage(output);
+            return;
+        }
+
+        final String encoded;
+        try {
+            encoded = jsonMessageConverter.toString(output);
+        } catch (JsonException e) {
+            throw new EncodeException(output, e.getMessage(), e);
+        }
+
+        final String frame;
+        synchronized (lock) {
+            if (output instanceof ChannelBroadcastMessage) {
+                pending.add(encoded);
+                if (pending.size() < MAX_BATCH_SIZE) {
+                    if (!flushScheduled) {
+                        flushScheduled = true;
+                        FLUSHER.schedule(this::flush, BATCH_WINDOW_MS, TimeUnit.MILLISECONDS);
+                    }
+                    return;
+                }
+                enqueuePending();
+            } else {
+                enqueuePending();
+                enqueue(encoded);
+            }
+            frame = nextFrame();
+        }
+        send(frame);
+    }
+
+    /** Ends batch window. */
+    private void flush() {
+        final String frame;
+        synchronized (lock) {
+            flushScheduled = false;
+            enqueuePending();
+            frame = nextFrame();
+        }
+        send(frame);
+    }
+
+    /** Moves collected channel messages to a frame. Messages collected after that go to the next frame. */
+    private void enqueuePending() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        enqueue(pending.size() == 1 ? pending.get(0) : '[' + String.join(",", pending) + ']');
+        pending.clear();
+    }
+
+    private void enqueue(String frame) {
+        if (frames.size() >= MAX_QUEUED_FRAMES) {
+            overflowed = true;
+            frames.clear();
+            return;
+        }
+        frames.add(frame);
+    }
+
+    /** Returns frame which must be sent by the caller or {@code null} if there is nothing to send or other frame is being sent. */
+    private String nextFrame() {
+        if (sending || frames.isEmpty()) {
+            return null;
+        }
+        sending = true;
+        return frames.poll();
+    }
+
+    private void send(String frame) {
+        if (frame == null) {
+            closeIfOverflowed();
+            return;
+        }
+        if (!session.isOpen()) {
+            onSent(new SendResult());
+            return;
+        }
+        try {
+            session.getAsyncRemote().sendText(frame, this::onSent);
+        } catch (RuntimeException e) {
+            onSent(new SendResult(e));
+        }
+    }
+
+    private void onSent(SendResult result) {
+        if (!result.isOK()) {
+            LOG.warn("Unable to send websocket messages: {}", result.getException().getMessage());
+        }
+        final String next;
+        synchronized (lock) {
+            sending = false;
+            next = nextFrame();
+        }
+        send(next);
+    }
+
+    private void closeIfOverflowed() {
+        synchronized (lock) {
+            if (!overflowed) {
+                return;
+            }
+            overflowed = false;
+        }
+        LOG.warn("Websocket client {} doesn't keep up with messages, closing connection", session.getId());
+        try {
+            session.close(new CloseReason(CloseReason.CloseCodes.TRY_AGAIN_LATER, "Too many messages"));
+        } catch (IOException e) {
+            LOG.warn("Unable to close websocket connection: {}", e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.everrest;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import javax.inject.Singleton;
+import javax.ws.rs.core.EntityTag;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects effectiveness of conditional GET requests handled by {@link ETagRequestFilter} and {@link ETagResponseFilter}.
+ *
+ * <p>Bytes saved are bytes of entity encoded with UTF-8. They are accounted when size of entity is known without
+ * additional serialization, e.g. when entity is serialized for computing of its hash or it is a string or byte array.
+ * Size is remembered per tag, so it is also accounted for requests which are answered before resource method is invoked.
+ */
+@Singleton
+public class ETagMetrics {
+    static final int MAX_SIZES = 1000;
+
+    private final AtomicLong             requests         = new AtomicLong();
+    private final AtomicLong             notModified      = new AtomicLong();
+    private final AtomicLong             notModifiedByTag = new AtomicLong();
+    private final AtomicLong             bytesSaved       = new AtomicLong();
+    private final Cache<String, Integer> sizes            = CacheBuilder.newBuilder()
+                                                                        .maximumSize(MAX_SIZES)
+                                                                        .build();
+
+    /**
+     * Records request which got entity with tag.
+     *
+     * @param tag
+     *         tag of entity
+     * @param size
+     *         size of entity in UTF-8 bytes or {@code -1} if it is unknown
+     */
+    void recordModified(EntityTag tag, int size) {
+        requests.incrementAndGet();
+        if (size >= 0) {
+            sizes.put(tag.getValue(), size);
+        }
+    }
+
+    /**
+     * Records request which got {@code 304 Not Modified}.
+     *
+     * @param tag
+     *         tag of entity
+     * @param size
+     *         size of entity in UTF-8 bytes or {@code -1} if it is unknown
+     * @param provided
+     *         {@code true} if tag is provided by {@link ETagProvider} and resource method is not invoked
+     */
+    void recordNotModified(EntityTag tag, int size, boolean provided) {
+        requests.incrementAndGet();
+        notModified.incrementAndGet();
+        if (provided) {
+            notModifiedByTag.incrementAndGet();
+        }
+        if (size < 0) {
+            final Integer known = sizes.getIfPresent(tag.getValue());
+            size = known == null ? 0 : known;
+        }
+        bytesSaved.addAndGet(size);
+    }
+
+    /** Returns number of GET requests which got entity or {@code 304 Not Modified} with tag. */
+    public long getRequests() {
+        return requests.get();
+    }
+
+    /** Returns number of requests answered with {@code 304 Not Modified}. */
+    public long getNotModified() {
+        return notModified.get();
+    }
+
+    /** Returns number of requests answered with {@code 304 Not Modified} without invocation of resource method. */
+    public long getNotModifiedByProvidedTag() {
+        return notModifiedByTag.get();
+    }
+
+    /** Returns share of requests answered with {@code 304 Not Modified}, from 0 to 1. */
+    public double getHitRate() {
+        final long total = requests.get();
+        return total == 0 ? 0 : (double)notModified.get() / total;
+    }
+
+    /** Returns number of bytes which are not sent because of {@code 304 Not Modified} responses. */
+    public long getBytesSaved() {
+        return bytesSaved.get();
+    }
+
+    @Override
+    public String toString() {
+        return "ETagMetrics{" +
+               "requests=" + getRequests() +
+               ", notModified=" + getNotModified() +
+               ", notModifiedByProvidedTag=" + getNotModifiedByProvidedTag() +
+               ", hitRate=" + getHitRate() +
+               ", bytesSaved=" + getBytesSaved() +
+               '}';
+    }
+}
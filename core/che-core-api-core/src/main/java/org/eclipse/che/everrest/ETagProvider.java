@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.everrest;
+
+import org.eclipse.che.commons.annotation.Nullable;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.UriInfo;
+
+/**
+ * Supplies version of entity which is going to be returned for GET request, without building of entity.
+ *
+ * <p>Tag is requested by {@link ETagRequestFilter} before resource method is invoked, so requests with matching
+ * {@code If-None-Match} are answered with {@code 304 Not Modified} and resource method is not invoked at all.
+ * This is done only for resources which are not guarded by {@link org.everrest.core.method.MethodInvokerFilter}s,
+ * requests to guarded resources are answered with {@code 304 Not Modified} after the resource method is invoked.
+ * Usually tag is built from a cheap version token which is changed on every change of data,
+ * e.g. {@link org.eclipse.che.api.core.rest.ChangeStamp}. Tag must be computed before data is read by resource,
+ * so response never gets tag which is newer than its content.
+ *
+ * <p>Implementations are bound with {@link com.google.inject.multibindings.Multibinder}.
+ */
+public interface ETagProvider {
+
+    /**
+     * Returns tag of entity requested by GET request or {@code null} if request is not handled by this provider,
+     * in this case tag of entity is computed from the entity itself by {@link ETagResponseFilter}.
+     *
+     * @param uriInfo
+     *         info about uri of request
+     */
+    @Nullable
+    EntityTag getETag(UriInfo uriInfo);
+}
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.everrest;
+
+import org.everrest.core.ApplicationContext;
+import org.everrest.core.Filter;
+import org.everrest.core.GenericContainerRequest;
+import org.everrest.core.RequestFilter;
+import org.everrest.core.impl.ApplicationContextImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Response;
+
+import java.util.Set;
+
+/**
+ * Filter implementing {@link org.everrest.core.RequestFilter} in order to answer conditional GET requests
+ * with help of tags supplied by {@link ETagProvider}s before resource method is invoked.
+ *
+ * <p>If tag matches {@code If-None-Match} header of request then {@code 304 Not Modified} is sent immediately,
+ * otherwise tag is kept for {@link ETagResponseFilter} which adds it to the response instead of hash of entity.
+ * Requests to resources guarded by {@link org.everrest.core.method.MethodInvokerFilter}s, e.g. permission checks,
+ * are never answered before those filters are passed, the tag is evaluated by {@link ETagResponseFilter} after
+ * resource method is invoked, so change of permissions which doesn't change the tag can't be bypassed.
+ */
+@Filter
+@Singleton
+public class ETagRequestFilter implements RequestFilter {
+    private static final Logger LOG = LoggerFactory.getLogger(ETagRequestFilter.class);
+
+    /** Name of attribute of {@link ApplicationContext} which holds tag supplied for the current request. */
+    static final String PROVIDED_ETAG_ATTRIBUTE = ETagRequestFilter.class.getName() + ".providedETag";
+
+    private final Set<ETagProvider> providers;
+    private final ETagMetrics       metrics;
+
+    @Inject
+    public ETagRequestFilter(Set<ETagProvider> providers, ETagMetrics metrics) {
+        this.providers = providers;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Filter the given container request
+     *
+     * @param request
+     *         the request to use
+     */
+    @Override
+    public void doFilter(GenericContainerRequest request) {
+        // manage only GET requests
+        if (!HttpMethod.GET.equals(request.getMethod())) {
+            return;
+        }
+
+        final ApplicationContext applicationContext = ApplicationContextImpl.getCurrent();
+        final EntityTag entityTag = getETag(applicationContext);
+        if (entityTag == null) {
+            return;
+        }
+
+        if (!isGuarded(applicationContext)) {
+            // Check the etag
+            final Response.ResponseBuilder builder = request.evaluatePreconditions(entityTag);
+
+            // not modified ?
+            if (builder != null) {
+                metrics.recordNotModified(entityTag, -1, true);
+                throw new WebApplicationException(builder.tag(entityTag).build());
+            }
+        }
+        applicationContext.getAttributes().put(PROVIDED_ETAG_ATTRIBUTE, entityTag);
+    }
+
+    /** Returns {@code true} if method invoker filters must be passed before resource is accessed. */
+    private static boolean isGuarded(ApplicationContext applicationContext) {
+        return !applicationContext.getProviders().getMethodInvokerFilters(applicationContext.getPath()).isEmpty();
+    }
+
+    private EntityTag getETag(ApplicationContext applicationContext) {
+        for (ETagProvider provider : providers) {
+            try {
+                final EntityTag entityTag = provider.getETag(applicationContext);
+                if (entityTag != null) {
+                    return entityTag;
+                }
+            } catch (RuntimeException e) {
+                // fall back to hash of entity
+                LOG.error(e.getMessage(), e);
+                return null;
+            }
+        }
+        return null;
+    }
+}
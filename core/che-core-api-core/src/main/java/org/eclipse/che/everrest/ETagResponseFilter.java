@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.che.everrest;
 
+import com.google.common.base.Utf8;
 import com.google.common.hash.HashCode;
 import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hasher;
@@ -22,13 +23,16 @@ import org.everrest.core.GenericContainerResponse;
 import org.everrest.core.ResponseFilter;
 import org.everrest.core.impl.ApplicationContextImpl;
 
+import javax.inject.Inject;
 import javax.ws.rs.HttpMethod;
 import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static org.eclipse.che.everrest.ETagResponseFilter.EntityType.JSON_SERIALIZABLE;
@@ -39,6 +43,9 @@ import static org.eclipse.che.everrest.ETagResponseFilter.EntityType.UNKNOWN;
  * Filter implementing {@link org.everrest.core.ResponseFilter} in order to generate ETag for clients that want to use conditional
  * requests.
  * It is applying on GET method and JSON content type only.
+ * If tag of entity is supplied by {@link ETagProvider} it is used instead of hash of entity, see {@link ETagRequestFilter},
+ * responses which already have ETag, e.g. provided by resource with help of {@link org.eclipse.che.api.core.rest.ChangeStamp},
+ * are not changed.
  *
  * @author Florent Benoit
  */
@@ -51,6 +58,13 @@ public class ETagResponseFilter implements ResponseFilter {
         UNKNOWN
     }
 
+    private ETagMetrics metrics = new ETagMetrics();
+
+    @Inject
+    public void setMetrics(ETagMetrics metrics) {
+        this.metrics = metrics;
+    }
+
     /**
      * Filter the given container response
      *
@@ -67,11 +81,6 @@ public class ETagResponseFilter implements ResponseFilter {
             return;
         }
 
-        // Only handle JSON content
-        if (!MediaType.APPLICATION_JSON_TYPE.equals(containerResponse.getContentType())) {
-            return;
-        }
-
         // Get the request
         ApplicationContext applicationContext = ApplicationContextImpl.getCurrent();
         Request request = applicationContext.getRequest();
@@ -81,23 +90,59 @@ public class ETagResponseFilter implements ResponseFilter {
             return;
         }
 
+        // tag is supplied before resource method is invoked, no need to hash entity
+        EntityTag providedTag = (EntityTag)applicationContext.getAttributes().get(ETagRequestFilter.PROVIDED_ETAG_ATTRIBUTE);
+        if (providedTag != null) {
+            if (Response.Status.OK.getStatusCode() != containerResponse.getStatus()) {
+                return;
+            }
+            // resource provided its own version of entity, keep it
+            if (containerResponse.getHttpHeaders().containsKey(HttpHeaders.ETAG)) {
+                metrics.recordModified(providedTag, getKnownSize(entity));
+                return;
+            }
+            // tag of resource guarded by method invoker filters is evaluated only now, see ETagRequestFilter
+            Response.ResponseBuilder builder = request.evaluatePreconditions(providedTag);
+            if (builder != null) {
+                containerResponse.setResponse(builder.tag(providedTag).build());
+                metrics.recordNotModified(providedTag, getKnownSize(entity), false);
+            } else {
+                containerResponse.setResponse(Response.fromResponse(containerResponse.getResponse()).tag(providedTag).build());
+                metrics.recordModified(providedTag, getKnownSize(entity));
+            }
+            return;
+        }
+
+        // resource provided its own version of entity, skip
+        if (containerResponse.getHttpHeaders().containsKey(HttpHeaders.ETAG)) {
+            return;
+        }
+
+        // Only handle JSON content
+        if (!MediaType.APPLICATION_JSON_TYPE.equals(containerResponse.getContentType())) {
+            return;
+        }
+
         // calculate hash with MD5
         HashFunction hashFunction = Hashing.md5();
         Hasher hasher = hashFunction.newHasher();
-        boolean hashingSuccess = true;
+        int size = 0;
 
         // Manage a list
         if (entity instanceof List) {
             List<?> entities = (List)entity;
             for (Object simpleEntity : entities) {
-                hashingSuccess = addHash(simpleEntity, hasher);
-                if (!hashingSuccess) {
+                int added = putJson(simpleEntity, hasher);
+                if (added < 0) {
+                    size = -1;
                     break;
                 }
+                size += added;
             }
         } else {
-            hashingSuccess = addHash(entity, hasher);
+            size = putJson(entity, hasher);
         }
+        boolean hashingSuccess = size >= 0;
 
         // if we're able to handle the hash
         if (hashingSuccess) {
@@ -114,10 +159,12 @@ public class ETagResponseFilter implements ResponseFilter {
             // not modified ?
             if (builder != null) {
                 containerResponse.setResponse(builder.tag(entityTag).build());
+                metrics.recordNotModified(entityTag, size, false);
             } else {
                 // it has been changed, so send response with new ETag and entity
                 Response.ResponseBuilder responseBuilder = Response.fromResponse(containerResponse.getResponse()).tag(entityTag);
                 containerResponse.setResponse(responseBuilder.build());
+                metrics.recordModified(entityTag, size);
             }
         }
 
@@ -132,23 +179,49 @@ public class ETagResponseFilter implements ResponseFilter {
      *         the hasher used to add the hashes
      */
     protected boolean addHash(Object entity, Hasher hasher) {
+        return putJson(entity, hasher) >= 0;
+    }
+
+    /** Adds JSON of entity to hash and returns its size in UTF-8 bytes or {@code -1} if there is an invalid entity type. */
+    private int putJson(Object entity, Hasher hasher) {
         // get entity type
         EntityType entityType = getElementType(entity);
 
         // check
         if (entityType == UNKNOWN) {
             // unknown entity type, cannot perform hash
-            return false;
+            return -1;
         }
         // add hash if all is OK
         try {
-            hasher.putString(getJson(entity, entityType), Charset.defaultCharset());
+            String json = getJson(entity, entityType);
+            hasher.putString(json, Charset.defaultCharset());
+            return utf8Length(json);
         } catch (RuntimeException e) {
-            return false;
+            return -1;
+        }
+    }
+
+    /** Returns size of entity if it is known without serialization of entity, otherwise returns {@code -1}. */
+    private static int getKnownSize(Object entity) {
+        if (entity instanceof byte[]) {
+            return ((byte[])entity).length;
         }
-        return true;
+        if (entity instanceof String) {
+            return utf8Length((String)entity);
+        }
+        return -1;
     }
 
+    /** Returns number of bytes of string encoded with UTF-8, the charset of JSON responses. */
+    private static int utf8Length(String string) {
+        try {
+            return Utf8.encodedLength(string);
+        } catch (IllegalArgumentException e) {
+            // unpaired surrogates are replaced when string is encoded
+            return string.getBytes(StandardCharsets.UTF_8).length;
+        }
+    }
 
     /**
      * Helper method to retrieving the JSON content based on the entity type
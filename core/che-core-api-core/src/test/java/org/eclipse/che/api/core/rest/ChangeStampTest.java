@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.rest;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+
+public class ChangeStampTest {
+
+    @Test
+    public void shouldReturnSameTagWhileStampIsNotIncremented() throws Exception {
+        final ChangeStamp stamp = new ChangeStamp();
+
+        assertEquals(stamp.getEntityTag("user", 0, 30), stamp.getEntityTag("user", 0, 30));
+    }
+
+    @Test
+    public void shouldReturnNewTagAfterIncrement() throws Exception {
+        final ChangeStamp stamp = new ChangeStamp();
+        final String before = stamp.getEntityTag("user").getValue();
+
+        stamp.increment();
+
+        assertEquals(stamp.get(), 1);
+        assertNotEquals(stamp.getEntityTag("user").getValue(), before);
+    }
+
+    @Test
+    public void shouldReturnDifferentTagsForDifferentQualifiers() throws Exception {
+        final ChangeStamp stamp = new ChangeStamp();
+
+        assertNotEquals(stamp.getEntityTag("user1").getValue(), stamp.getEntityTag("user2").getValue());
+        assertNotEquals(stamp.getEntityTag("ab", "c").getValue(), stamp.getEntityTag("a", "bc").getValue());
+    }
+}
@@ -21,6 +21,7 @@ import org.testng.annotations.Test;
 import java.io.IOException;
 import java.util.Set;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
@@ -74,6 +75,38 @@ public class DefaultHttpJsonResponseTest {
         assertEquals(response.asList(Link.class), singletonList(testLink));
     }
     
+    @Test
+    public void shouldDecodeRawContentAsUtf8() throws Exception {
+        final DefaultHttpJsonResponse response = new DefaultHttpJsonResponse("\"\u0441\u0442\u0440\u043e\u043a\u0430\"".getBytes(UTF_8), 200);
+
+        assertEquals(response.asString(), "\"\u0441\u0442\u0440\u043e\u043a\u0430\"");
+    }
+
+    @Test
+    public void shouldParseJsonSerializableInstanceFromRawContent() throws Exception {
+        final Link testLink = createLink("POST", "http://localhost:8080/\u0441\u0442\u0440\u043e\u043a\u0430", "rel");
+        final DefaultHttpJsonResponse response = new DefaultHttpJsonResponse(DtoFactory.getInstance().toJson(testLink).getBytes(UTF_8), 200);
+
+        assertEquals(response.asDto(Link.class), testLink);
+    }
+
+    @Test
+    public void shouldParseListOfJsonSerializableElementsFromRawContent() throws Exception {
+        final Link testLink = createLink("POST", "http://localhost:8080", "rel");
+        final String responseBody = DtoFactory.getInstance().toJson(new JsonArrayImpl<>(singletonList(testLink)));
+        final DefaultHttpJsonResponse response = new DefaultHttpJsonResponse(responseBody.getBytes(UTF_8), 200);
+
+        assertEquals(response.asList(Link.class), singletonList(testLink));
+    }
+
+    @Test
+    public void shouldParsePropertiesFromRawContent() throws Exception {
+        final String responseBody = DtoFactory.getInstance().toJson(new JsonStringMapImpl<>(singletonMap("key", "value")));
+        final DefaultHttpJsonResponse response = new DefaultHttpJsonResponse(responseBody.getBytes(UTF_8), 200);
+
+        assertEquals(response.asProperties(), singletonMap("key", "value"));
+    }
+
     @Test(expectedExceptions = NullPointerException.class)
     public void shouldThrowNullPointerExceptionWhenClazzIsNull() throws Exception {
         new DefaultHttpJsonResponse("{}", 200).as(null, null);
@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.rest;
+
+import org.testng.annotations.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests of {@link HttpJsonRequestMetrics}.
+ */
+public class HttpJsonRequestMetricsTest {
+
+    @Test
+    public void shouldAccountRequestsToTheSameServiceOfDifferentWorkspacesTogether() throws Exception {
+        final HttpJsonRequestMetrics metrics = new HttpJsonRequestMetrics();
+
+        metrics.record("GET", "http://localhost:32768/api/project/workspace7yzv3z0wztrl9t4g?token=abc", TimeUnit.MILLISECONDS.toNanos(10), false);
+        metrics.record("GET", "http://localhost:32769/api/project/workspacep1bk6f2agm2omdey", TimeUnit.MILLISECONDS.toNanos(30), true);
+        metrics.record("POST", "http://localhost:32769/api/project/workspacep1bk6f2agm2omdey", TimeUnit.MILLISECONDS.toNanos(5), false);
+
+        final Map<String, HttpJsonRequestMetrics.Latency> endpoints = metrics.getEndpoints();
+        assertEquals(endpoints.size(), 2);
+        final HttpJsonRequestMetrics.Latency latency = endpoints.get("GET /api/project/*");
+        assertEquals(latency.getCount(), 2);
+        assertEquals(latency.getErrors(), 1);
+        assertEquals(latency.getAverageMillis(), 20);
+        assertEquals(latency.getMaxMillis(), 30);
+        assertEquals(endpoints.get("POST /api/project/*").getCount(), 1);
+    }
+
+    @Test
+    public void shouldLimitNumberOfTrackedEndpoints() throws Exception {
+        final HttpJsonRequestMetrics metrics = new HttpJsonRequestMetrics();
+
+        for (int i = 0; i < HttpJsonRequestMetrics.MAX_ENDPOINTS + 10; i++) {
+            metrics.record("GET", "http://localhost:8080/api/service" + (char)('a' + i % 26) + (char)('a' + i / 26), 1, false);
+        }
+
+        final Map<String, HttpJsonRequestMetrics.Latency> endpoints = metrics.getEndpoints();
+        assertTrue(endpoints.size() <= HttpJsonRequestMetrics.MAX_ENDPOINTS + 1);
+        assertEquals(endpoints.get("GET *").getCount(), 10);
+    }
+}
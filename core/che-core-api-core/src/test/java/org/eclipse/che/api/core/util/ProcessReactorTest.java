@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.util;
+
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class ProcessReactorTest {
+
+    @Test
+    public void shouldReadStdoutAndStderrConcurrently() throws Exception {
+        // stderr is much bigger than pipe buffer, process hangs if stderr isn't read before end of stdout
+        final Process process = new ProcessBuilder("sh", "-c", "i=0; while [ $i -lt 20000 ]; do echo error$i >&2; i=$((i+1)); done; "
+                                                               + "echo out").start();
+        final ListLineConsumer stdout = new ListLineConsumer();
+        final ListLineConsumer stderr = new ListLineConsumer();
+
+        final ProcessReactor.Pump pump = ProcessReactor.getInstance().pump(process, stdout, stderr);
+
+        assertTrue(pump.await(30, TimeUnit.SECONDS));
+        assertEquals(stdout.getText(), "out");
+        assertEquals(stderr.getLines().size(), 20000);
+        assertEquals(stderr.getLines().get(19999), "error19999");
+        assertTrue(pump.getWallTime() >= 0);
+    }
+
+    @Test
+    public void shouldNotWaitForEndOfStreamHeldByChildOfExitedProcess() throws Exception {
+        // background child inherits stdout of the shell and keeps it open after the shell exits
+        final Process process = new ProcessBuilder("sh", "-c", "echo out; sleep 30 &").start();
+        final ListLineConsumer stdout = new ListLineConsumer();
+
+        final ProcessReactor.Pump pump = ProcessReactor.getInstance().pump(process, stdout, null);
+
+        assertTrue(pump.await(5, TimeUnit.SECONDS));
+        assertEquals(stdout.getText(), "out");
+    }
+
+    @Test
+    public void shouldReadOutputWrittenRightBeforeExit() throws Exception {
+        final Process process = new ProcessBuilder("sh", "-c", "i=0; while [ $i -lt 1000 ]; do echo line$i; i=$((i+1)); done").start();
+        final ListLineConsumer stdout = new ListLineConsumer();
+
+        ProcessReactor.getInstance().process(process, stdout, null);
+
+        assertEquals(stdout.getLines().size(), 1000);
+        assertEquals(stdout.getLines().get(999), "line999");
+    }
+
+    @Test
+    public void shouldSampleCpuTimeOfRunningProcess() throws Exception {
+        final Process process = new ProcessBuilder("sh", "-c", "i=0; while [ $i -lt 500000 ]; do i=$((i+1)); done").start();
+        final boolean cpuTimeAvailable = ProcessUtil.getCpuTime(process) >= 0;
+
+        final ProcessReactor.Pump pump = ProcessReactor.getInstance().process(process, LineConsumer.DEV_NULL, LineConsumer.DEV_NULL);
+
+        if (cpuTimeAvailable) {
+            assertTrue(pump.getCpuTime() > 0);
+            assertTrue(pump.getCpuTime() <= pump.getWallTime());
+        } else {
+            assertEquals(pump.getCpuTime(), -1);
+        }
+    }
+
+    @Test
+    public void shouldSplitLinesInTheSameWayAsBufferedReader() throws Exception {
+        final Process process = new ProcessBuilder("printf", "a\\nb\\r\\nc\\rd\\n\\nlast").start();
+        final ListLineConsumer stdout = new ListLineConsumer();
+
+        ProcessReactor.getInstance().process(process, stdout, null);
+
+        assertEquals(stdout.getLines(), Arrays.asList("a", "b", "c", "d", "", "last"));
+    }
+
+    @Test(expectedExceptions = IOException.class, expectedExceptionsMessageRegExp = "consumer failure")
+    public void shouldRethrowErrorOfConsumer() throws Exception {
+        final Process process = new ProcessBuilder("echo", "line").start();
+
+        ProcessReactor.getInstance().process(process, new LineConsumer() {
+            @Override
+            public void writeLine(String line) throws IOException {
+                throw new IOException("consumer failure");
+            }
+
+            @Override
+            public void close() throws IOException {
+            }
+        }, null);
+    }
+
+    @Test
+    public void shouldNotRunCancelledTimeout() throws Exception {
+        final CountDownLatch fired = new CountDownLatch(1);
+
+        ProcessReactor.getInstance().schedule(fired::countDown, 200, TimeUnit.MILLISECONDS).cancel(false);
+
+        assertFalse(fired.await(500, TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.util;
+
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class StreamPumpTest {
+
+    @Test
+    public void shouldPumpStdoutOfProcess() throws Exception {
+        final Process process = new ProcessBuilder("printf", "a\\nb").start();
+        final ListLineConsumer consumer = new ListLineConsumer();
+        final StreamPump pump = new StreamPump();
+
+        pump.start(process, consumer);
+        pump.await();
+
+        assertTrue(pump.isDone());
+        assertFalse(pump.hasError());
+        assertEquals(consumer.getLines(), Arrays.asList("a", "b"));
+    }
+
+    @Test
+    public void shouldStopPumpingOfRunningProcess() throws Exception {
+        final Process process = new ProcessBuilder("sleep", "30").start();
+        try {
+            final StreamPump pump = new StreamPump();
+            pump.start(process, LineConsumer.DEV_NULL);
+
+            pump.stop();
+            pump.await();
+
+            assertTrue(pump.isDone());
+            assertTrue(process.isAlive());
+        } finally {
+            process.destroy();
+        }
+    }
+
+    @Test
+    public void shouldKeepErrorOfConsumer() throws Exception {
+        final Process process = new ProcessBuilder("echo", "line").start();
+        final StreamPump pump = new StreamPump();
+
+        pump.start(process, new LineConsumer() {
+            @Override
+            public void writeLine(String line) throws IOException {
+                throw new IOException("consumer failure");
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+        pump.await();
+
+        assertTrue(pump.hasError());
+        assertEquals(pump.getException().getMessage(), "consumer failure");
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void shouldNotAwaitPumpWhichIsNotStarted() throws Exception {
+        new StreamPump().await();
+    }
+}
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.util;
+
+import org.eclipse.che.commons.lang.IoUtil;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class UnixProcessTreeTest {
+    private Path proc;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        proc = Files.createTempDirectory("proc");
+        Files.write(proc.resolve("stat"), "cpu 1 2 3".getBytes(UTF_8));
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        IoUtil.deleteRecursive(proc.toFile());
+    }
+
+    @Test
+    public void shouldReadChildrenOfAllTasksOfProcess() throws Exception {
+        writeChildren(10, 10, "11 12 ");
+        writeChildren(10, 13, "14");
+        writeChildren(10, 15, "");
+
+        assertEquals(sorted(new UnixProcessTree(proc).getChildren(10)), new int[]{11, 12, 14});
+    }
+
+    @Test
+    public void shouldFindChildrenInProcessTableIfKernelDoesNotProvideChildrenFiles() throws Exception {
+        Files.createDirectories(proc.resolve("10").resolve("task").resolve("10"));
+        writeStat(11, "11 (sleep) S 10 11 1 0 -1");
+        writeStat(12, "12 (my (strange) name) S 10 11 1 0 -1");
+        writeStat(13, "13 (sh) S 1 13 1 0 -1");
+
+        assertEquals(sorted(new UnixProcessTree(proc).getChildren(10)), new int[]{11, 12});
+    }
+
+    @Test
+    public void shouldFindChildrenOfSeveralProcessesInTheSameProcessTable() throws Exception {
+        Files.createDirectories(proc.resolve("10").resolve("task").resolve("10"));
+        Files.createDirectories(proc.resolve("20").resolve("task").resolve("20"));
+        writeStat(11, "11 (sleep) S 10 11 1 0 -1");
+        writeStat(21, "21 (sleep) S 20 21 1 0 -1");
+
+        final Map<Integer, int[]> children = new UnixProcessTree(proc).getChildren(Arrays.asList(10, 20, 30));
+
+        assertEquals(children.get(10), new int[]{11});
+        assertEquals(children.get(20), new int[]{21});
+        assertEquals(children.get(30), new int[0]);
+    }
+
+    @Test
+    public void shouldNotReuseProcessTableForLaterRequests() throws Exception {
+        Files.createDirectories(proc.resolve("10").resolve("task").resolve("10"));
+        writeStat(11, "11 (sleep) S 10 11 1 0 -1");
+        final UnixProcessTree tree = new UnixProcessTree(proc);
+        tree.getChildren(10);
+
+        writeStat(12, "12 (sleep) S 10 11 1 0 -1");
+
+        assertEquals(sorted(tree.getChildren(10)), new int[]{11, 12});
+    }
+
+    @Test
+    public void shouldCheckParentOfProcess() throws Exception {
+        writeStat(11, "11 (my (strange) name) S 10 11 1 0 -1");
+
+        final UnixProcessTree tree = new UnixProcessTree(proc);
+
+        assertTrue(tree.isChild(11, 10));
+        // id of finished child is reused by other process
+        assertFalse(tree.isChild(11, 20));
+        assertFalse(tree.isChild(12, 10));
+    }
+
+    @Test
+    public void shouldReturnNoChildrenForFinishedProcess() throws Exception {
+        writeChildren(10, 10, "11");
+
+        assertEquals(new UnixProcessTree(proc).getChildren(20), new int[0]);
+    }
+
+    @Test
+    public void shouldNotBeAvailableWithoutProcFileSystem() throws Exception {
+        assertTrue(new UnixProcessTree(proc).isAvailable());
+        assertFalse(new UnixProcessTree(proc.resolve("absent")).isAvailable());
+    }
+
+    private void writeChildren(int pid, int tid, String children) throws IOException {
+        final Path task = Files.createDirectories(proc.resolve(Integer.toString(pid)).resolve("task").resolve(Integer.toString(tid)));
+        Files.write(task.resolve("children"), children.getBytes(UTF_8));
+    }
+
+    private void writeStat(int pid, String stat) throws IOException {
+        final Path process = Files.createDirectories(proc.resolve(Integer.toString(pid)));
+        Files.write(process.resolve("stat"), stat.getBytes(UTF_8));
+    }
+
+    private static int[] sorted(int[] values) {
+        Arrays.sort(values);
+        return values;
+    }
+}
@@ -13,6 +13,9 @@ package org.eclipse.che.api.core.util;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
@@ -35,4 +38,31 @@ public class WatchdogTest {
         latch.await(2, TimeUnit.SECONDS); // wait 2 sec
         Assert.assertTrue(cancel[0], "cancellation failed"); // should be cancelled
     }
+
+    @Test
+    public void shouldNotCancelAfterStop() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        final Watchdog watchdog = new Watchdog(200, TimeUnit.MILLISECONDS);
+        watchdog.start(latch::countDown);
+        watchdog.stop();
+
+        Assert.assertFalse(latch.await(500, TimeUnit.MILLISECONDS), "stopped watchdog cancelled task");
+    }
+
+    @Test
+    public void shouldFireTimeoutsOfAllWatchdogsByTimerOfProcessReactor() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(100);
+        final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        for (int i = 0; i < 100; i++) {
+            new Watchdog(100, TimeUnit.MILLISECONDS).start(() -> {
+                threads.add(Thread.currentThread().getName());
+                latch.countDown();
+            });
+        }
+
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS), "not all watchdogs fired");
+        Assert.assertEquals(threads, Collections.singleton("ProcessReactorTimer"));
+    }
 }
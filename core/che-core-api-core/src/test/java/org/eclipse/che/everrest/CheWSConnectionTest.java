@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.everrest;
+
+import org.everrest.websockets.message.ChannelBroadcastMessage;
+import org.everrest.websockets.message.JsonMessageConverter;
+import org.everrest.websockets.message.RESTfulOutputMessage;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import javax.websocket.CloseReason;
+import javax.websocket.EndpointConfig;
+import javax.websocket.RemoteEndpoint;
+import javax.websocket.SendHandler;
+import javax.websocket.SendResult;
+import javax.websocket.Session;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.singletonList;
+import static org.eclipse.che.everrest.CheWSConnection.BATCH_FRAMING;
+import static org.eclipse.che.everrest.CheWSConnection.FRAMING_PARAMETER;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link CheWSConnection}.
+ */
+@Listeners(MockitoTestNGListener.class)
+public class CheWSConnectionTest {
+
+    @Mock
+    private Session              session;
+    @Mock
+    private EndpointConfig       config;
+    @Mock
+    private RemoteEndpoint.Basic basicRemote;
+    @Mock
+    private RemoteEndpoint.Async asyncRemote;
+
+    private JsonMessageConverter converter;
+    private CheWSConnection      connection;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        converter = new JsonMessageConverter();
+        when(session.isOpen()).thenReturn(true);
+        when(session.getBasicRemote()).thenReturn(basicRemote);
+        when(session.getAsyncRemote()).thenReturn(asyncRemote);
+        when(config.getUserProperties()).thenReturn(new HashMap<>());
+        connection = new CheWSConnection();
+    }
+
+    @Test
+    public void shouldSendChannelMessagesCollectedDuringWindowInOneFrame() throws Exception {
+        open(true);
+        final ChannelBroadcastMessage first = message("first");
+        final ChannelBroadcastMessage second = message("second");
+
+        connection.sendMessage(first);
+        connection.sendMessage(second);
+
+        verify(asyncRemote, timeout(2000)).sendText(eq('[' + converter.toString(first) + ',' + converter.toString(second) + ']'),
+                                                    any(SendHandler.class));
+    }
+
+    @Test
+    public void shouldSendSingleChannelMessageWithoutArray() throws Exception {
+        open(true);
+        final ChannelBroadcastMessage message = message("single");
+
+        connection.sendMessage(message);
+
+        verify(asyncRemote, timeout(2000)).sendText(eq(converter.toString(message)), any(SendHandler.class));
+    }
+
+    @Test
+    public void shouldSendPendingMessagesBeforeDirectMessage() throws Exception {
+        open(true);
+        final ChannelBroadcastMessage message = message("pending");
+
+        connection.sendMessage(message);
+        connection.sendMessage(new RESTfulOutputMessage());
+
+        // sent in the caller thread before the direct message, not by the scheduled flush
+        verify(asyncRemote).sendText(eq(converter.toString(message)), any(SendHandler.class));
+    }
+
+    @Test
+    public void shouldSendNextFrameWhenPreviousIsSent() throws Exception {
+        final List<SendHandler> handlers = new ArrayList<>();
+        doAnswer(invocation -> handlers.add((SendHandler)invocation.getArguments()[1])).when(asyncRemote)
+                                                                                         .sendText(anyString(), any(SendHandler.class));
+        open(true);
+        final ChannelBroadcastMessage message = message("pending");
+        final RESTfulOutputMessage direct = new RESTfulOutputMessage();
+
+        connection.sendMessage(message);
+        connection.sendMessage(direct);
+
+        verify(asyncRemote).sendText(eq(converter.toString(message)), any(SendHandler.class));
+        verify(asyncRemote, never()).sendText(eq(converter.toString(direct)), any(SendHandler.class));
+
+        handlers.get(0).onResult(new SendResult());
+
+        verify(asyncRemote).sendText(eq(converter.toString(direct)), any(SendHandler.class));
+    }
+
+    @Test
+    public void shouldCloseConnectionOfClientWhichDoesNotKeepUpWithMessages() throws Exception {
+        open(true);
+
+        // the first frame is being sent all the time, 64 frames wait for sending, the next one doesn't fit
+        for (int i = 0; i < 256 * 66; i++) {
+            connection.sendMessage(message("message" + i));
+        }
+
+        verify(session, timeout(2000)).close(any(CloseReason.class));
+    }
+
+    @Test
+    public void shouldSendFullBatchImmediately() throws Exception {
+        open(true);
+        final StringBuilder frame = new StringBuilder("[");
+        for (int i = 0; i < 256; i++) {
+            final ChannelBroadcastMessage message = message("message" + i);
+            connection.sendMessage(message);
+            if (i > 0) {
+                frame.append(',');
+            }
+            frame.append(converter.toString(message));
+        }
+
+        verify(asyncRemote).sendText(eq(frame.append(']').toString()), any(SendHandler.class));
+    }
+
+    @Test
+    public void shouldNotBatchMessagesIfClientDoesNotAskForIt() throws Exception {
+        open(false);
+
+        connection.sendMessage(message("first"));
+        connection.sendMessage(message("second"));
+
+        Thread.sleep(100);
+        verify(basicRemote, never()).sendText(startsWith("["));
+    }
+
+    private void open(boolean batch) {
+        final Map<String, List<String>> parameters = new HashMap<>();
+        if (batch) {
+            parameters.put(FRAMING_PARAMETER, singletonList(BATCH_FRAMING));
+        }
+        when(session.getRequestParameterMap()).thenReturn(parameters);
+        connection.onOpen(session, config);
+    }
+
+    private static ChannelBroadcastMessage message(String body) {
+        final ChannelBroadcastMessage message = new ChannelBroadcastMessage();
+        message.setChannel("channel");
+        message.setBody(body);
+        return message;
+    }
+}
@@ -0,0 +1,223 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.everrest;
+
+import org.eclipse.che.api.core.ApiException;
+import org.eclipse.che.api.core.ForbiddenException;
+import org.eclipse.che.api.core.rest.ApiExceptionMapper;
+import org.everrest.core.Filter;
+import org.everrest.core.impl.ApplicationContextImpl;
+import org.everrest.core.impl.ApplicationProviderBinder;
+import org.everrest.core.impl.ContainerRequest;
+import org.everrest.core.impl.ContainerResponse;
+import org.everrest.core.impl.EverrestConfiguration;
+import org.everrest.core.impl.EverrestProcessor;
+import org.everrest.core.impl.ResourceBinderImpl;
+import org.everrest.core.resource.GenericMethodResource;
+import org.everrest.core.tools.DependencySupplierImpl;
+import org.everrest.core.tools.ResourceLauncher;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.EntityTag;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
+import static javax.ws.rs.core.Response.Status.FORBIDDEN;
+import static javax.ws.rs.core.Response.Status.NOT_MODIFIED;
+import static javax.ws.rs.core.Response.Status.OK;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Test the ETag filter which uses tags supplied by {@link ETagProvider}
+ */
+public class ETagRequestFilterTest {
+
+    private static final String BASE_URI     = "http://localhost/service";
+    private static final String SERVICE_PATH = BASE_URI + "/myservice";
+
+    private static final EntityTag VERSION = new EntityTag("version-1");
+
+    private static final AtomicInteger INVOCATIONS = new AtomicInteger();
+    private static final AtomicBoolean DENIED      = new AtomicBoolean();
+
+    @Path("/myservice")
+    public static class MyJaxRSService {
+
+        @GET
+        @Path("/versioned")
+        @Produces(APPLICATION_JSON)
+        public String getVersioned() {
+            INVOCATIONS.incrementAndGet();
+            return "hello";
+        }
+
+        @GET
+        @Path("/guarded")
+        @Produces(APPLICATION_JSON)
+        public String getGuarded() {
+            INVOCATIONS.incrementAndGet();
+            return "hello";
+        }
+
+        @GET
+        @Path("/unicode")
+        @Produces(APPLICATION_JSON)
+        public String getUnicode() {
+            INVOCATIONS.incrementAndGet();
+            return "\u043f\u0440\u0438\u0432\u0456\u0442";
+        }
+
+        @GET
+        @Path("/single")
+        @Produces(APPLICATION_JSON)
+        public String getMember() {
+            INVOCATIONS.incrementAndGet();
+            return "hello";
+        }
+    }
+
+    @Filter
+    @Path("/myservice/guarded")
+    public static class PermissionsFilter extends CheMethodInvokerFilter {
+        @Override
+        protected void filter(GenericMethodResource genericMethodResource, Object[] arguments) throws ApiException {
+            if (DENIED.get()) {
+                throw new ForbiddenException("Access denied");
+            }
+        }
+    }
+
+    private ResourceLauncher resourceLauncher;
+    private ETagMetrics      metrics;
+
+    @BeforeMethod
+    public void before() throws Exception {
+        INVOCATIONS.set(0);
+        DENIED.set(false);
+        metrics = new ETagMetrics();
+        final ETagProvider provider = uriInfo -> uriInfo.getPath().endsWith("/single") ? null : VERSION;
+        final ETagResponseFilter responseFilter = new ETagResponseFilter();
+        responseFilter.setMetrics(metrics);
+
+        final ResourceBinderImpl resources = new ResourceBinderImpl();
+        resources.addResource(MyJaxRSService.class, null);
+        final DependencySupplierImpl dependencies = new DependencySupplierImpl();
+        final ApplicationProviderBinder binder = new ApplicationProviderBinder();
+        binder.addExceptionMapper(ApiExceptionMapper.class);
+        binder.addRequestFilter(new ETagRequestFilter(Collections.singleton(provider), metrics));
+        binder.addResponseFilter(responseFilter);
+        binder.addMethodInvokerFilter(new PermissionsFilter());
+        final URI uri = new URI(BASE_URI);
+        final ContainerRequest req = new ContainerRequest(null, uri, uri, null, null, null);
+        final ApplicationContextImpl contextImpl = new ApplicationContextImpl(req, null, binder);
+        contextImpl.setDependencySupplier(dependencies);
+        ApplicationContextImpl.setCurrent(contextImpl);
+        final EverrestProcessor processor = new EverrestProcessor(resources,
+                                                                  binder,
+                                                                  dependencies,
+                                                                  new EverrestConfiguration(),
+                                                                  null);
+        resourceLauncher = new ResourceLauncher(processor);
+    }
+
+    @Test
+    public void shouldUseSuppliedTagInsteadOfHashOfEntity() throws Exception {
+        final ContainerResponse response = resourceLauncher.service(HttpMethod.GET, SERVICE_PATH + "/versioned", BASE_URI, null, null, null);
+
+        assertEquals(response.getStatus(), OK.getStatusCode());
+        assertEquals(response.getEntity(), "hello");
+        assertEquals(response.getHttpHeaders().get("ETag"), Collections.singletonList(VERSION));
+        assertEquals(INVOCATIONS.get(), 1);
+    }
+
+    @Test
+    public void shouldNotInvokeResourceIfSuppliedTagMatches() throws Exception {
+        resourceLauncher.service(HttpMethod.GET, SERVICE_PATH + "/versioned", BASE_URI, null, null, null);
+
+        final ContainerResponse response = resourceLauncher.service(HttpMethod.GET, SERVICE_PATH + "/versioned", BASE_URI,
+                                                                    ifNoneMatch(VERSION), null, null);
+
+        assertEquals(response.getStatus(), NOT_MODIFIED.getStatusCode());
+        assertNull(response.getEntity());
+        assertEquals(INVOCATIONS.get(), 1);
+        assertEquals(metrics.getRequests(), 2);
+        assertEquals(metrics.getNotModifiedByProvidedTag(), 1);
+        assertEquals(metrics.getBytesSaved(), "hello".length());
+    }
+
+    @Test
+    public void shouldFallBackToHashOfEntityIfTagIsNotSupplied() throws Exception {
+        final ContainerResponse response = resourceLauncher.service(HttpMethod.GET, SERVICE_PATH + "/single", BASE_URI,
+                                                                    ifNoneMatch(new EntityTag("5d41402abc4b2a76b9719d911017c592")),
+                                                                    null, null);
+
+        assertEquals(response.getStatus(), NOT_MODIFIED.getStatusCode());
+        assertEquals(INVOCATIONS.get(), 1);
+        assertEquals(metrics.getNotModified(), 1);
+        assertEquals(metrics.getNotModifiedByProvidedTag(), 0);
+        assertEquals(metrics.getBytesSaved(), "hello".length());
+    }
+
+    @Test
+    public void shouldNotAnswerGuardedResourceBeforeMethodInvokerFilters() throws Exception {
+        DENIED.set(true);
+
+        final ContainerResponse response = resourceLauncher.service(HttpMethod.GET, SERVICE_PATH + "/guarded", BASE_URI,
+                                                                    ifNoneMatch(VERSION), null, null);
+
+        assertEquals(response.getStatus(), FORBIDDEN.getStatusCode());
+        assertEquals(INVOCATIONS.get(), 0);
+        assertEquals(metrics.getNotModified(), 0);
+    }
+
+    @Test
+    public void shouldAnswerGuardedResourceWithNotModifiedAfterItIsInvoked() throws Exception {
+        final ContainerResponse response = resourceLauncher.service(HttpMethod.GET, SERVICE_PATH + "/guarded", BASE_URI,
+                                                                    ifNoneMatch(VERSION), null, null);
+
+        assertEquals(response.getStatus(), NOT_MODIFIED.getStatusCode());
+        assertNull(response.getEntity());
+        assertEquals(response.getHttpHeaders().get("ETag"), Collections.singletonList(VERSION));
+        assertEquals(INVOCATIONS.get(), 1);
+        assertEquals(metrics.getNotModified(), 1);
+        assertEquals(metrics.getNotModifiedByProvidedTag(), 0);
+        assertEquals(metrics.getBytesSaved(), "hello".length());
+    }
+
+    @Test
+    public void shouldCountBytesSavedInUtf8() throws Exception {
+        resourceLauncher.service(HttpMethod.GET, SERVICE_PATH + "/unicode", BASE_URI, null, null, null);
+
+        resourceLauncher.service(HttpMethod.GET, SERVICE_PATH + "/unicode", BASE_URI, ifNoneMatch(VERSION), null, null);
+
+        // 6 cyrillic letters, 2 bytes each
+        assertEquals(metrics.getBytesSaved(), 12);
+    }
+
+    private static Map<String, List<String>> ifNoneMatch(EntityTag tag) {
+        final Map<String, List<String>> headers = new HashMap<>();
+        headers.put("If-None-Match", Collections.singletonList(tag.toString()));
+        return headers;
+    }
+}
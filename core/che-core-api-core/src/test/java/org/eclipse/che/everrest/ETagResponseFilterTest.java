@@ -91,6 +91,14 @@ public class ETagResponseFilterTest {
                            .build();
         }
 
+        @GET
+        @Path("/tagged")
+        @Produces(APPLICATION_JSON)
+        public Response taggedByResource() {
+            return Response.ok("hello")
+                           .tag(new EntityTag("version-1"))
+                           .build();
+        }
 
     }
 
@@ -189,6 +197,22 @@ public class ETagResponseFilterTest {
 
 
 
+    /**
+     * Check if ETag provided by resource is not replaced with hash of entity
+     */
+    @Test
+    public void keepETagProvidedByResource() throws Exception {
+
+        final ContainerResponse response = resourceLauncher.service(HttpMethod.GET, SERVICE_PATH + "/tagged", BASE_URI, null, null, null);
+        assertEquals(response.getStatus(), OK.getStatusCode());
+        Assert.assertEquals(response.getEntity(), "hello");
+        // Check etag
+        List<Object> headerTags = response.getHttpHeaders().get("ETag");
+        Assert.assertNotNull(headerTags);
+        Assert.assertEquals(headerTags.size(), 1);
+        Assert.assertEquals(headerTags.get(0), new EntityTag("version-1"));
+    }
+
     /**
      * Check if ETag sent with header is redirecting to NOT_MODIFIED
      */
@@ -16,6 +16,8 @@ import com.google.common.cache.LoadingCache;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonParser;
 import com.google.gson.JsonSyntaxException;
 
 import org.eclipse.che.commons.lang.reflect.ParameterizedTypeImpl;
@@ -23,11 +25,11 @@ import org.eclipse.che.dto.shared.DTO;
 import org.eclipse.che.dto.shared.JsonArray;
 import org.eclipse.che.dto.shared.JsonStringMap;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.Writer;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
@@ -44,6 +46,9 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public final class DtoFactory {
     private static final Gson gson = new GsonBuilder().serializeNulls().create();
+    // the same settings as generated DTOs and JSON collections use for serialization to string
+    private static final Gson dtoGson        = new GsonBuilder().disableHtmlEscaping().create();
+    private static final Gson collectionGson = new GsonBuilder().disableHtmlEscaping().serializeNulls().create();
 
     private static final LoadingCache<Type, ParameterizedType> listTypeCache = CacheBuilder.newBuilder().concurrencyLevel(16).build(
             new CacheLoader<Type, ParameterizedType>() {
@@ -143,6 +148,37 @@ public final class DtoFactory {
         throw new IllegalArgumentException("JsonSerializable instance required. ");
     }
 
+    /**
+     * Writes JSON representation of DTO object directly to the specified writer without building string in memory. Result is the same
+     * as result of {@link #toJson(Object)}.
+     *
+     * @param dto
+     *         DTO object
+     * @param writer
+     *         writer for JSON data, it isn't flushed or closed by this method
+     * @throws IllegalArgumentException
+     *         if specified object isn't DTO object
+     * @throws IOException
+     *         if an i/o error occurs
+     */
+    public <T> void toJson(T dto, Writer writer) throws IOException {
+        try {
+            if (dto instanceof JsonArrayImpl || dto instanceof JsonStringMapImpl) {
+                collectionGson.toJson(dto, writer);
+            } else if (dto instanceof JsonSerializable) {
+                dtoGson.toJson(((JsonSerializable)dto).toJsonElement(), writer);
+            } else {
+                throw new IllegalArgumentException("JsonSerializable instance required. ");
+            }
+        } catch (JsonIOException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException)cause;
+            }
+            throw e;
+        }
+    }
+
     public <T> JsonElement toJsonElement(T dto) {
         if (dto instanceof JsonSerializable) {
             return ((JsonSerializable)dto).toJsonElement();
@@ -193,14 +229,18 @@ public final class DtoFactory {
      *         if an i/o error occurs
      */
     public <T> T createDtoFromJson(Reader json, Class<T> dtoInterface) throws IOException {
-        DtoProvider<T> dtoProvider = getDtoProvider(dtoInterface);
-        StringBuilder sb = new StringBuilder();
-        BufferedReader br = new BufferedReader(json);
-        String line;
-        while ((line = br.readLine()) != null) {
-            sb.append(line);
+        final DtoProvider<T> dtoProvider = getDtoProvider(dtoInterface);
+        final JsonElement element;
+        try {
+            element = new JsonParser().parse(json);
+        } catch (JsonIOException | JsonSyntaxException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException)cause;
+            }
+            throw e;
         }
-        return dtoProvider.fromJson(sb.toString());
+        return dtoProvider.fromJson(element);
     }
 
     /**
@@ -29,6 +29,8 @@ import org.eclipse.che.dto.server.DtoFactory;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -92,6 +94,25 @@ public class ServerDtoTest {
         checkSimpleDto(dto, fooString, fooId, _default);
     }
 
+    @Test
+    public void testSimpleDtoStreamingSerializer() throws Exception {
+        SimpleDto dto = dtoFactory.createDto(SimpleDto.class).withName("<name>").withId(1).withDefault("default");
+        final StringWriter writer = new StringWriter();
+
+        dtoFactory.toJson(dto, writer);
+
+        assertEquals(writer.toString(), dtoFactory.toJson(dto));
+    }
+
+    @Test
+    public void testSimpleDtoStreamingDeserializer() throws Exception {
+        final String json = "{\n  \"name\": \"multi\\nline\",\n  \"id\": 1,\n  \"default\": \"default\"\n}";
+
+        SimpleDto dto = dtoFactory.createDtoFromJson(new StringReader(json), SimpleDto.class);
+
+        checkSimpleDto(dto, "multi\nline", 1, "default");
+    }
+
     @Test
     public void testSerializerWithFieldNames() throws Exception {
         final String fooString = "Something";
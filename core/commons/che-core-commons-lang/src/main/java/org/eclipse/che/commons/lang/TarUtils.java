@@ -22,6 +22,7 @@ import java.io.FileOutputStream;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.LinkedList;
 
 /**
@@ -81,23 +82,48 @@ public class TarUtils {
 
     public static void tarFiles(File tar, long modTime, File... files) throws IOException {
         try (TarArchiveOutputStream tarOut = new TarArchiveOutputStream(new BufferedOutputStream(new FileOutputStream(tar)))) {
-            tarOut.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
-            for (File f : files) {
-                if (f.isDirectory()) {
-                    addDirectoryEntry(tarOut, f.getName(), f, modTime);
-                    final String parentPath = f.getParentFile().getAbsolutePath();
-                    addDirectoryRecursively(tarOut, parentPath, f, modTime, IoUtil.ANY_FILTER);
-                } else if (f.isFile()) {
-                    addFileEntry(tarOut, f.getName(), f, modTime);
-                }
-            }
+            addFiles(tarOut, modTime, files);
         }
     }
 
+    /**
+     * Writes tar archive with specified files directly to {@code output}, so archive doesn't need to be saved on file system
+     * before it is sent somewhere. Stream {@code output} is flushed but isn't closed.
+     *
+     * @param output
+     *         stream to write archive to
+     * @param modTime
+     *         modification time that applied to all entries in archive instead modification time provided by method {@link
+     *         File#lastModified()}. This parameter should be {@code -1} if don't need to set any specified time
+     * @param files
+     *         files and directories to add in archive
+     * @throws IOException
+     *         if i/o error occurs
+     */
+    public static void tarFiles(OutputStream output, long modTime, File... files) throws IOException {
+        final TarArchiveOutputStream tarOut = new TarArchiveOutputStream(output);
+        addFiles(tarOut, modTime, files);
+        tarOut.finish();
+        tarOut.flush();
+    }
+
     public static void tarFiles(File tar, File... files) throws IOException {
         tarFiles(tar, -1, files);
     }
 
+    private static void addFiles(TarArchiveOutputStream tarOut, long modTime, File... files) throws IOException {
+        tarOut.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+        for (File f : files) {
+            if (f.isDirectory()) {
+                addDirectoryEntry(tarOut, f.getName(), f, modTime);
+                final String parentPath = f.getParentFile().getAbsolutePath();
+                addDirectoryRecursively(tarOut, parentPath, f, modTime, IoUtil.ANY_FILTER);
+            } else if (f.isFile()) {
+                addFileEntry(tarOut, f.getName(), f, modTime);
+            }
+        }
+    }
+
     private static void addDirectoryRecursively(TarArchiveOutputStream tarOut,
                                                 String parentPath,
                                                 File dir,
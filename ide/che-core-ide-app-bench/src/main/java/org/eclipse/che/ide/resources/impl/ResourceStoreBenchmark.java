@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.resources.impl;
+
+import org.eclipse.che.api.core.model.project.ProjectConfig;
+import org.eclipse.che.ide.api.resources.Resource;
+import org.eclipse.che.ide.resource.Path;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Registration and listing of resources of a big project in {@link InMemoryResourceStore},
+ * the way IDE does it on refresh of the project tree, run on JVM without GWT.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ResourceStoreBenchmark {
+
+    private static final int  FILES_PER_FOLDER = 100;
+    private static final Path PROJECT          = Path.valueOf("/project");
+    private static final Path FOLDER           = Path.valueOf("/project/folder0");
+
+    /** Number of registered resources, folders included. */
+    @Param({"10000", "100000", "500000"})
+    public int size;
+
+    private Resource[]            resources;
+    private InMemoryResourceStore registered;
+
+    @Setup
+    public void setUp() {
+        // IDE resources need resource manager, but neither the store nor the benchmark use it
+        final ResourceManager resourceManager = new ResourceManager(null, null, null, new NoopResourceFactory(), null, null, null, null, null);
+        resources = new Resource[size];
+        int index = 0;
+        for (int folder = 0; index < size; folder++) {
+            final Path folderPath = PROJECT.append("folder" + folder);
+            resources[index++] = new FileImpl(folderPath, null, resourceManager);
+            for (int file = 0; file < FILES_PER_FOLDER && index < size; file++) {
+                resources[index++] = new FileImpl(folderPath.append("file" + file), null, resourceManager);
+            }
+        }
+        registered = new InMemoryResourceStore(Collections.emptySet());
+        registered.register(resources);
+    }
+
+    @Benchmark
+    public int register() {
+        return new InMemoryResourceStore(Collections.emptySet()).register(resources);
+    }
+
+    @Benchmark
+    public int getAll() {
+        return registered.getAll(PROJECT).get().length;
+    }
+
+    @Benchmark
+    public int getAllOfFolder() {
+        return registered.getAll(FOLDER).get().length;
+    }
+
+    @Benchmark
+    public int get() {
+        return registered.get(PROJECT).get().length;
+    }
+
+    private static class NoopResourceFactory implements ResourceManager.ResourceFactory {
+        @Override
+        public ProjectImpl newProjectImpl(ProjectConfig reference, ResourceManager resourceManager) {
+            return null;
+        }
+
+        @Override
+        public FolderImpl newFolderImpl(Path path, ResourceManager resourceManager) {
+            return null;
+        }
+
+        @Override
+        public FileImpl newFileImpl(Path path, String contentUrl, ResourceManager resourceManager) {
+            return null;
+        }
+    }
+}
@@ -12,27 +12,31 @@ package org.eclipse.che.ide.resources.impl;
 
 import com.google.common.annotations.Beta;
 import com.google.common.base.Optional;
-import com.google.common.collect.Maps;
 import com.google.inject.Inject;
 
-import org.eclipse.che.ide.api.resources.Container;
 import org.eclipse.che.ide.api.resources.Resource;
 import org.eclipse.che.ide.api.resources.ResourceInterceptor;
 import org.eclipse.che.ide.resource.Path;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import static com.google.common.base.Optional.absent;
 import static com.google.common.base.Optional.of;
 import static com.google.common.base.Preconditions.checkArgument;
-import static java.lang.System.arraycopy;
-import static java.util.Arrays.binarySearch;
-import static java.util.Arrays.copyOf;
+import static java.util.Arrays.sort;
 
 /**
  * In memory implementation of {@link ResourceStore}.
+ * <p/>
+ * Resources are kept in a tree which mirrors the workspace tree, each node holds the resource registered
+ * by its path and the nodes of its children. So registering, disposing and looking up the resource costs
+ * the depth of its path, enumerating of the descendants costs the size of the subtree and doesn't depend
+ * on the total number of cached resources.
  *
  * @author Vlad Zhukovskiy
  * @see ResourceStore
@@ -51,14 +55,14 @@ class InMemoryResourceStore implements ResourceStore {
         }
     };
 
-    private Map<Path, Resource[]> memoryCache;
+    private Node root;
     private Set<ResourceInterceptor> resourceInterceptors;
 
     @Inject
     public InMemoryResourceStore(Set<ResourceInterceptor> resourceInterceptors) {
         this.resourceInterceptors = resourceInterceptors;
 
-        memoryCache = Maps.newHashMap();
+        root = new Node(null, null);
     }
 
     /** {@inheritDoc} */
@@ -66,40 +70,39 @@ class InMemoryResourceStore implements ResourceStore {
     public boolean register(Resource resource) {
         checkArgument(resource != null, "Null resource occurred");
 
-        final Path parent = resource.getLocation().segmentCount() == 1 ? Path.ROOT : resource.getLocation().parent();
-
-        if (!memoryCache.containsKey(parent)) {
-            memoryCache.put(parent, new Resource[]{resource});
-
-            intercept(resource);
+        return register(resource, lookup(resource.getLocation(), true));
+    }
 
-            return true;
-        } else {
-            Resource[] container = memoryCache.get(parent);
+    /** {@inheritDoc} */
+    @Override
+    public int register(Resource[] resources) {
+        checkArgument(resources != null, "Null resources occurred");
 
-            final int index = binarySearch(container, resource, NAME_COMPARATOR);
+        int registered = 0;
 
-            if (index >= 0) { //update existing resource with new one
-                container[index] = resource;
+        Node parent = root;
+        Path parentLocation = Path.ROOT;
 
-                intercept(resource);
+        for (Resource resource : resources) {
+            checkArgument(resource != null, "Null resource occurred");
 
-                return false;
-            } else { //such resource doesn't exists, then simply add it
-                final int posIndex = -index - 1; //negate inverted index into positive one
-                final int size = container.length;
-                final Resource[] tmpContainer = copyOf(container, size + 1);
-                arraycopy(tmpContainer, posIndex, tmpContainer, posIndex + 1, size - posIndex); //prepare cell to insert
-                tmpContainer[posIndex] = resource;
-                container = tmpContainer;
+            final Path location = resource.getLocation();
+            final Path resourceParent = location.segmentCount() <= 1 ? Path.ROOT : location.parent();
 
-                memoryCache.put(parent, container);
+            /* Resources from the server response come in tree order, so siblings usually share the parent node. */
+            if (!resourceParent.equals(parentLocation)) {
+                parent = lookup(resourceParent, true);
+                parentLocation = resourceParent;
+            }
 
-                intercept(resource);
+            final Node node = location.segmentCount() == 0 ? root : parent.child(location.lastSegment(), true);
 
-                return true;
+            if (register(resource, node)) {
+                registered++;
             }
         }
+
+        return registered;
     }
 
     /** {@inheritDoc} */
@@ -107,45 +110,36 @@ class InMemoryResourceStore implements ResourceStore {
     public void dispose(Path path, boolean withChildren) {
         checkArgument(path != null, "Null path occurred");
 
+        if (path.segmentCount() == 0) {
+            clear();
+            return;
+        }
 
-        final Path parent = path.segmentCount() == 1 ? Path.ROOT : path.parent();
-
-        Resource[] container = memoryCache.get(parent);
-
-        if (container != null) {
-            int index = -1;
+        final Node node = lookup(path, false);
 
-            for (int i = 0; i < container.length; i++) {
-                if (container[i].getName().equals(path.lastSegment())) {
-                    index = i;
-                    break;
-                }
-            }
+        if (node == null) {
+            return;
+        }
 
-            if (index != -1) {
-                int size = container.length;
-                int numMoved = container.length - index - 1;
-                if (numMoved > 0) {
-                    System.arraycopy(container, index + 1, container, index, numMoved);
-                }
-                container = copyOf(container, --size);
+        if (node.resource != null) {
+            node.resource = null;
+            node.parent.listing = null;
+        }
 
-                memoryCache.put(parent, container);
+        if (withChildren) {
+            node.children = null;
+        } else if (node.listed && node.children != null) {
+            /* Only the list of direct children is disposed, deeper descendants stay registered. */
+            for (Node child : new ArrayList<>(node.children.values())) {
+                child.resource = null;
+                prune(child);
             }
         }
 
+        node.listed = false;
+        node.listing = null;
 
-        if (memoryCache.containsKey(path)) {
-            container = memoryCache.remove(path);
-
-            if (container != null && withChildren) {
-                for (Resource resource : container) {
-                    if (resource instanceof Container) {
-                        dispose(resource.getLocation(), true);
-                    }
-                }
-            }
-        }
+        prune(node);
     }
 
     /** {@inheritDoc} */
@@ -153,25 +147,13 @@ class InMemoryResourceStore implements ResourceStore {
     public Optional<Resource> getResource(Path path) {
         checkArgument(path != null, "Null path occurred");
 
-        final Path parent = path.parent();
+        final Node node = lookup(path, false);
 
-        if (!memoryCache.containsKey(parent)) {
+        if (node == null || node.resource == null) {
             return absent();
         }
 
-        final Resource[] container = memoryCache.get(parent);
-
-        if (container == null) {
-            return absent();
-        }
-
-        for (Resource resource : container) {
-            if (resource.getLocation().equals(path)) {
-                return Optional.of(resource);
-            }
-        }
-
-        return absent();
+        return of(node.resource);
     }
 
     /** {@inheritDoc} */
@@ -179,11 +161,13 @@ class InMemoryResourceStore implements ResourceStore {
     public Optional<Resource[]> get(Path parent) {
         checkArgument(parent != null, "Null path occurred");
 
-        if (!memoryCache.containsKey(parent)) {
+        final Node node = lookup(parent, false);
+
+        if (node == null || !node.listed) {
             return absent();
         }
 
-        return of(memoryCache.get(parent));
+        return of(node.getListing());
     }
 
     /** {@inheritDoc} */
@@ -191,44 +175,78 @@ class InMemoryResourceStore implements ResourceStore {
     public Optional<Resource[]> getAll(Path parent) {
         checkArgument(parent != null, "Null path occurred");
 
-        if (!memoryCache.containsKey(parent)) {
+        final Node node = lookup(parent, false);
+
+        if (node == null || !node.listed) {
             return absent();
         }
 
-        Resource[] all = new Resource[0];
-
-        for (Map.Entry<Path, Resource[]> setEntry : memoryCache.entrySet()) {
-
-            /* There is no need to check compared path if its segment count is less then given one. */
+        final List<Resource> all = new ArrayList<>();
+        final List<Node> toVisit = new ArrayList<>();
+        toVisit.add(node);
 
-            final Path comparedPath = setEntry.getKey();
+        while (!toVisit.isEmpty()) {
+            final Node visited = toVisit.remove(toVisit.size() - 1);
 
-            if (!parent.isPrefixOf(comparedPath)) {
+            if (visited.children == null) {
                 continue;
             }
 
-            final Resource[] resources = setEntry.getValue();
+            for (Node child : visited.children.values()) {
+                if (child.resource != null) {
+                    all.add(child.resource);
+                }
 
-            if (resources == null || resources.length == 0) {
-                continue;
+                if (child.children != null) {
+                    toVisit.add(child);
+                }
             }
-
-            final Resource[] tmpResourcesArr = copyOf(all, all.length + resources.length);
-            arraycopy(resources, 0, tmpResourcesArr, all.length, resources.length);
-            all = tmpResourcesArr;
         }
 
-        if (all.length == 0) {
+        if (all.isEmpty()) {
             return of(EMPTY_RESOURCES);
         }
 
-        return of(all);
+        return of(all.toArray(new Resource[all.size()]));
     }
 
     /** {@inheritDoc} */
     @Override
     public void clear() {
-        memoryCache.clear();
+        root = new Node(null, null);
+    }
+
+    private boolean register(Resource resource, Node node) {
+        final boolean added = node.resource == null;
+
+        node.resource = resource;
+
+        final Node parent = node.parent != null ? node.parent : node;
+        parent.listed = true;
+        parent.listing = null;
+
+        intercept(resource);
+
+        return added;
+    }
+
+    /** Returns the node bound to the given {@code path}, missed nodes are created if {@code create} is set to {@code true}. */
+    private Node lookup(Path path, boolean create) {
+        Node node = root;
+
+        for (int i = 0; i < path.segmentCount() && node != null; i++) {
+            node = node.child(path.segment(i), create);
+        }
+
+        return node;
+    }
+
+    /** Removes the given {@code node} and its empty ancestors from the tree. */
+    private void prune(Node node) {
+        while (node.parent != null && node.resource == null && !node.listed && (node.children == null || node.children.isEmpty())) {
+            node.parent.children.remove(node.name);
+            node = node.parent;
+        }
     }
 
     private <R extends Resource> void intercept(R resource) {
@@ -240,4 +258,56 @@ class InMemoryResourceStore implements ResourceStore {
             interceptor.intercept(resource);
         }
     }
+
+    private static class Node {
+        private final Node   parent;
+        private final String name;
+
+        private Resource          resource;
+        private Map<String, Node> children;
+
+        /** Whether the list of children is registered, even if it is empty. */
+        private boolean    listed;
+        /** Children resources sorted by name, {@code null} if children were changed since the last call of {@link #getListing()}. */
+        private Resource[] listing;
+
+        private Node(Node parent, String name) {
+            this.parent = parent;
+            this.name = name;
+        }
+
+        private Node child(String name, boolean create) {
+            Node child = children == null ? null : children.get(name);
+
+            if (child == null && create) {
+                if (children == null) {
+                    children = new HashMap<>();
+                }
+
+                child = new Node(this, name);
+                children.put(name, child);
+            }
+
+            return child;
+        }
+
+        private Resource[] getListing() {
+            if (listing == null) {
+                final List<Resource> resources = new ArrayList<>();
+
+                if (children != null) {
+                    for (Node child : children.values()) {
+                        if (child.resource != null) {
+                            resources.add(child.resource);
+                        }
+                    }
+                }
+
+                listing = resources.toArray(new Resource[resources.size()]);
+                sort(listing, NAME_COMPARATOR);
+            }
+
+            return listing;
+        }
+    }
 }
@@ -49,8 +49,8 @@ import org.eclipse.che.ide.api.resources.marker.MarkerChangedEvent;
 import org.eclipse.che.ide.context.AppContextImpl;
 import org.eclipse.che.ide.dto.DtoFactory;
 import org.eclipse.che.ide.resource.Path;
-import org.eclipse.che.ide.util.Arrays;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -73,7 +73,6 @@ import static org.eclipse.che.ide.api.resources.ResourceDelta.MOVED_TO;
 import static org.eclipse.che.ide.api.resources.ResourceDelta.REMOVED;
 import static org.eclipse.che.ide.api.resources.ResourceDelta.SYNCHRONIZED;
 import static org.eclipse.che.ide.api.resources.ResourceDelta.UPDATED;
-import static org.eclipse.che.ide.util.Arrays.removeAll;
 import static org.eclipse.che.ide.util.NameUtils.checkFileName;
 import static org.eclipse.che.ide.util.NameUtils.checkFolderName;
 import static org.eclipse.che.ide.util.NameUtils.checkProjectName;
@@ -611,7 +610,7 @@ public final class ResourceManager {
                     Resource[] resources;
 
                     private int size    = 0; //size of total items
-                    private int incStep = 50; //step to increase resource array
+                    private int incStep = 50; //initial size of resource array, it is doubled on overflow
 
                     private Visitor() {
                         this.resources = NO_RESOURCES;
@@ -632,7 +631,7 @@ public final class ResourceManager {
                         }
 
                         if (size > resources.length - 1) { //check load factor and increase resource array
-                            resources = copyOf(resources, resources.length + incStep);
+                            resources = copyOf(resources, Math.max(incStep, resources.length * 2));
                         }
 
                         resources[size++] = resource;
@@ -649,53 +648,46 @@ public final class ResourceManager {
             @Override
             public Resource[] apply(Resource[] reloaded) throws FunctionException {
 
-                Resource[] result = new Resource[0];
-
+                /* Outdated resources are matched with reloaded ones by location, so comparing of the trees is linear. */
+                final Map<Path, Resource> outdated = new HashMap<>();
                 if (descendants.isPresent()) {
-                    Resource[] outdated = descendants.get();
-
-                    final Resource[] removed = removeAll(outdated, reloaded, false);
-                    for (Resource resource : removed) {
-                        store.dispose(resource.getLocation(), false);
-                        eventBus.fireEvent(new ResourceChangedEvent(new ResourceDeltaImpl(resource, REMOVED)));
-                    }
-
-                    final Resource[] updated = removeAll(outdated, reloaded, true);
-                    for (Resource resource : updated) {
-                        store.register(resource);
-
-                        eventBus.fireEvent(new ResourceChangedEvent(new ResourceDeltaImpl(resource, UPDATED)));
-
-                        final Optional<Resource> registered = store.getResource(resource.getLocation());
-                        if (registered.isPresent()) {
-                            result = Arrays.add(result, registered.get());
-                        }
+                    for (Resource resource : descendants.get()) {
+                        outdated.put(resource.getLocation(), resource);
                     }
+                }
 
-                    final Resource[] added = removeAll(reloaded, outdated, false);
-                    for (Resource resource : added) {
-                        store.register(resource);
-
-                        eventBus.fireEvent(new ResourceChangedEvent(new ResourceDeltaImpl(resource, ADDED)));
-
-                        final Optional<Resource> registered = store.getResource(resource.getLocation());
-                        if (registered.isPresent()) {
-                            result = Arrays.add(result, registered.get());
+                final List<Resource> updated = new ArrayList<>();
+                final List<Resource> added = new ArrayList<>();
+                for (Resource resource : reloaded) {
+                    final Resource previous = outdated.remove(resource.getLocation());
+                    if (previous != null && previous.getResourceType() == resource.getResourceType()) {
+                        updated.add(previous);
+                    } else {
+                        if (previous != null) {
+                            outdated.put(previous.getLocation(), previous);
                         }
+                        added.add(resource);
                     }
+                }
 
+                for (Resource resource : outdated.values()) {
+                    store.dispose(resource.getLocation(), false);
+                    eventBus.fireEvent(new ResourceChangedEvent(new ResourceDeltaImpl(resource, REMOVED)));
+                }
 
-                } else {
-                    for (Resource resource : reloaded) {
-                        store.register(resource);
+                final Resource[] result = new Resource[updated.size() + added.size()];
+                int index = 0;
 
-                        eventBus.fireEvent(new ResourceChangedEvent(new ResourceDeltaImpl(resource, ADDED)));
+                store.register(updated.toArray(new Resource[updated.size()]));
+                for (Resource resource : updated) {
+                    eventBus.fireEvent(new ResourceChangedEvent(new ResourceDeltaImpl(resource, UPDATED)));
+                    result[index++] = resource;
+                }
 
-                        final Optional<Resource> registered = store.getResource(resource.getLocation());
-                        if (registered.isPresent()) {
-                            result = Arrays.add(result, registered.get());
-                        }
-                    }
+                store.register(added.toArray(new Resource[added.size()]));
+                for (Resource resource : added) {
+                    eventBus.fireEvent(new ResourceChangedEvent(new ResourceDeltaImpl(resource, ADDED)));
+                    result[index++] = resource;
                 }
 
                 return result;
@@ -50,6 +50,23 @@ interface ResourceStore {
      */
     boolean register(Resource resource);
 
+    /**
+     * Register the given {@code resources} in storage at once, e.g. resources received in one server response.
+     * Resources are expected to be ordered as in tree, so siblings go one after another.
+     *
+     * @param resources
+     *         the resources to be registered
+     * @return number of resources which haven't registered before
+     * @throws IllegalArgumentException
+     *         if argument checking was failed, reasons include:
+     *         <ul>
+     *         <li>Null resources occurred</li>
+     *         <li>Null resource occurred</li>
+     *         </ul>
+     * @since 4.6.0
+     */
+    int register(Resource[] resources);
+
     /**
      * Dispose given {@code resource} and dispose children if {@code withChildren} was flagged as {@code true}.
      * <p/>
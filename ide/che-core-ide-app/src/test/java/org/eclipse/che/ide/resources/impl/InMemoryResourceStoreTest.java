@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.resources.impl;
+
+import org.eclipse.che.api.promises.client.PromiseProvider;
+import org.eclipse.che.ide.api.resources.Resource;
+import org.eclipse.che.ide.resource.Path;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Testing {@link InMemoryResourceStore} functionality.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class InMemoryResourceStoreTest {
+
+    private static final int FILES_PER_FOLDER = 100;
+
+    @Mock
+    ResourceManager.ResourceFactory resourceFactory;
+
+    @Mock
+    PromiseProvider promiseProvider;
+
+    private ResourceManager       resourceManager;
+    private InMemoryResourceStore store;
+
+    @Before
+    public void setUp() {
+        // resource manager is final, so it can't be mocked
+        resourceManager = new ResourceManager(null, null, null, resourceFactory, promiseProvider, null, null, null, null);
+        store = new InMemoryResourceStore(Collections.emptySet());
+    }
+
+    @Test
+    public void shouldRegisterAndGetResource() {
+        final Resource folder = folder("/project/src");
+        final Resource file = file("/project/src/a.txt");
+
+        assertTrue(store.register(folder));
+        assertTrue(store.register(file));
+        assertFalse(store.register(file("/project/src/a.txt")));
+
+        assertSame(folder, store.getResource(Path.valueOf("/project/src")).get());
+        assertEquals(file, store.getResource(Path.valueOf("/project/src/a.txt")).get());
+        assertFalse(store.getResource(Path.valueOf("/project/src/b.txt")).isPresent());
+    }
+
+    @Test
+    public void shouldReturnChildrenSortedByName() {
+        final Resource b = file("/project/b.txt");
+        final Resource a = file("/project/a.txt");
+        final Resource c = folder("/project/c");
+
+        store.register(b);
+        store.register(c);
+        store.register(a);
+        store.register(file("/project/c/d.txt"));
+
+        assertArrayEquals(new Resource[]{a, b, c}, store.get(Path.valueOf("/project")).get());
+        assertFalse(store.get(Path.valueOf("/project/a.txt")).isPresent());
+    }
+
+    @Test
+    public void shouldReturnAllDescendants() {
+        store.register(new Resource[]{folder("/project/src"),
+                                      file("/project/src/a.txt"),
+                                      folder("/project/src/main"),
+                                      file("/project/src/main/b.txt"),
+                                      file("/other/c.txt")});
+
+        assertEquals(4, store.getAll(Path.valueOf("/project")).get().length);
+        assertEquals(3, store.getAll(Path.valueOf("/project/src")).get().length);
+        assertEquals(0, store.getAll(Path.valueOf("/project/src/main/b.txt")).or(new Resource[0]).length);
+    }
+
+    @Test
+    public void shouldDisposeWithChildren() {
+        store.register(new Resource[]{folder("/project/src"),
+                                      file("/project/src/a.txt"),
+                                      folder("/project/src/main"),
+                                      file("/project/src/main/b.txt")});
+
+        store.dispose(Path.valueOf("/project/src"), true);
+
+        assertFalse(store.getResource(Path.valueOf("/project/src")).isPresent());
+        assertFalse(store.getResource(Path.valueOf("/project/src/main/b.txt")).isPresent());
+        assertEquals(0, store.get(Path.valueOf("/project")).get().length);
+        assertFalse(store.getAll(Path.valueOf("/project/src")).isPresent());
+    }
+
+    @Test
+    public void shouldDisposeOnlyDirectChildrenWithoutChildrenFlag() {
+        store.register(new Resource[]{folder("/project/src"),
+                                      file("/project/src/a.txt"),
+                                      folder("/project/src/main"),
+                                      file("/project/src/main/b.txt")});
+
+        store.dispose(Path.valueOf("/project/src"), false);
+
+        assertFalse(store.getResource(Path.valueOf("/project/src")).isPresent());
+        assertFalse(store.getResource(Path.valueOf("/project/src/a.txt")).isPresent());
+        assertFalse(store.get(Path.valueOf("/project/src")).isPresent());
+        assertTrue(store.getResource(Path.valueOf("/project/src/main/b.txt")).isPresent());
+    }
+
+    @Test
+    public void shouldCountNewlyRegisteredResources() {
+        store.register(file("/project/a.txt"));
+
+        assertEquals(1, store.register(new Resource[]{file("/project/a.txt"), file("/project/b.txt")}));
+    }
+
+    @Test
+    public void shouldRegisterAndGetAllOfTree() {
+        final Resource[] resources = tree(1_000);
+
+        assertEquals(resources.length, store.register(resources));
+        assertEquals(resources.length, store.getAll(Path.valueOf("/project")).get().length);
+        assertEquals(FILES_PER_FOLDER, store.getAll(Path.valueOf("/project/folder0")).get().length);
+    }
+
+    /** Returns resources of a project with folders of {@link #FILES_PER_FOLDER} files, folders included. */
+    private Resource[] tree(int size) {
+        final Resource[] resources = new Resource[size];
+        int index = 0;
+        for (int folder = 0; index < size; folder++) {
+            final String folderPath = "/project/folder" + folder;
+            resources[index++] = folder(folderPath);
+            for (int file = 0; file < FILES_PER_FOLDER && index < size; file++) {
+                resources[index++] = file(folderPath + "/file" + file);
+            }
+        }
+        return resources;
+    }
+
+    private Resource file(String path) {
+        return new FileImpl(Path.valueOf(path), null, resourceManager);
+    }
+
+    private Resource folder(String path) {
+        return new FolderImpl(Path.valueOf(path), resourceManager, promiseProvider);
+    }
+}
@@ -10,11 +10,14 @@
  *******************************************************************************/
 package org.eclipse.che.ide.websocket;
 
+import com.google.gwt.core.client.Duration;
 import com.google.gwt.core.client.JavaScriptException;
+import com.google.gwt.core.client.Scheduler;
 import com.google.gwt.http.client.RequestBuilder;
 import com.google.gwt.user.client.Timer;
 import com.google.gwt.user.client.rpc.AsyncCallback;
 
+import org.eclipse.che.ide.collections.js.JsoArray;
 import org.eclipse.che.ide.rest.HTTPHeader;
 import org.eclipse.che.ide.util.ListenerManager;
 import org.eclipse.che.ide.util.loging.Log;
@@ -35,6 +38,12 @@ import java.util.List;
 import java.util.Map;
 
 /**
+ * Base implementation of {@link MessageBus}.
+ * <p/>
+ * Message bus asks server to pack messages of subscribed channels into batches, so a single websocket frame may
+ * carry several messages. Messages of the batches are dispatched to handlers in short time slices to keep the
+ * browser responsive when a lot of output is received. Servers which don't support batching send a message per frame.
+ *
  * @author Dmitry Shnurenko
  */
 abstract class AbstractMessageBus implements MessageBus {
@@ -45,6 +54,10 @@ abstract class AbstractMessageBus implements MessageBus {
     /** Max. number of attempts to reconnect for every <code>RECONNECTION_PERIOD</code> ms. */
     private final static int    MAX_RECONNECTION_ATTEMPTS = 5;
     private final static String MESSAGE_TYPE_HEADER_NAME  = "x-everrest-websocket-message-type";
+    /** Query parameter of websocket URL by which message bus asks server for batched framing. */
+    private final static String FRAMING_PARAMETER         = "framing=batch";
+    /** Max time (in milliseconds) to dispatch received messages before yielding to the browser. */
+    private final static int    DISPATCH_TIME_SLICE       = 16;
 
     /** Timer for sending heartbeat pings to prevent autoclosing an idle WebSocket connection. */
     private final Timer                                    heartbeatTimer;
@@ -53,6 +66,8 @@ abstract class AbstractMessageBus implements MessageBus {
     private final Message                                  heartbeatMessage;
     private final String                                   wsConnectionUrl;
     private final List<String>                             messages2send;
+    /** Splits received frames into messages and dispatches them to handlers. */
+    private final MessageDispatchQueue<Message>            dispatchQueue;
     /** Map of the message identifier to the {@link org.eclipse.che.ide.websocket.events.ReplyHandler}. */
     private final Map<String, RequestCallback>             requestCallbackMap;
     private final Map<String, ReplyHandler>                replyCallbackMap;
@@ -68,8 +83,14 @@ abstract class AbstractMessageBus implements MessageBus {
     private WebSocket  ws;
     private WsListener wsListener;
 
+    /** Time of the last sent or received message, used to skip heartbeat pings while connection is busy. */
+    private double  lastActivityTime;
+    private int     receivedFrames;
+    private int     receivedMessages;
+    private int     sentMessages;
+
     public AbstractMessageBus(String wsConnectionUrl) {
-        this.wsConnectionUrl = wsConnectionUrl;
+        this.wsConnectionUrl = wsConnectionUrl + (wsConnectionUrl.contains("?") ? "&" : "?") + FRAMING_PARAMETER;
 
         this.requestCallbackMap = new HashMap<>();
         this.replyCallbackMap = new HashMap<>();
@@ -78,6 +99,42 @@ abstract class AbstractMessageBus implements MessageBus {
         this.connectionClosedHandlers = ListenerManager.create();
         this.connectionErrorHandlers = ListenerManager.create();
         this.messages2send = new ArrayList<>();
+        this.dispatchQueue = new MessageDispatchQueue<Message>(DISPATCH_TIME_SLICE) {
+            @Override
+            protected Message parse(String frame) {
+                return parseMessage(frame);
+            }
+
+            @Override
+            protected List<Message> parseBatch(String frame) {
+                final JsoArray<Message> batch = AbstractMessageBus.parseBatch(frame);
+                final List<Message> messages = new ArrayList<>(batch.size());
+                for (int i = 0; i < batch.size(); i++) {
+                    messages.add(batch.get(i));
+                }
+                return messages;
+            }
+
+            @Override
+            protected void dispatch(Message message) {
+                dispatchMessage(message);
+            }
+
+            @Override
+            protected void schedule() {
+                Scheduler.get().scheduleIncremental(new Scheduler.RepeatingCommand() {
+                    @Override
+                    public boolean execute() {
+                        return dispatchSlice();
+                    }
+                });
+            }
+
+            @Override
+            protected double now() {
+                return Duration.currentTimeMillis();
+            }
+        };
 
         MessageBuilder builder = new MessageBuilder(RequestBuilder.POST, null);
         builder.header("x-everrest-websocket-message-type", "ping");
@@ -90,6 +147,10 @@ abstract class AbstractMessageBus implements MessageBus {
         this.heartbeatTimer = new Timer() {
             @Override
             public void run() {
+                if (Duration.currentTimeMillis() - lastActivityTime < HEARTBEAT_PERIOD) {
+                    // connection isn't idle, there is no need to ping it
+                    return;
+                }
                 Message message = getHeartbeatMessage();
                 try {
                     send(message, null);
@@ -183,7 +244,16 @@ abstract class AbstractMessageBus implements MessageBus {
     /** {@inheritDoc} */
     @Override
     public void onMessageReceived(MessageReceivedEvent event) {
-        Message message = parseMessage(event.getMessage());
+        final String frame = event.getMessage();
+
+        receivedFrames++;
+        lastActivityTime = Duration.currentTimeMillis();
+
+        dispatchQueue.onFrame(frame);
+    }
+
+    private void dispatchMessage(Message message) {
+        receivedMessages++;
 
         // http code 202 is "Accepted": The request has been accepted for processing,
         // but the processing has not been completed.
@@ -193,6 +263,7 @@ abstract class AbstractMessageBus implements MessageBus {
             return;
         }
 
+        String channel = null;
         //TODO Should be revised to remove
         List<Pair> headers = message.getHeaders().toList();
         if (headers != null) {
@@ -200,12 +271,15 @@ abstract class AbstractMessageBus implements MessageBus {
                 if (HTTPHeader.LOCATION.equals(header.getName()) && header.getValue().contains("async/")) {
                     return;
                 }
+                if ("x-everrest-websocket-channel".equals(header.getName())) {
+                    channel = header.getValue();
+                }
             }
         }
 
-        if (getChannel(message) != null) {
+        if (channel != null) {
             // this is a message received by subscription
-            processSubscriptionMessage(message);
+            processSubscriptionMessage(channel, message);
         } else {
             String uuid = message.getStringField(MessageBuilder.UUID_FIELD);
             ReplyHandler replyCallback = replyCallbackMap.remove(uuid);
@@ -220,14 +294,33 @@ abstract class AbstractMessageBus implements MessageBus {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public int getReceivedFramesCount() {
+        return receivedFrames;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getReceivedMessagesCount() {
+        return receivedMessages;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getSentMessagesCount() {
+        return sentMessages;
+    }
+
     /**
      * Process the {@link Message} that received by subscription.
      *
+     * @param channel
+     *         channel from which message was received
      * @param message
      *         {@link Message}
      */
-    private void processSubscriptionMessage(Message message) {
-        String channel = getChannel(message);
+    private void processSubscriptionMessage(String channel, Message message) {
         List<MessageHandler> subscribersSet = channelToSubscribersMap.get(channel);
         if (subscribersSet != null) {
             for (MessageHandler handler : subscribersSet) {
@@ -253,33 +346,23 @@ abstract class AbstractMessageBus implements MessageBus {
     }
 
     /**
-     * Get message for heartbeat request
+     * Parse text frame with several messages to array of {@link Message} objects.
      *
-     * @return {@link Message}
+     * @param frame
+     *         text frame, JSON array of messages
+     * @return array of {@link Message}
      */
-    private Message getHeartbeatMessage() {
-        return heartbeatMessage;
-    }
+    private static native JsoArray<Message> parseBatch(String frame) /*-{
+        return JSON.parse(frame);
+    }-*/;
 
     /**
-     * Get channel from which {@link Message} was received.
+     * Get message for heartbeat request
      *
-     * @param message
-     *         {@link Message}
-     * @return channel identifier or <code>null</code> if message is invalid.
+     * @return {@link Message}
      */
-    private String getChannel(Message message) {
-        List<Pair> headers = message.getHeaders().toList();
-
-        if (headers != null) {
-            for (Pair header : headers) {
-                if ("x-everrest-websocket-channel".equals(header.getName())) {
-                    return header.getValue();
-                }
-            }
-        }
-
-        return null;
+    private Message getHeartbeatMessage() {
+        return heartbeatMessage;
     }
 
     /** {@inheritDoc} */
@@ -336,6 +419,8 @@ abstract class AbstractMessageBus implements MessageBus {
         }
         try {
             ws.send(message);
+            sentMessages++;
+            lastActivityTime = Duration.currentTimeMillis();
         } catch (JavaScriptException e) {
             throw new WebSocketException(e.getMessage(), e);
         }
@@ -188,4 +188,13 @@ public interface MessageBus extends MessageReceivedHandler {
      * Cancels attempts to reconnect by WebSocket
      */
     void cancelReconnection();
+
+    /** Returns number of websocket frames received since the message bus was created. */
+    int getReceivedFramesCount();
+
+    /** Returns number of messages received since the message bus was created, one frame may carry several messages. */
+    int getReceivedMessagesCount();
+
+    /** Returns number of messages sent since the message bus was created. */
+    int getSentMessagesCount();
 }
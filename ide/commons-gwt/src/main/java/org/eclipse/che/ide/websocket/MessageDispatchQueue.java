@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.websocket;
+
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Splits received websocket frames into messages and dispatches them in order.
+ * <p/>
+ * Frame is either a single message or JSON array of messages packed by server with batched framing.
+ * A single message received while nothing is queued is dispatched immediately, messages of batches
+ * are queued and dispatched in time slices by {@link #dispatchSlice()}, so a large batch doesn't
+ * block the browser. Messages received while the queue isn't empty are queued too, to keep their order.
+ *
+ * @param <M>
+ *         type of messages
+ */
+abstract class MessageDispatchQueue<M> {
+
+    private final LinkedList<M> queue = new LinkedList<>();
+    private final int           timeSlice;
+
+    private boolean scheduled;
+
+    /**
+     * @param timeSlice
+     *         max time (in milliseconds) of a single {@link #dispatchSlice()}
+     */
+    MessageDispatchQueue(int timeSlice) {
+        this.timeSlice = timeSlice;
+    }
+
+    /** Handles received frame. */
+    void onFrame(String frame) {
+        if (frame.startsWith("[")) {
+            // batch of messages packed by server into a single frame
+            queue.addAll(parseBatch(frame));
+        } else if (queue.isEmpty()) {
+            dispatch(parse(frame));
+            return;
+        } else {
+            // keep order of messages, previous batch isn't dispatched yet
+            queue.add(parse(frame));
+        }
+
+        if (!scheduled && !queue.isEmpty()) {
+            scheduled = true;
+            schedule();
+        }
+    }
+
+    /**
+     * Dispatches queued messages until the queue is empty or time slice is over.
+     *
+     * @return {@code true} if there are messages left and the next slice must be run
+     */
+    boolean dispatchSlice() {
+        final double deadline = now() + timeSlice;
+        while (!queue.isEmpty() && now() < deadline) {
+            dispatch(queue.poll());
+        }
+        scheduled = !queue.isEmpty();
+        return scheduled;
+    }
+
+    /** Returns number of messages which are waiting for dispatching. */
+    int size() {
+        return queue.size();
+    }
+
+    /** Parses frame with a single message. */
+    protected abstract M parse(String frame);
+
+    /** Parses frame with JSON array of messages. */
+    protected abstract List<M> parseBatch(String frame);
+
+    /** Dispatches message to its handlers. */
+    protected abstract void dispatch(M message);
+
+    /** Schedules running of {@link #dispatchSlice()} until it returns {@code false}. */
+    protected abstract void schedule();
+
+    /** Returns current time in milliseconds. */
+    protected abstract double now();
+}
@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.websocket;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Testing {@link MessageDispatchQueue} functionality.
+ */
+public class MessageDispatchQueueTest {
+
+    private List<String>                 dispatched;
+    private int                          scheduled;
+    private double                       time;
+    private MessageDispatchQueue<String> queue;
+
+    @Before
+    public void setUp() {
+        dispatched = new ArrayList<>();
+        queue = new MessageDispatchQueue<String>(16) {
+            @Override
+            protected String parse(String frame) {
+                return frame;
+            }
+
+            @Override
+            protected List<String> parseBatch(String frame) {
+                return Arrays.asList(frame.substring(1, frame.length() - 1).split(","));
+            }
+
+            @Override
+            protected void dispatch(String message) {
+                dispatched.add(message);
+                // each message takes 5 ms
+                time += 5;
+            }
+
+            @Override
+            protected void schedule() {
+                scheduled++;
+            }
+
+            @Override
+            protected double now() {
+                return time;
+            }
+        };
+    }
+
+    @Test
+    public void singleMessageShouldBeDispatchedImmediately() {
+        queue.onFrame("a");
+
+        assertEquals(asList("a"), dispatched);
+        assertEquals(0, scheduled);
+    }
+
+    @Test
+    public void batchShouldBeSplitAndDispatchedInTimeSlices() {
+        queue.onFrame("[a,b,c,d,e]");
+
+        assertTrue(dispatched.isEmpty());
+        assertEquals(1, scheduled);
+
+        assertTrue(queue.dispatchSlice());
+        assertEquals(asList("a", "b", "c", "d"), dispatched);
+
+        assertFalse(queue.dispatchSlice());
+        assertEquals(asList("a", "b", "c", "d", "e"), dispatched);
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void singleMessageShouldBeQueuedAfterNotDispatchedBatch() {
+        queue.onFrame("[a,b]");
+        queue.onFrame("c");
+
+        assertTrue(dispatched.isEmpty());
+        assertEquals(1, scheduled);
+
+        queue.dispatchSlice();
+        assertEquals(asList("a", "b", "c"), dispatched);
+    }
+
+    @Test
+    public void dispatchingShouldBeScheduledAgainForBatchReceivedAfterQueueIsDrained() {
+        queue.onFrame("[a,b]");
+        queue.dispatchSlice();
+        queue.onFrame("[c,d]");
+
+        assertEquals(2, scheduled);
+    }
+}
@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.client.connection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Requests to docker daemon through unix socket, the same as {@link org.eclipse.che.plugin.docker.client.DockerConnector}
+ * sends them for inspecting of container and reading of its logs.
+ * <p/>
+ * Needs running docker and id of existing container, container which printed a lot of output
+ * is the most interesting one, e.g. {@code -p container=<container id>}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class DockerDaemonBenchmark {
+
+    @Param("/var/run/docker.sock")
+    public String socket;
+
+    @Param("")
+    public String container;
+
+    private byte[] buffer;
+
+    @Setup
+    public void setUp() throws Exception {
+        if (container.isEmpty()) {
+            throw new IllegalStateException("Id of existing container is required, set it with -p container=<container id>");
+        }
+        buffer = new byte[8192];
+        // fail fast if docker isn't available or container doesn't exist
+        final long status = inspectContainer();
+        if (status < 0) {
+            throw new IllegalStateException("Unable to inspect container " + container);
+        }
+    }
+
+    @Benchmark
+    public long inspectContainer() throws Exception {
+        try (DockerConnection connection = new UnixSocketConnection(socket).method("GET")
+                                                                           .path("/containers/" + container + "/json")) {
+            return read(connection.request());
+        }
+    }
+
+    @Benchmark
+    public long getContainerLogs() throws Exception {
+        try (DockerConnection connection = new UnixSocketConnection(socket).method("GET")
+                                                                           .path("/containers/" + container + "/logs")
+                                                                           .query("stdout", 1)
+                                                                           .query("stderr", 1)) {
+            return read(connection.request());
+        }
+    }
+
+    private long read(DockerResponse response) throws IOException {
+        if (response.getStatus() / 100 != 2) {
+            return -1;
+        }
+        long total = 0;
+        try (InputStream input = response.getInputStream()) {
+            int n;
+            while ((n = input.read(buffer)) != -1) {
+                total += n;
+            }
+        }
+        return total;
+    }
+}
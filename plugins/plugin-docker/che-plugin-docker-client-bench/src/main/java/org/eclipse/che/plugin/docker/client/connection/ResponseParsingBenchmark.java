@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.client.connection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Reading of docker responses, the same as {@link UnixSocketConnection} does it, but without socket, so
+ * only parsing of headers and decoding of body with content length and chunked body are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ResponseParsingBenchmark {
+
+    @Param({"4096", "1048576"})
+    public int bodySize;
+
+    private byte[] fixedLengthResponse;
+    private byte[] chunkedResponse;
+    private byte[] buffer;
+
+    @Setup
+    public void setUp() throws Exception {
+        final byte[] body = generateBody(bodySize);
+        final ByteArrayOutputStream fixedLength = new ByteArrayOutputStream();
+        fixedLength.write(("HTTP/1.1 200 OK\r\n"
+                           + "Content-Type: application/json\r\n"
+                           + "Content-Length: " + body.length + "\r\n"
+                           + "\r\n").getBytes(UTF_8));
+        fixedLength.write(body);
+        fixedLengthResponse = fixedLength.toByteArray();
+
+        // docker sends logs in chunks of few kilobytes
+        final ByteArrayOutputStream chunked = new ByteArrayOutputStream();
+        chunked.write(("HTTP/1.1 200 OK\r\n"
+                       + "Content-Type: application/vnd.docker.raw-stream\r\n"
+                       + "Transfer-Encoding: chunked\r\n"
+                       + "\r\n").getBytes(UTF_8));
+        for (int offset = 0; offset < body.length; offset += 4096) {
+            final int length = Math.min(4096, body.length - offset);
+            chunked.write((Integer.toHexString(length) + "\r\n").getBytes(UTF_8));
+            chunked.write(body, offset, length);
+            chunked.write("\r\n".getBytes(UTF_8));
+        }
+        chunked.write("0\r\n\r\n".getBytes(UTF_8));
+        chunkedResponse = chunked.toByteArray();
+
+        buffer = new byte[8192];
+    }
+
+    @Benchmark
+    public long readFixedLengthResponse() throws Exception {
+        return read(new UnixSocketDockerResponse(new ByteArrayInputStream(fixedLengthResponse)));
+    }
+
+    @Benchmark
+    public long readChunkedResponse() throws Exception {
+        return read(new UnixSocketDockerResponse(new ByteArrayInputStream(chunkedResponse)));
+    }
+
+    private long read(DockerResponse response) throws IOException {
+        long total = response.getStatus();
+        try (InputStream input = response.getInputStream()) {
+            int n;
+            while ((n = input.read(buffer)) != -1) {
+                total += n;
+            }
+        }
+        return total;
+    }
+
+    private static byte[] generateBody(int size) {
+        final StringBuilder body = new StringBuilder(size);
+        int line = 0;
+        while (body.length() < size) {
+            body.append("[INFO] line ").append(line++).append(" of machine output\n");
+        }
+        body.setLength(size);
+        return body.toString().getBytes(UTF_8);
+    }
+}
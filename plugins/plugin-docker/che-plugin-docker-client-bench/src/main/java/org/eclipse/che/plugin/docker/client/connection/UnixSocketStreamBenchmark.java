@@ -0,0 +1,316 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.client.connection;
+
+import com.sun.jna.LastErrorException;
+import com.sun.jna.Library;
+import com.sun.jna.Native;
+
+import org.eclipse.che.plugin.docker.client.CLibrary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.SynchronousQueue;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.eclipse.che.plugin.docker.client.CLibrary.AF_UNIX;
+import static org.eclipse.che.plugin.docker.client.CLibrary.SOCK_STREAM;
+import static org.eclipse.che.plugin.docker.client.CLibraryFactory.getCLibrary;
+
+/**
+ * Reading of docker responses and writing of requests through unix socket streams, the same as
+ * {@link UnixSocketConnection} does it, over a pair of connected unix sockets. Other end of the pair is
+ * served by background threads instead of docker daemon, so docker is not needed.
+ * <p/>
+ * Streams of the docker client are compared with unbuffered streams which call native code on each read
+ * and write, as the client did before buffering of streams in native memory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class UnixSocketStreamBenchmark {
+
+    @Param({"buffered", "unbuffered"})
+    public String streams;
+
+    @Param({"4096", "1048576"})
+    public int bodySize;
+
+    private final CLibrary                cLib      = getCLibrary();
+    private final SynchronousQueue<byte[]> responses = new SynchronousQueue<>();
+
+    private int[]  readPair;
+    private int[]  writePair;
+    private Thread responder;
+    private Thread drainer;
+
+    private byte[] fixedLengthResponse;
+    private byte[] chunkedResponse;
+    private byte[] requestHead;
+    private byte[] requestBody;
+    private byte[] buffer;
+
+    @Setup
+    public void setUp() throws Exception {
+        final byte[] body = generateBody(bodySize);
+        final ByteArrayOutputStream fixedLength = new ByteArrayOutputStream();
+        fixedLength.write(("HTTP/1.1 200 OK\r\n"
+                           + "Content-Type: application/json\r\n"
+                           + "Content-Length: " + body.length + "\r\n"
+                           + "\r\n").getBytes(UTF_8));
+        fixedLength.write(body);
+        fixedLengthResponse = fixedLength.toByteArray();
+
+        // docker sends logs in chunks of few kilobytes
+        final ByteArrayOutputStream chunked = new ByteArrayOutputStream();
+        chunked.write(("HTTP/1.1 200 OK\r\n"
+                       + "Content-Type: application/vnd.docker.raw-stream\r\n"
+                       + "Transfer-Encoding: chunked\r\n"
+                       + "\r\n").getBytes(UTF_8));
+        for (int offset = 0; offset < body.length; offset += 4096) {
+            final int length = Math.min(4096, body.length - offset);
+            chunked.write((Integer.toHexString(length) + "\r\n").getBytes(UTF_8));
+            chunked.write(body, offset, length);
+            chunked.write("\r\n".getBytes(UTF_8));
+        }
+        chunked.write("0\r\n\r\n".getBytes(UTF_8));
+        chunkedResponse = chunked.toByteArray();
+
+        requestHead = ("POST /build?t=image HTTP/1.1\r\n"
+                       + "Content-Type: application/x-compressed-tar\r\n"
+                       + "Transfer-Encoding: chunked\r\n"
+                       + "Host: \r\n\r\n").getBytes(UTF_8);
+        requestBody = body;
+        buffer = new byte[8192];
+
+        readPair = socketPair();
+        writePair = socketPair();
+        responder = startDaemon("responder", this::respond);
+        drainer = startDaemon("drainer", this::drain);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        responder.interrupt();
+        responder.join();
+        // drainer gets end of stream when its peer is closed
+        cLib.close(writePair[0]);
+        drainer.join();
+        cLib.close(writePair[1]);
+        cLib.close(readPair[0]);
+        cLib.close(readPair[1]);
+    }
+
+    @Benchmark
+    public long readFixedLengthResponse() throws Exception {
+        return read(fixedLengthResponse);
+    }
+
+    @Benchmark
+    public long readChunkedResponse() throws Exception {
+        return read(chunkedResponse);
+    }
+
+    /** Writes request with chunked body, entity writers usually write body in small portions. */
+    @Benchmark
+    public void writeChunkedRequest() throws Exception {
+        final OutputStream output = openOutputStream(writePair[0]);
+        try {
+            output.write(requestHead);
+            final ChunkedOutputStream chunkedOutput = new ChunkedOutputStream(output);
+            try {
+                for (int offset = 0; offset < requestBody.length; offset += 512) {
+                    chunkedOutput.write(requestBody, offset, Math.min(512, requestBody.length - offset));
+                }
+                chunkedOutput.finish();
+            } finally {
+                chunkedOutput.abort();
+            }
+            output.flush();
+        } finally {
+            output.close();
+        }
+    }
+
+    private long read(byte[] response) throws Exception {
+        responses.put(response);
+        final InputStream socketInput = openInputStream(readPair[0]);
+        try {
+            final DockerResponse dockerResponse = new UnixSocketDockerResponse(socketInput);
+            long total = dockerResponse.getStatus();
+            final InputStream input = dockerResponse.getInputStream();
+            int n;
+            while ((n = input.read(buffer)) != -1) {
+                total += n;
+            }
+            return total;
+        } finally {
+            socketInput.close();
+        }
+    }
+
+    private InputStream openInputStream(int fd) {
+        return "buffered".equals(streams) ? new UnixSocketInputStream(fd) : new UnbufferedInputStream(fd);
+    }
+
+    private OutputStream openOutputStream(int fd) {
+        return "buffered".equals(streams) ? new UnixSocketOutputStream(fd) : new UnbufferedOutputStream(fd);
+    }
+
+    private void respond() {
+        try {
+            for (; ; ) {
+                final byte[] response = responses.take();
+                int sent = 0;
+                while (sent < response.length) {
+                    // big response may be accepted by socket in parts
+                    final byte[] rest = sent == 0 ? response : Arrays.copyOfRange(response, sent, response.length);
+                    sent += cLib.send(readPair[1], rest, rest.length, 0);
+                }
+            }
+        } catch (InterruptedException | LastErrorException ignored) {
+            // benchmark is finished
+        }
+    }
+
+    private void drain() {
+        final byte[] drained = new byte[64 * 1024];
+        try {
+            while (cLib.recv(writePair[1], drained, drained.length, 0) > 0) {
+                // request is not needed
+            }
+        } catch (LastErrorException ignored) {
+            // benchmark is finished
+        }
+    }
+
+    private static Thread startDaemon(String name, Runnable task) {
+        final Thread thread = new Thread(task, "UnixSocketStreamBenchmark-" + name);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    private static int[] socketPair() throws IOException {
+        final int[] pair = new int[2];
+        try {
+            SocketPairLibrary.INSTANCE.socketpair(AF_UNIX, SOCK_STREAM, 0, pair);
+        } catch (LastErrorException e) {
+            throw new IOException("error: " + getCLibrary().strerror(e.getErrorCode()));
+        }
+        return pair;
+    }
+
+    private static byte[] generateBody(int size) {
+        final StringBuilder body = new StringBuilder(size);
+        int line = 0;
+        while (body.length() < size) {
+            body.append("[INFO] line ").append(line++).append(" of machine output\n");
+        }
+        body.setLength(size);
+        return body.toString().getBytes(UTF_8);
+    }
+
+    /** socketpair(2) is not needed by docker client, so it is not a part of {@link CLibrary}. */
+    interface SocketPairLibrary extends Library {
+        SocketPairLibrary INSTANCE = (SocketPairLibrary)Native.loadLibrary("c", SocketPairLibrary.class);
+
+        int socketpair(int domain, int type, int protocol, int[] sv) throws LastErrorException;
+    }
+
+    /** Input stream which receives from socket on each read, even a single byte. */
+    private static class UnbufferedInputStream extends InputStream {
+        private final int      fd;
+        private final CLibrary cLib = getCLibrary();
+
+        UnbufferedInputStream(int fd) {
+            this.fd = fd;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final byte[] bytes = new byte[1];
+            if (read(bytes, 0, 1) == -1) {
+                return -1;
+            }
+            return bytes[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            final byte[] received = off == 0 ? b : new byte[len];
+            final int n;
+            try {
+                n = cLib.recv(fd, received, len, 0);
+            } catch (LastErrorException e) {
+                throw new IOException("error: " + cLib.strerror(e.getErrorCode()));
+            }
+            if (n == 0) {
+                return -1;
+            }
+            if (received != b) {
+                System.arraycopy(received, 0, b, off, n);
+            }
+            return n;
+        }
+    }
+
+    /** Output stream which sends to socket on each write, even a single byte. */
+    private static class UnbufferedOutputStream extends OutputStream {
+        private final int      fd;
+        private final CLibrary cLib = getCLibrary();
+
+        UnbufferedOutputStream(int fd) {
+            this.fd = fd;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte)b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            final byte[] sent = off == 0 ? b : Arrays.copyOfRange(b, off, off + len);
+            final int n;
+            try {
+                n = cLib.send(fd, sent, len, 0);
+            } catch (LastErrorException e) {
+                throw new IOException("error: " + cLib.strerror(e.getErrorCode()));
+            }
+            if (n != len) {
+                throw new IOException(String.format("Failed writing %d bytes", len));
+            }
+        }
+    }
+}
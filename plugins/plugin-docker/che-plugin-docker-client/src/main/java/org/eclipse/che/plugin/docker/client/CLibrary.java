@@ -11,6 +11,7 @@
 package org.eclipse.che.plugin.docker.client;
 
 import com.sun.jna.Library;
+import com.sun.jna.Pointer;
 import com.sun.jna.Structure;
 import com.sun.jna.ptr.LongByReference;
 
@@ -57,6 +58,11 @@ public interface CLibrary extends Library {
 
     int recv(int fd, byte[] buffer, int count, int flags);
 
+    // the same as above but work with native memory, so JNA doesn't copy java array for each call
+    int send(int fd, Pointer buffer, int count, int flags);
+
+    int recv(int fd, Pointer buffer, int count, int flags);
+
     int close(int fd);
 
     String strerror(int errno);
@@ -71,6 +77,8 @@ public interface CLibrary extends Library {
 
     int open(String path, int mode);
 
+    int EINTR = 4; // Defined in 'errno.h'
+
     int O_RDONLY = 0x00;
     int O_WRONLY = 0x01;
 }
@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.client.connection;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Pool of buffers which are used for streaming of request entities, so large uploads don't allocate
+ * new buffers for every request.
+ */
+final class BufferPool {
+    static final int BUFFER_SIZE = 32 * 1024;
+
+    private static final BlockingQueue<byte[]> BUFFERS = new ArrayBlockingQueue<>(16);
+
+    /** Returns pooled buffer or new one if there is no free buffer in pool. */
+    static byte[] acquire() {
+        final byte[] buffer = BUFFERS.poll();
+        return buffer == null ? new byte[BUFFER_SIZE] : buffer;
+    }
+
+    /** Returns buffer to pool, buffer is dropped if pool is full. */
+    static void release(byte[] buffer) {
+        if (buffer != null && buffer.length == BUFFER_SIZE) {
+            BUFFERS.offer(buffer);
+        }
+    }
+
+    private BufferPool() {
+    }
+}
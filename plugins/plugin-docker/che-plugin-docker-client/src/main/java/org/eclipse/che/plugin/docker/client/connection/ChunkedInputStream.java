@@ -14,10 +14,14 @@ import java.io.IOException;
 import java.io.InputStream;
 
 /**
-* @author andrew00x
-*/
+ * Reads entity sent with HTTP chunked transfer encoding. Stream isn't thread safe, it is read by one thread.
+ * Underlying stream is expected to be buffered since sizes of chunks are read from it byte by byte.
+ *
+ * @author andrew00x
+ */
 public class ChunkedInputStream extends InputStream {
     private final InputStream input;
+    private final byte[]      single;
     private StringBuilder chunkSizeBuf;
     private int           chunkSize;
     private int           chunkPos;
@@ -25,20 +29,20 @@ public class ChunkedInputStream extends InputStream {
 
     ChunkedInputStream(InputStream input) {
         this.input = input;
+        single = new byte[1];
         chunkSizeBuf = new StringBuilder();
     }
 
     @Override
-    public synchronized int read() throws IOException {
-        final byte[] b = new byte[1];
-        if (doRead(b, 0, 1) == -1) {
+    public int read() throws IOException {
+        if (doRead(single, 0, 1) == -1) {
             return -1;
         }
-        return b[0];
+        return single[0] & 0xFF;
     }
 
     @Override
-    public synchronized int read(byte[] b) throws IOException {
+    public int read(byte[] b) throws IOException {
         if (b == null) {
             throw new NullPointerException();
         }
@@ -46,7 +50,7 @@ public class ChunkedInputStream extends InputStream {
     }
 
     @Override
-    public synchronized int read(byte[] b, int off, int len) throws IOException {
+    public int read(byte[] b, int off, int len) throws IOException {
         if (b == null) {
             throw new NullPointerException();
         }
@@ -57,11 +61,11 @@ public class ChunkedInputStream extends InputStream {
             return 0;
         }
 
-        return doRead(b, 0, len);
+        return doRead(b, off, len);
     }
 
     @Override
-    public synchronized int available() {
+    public int available() {
         return (chunkSize - chunkPos);
     }
 
@@ -97,7 +101,10 @@ public class ChunkedInputStream extends InputStream {
                 eof = true;
             }
         }
-        final int n = input.read(b, 0, Math.min(len - off, chunkSize - chunkPos));
+        final int n = input.read(b, off, Math.min(len, chunkSize - chunkPos));
+        if (n == -1) {
+            throw new IOException("Unexpected end of chunk");
+        }
         chunkPos += n;
         if (chunkPos == chunkSize) {
             if ('\r' != input.read()) { // skip '\r'
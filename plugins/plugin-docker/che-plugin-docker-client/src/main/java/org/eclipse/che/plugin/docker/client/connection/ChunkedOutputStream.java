@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.client.connection;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+/**
+ * Writes data with HTTP chunked transfer encoding. Data is collected in pooled buffer and is sent as one chunk
+ * when buffer is full or stream is flushed. Closing of this stream writes last chunk but doesn't close
+ * underlying stream. Stream must be either finished or aborted, so its buffer is returned to pool.
+ */
+public class ChunkedOutputStream extends OutputStream {
+    private static final byte[] CRLF       = {'\r', '\n'};
+    private static final byte[] LAST_CHUNK = {'0', '\r', '\n', '\r', '\n'};
+
+    private final OutputStream output;
+
+    private byte[]  buf;
+    private int     count;
+    private boolean finished;
+
+    ChunkedOutputStream(OutputStream output) {
+        this.output = output;
+        this.buf = BufferPool.acquire();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        buf[count++] = (byte)b;
+        if (count == buf.length) {
+            writeChunk(buf, 0, count);
+            count = 0;
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        ensureOpen();
+        if (count == 0 && len >= buf.length) {
+            // nothing is buffered, no need to copy data
+            writeChunk(b, off, len);
+            return;
+        }
+        while (len > 0) {
+            final int n = Math.min(len, buf.length - count);
+            System.arraycopy(b, off, buf, count, n);
+            count += n;
+            off += n;
+            len -= n;
+            if (count == buf.length) {
+                writeChunk(buf, 0, count);
+                count = 0;
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (!finished) {
+            writeBuffered();
+            output.flush();
+        }
+    }
+
+    /** Writes buffered data and last chunk. */
+    public void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        try {
+            writeBuffered();
+            output.write(LAST_CHUNK);
+            output.flush();
+        } finally {
+            finished = true;
+            BufferPool.release(buf);
+            buf = null;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        finish();
+    }
+
+    /**
+     * Returns buffer to pool without writing of buffered data and last chunk, so stream which failed in the middle
+     * doesn't look like completed one. Does nothing if stream is already finished.
+     */
+    public void abort() {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        BufferPool.release(buf);
+        buf = null;
+    }
+
+    private void writeBuffered() throws IOException {
+        if (count > 0) {
+            writeChunk(buf, 0, count);
+            count = 0;
+        }
+    }
+
+    private void writeChunk(byte[] b, int off, int len) throws IOException {
+        output.write(Integer.toHexString(len).getBytes(US_ASCII));
+        output.write(CRLF);
+        output.write(b, off, len);
+        output.write(CRLF);
+    }
+
+    private void ensureOpen() throws IOException {
+        if (finished) {
+            throw new IOException("Stream is closed");
+        }
+    }
+}
@@ -10,8 +10,6 @@
  *******************************************************************************/
 package org.eclipse.che.plugin.docker.client.connection;
 
-import com.google.common.io.ByteStreams;
-
 import org.eclipse.che.commons.lang.Pair;
 
 import java.io.Closeable;
@@ -91,6 +89,17 @@ public abstract class DockerConnection implements Closeable {
         return this;
     }
 
+    /**
+     * Sets entity which is written directly to request, e.g. archive which is created while request is sent.
+     * <p/>
+     * Entity with unknown length, i.e. this one or stream entity without 'Content-Length' header, is sent
+     * with chunked transfer encoding.
+     */
+    public DockerConnection entity(EntityWriter entity) {
+        this.entity = new WriterEntity(entity);
+        return this;
+    }
+
     public DockerResponse request() throws IOException {
         return request(method, path, query.toString(), headers, entity);
     }
@@ -103,6 +112,29 @@ public abstract class DockerConnection implements Closeable {
 
     public abstract void close();
 
+    /**
+     * Returns {@code true} if entity should be sent with chunked transfer encoding,
+     * i.e. length of entity is unknown and isn't set in headers.
+     */
+    static boolean isChunked(List<Pair<String, ?>> headers, Entity<?> entity) {
+        return entity != null && entity.getLength() < 0 && getContentLength(headers) < 0;
+    }
+
+    /** Returns value of 'Content-Length' header or -1 if it isn't set. */
+    static long getContentLength(List<Pair<String, ?>> headers) {
+        for (Pair<String, ?> header : headers) {
+            if ("Content-Length".equalsIgnoreCase(header.first) && header.second != null) {
+                return Long.parseLong(String.valueOf(header.second));
+            }
+        }
+        return -1;
+    }
+
+    /** Writes entity of request to connection. */
+    public interface EntityWriter {
+        void writeTo(OutputStream output) throws IOException;
+    }
+
     static abstract class Entity<T> {
         final T entity;
 
@@ -111,6 +143,11 @@ public abstract class DockerConnection implements Closeable {
         }
 
         abstract void writeTo(OutputStream output) throws IOException;
+
+        /** Returns length of entity in bytes or -1 if it is unknown before entity is written. */
+        long getLength() {
+            return -1;
+        }
     }
 
     static class StreamEntity extends Entity<InputStream> {
@@ -120,15 +157,32 @@ public abstract class DockerConnection implements Closeable {
 
         @Override
         public void writeTo(OutputStream output) throws IOException {
+            final byte[] buf = BufferPool.acquire();
             try {
-                ByteStreams.copy(entity, output);
+                int r;
+                while ((r = entity.read(buf)) != -1) {
+                    output.write(buf, 0, r);
+                }
                 output.flush();
             } finally {
+                BufferPool.release(buf);
                 entity.close();
             }
         }
     }
 
+    static class WriterEntity extends Entity<EntityWriter> {
+        WriterEntity(EntityWriter entity) {
+            super(entity);
+        }
+
+        @Override
+        public void writeTo(OutputStream output) throws IOException {
+            entity.writeTo(output);
+            output.flush();
+        }
+    }
+
     static class StringEntity extends Entity<String> {
         StringEntity(String entity) {
             super(entity);
@@ -139,6 +193,11 @@ public abstract class DockerConnection implements Closeable {
             output.write(entity.getBytes());
             output.flush();
         }
+
+        @Override
+        long getLength() {
+            return entity.getBytes().length;
+        }
     }
 
     static class BytesEntity extends Entity<byte[]> {
@@ -151,5 +210,10 @@ public abstract class DockerConnection implements Closeable {
             output.write(entity);
             output.flush();
         }
+
+        @Override
+        long getLength() {
+            return entity.length;
+        }
     }
 }
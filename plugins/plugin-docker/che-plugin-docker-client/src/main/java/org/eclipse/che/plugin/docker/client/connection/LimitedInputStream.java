@@ -19,25 +19,26 @@ import java.io.InputStream;
 public class LimitedInputStream extends InputStream {
     private final InputStream input;
     private final int         limit;
+    private final byte[]      single;
 
     private int pos;
 
     LimitedInputStream(InputStream input, int limit) {
         this.input = input;
         this.limit = limit;
+        this.single = new byte[1];
     }
 
     @Override
-    public synchronized int read() throws IOException {
-        final byte[] b = new byte[1];
-        if (doRead(b, 0, 1) == -1) {
+    public int read() throws IOException {
+        if (doRead(single, 0, 1) == -1) {
             return -1;
         }
-        return b[0];
+        return single[0] & 0xFF;
     }
 
     @Override
-    public synchronized int read(byte[] b) throws IOException {
+    public int read(byte[] b) throws IOException {
         if (b == null) {
             throw new NullPointerException();
         }
@@ -45,7 +46,7 @@ public class LimitedInputStream extends InputStream {
     }
 
     @Override
-    public synchronized int read(byte[] b, int off, int len) throws IOException {
+    public int read(byte[] b, int off, int len) throws IOException {
         if (b == null) {
             throw new NullPointerException();
         }
@@ -56,15 +57,17 @@ public class LimitedInputStream extends InputStream {
             return 0;
         }
 
-        return doRead(b, 0, len);
+        return doRead(b, off, len);
     }
 
     private int doRead(byte[] b, int off, int len) throws IOException {
         if (pos >= limit) {
             return -1;
         }
-        int n = input.read(b, 0, Math.min(len - off, limit - pos));
-        pos += n;
+        int n = input.read(b, off, Math.min(len, limit - pos));
+        if (n > 0) {
+            pos += n;
+        }
         return n;
     }
 }
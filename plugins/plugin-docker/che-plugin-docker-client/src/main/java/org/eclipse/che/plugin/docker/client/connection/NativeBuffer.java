@@ -0,0 +1,28 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.client.connection;
+
+import com.sun.jna.Memory;
+
+/**
+ * Native memory of unix socket streams which is freed when stream is closed,
+ * so memory of short-lived connections doesn't wait for finalization.
+ */
+final class NativeBuffer extends Memory {
+    NativeBuffer(long size) {
+        super(size);
+    }
+
+    /** Frees native memory, buffer must not be used after that. */
+    void free() {
+        dispose();
+    }
+}
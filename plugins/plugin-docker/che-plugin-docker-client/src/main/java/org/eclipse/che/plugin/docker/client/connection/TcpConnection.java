@@ -74,6 +74,16 @@ public class TcpConnection extends DockerConnection {
         // Host header is mandatory in HTTP 1.1
         connection.setRequestProperty("Host", host);
         if (entity != null) {
+            // without streaming mode whole entity is buffered in memory before it is sent
+            long contentLength = getContentLength(headers);
+            if (contentLength < 0) {
+                contentLength = entity.getLength();
+            }
+            if (contentLength >= 0) {
+                connection.setFixedLengthStreamingMode(contentLength);
+            } else {
+                connection.setChunkedStreamingMode(BufferPool.BUFFER_SIZE);
+            }
             connection.setDoOutput(true);
             try (OutputStream output = connection.getOutputStream()) {
                 entity.writeTo(output);
@@ -15,16 +15,12 @@ import com.google.common.base.Strings;
 import org.eclipse.che.commons.lang.Pair;
 import org.eclipse.che.plugin.docker.client.CLibrary;
 
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
-import java.io.Writer;
 import java.net.ConnectException;
 import java.util.List;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.eclipse.che.plugin.docker.client.CLibrary.AF_UNIX;
 import static org.eclipse.che.plugin.docker.client.CLibrary.SOCK_STREAM;
 import static org.eclipse.che.plugin.docker.client.CLibrary.SockAddrUn;
@@ -37,7 +33,9 @@ import static org.eclipse.che.plugin.docker.client.CLibraryFactory.getCLibrary;
 public class UnixSocketConnection extends DockerConnection {
     private final String dockerSocketPath;
 
-    private int fd = -1;
+    private int                    fd = -1;
+    private UnixSocketInputStream  input;
+    private UnixSocketOutputStream output;
 
     public UnixSocketConnection(String dockerSocketPath) {
         this.dockerSocketPath = dockerSocketPath;
@@ -47,17 +45,40 @@ public class UnixSocketConnection extends DockerConnection {
     protected DockerResponse request(String method, String path, String query, List<Pair<String, ?>> headers, Entity<?> entity)
             throws IOException {
         fd = connect();
-        final OutputStream output = new BufferedOutputStream(openOutputStream(fd));
-        writeHttpHeaders(output, method, path, query, headers);
-        if (entity != null) {
+        output = new UnixSocketOutputStream(fd);
+        final boolean chunked = isChunked(headers, entity);
+        writeHttpHeaders(output, method, path, query, headers, chunked);
+        if (chunked) {
+            final ChunkedOutputStream chunkedOutput = new ChunkedOutputStream(output);
+            try {
+                entity.writeTo(chunkedOutput);
+                chunkedOutput.finish();
+            } finally {
+                // returns buffer to pool if entity failed, does nothing after finish
+                chunkedOutput.abort();
+            }
+        } else if (entity != null) {
             entity.writeTo(output);
         }
-        return new UnixSocketDockerResponse(new BufferedInputStream(openInputStream(fd)));
+        // output is buffered, whole request is usually sent at once
+        output.flush();
+        input = new UnixSocketInputStream(fd);
+        return new UnixSocketDockerResponse(input);
     }
 
 
     @Override
     public void close() {
+        // frees native buffers of streams, request is already sent, so nothing is written to socket
+        if (input != null) {
+            input.close();
+        }
+        if (output != null) {
+            try {
+                output.close();
+            } catch (IOException ignored) {
+            }
+        }
         if (fd != -1) {
             getCLibrary().close(fd);
         }
@@ -77,33 +98,32 @@ public class UnixSocketConnection extends DockerConnection {
         return fd;
     }
 
-    private void writeHttpHeaders(OutputStream output, String method, String path, String query, List<Pair<String, ?>> headers)
-            throws IOException {
-        final Writer writer = new OutputStreamWriter(output);
-        writer.write(method);
-        writer.write(' ');
-        writer.write(path);
+    private void writeHttpHeaders(OutputStream output,
+                                  String method,
+                                  String path,
+                                  String query,
+                                  List<Pair<String, ?>> headers,
+                                  boolean chunked) throws IOException {
+        final StringBuilder head = new StringBuilder();
+        head.append(method);
+        head.append(' ');
+        head.append(path);
         if (!Strings.isNullOrEmpty(query)) {
-            writer.write("?");
-            writer.write(query);
+            head.append("?");
+            head.append(query);
         }
-        writer.write(" HTTP/1.1\r\n");
+        head.append(" HTTP/1.1\r\n");
         for (Pair<String, ?> header : headers) {
-            writer.write(header.first);
-            writer.write(": ");
-            writer.write(String.valueOf(header.second));
-            writer.write("\r\n");
+            head.append(header.first);
+            head.append(": ");
+            head.append(String.valueOf(header.second));
+            head.append("\r\n");
+        }
+        if (chunked) {
+            head.append("Transfer-Encoding: chunked\r\n");
         }
         // Host header is mandatory in HTTP 1.1
-        writer.write("Host: \r\n\r\n");
-        writer.flush();
-    }
-
-    private InputStream openInputStream(int fd) {
-        return new UnixSocketInputStream(fd);
-    }
-
-    private OutputStream openOutputStream(int fd) {
-        return new UnixSocketOutputStream(fd);
+        head.append("Host: \r\n\r\n");
+        output.write(head.toString().getBytes(UTF_8));
     }
 }
@@ -10,8 +10,9 @@
  *******************************************************************************/
 package org.eclipse.che.plugin.docker.client.connection;
 
+import com.sun.jna.Native;
+
 import org.eclipse.che.plugin.docker.client.CLibrary;
-import com.sun.jna.LastErrorException;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -19,23 +20,39 @@ import java.io.InputStream;
 import static org.eclipse.che.plugin.docker.client.CLibraryFactory.getCLibrary;
 
 /**
-* @author andrew00x
-*/
+ * Buffered stream which reads data from unix socket.
+ * <p/>
+ * Data is received in bulk into native buffer which is reused for all reads of the stream, so reading
+ * of HTTP headers and chunk sizes byte by byte doesn't call native code for each byte. Native buffer is freed
+ * when stream is closed, closing of stream doesn't close socket.
+ *
+ * @author andrew00x
+ */
 public class UnixSocketInputStream extends InputStream {
-    private final int fd;
-    private final CLibrary cLib = getCLibrary();
+    static final int BUFFER_SIZE = 16 * 1024;
+
+    private final int          fd;
+    private final CLibrary     cLib = getCLibrary();
+    private final NativeBuffer nativeBuf;
+    private final byte[]       buf;
+
+    private int     pos;
+    private int     limit;
+    private boolean eof;
+    private boolean closed;
 
     UnixSocketInputStream(int fd) {
         this.fd = fd;
+        this.nativeBuf = new NativeBuffer(BUFFER_SIZE);
+        this.buf = new byte[BUFFER_SIZE];
     }
 
     @Override
     public int read() throws IOException {
-        final byte[] bytes = new byte[1];
-        if (read(bytes) == 0) {
+        if (pos >= limit && fill() == -1) {
             return -1;
         }
-        return bytes[0];
+        return buf[pos++] & 0xFF;
     }
 
     @Override
@@ -54,15 +71,74 @@ public class UnixSocketInputStream extends InputStream {
         if (len == 0) {
             return 0;
         }
-        int n;
-        try {
-            n = cLib.recv(fd, b, len, 0);
-        } catch (LastErrorException e) {
-            throw new IOException("error: " + cLib.strerror(e.getErrorCode()));
+        if (pos < limit) {
+            final int n = Math.min(len, limit - pos);
+            System.arraycopy(buf, pos, b, off, n);
+            pos += n;
+            return n;
+        }
+        if (len >= buf.length) {
+            // large read, copy data directly from native buffer
+            final int n = recv(len);
+            if (n > 0) {
+                nativeBuf.read(0, b, off, n);
+            }
+            return n;
         }
-        if (n == 0) {
+        if (fill() == -1) {
             return -1;
         }
+        final int n = Math.min(len, limit);
+        System.arraycopy(buf, 0, b, off, n);
+        pos = n;
+        return n;
+    }
+
+    @Override
+    public int available() {
+        return limit - pos;
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            nativeBuf.free();
+        }
+    }
+
+    private int fill() throws IOException {
+        pos = 0;
+        limit = 0;
+        final int n = recv(buf.length);
+        if (n > 0) {
+            nativeBuf.read(0, buf, 0, n);
+            limit = n;
+        }
         return n;
     }
+
+    private int recv(int len) throws IOException {
+        if (closed) {
+            throw new IOException("Stream is closed");
+        }
+        if (eof) {
+            return -1;
+        }
+        for (; ; ) {
+            final int n = cLib.recv(fd, nativeBuf, Math.min(len, BUFFER_SIZE), 0);
+            if (n < 0) {
+                final int errno = Native.getLastError();
+                if (errno == CLibrary.EINTR) {
+                    continue;
+                }
+                throw new IOException("error: " + cLib.strerror(errno));
+            }
+            if (n == 0) {
+                eof = true;
+                return -1;
+            }
+            return n;
+        }
+    }
 }
@@ -10,8 +10,9 @@
  *******************************************************************************/
 package org.eclipse.che.plugin.docker.client.connection;
 
+import com.sun.jna.Native;
+
 import org.eclipse.che.plugin.docker.client.CLibrary;
-import com.sun.jna.LastErrorException;
 
 import java.io.IOException;
 import java.io.OutputStream;
@@ -19,35 +20,101 @@ import java.io.OutputStream;
 import static org.eclipse.che.plugin.docker.client.CLibraryFactory.getCLibrary;
 
 /**
-* @author andrew00x
-*/
+ * Buffered stream which writes data to unix socket.
+ * <p/>
+ * Data is collected in native buffer which is reused for all writes of the stream and is sent when buffer
+ * is full or stream is flushed. Closing of stream sends buffered data and frees native buffer but doesn't close socket.
+ *
+ * @author andrew00x
+ */
 public class UnixSocketOutputStream extends OutputStream {
-    private final int fd;
-    private final CLibrary cLib = getCLibrary();
+    static final int BUFFER_SIZE = 16 * 1024;
+
+    private final int          fd;
+    private final CLibrary     cLib = getCLibrary();
+    private final NativeBuffer nativeBuf;
+
+    private int     count;
+    private boolean closed;
 
     UnixSocketOutputStream(int fd) {
         this.fd = fd;
+        this.nativeBuf = new NativeBuffer(BUFFER_SIZE);
     }
 
     @Override
     public void write(int b) throws IOException {
-        write(new byte[]{(byte)b}, 0, 1);
+        ensureOpen();
+        if (count == BUFFER_SIZE) {
+            flushBuffer();
+        }
+        nativeBuf.setByte(count++, (byte)b);
     }
 
+    @Override
     public void write(byte[] b) throws IOException {
         write(b, 0, b.length);
     }
 
     @Override
     public void write(byte[] b, int off, int len) throws IOException {
-        int n;
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        ensureOpen();
+        while (len > 0) {
+            if (count == BUFFER_SIZE) {
+                flushBuffer();
+            }
+            final int n = Math.min(len, BUFFER_SIZE - count);
+            nativeBuf.write(count, b, off, n);
+            count += n;
+            off += n;
+            len -= n;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        flushBuffer();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
         try {
-            n = cLib.send(fd, b, len, 0);
-        } catch (LastErrorException e) {
-            throw new IOException("error: " + cLib.strerror(e.getErrorCode()));
+            flushBuffer();
+        } finally {
+            closed = true;
+            nativeBuf.free();
         }
-        if (n != len) {
-            throw new IOException(String.format("Failed writing %d bytes", len));
+    }
+
+    private void flushBuffer() throws IOException {
+        int sent = 0;
+        while (sent < count) {
+            final int n = cLib.send(fd, nativeBuf.share(sent), count - sent, 0);
+            if (n < 0) {
+                final int errno = Native.getLastError();
+                if (errno == CLibrary.EINTR) {
+                    continue;
+                }
+                throw new IOException("error: " + cLib.strerror(errno));
+            }
+            if (n == 0) {
+                throw new IOException(String.format("Failed writing %d bytes", count - sent));
+            }
+            sent += n;
+        }
+        count = 0;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream is closed");
         }
     }
 }
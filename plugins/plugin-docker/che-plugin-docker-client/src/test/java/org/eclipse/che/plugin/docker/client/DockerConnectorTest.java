@@ -72,6 +72,7 @@ import org.eclipse.che.plugin.docker.client.params.PutResourceParams;
 import org.eclipse.che.plugin.docker.client.params.RemoveContainerParams;
 import org.eclipse.che.plugin.docker.client.params.RemoveImageParams;
 import org.eclipse.che.plugin.docker.client.params.RemoveNetworkParams;
+import org.eclipse.che.plugin.docker.client.params.RenameContainerParams;
 import org.eclipse.che.plugin.docker.client.params.StartContainerParams;
 import org.eclipse.che.plugin.docker.client.params.StartExecParams;
 import org.eclipse.che.plugin.docker.client.params.StopContainerParams;
@@ -117,6 +118,7 @@ import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -500,6 +502,33 @@ public class DockerConnectorTest {
         verify(dockerResponse).getStatus();
     }
 
+    @Test
+    public void shouldBeAbleToRenameContainer() throws IOException {
+        RenameContainerParams renameContainerParams = RenameContainerParams.create(CONTAINER, "new_name");
+
+        when(dockerResponse.getStatus()).thenReturn(RESPONSE_NO_CONTENT_CODE);
+
+        dockerConnector.renameContainer(renameContainerParams);
+
+        verify(dockerConnectionFactory).openConnection(any(URI.class));
+        verify(dockerConnection).method(REQUEST_METHOD_POST);
+        verify(dockerConnection).path("/containers/" + renameContainerParams.getContainer() + "/rename");
+        verify(dockerConnection).query("name", renameContainerParams.getName());
+        verify(dockerConnection).request();
+        verify(dockerResponse).getStatus();
+    }
+
+    @Test(expectedExceptions = DockerException.class, expectedExceptionsMessageRegExp = EXCEPTION_ERROR_MESSAGE)
+    public void shouldThrowDockerExceptionWhileRenamingContainerIfResponseCodeIsNotSuccess() throws IOException {
+        RenameContainerParams renameContainerParams = RenameContainerParams.create(CONTAINER, "new_name");
+
+        when(dockerResponse.getStatus()).thenReturn(RESPONSE_ERROR_CODE);
+
+        dockerConnector.renameContainer(renameContainerParams);
+
+        verify(dockerResponse).getStatus();
+    }
+
     @Test
     public void shouldBeAbleToRemoveContainer() throws IOException {
         RemoveContainerParams removeContainerParams = RemoveContainerParams.create(CONTAINER);
@@ -906,7 +935,7 @@ public class DockerConnectorTest {
         verify(dockerConnection).path("/containers/" + putResourceParams.getContainer() + "/archive");
         verify(dockerConnection).query(eq("path"), eq(PATH_TO_FILE));
         verify(dockerConnection).header("Content-Type", ExtMediaType.APPLICATION_X_TAR);
-        verify(dockerConnection).header(eq("Content-Length"), anyInt());
+        verify(dockerConnection, never()).header(eq("Content-Length"), any());
         verify(dockerConnection).entity(any(InputStream.class));
         verify(dockerConnection).request();
         verify(dockerResponse).getStatus();
@@ -975,9 +1004,9 @@ public class DockerConnectorTest {
         verify(dockerConnection).method(REQUEST_METHOD_POST);
         verify(dockerConnection).path("/build");
         verify(dockerConnection).header("Content-Type", "application/x-compressed-tar");
-        verify(dockerConnection).header(eq("Content-Length"), anyInt());
+        verify(dockerConnection, never()).header(eq("Content-Length"), any());
         verify(dockerConnection).header(eq("X-Registry-Config"), any(byte[].class));
-        verify(dockerConnection).entity(any(InputStream.class));
+        verify(dockerConnection).entity(any(DockerConnection.EntityWriter.class));
         verify(dockerConnection).request();
         verify(dockerResponse).getStatus();
         verify(dockerResponse).getInputStream();
@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.client.connection;
+
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.testng.Assert.assertEquals;
+
+public class ChunkedInputStreamTest {
+
+    @Test
+    public void shouldReadDataIntoBufferFromGivenOffset() throws Exception {
+        ChunkedInputStream input = new ChunkedInputStream(chunked("3\r\nabc\r\n2\r\nde\r\n0\r\n\r\n"));
+        byte[] buf = new byte[]{'x', 'x', 'x', 'x', 'x', 'x', 'x'};
+
+        assertEquals(input.read(buf, 2, 5), 3);
+        assertEquals(input.read(buf, 5, 2), 2);
+        assertEquals(input.read(buf, 0, 1), -1);
+
+        assertEquals(new String(buf, US_ASCII), "xxabcde");
+    }
+
+    @Test
+    public void shouldReturnBytesAsUnsignedValues() throws Exception {
+        ChunkedInputStream input = new ChunkedInputStream(new ByteArrayInputStream(new byte[]{'1', '\r', '\n', (byte)0xFF,
+                                                                                              '\r', '\n', '0', '\r', '\n',
+                                                                                              '\r', '\n'}));
+
+        assertEquals(input.read(), 0xFF);
+        assertEquals(input.read(), -1);
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void shouldFailWhenChunkIsTruncated() throws Exception {
+        ChunkedInputStream input = new ChunkedInputStream(chunked("5\r\nab"));
+
+        input.read(new byte[5]);
+        input.read(new byte[5]);
+    }
+
+    private static ByteArrayInputStream chunked(String data) {
+        return new ByteArrayInputStream(data.getBytes(US_ASCII));
+    }
+}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.client.connection;
+
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.testng.Assert.assertEquals;
+
+public class ChunkedOutputStreamTest {
+
+    @Test
+    public void shouldWriteDataAsChunksAndLastChunk() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ChunkedOutputStream chunked = new ChunkedOutputStream(output);
+
+        chunked.write("hello ".getBytes(US_ASCII));
+        chunked.flush();
+        chunked.write("world".getBytes(US_ASCII));
+        chunked.finish();
+
+        assertEquals(new String(output.toByteArray(), US_ASCII), "6\r\nhello \r\n5\r\nworld\r\n0\r\n\r\n");
+    }
+
+    @Test
+    public void shouldNotWriteEmptyChunks() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ChunkedOutputStream chunked = new ChunkedOutputStream(output);
+
+        chunked.flush();
+        chunked.close();
+
+        assertEquals(new String(output.toByteArray(), US_ASCII), "0\r\n\r\n");
+    }
+
+    @Test
+    public void shouldProduceDataWhichIsReadBackByChunkedInputStream() throws Exception {
+        byte[] data = new byte[BufferPool.BUFFER_SIZE * 3 + 17];
+        new Random(7).nextBytes(data);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ChunkedOutputStream chunked = new ChunkedOutputStream(output);
+
+        chunked.write(data, 0, 10);
+        chunked.write(data, 10, data.length - 10);
+        chunked.finish();
+
+        ChunkedInputStream input = new ChunkedInputStream(new ByteArrayInputStream(output.toByteArray()));
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        byte[] buf = new byte[4096];
+        int r;
+        while ((r = input.read(buf)) != -1) {
+            read.write(buf, 0, r);
+        }
+        assertEquals(read.toByteArray(), data);
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void shouldNotAllowWritingAfterFinish() throws Exception {
+        ChunkedOutputStream chunked = new ChunkedOutputStream(new ByteArrayOutputStream());
+        chunked.finish();
+
+        chunked.write(1);
+    }
+
+    @Test
+    public void shouldNotWriteBufferedDataAndLastChunkWhenAborted() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ChunkedOutputStream chunked = new ChunkedOutputStream(output);
+
+        chunked.write("hello".getBytes(US_ASCII));
+        chunked.abort();
+        chunked.finish();
+
+        assertEquals(output.size(), 0);
+    }
+}
@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.client.connection;
+
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+
+import static org.testng.Assert.assertEquals;
+
+public class LimitedInputStreamTest {
+
+    @Test
+    public void shouldReadNoMoreThanLimitFromGivenOffset() throws Exception {
+        LimitedInputStream input = new LimitedInputStream(new ByteArrayInputStream(new byte[]{1, 2, (byte)0xFF, 4}), 3);
+        byte[] buf = new byte[4];
+
+        assertEquals(input.read(buf, 1, 2), 2);
+        assertEquals(input.read(), 0xFF);
+        assertEquals(input.read(), -1);
+
+        assertEquals(buf, new byte[]{0, 1, 2, 0});
+    }
+}
@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.client.params;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+public class RenameContainerParamsTest {
+
+    private static final String CONTAINER = "container";
+    private static final String NAME      = "name";
+
+    private RenameContainerParams renameContainerParams;
+
+    @Test
+    public void shouldCreateParamsObjectWithRequiredParameters() {
+        renameContainerParams = RenameContainerParams.create(CONTAINER, NAME);
+
+        assertEquals(renameContainerParams.getContainer(), CONTAINER);
+        assertEquals(renameContainerParams.getName(), NAME);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void shouldThrowNullPointerExceptionIfContainerRequiredParameterIsNull() {
+        renameContainerParams = RenameContainerParams.create(null, NAME);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void shouldThrowNullPointerExceptionIfNameRequiredParameterIsNull() {
+        renameContainerParams = RenameContainerParams.create(CONTAINER, null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void shouldThrowNullPointerExceptionIfNameRequiredParameterResetWithNull() {
+        renameContainerParams = RenameContainerParams.create(CONTAINER, NAME);
+        renameContainerParams.withName(null);
+    }
+
+}
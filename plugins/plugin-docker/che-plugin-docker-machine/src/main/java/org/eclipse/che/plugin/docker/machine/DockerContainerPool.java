@@ -0,0 +1,354 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.machine;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import org.eclipse.che.commons.annotation.Nullable;
+import org.eclipse.che.commons.lang.NameGenerator;
+import org.eclipse.che.commons.schedule.ScheduleRate;
+import org.eclipse.che.plugin.docker.client.DockerConnector;
+import org.eclipse.che.plugin.docker.client.json.ContainerConfig;
+import org.eclipse.che.plugin.docker.client.json.ContainerInfo;
+import org.eclipse.che.plugin.docker.client.json.HostConfig;
+import org.eclipse.che.plugin.docker.client.json.ImageInfo;
+import org.eclipse.che.plugin.docker.client.params.CreateContainerParams;
+import org.eclipse.che.plugin.docker.client.params.RemoveContainerParams;
+import org.eclipse.che.plugin.docker.client.params.RenameContainerParams;
+import org.eclipse.che.plugin.docker.client.params.StartContainerParams;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Named;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps started containers which are not bound to any machine yet, so machine may get container without
+ * waiting for its creation and start.
+ * <p/>
+ * Containers are pooled by their whole configuration: id of image, exposed ports, environment variables, volumes,
+ * memory limits and other host configuration set by {@link DockerInstanceProvider}. Pooled container is created with
+ * a copy of configuration of the first machine which asked for it and is renamed when it is bound to machine.
+ * Docker doesn't allow to change environment or volumes of existing container, so only machines without workspace
+ * specific configuration, i.e. not dev machines, may be served from the pool.
+ * <p/>
+ * Pool is disabled by default, it is enabled when {@code machine.docker.pool.max_size} is greater than 0. Number of
+ * containers pooled for each configuration follows number of machines started with this configuration during last
+ * {@code machine.docker.pool.start_rate_window_min} minutes, but never exceeds {@code machine.docker.pool.max_size}.
+ * Pool is refilled periodically, so configurations which aren't used anymore don't hold containers.
+ */
+@Singleton
+public class DockerContainerPool {
+    /** Prefix of names of containers which wait in pool for machines. */
+    public static final String POOLED_CONTAINER_PREFIX = "che_pool_";
+
+    private static final Logger LOG = LoggerFactory.getLogger(DockerContainerPool.class);
+
+    private final DockerConnector                   docker;
+    private final int                               maxSize;
+    private final long                              startRateWindowMillis;
+    private final String                            namePrefix;
+    private final ConcurrentMap<List<Object>, Pool> pools;
+    private final AtomicInteger                     sequence;
+    private final AtomicLong                        hits;
+    private final AtomicLong                        misses;
+    private final AtomicLong                        created;
+    private final AtomicLong                        removed;
+
+    @Inject
+    public DockerContainerPool(DockerConnector docker,
+                               @Named("machine.docker.pool.max_size") int maxSize,
+                               @Named("machine.docker.pool.start_rate_window_min") long startRateWindowMin) {
+        this.docker = docker;
+        this.maxSize = maxSize;
+        this.startRateWindowMillis = TimeUnit.MINUTES.toMillis(startRateWindowMin);
+        // containers of previous runs of server are recognized by prefix and removed by containers cleaner
+        this.namePrefix = NameGenerator.generate(POOLED_CONTAINER_PREFIX, 8) + '_';
+        this.pools = new ConcurrentHashMap<>();
+        this.sequence = new AtomicInteger();
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+        this.created = new AtomicLong();
+        this.removed = new AtomicLong();
+    }
+
+    /** Returns {@code true} if containers may be served from pool. */
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * Binds pooled container with given configuration to machine.
+     * <p/>
+     * Every call is counted as start of machine with given configuration, even if pool has no
+     * container for it, so pool gets containers for this configuration on next refill.
+     *
+     * @param config
+     *         configuration of container which is needed for machine
+     * @param containerName
+     *         name of machine container
+     * @return id of running container which is renamed to {@code containerName} or null if pool has no such container
+     */
+    @Nullable
+    public String acquire(ContainerConfig config, String containerName) {
+        if (!isEnabled()) {
+            return null;
+        }
+        final String imageId = getImageId(config.getImage());
+        if (imageId == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        final Pool pool = pools.computeIfAbsent(keyOf(imageId, config), key -> new Pool(copyOf(config, imageId)));
+        pool.recordStart(System.currentTimeMillis());
+
+        String containerId;
+        while ((containerId = pool.idle.poll()) != null) {
+            try {
+                final ContainerInfo info = docker.inspectContainer(containerId);
+                if (info.getState() == null || !info.getState().isRunning()) {
+                    LOG.warn("Pooled container {} is not running anymore", containerId);
+                    remove(containerId);
+                    continue;
+                }
+                docker.renameContainer(RenameContainerParams.create(containerId, containerName));
+                hits.incrementAndGet();
+                LOG.debug("Pooled container {} is bound to {}", containerId, containerName);
+                return containerId;
+            } catch (IOException e) {
+                LOG.warn("Unable to bind pooled container {} to {}: {}", containerId, containerName, e.getLocalizedMessage());
+                remove(containerId);
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Returns {@code true} if container with given name was created by pool during previous run of server,
+     * such container is never bound to machine and should be removed.
+     */
+    public boolean isOrphan(String containerName) {
+        final String name = containerName.startsWith("/") ? containerName.substring(1) : containerName;
+        return name.startsWith(POOLED_CONTAINER_PREFIX) && !name.startsWith(namePrefix);
+    }
+
+    /** Creates containers for configurations which are started often and removes containers which aren't needed. */
+    @ScheduleRate(periodParameterName = "machine.docker.pool.refill_period_sec",
+                  initialDelayParameterName = "machine.docker.pool.refill_period_sec",
+                  unit = TimeUnit.SECONDS)
+    public void refill() {
+        if (!isEnabled()) {
+            return;
+        }
+        final long since = System.currentTimeMillis() - startRateWindowMillis;
+        for (Map.Entry<List<Object>, Pool> entry : pools.entrySet()) {
+            final Pool pool = entry.getValue();
+            final int targetSize = Math.min(maxSize, pool.countStartsSince(since));
+            String containerId;
+            while (pool.idle.size() > targetSize && (containerId = pool.idle.poll()) != null) {
+                remove(containerId);
+            }
+            if (targetSize == 0 && pool.idle.isEmpty()) {
+                pools.remove(entry.getKey(), pool);
+                continue;
+            }
+            try {
+                while (pool.idle.size() < targetSize) {
+                    pool.idle.offer(createContainer(pool.template));
+                }
+            } catch (IOException e) {
+                LOG.warn("Unable to create pooled container from image {}: {}", pool.template.getImage(), e.getLocalizedMessage());
+            }
+        }
+        LOG.debug("Container pool: {} idle containers, {} hits, {} misses, {} created, {} removed",
+                  getIdle(), hits.get(), misses.get(), created.get(), removed.get());
+    }
+
+    /** Removes all pooled containers. */
+    @PreDestroy
+    public void shutdown() {
+        for (Pool pool : pools.values()) {
+            String containerId;
+            while ((containerId = pool.idle.poll()) != null) {
+                remove(containerId);
+            }
+        }
+        pools.clear();
+    }
+
+    /** Returns number of containers which wait in pool. */
+    public int getIdle() {
+        int idle = 0;
+        for (Pool pool : pools.values()) {
+            idle += pool.idle.size();
+        }
+        return idle;
+    }
+
+    /** Returns number of machines which got pooled container. */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /** Returns number of machines which didn't get pooled container. */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /** Returns number of containers created by pool. */
+    public long getCreated() {
+        return created.get();
+    }
+
+    /** Returns number of pooled containers removed without being bound to machine. */
+    public long getRemoved() {
+        return removed.get();
+    }
+
+    private String createContainer(ContainerConfig template) throws IOException {
+        final String containerName = namePrefix + sequence.incrementAndGet();
+        final String containerId = docker.createContainer(CreateContainerParams.create(template)
+                                                                               .withContainerName(containerName))
+                                         .getId();
+        try {
+            docker.startContainer(StartContainerParams.create(containerId));
+        } catch (IOException e) {
+            remove(containerId);
+            throw e;
+        }
+        created.incrementAndGet();
+        return containerId;
+    }
+
+    private void remove(String containerId) {
+        try {
+            docker.removeContainer(RemoveContainerParams.create(containerId)
+                                                        .withForce(true)
+                                                        .withRemoveVolumes(true));
+            removed.incrementAndGet();
+        } catch (IOException e) {
+            LOG.warn("Unable to remove pooled container {}: {}", containerId, e.getLocalizedMessage());
+        }
+    }
+
+    private String getImageId(String image) {
+        try {
+            final ImageInfo info = docker.inspectImage(image);
+            return info == null ? null : info.getId();
+        } catch (IOException e) {
+            LOG.debug("Unable to inspect image {}: {}", image, e.getLocalizedMessage());
+            return null;
+        }
+    }
+
+    /** Copies whole configuration, so pooled container gets exactly the same configuration as container created for machine. */
+    private static ContainerConfig copyOf(ContainerConfig config, String imageId) {
+        return new ContainerConfig().withImage(imageId)
+                                    .withHostname(config.getHostname())
+                                    .withDomainName(config.getDomainName())
+                                    .withUser(config.getUser())
+                                    .withCpuShares(config.getCpuShares())
+                                    .withCpuset(config.getCpuset())
+                                    .withAttachStdin(config.isAttachStdin())
+                                    .withAttachStdout(config.isAttachStdout())
+                                    .withAttachStderr(config.isAttachStderr())
+                                    .withTty(config.isTty())
+                                    .withOpenStdin(config.isOpenStdin())
+                                    .withStdinOnce(config.isStdinOnce())
+                                    .withEnv(copyOf(config.getEnv()))
+                                    .withCmd(copyOf(config.getCmd()))
+                                    .withEntrypoint(copyOf(config.getEntrypoint()))
+                                    .withWorkingDir(config.getWorkingDir())
+                                    .withNetworkDisabled(config.isNetworkDisabled())
+                                    .withMacAddress(config.getMacAddress())
+                                    .withSecurityOpts(copyOf(config.getSecurityOpts()))
+                                    .withExposedPorts(copyOf(config.getExposedPorts()))
+                                    .withVolumes(copyOf(config.getVolumes()))
+                                    .withLabels(copyOf(config.getLabels()))
+                                    .withHostConfig(config.getHostConfig())
+                                    .withNetworkingConfig(config.getNetworkingConfig());
+    }
+
+    private static String[] copyOf(String[] values) {
+        return values == null ? null : values.clone();
+    }
+
+    private static <K, V> Map<K, V> copyOf(Map<K, V> values) {
+        return values == null ? new HashMap<>() : new HashMap<>(values);
+    }
+
+    /**
+     * Returns key of pool of containers with given configuration. Host configuration is compared by the parts which
+     * {@link DockerInstanceProvider} sets, the rest of configuration is compared as a whole, so containers are never
+     * shared by configurations which differ in anything else.
+     */
+    private static List<Object> keyOf(String imageId, ContainerConfig config) {
+        final StringBuilder hostKey = new StringBuilder();
+        final HostConfig hostConfig = config.getHostConfig();
+        if (hostConfig != null) {
+            hostKey.append(hostConfig.getMemory())
+                   .append('|').append(hostConfig.getMemorySwap())
+                   .append('|').append(hostConfig.isPrivileged())
+                   .append('|').append(hostConfig.isPublishAllPorts())
+                   .append('|').append(sorted(hostConfig.getBinds()))
+                   .append('|').append(sorted(hostConfig.getExtraHosts()));
+        }
+        final TreeSet<String> env = sorted(config.getEnv());
+        final ContainerConfig rest = copyOf(config, imageId).withEnv(env.toArray(new String[env.size()]))
+                                                            .withHostConfig(null);
+        return Arrays.asList(hostKey.toString(), rest);
+    }
+
+    private static TreeSet<String> sorted(String[] values) {
+        return values == null ? new TreeSet<>() : new TreeSet<>(Arrays.asList(values));
+    }
+
+    /** Idle containers of one configuration and times of recent starts of machines with this configuration. */
+    private static class Pool {
+        final ContainerConfig template;
+        final Queue<String>   idle;
+        final Deque<Long>     starts;
+
+        Pool(ContainerConfig template) {
+            this.template = template;
+            this.idle = new ConcurrentLinkedQueue<>();
+            this.starts = new ArrayDeque<>();
+        }
+
+        synchronized void recordStart(long time) {
+            starts.addLast(time);
+        }
+
+        synchronized int countStartsSince(long since) {
+            while (!starts.isEmpty() && starts.peekFirst() < since) {
+                starts.pollFirst();
+            }
+            return starts.size();
+        }
+    }
+}
@@ -0,0 +1,265 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.machine;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import org.eclipse.che.plugin.docker.client.DockerConnector;
+import org.eclipse.che.plugin.docker.client.ProgressMonitor;
+import org.eclipse.che.plugin.docker.client.json.ImageInfo;
+import org.eclipse.che.plugin.docker.client.json.ProgressStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.inject.Named;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps track of images which are pulled or built for machines, so the same image isn't pulled or built
+ * again while it is fresh.
+ * <p/>
+ * Image is identified by a key, e.g. full name of pulled image or hash of Dockerfile content. Loaded image is
+ * remembered with its id, so it is reused only while the same image is still present locally under its name.
+ * Image is fresh during {@code machine.docker.image_cache.ttl_sec} seconds after loading, image pinned by digest
+ * never becomes stale. Concurrent loads of the same image are collapsed into one, progress of it is sent to
+ * monitors of all waiting callers.
+ * <p/>
+ * Images which are neither fresh nor being loaded, and images replaced by reloading, are removed by
+ * {@link org.eclipse.che.plugin.docker.machine.cleaner.DockerContainerCleaner}.
+ */
+@Singleton
+public class DockerImageCache {
+    private static final Logger LOG = LoggerFactory.getLogger(DockerImageCache.class);
+
+    private final DockerConnector                    docker;
+    private final long                               ttlMillis;
+    private final ConcurrentMap<String, CachedImage> images;
+    private final ConcurrentMap<String, Loading>     loadings;
+    private final Set<String>                        orphans;
+
+    @Inject
+    public DockerImageCache(DockerConnector docker, @Named("machine.docker.image_cache.ttl_sec") long ttlSec) {
+        this.docker = docker;
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSec);
+        this.images = new ConcurrentHashMap<>();
+        this.loadings = new ConcurrentHashMap<>();
+        this.orphans = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Ensures that image is present locally, loads it if it isn't loaded yet or if it is stale.
+     *
+     * @param key
+     *         identifier of image content, e.g. full name of image in registry or hash of Dockerfile
+     * @param image
+     *         name of image which is produced by loader
+     * @param pinned
+     *         {@code true} if content of image can't be changed in registry, e.g. image is pulled by digest
+     * @param progressMonitor
+     *         receives progress of loading
+     * @param loader
+     *         pulls or builds image
+     * @throws IOException
+     *         if loading fails
+     */
+    public void load(String key, String image, boolean pinned, ProgressMonitor progressMonitor, ImageLoader loader)
+            throws IOException {
+        if (isFresh(key, image, pinned)) {
+            return;
+        }
+        final Loading loading = new Loading(image);
+        final Loading current;
+        synchronized (this) {
+            current = loadings.putIfAbsent(key, loading);
+        }
+        if (current != null) {
+            LOG.debug("Waiting for image {} which is already being loaded", image);
+            current.await(progressMonitor);
+            return;
+        }
+        loading.addMonitor(progressMonitor);
+        IOException error = null;
+        try {
+            // image might be loaded by other caller right before this one started loading
+            if (!isFresh(key, image, pinned)) {
+                final CachedImage previous = images.remove(key);
+                loader.load(loading);
+                final String id = getImageId(image);
+                if (id != null) {
+                    images.put(key, new CachedImage(image, id, pinned, System.currentTimeMillis()));
+                }
+                if (previous != null && !previous.id.equals(id)) {
+                    // previous image lost its name, only machines created from it may still use it
+                    orphans.add(previous.id);
+                }
+            }
+        } catch (IOException e) {
+            error = e;
+            throw e;
+        } catch (RuntimeException e) {
+            error = new IOException(e.getLocalizedMessage(), e);
+            throw e;
+        } finally {
+            loadings.remove(key, loading);
+            loading.done(error);
+        }
+    }
+
+    /** Forgets image, so next request for it loads it again. */
+    public void invalidate(String key) {
+        images.remove(key);
+    }
+
+    /**
+     * Removes image with given name unless it is fresh or is being loaded. Image can't be loaded while it is removed.
+     *
+     * @param image
+     *         name of image
+     * @param remover
+     *         removes image
+     * @return {@code true} if image is removed, otherwise {@code false}
+     * @throws IOException
+     *         if removing fails
+     */
+    public synchronized boolean removeIfUnused(String image, ImageRemover remover) throws IOException {
+        for (Loading loading : loadings.values()) {
+            if (loading.image.equals(image)) {
+                return false;
+            }
+        }
+        for (Map.Entry<String, CachedImage> entry : images.entrySet()) {
+            final CachedImage cached = entry.getValue();
+            if (cached.image.equals(image)) {
+                if (isFresh(cached, cached.pinned)) {
+                    return false;
+                }
+                images.remove(entry.getKey(), cached);
+            }
+        }
+        remover.remove(image);
+        return true;
+    }
+
+    /** Returns ids of images which were replaced by reloading and weren't removed yet. */
+    public Set<String> getOrphans() {
+        return new HashSet<>(orphans);
+    }
+
+    /** Forgets image which was replaced by reloading, should be called once image is removed. */
+    public void forgetOrphan(String id) {
+        orphans.remove(id);
+    }
+
+    private boolean isFresh(String key, String image, boolean pinned) {
+        final CachedImage cached = images.get(key);
+        if (cached == null || !isFresh(cached, pinned)) {
+            return false;
+        }
+        // image may be removed or replaced locally
+        return cached.id.equals(getImageId(image));
+    }
+
+    private boolean isFresh(CachedImage cached, boolean pinned) {
+        return pinned || System.currentTimeMillis() - cached.loaded < ttlMillis;
+    }
+
+    private String getImageId(String image) {
+        try {
+            final ImageInfo info = docker.inspectImage(image);
+            return info == null ? null : info.getId();
+        } catch (IOException e) {
+            LOG.debug("Unable to inspect image {}: {}", image, e.getLocalizedMessage());
+            return null;
+        }
+    }
+
+    /** Pulls or builds image, progress of loading must be sent to given monitor. */
+    public interface ImageLoader {
+        void load(ProgressMonitor progressMonitor) throws IOException;
+    }
+
+    /** Removes image, e.g. untags it. */
+    public interface ImageRemover {
+        void remove(String image) throws IOException;
+    }
+
+    private static class CachedImage {
+        final String  image;
+        final String  id;
+        final boolean pinned;
+        final long    loaded;
+
+        CachedImage(String image, String id, boolean pinned, long loaded) {
+            this.image = image;
+            this.id = id;
+            this.pinned = pinned;
+            this.loaded = loaded;
+        }
+    }
+
+    /** In-flight loading of image, sends its progress to monitors of all callers which wait for the image. */
+    private static class Loading implements ProgressMonitor {
+        private final List<ProgressMonitor> monitors = new CopyOnWriteArrayList<>();
+        private final CountDownLatch        done     = new CountDownLatch(1);
+        private final String                image;
+
+        private volatile IOException error;
+
+        Loading(String image) {
+            this.image = image;
+        }
+
+        @Override
+        public void updateProgress(ProgressStatus currentProgressStatus) {
+            for (ProgressMonitor monitor : monitors) {
+                try {
+                    monitor.updateProgress(currentProgressStatus);
+                } catch (RuntimeException e) {
+                    LOG.warn(e.getLocalizedMessage(), e);
+                }
+            }
+        }
+
+        void addMonitor(ProgressMonitor monitor) {
+            monitors.add(monitor);
+        }
+
+        void await(ProgressMonitor monitor) throws IOException {
+            addMonitor(monitor);
+            try {
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for image loading");
+            } finally {
+                monitors.remove(monitor);
+            }
+            if (error != null) {
+                throw new IOException(error.getLocalizedMessage(), error);
+            }
+        }
+
+        void done(IOException error) {
+            this.error = error;
+            done.countDown();
+        }
+    }
+}
@@ -15,6 +15,8 @@ import com.google.common.base.Strings;
 import com.google.common.collect.Maps;
 import com.google.common.collect.ObjectArrays;
 import com.google.common.collect.Sets;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
@@ -47,6 +49,8 @@ import org.eclipse.che.plugin.docker.client.DockerfileParser;
 import org.eclipse.che.plugin.docker.client.ProgressLineFormatterImpl;
 import org.eclipse.che.plugin.docker.client.ProgressMonitor;
 import org.eclipse.che.plugin.docker.client.UserSpecificDockerRegistryCredentialsProvider;
+import org.eclipse.che.plugin.docker.client.dto.AuthConfig;
+import org.eclipse.che.plugin.docker.client.dto.AuthConfigs;
 import org.eclipse.che.plugin.docker.client.exception.ContainerNotFoundException;
 import org.eclipse.che.plugin.docker.client.exception.ImageNotFoundException;
 import org.eclipse.che.plugin.docker.client.json.ContainerConfig;
@@ -71,6 +75,7 @@ import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.SocketTimeoutException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -79,6 +84,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.regex.Pattern;
@@ -117,7 +123,17 @@ public class DockerInstanceProvider implements InstanceProvider {
 
     public static final Pattern SNAPSHOT_LOCATION_PATTERN = Pattern.compile("(.+/)?" + MACHINE_SNAPSHOT_PREFIX + ".+");
 
+    /**
+     * Prefix of repositories of images built from Dockerfile recipes, machine images are tags of them.
+     */
+    public static final String CACHED_IMAGE_PREFIX = "eclipse-che/cache_";
+
+    private static final String IMAGE_KEY_PREFIX      = "image:";
+    private static final String DOCKERFILE_KEY_PREFIX = "dockerfile:";
+
     private final DockerConnector                               docker;
+    private final DockerImageCache                              imageCache;
+    private final DockerContainerPool                           containerPool;
     private final UserSpecificDockerRegistryCredentialsProvider dockerCredentials;
     private final ExecutorService                               executor;
     private final DockerInstanceStopDetector                    dockerInstanceStopDetector;
@@ -159,8 +175,12 @@ public class DockerInstanceProvider implements InstanceProvider {
                                   @Named("machine.docker.dev_machine.machine_env") Set<String> devMachineEnvVariables,
                                   @Named("machine.docker.machine_env") Set<String> allMachinesEnvVariables,
                                   @Named("machine.docker.snapshot_use_registry") boolean snapshotUseRegistry,
-                                  @Named("machine.docker.memory_swap_multiplier") double memorySwapMultiplier) throws IOException {
+                                  @Named("machine.docker.memory_swap_multiplier") double memorySwapMultiplier,
+                                  DockerImageCache imageCache,
+                                  DockerContainerPool containerPool) throws IOException {
         this.docker = docker;
+        this.imageCache = imageCache;
+        this.containerPool = containerPool;
         this.dockerCredentials = dockerCredentials;
         this.dockerMachineFactory = dockerMachineFactory;
         this.dockerInstanceStopDetector = dockerInstanceStopDetector;
@@ -354,15 +374,25 @@ public class DockerInstanceProvider implements InstanceProvider {
 
         try {
             boolean isSnapshot = SNAPSHOT_LOCATION_PATTERN.matcher(dockerMachineSource.getLocation()).matches();
+            final String fullNameOfPulledImage = dockerMachineSource.getLocation(false);
             if (!isSnapshot || snapshotUseRegistry) {
+                final AuthConfigs authConfigs = dockerCredentials.getCredentials();
                 PullParams pullParams = PullParams.create(dockerMachineSource.getRepository())
                                                   .withTag(MoreObjects.firstNonNull(dockerMachineSource.getTag(), LATEST_TAG))
                                                   .withRegistry(dockerMachineSource.getRegistry())
-                                                  .withAuthConfigs(dockerCredentials.getCredentials());
-                docker.pull(pullParams, progressMonitor);
+                                                  .withAuthConfigs(authConfigs);
+                if (isSnapshot) {
+                    // snapshot image is untagged right after restoring, so there is nothing to cache
+                    docker.pull(pullParams, progressMonitor);
+                } else {
+                    imageCache.load(IMAGE_KEY_PREFIX + dockerMachineSource.getLocation() + getCredentialsKey(authConfigs),
+                                    fullNameOfPulledImage,
+                                    dockerMachineSource.getDigest() != null,
+                                    progressMonitor,
+                                    monitor -> docker.pull(pullParams, monitor));
+                }
             }
 
-            final String fullNameOfPulledImage = dockerMachineSource.getLocation(false);
             try {
                 // tag image with generated name to allow sysadmin recognize it
                 docker.tag(TagParams.create(fullNameOfPulledImage, machineImageName));
@@ -390,30 +420,63 @@ public class DockerInstanceProvider implements InstanceProvider {
         Dockerfile dockerfile = parseRecipe(recipe);
         long memoryLimit = (long)machineConfig.getLimits().getRam() * 1024 * 1024;
 
-        File workDir = null;
+        // the same recipe produces the same image, so image is built once and shared by all machines with this recipe
+        // which are built with the same registry credentials
+        final AuthConfigs authConfigs = dockerCredentials.getCredentials();
+        final String recipeHash = Hashing.sha256()
+                                         .hashString(recipe.getScript() + getCredentialsKey(authConfigs), StandardCharsets.UTF_8)
+                                         .toString();
+        final String cachedImageName = CACHED_IMAGE_PREFIX + recipeHash.substring(0, 32);
         try {
-            // build docker image
-            workDir = Files.createTempDirectory(null).toFile();
-            final File dockerfileFile = new File(workDir, "Dockerfile");
-            dockerfile.writeDockerfile(dockerfileFile);
-
-            docker.buildImage(BuildImageParams.create(dockerfileFile)
-                                              .withForceRemoveIntermediateContainers(true)
-                                              .withRepository(machineImageName)
-                                              .withAuthConfigs(dockerCredentials.getCredentials())
-                                              .withDoForcePull(doForcePullOnBuild)
-                                              .withMemoryLimit(memoryLimit)
-                                              .withMemorySwapLimit(-1),
-                              progressMonitor);
+            imageCache.load(DOCKERFILE_KEY_PREFIX + recipeHash, cachedImageName, false, progressMonitor, monitor -> {
+                File workDir = null;
+                try {
+                    // build docker image
+                    workDir = Files.createTempDirectory(null).toFile();
+                    final File dockerfileFile = new File(workDir, "Dockerfile");
+                    dockerfile.writeDockerfile(dockerfileFile);
+
+                    docker.buildImage(BuildImageParams.create(dockerfileFile)
+                                                      .withForceRemoveIntermediateContainers(true)
+                                                      .withRepository(cachedImageName)
+                                                      .withAuthConfigs(authConfigs)
+                                                      .withDoForcePull(doForcePullOnBuild)
+                                                      .withMemoryLimit(memoryLimit)
+                                                      .withMemorySwapLimit(-1),
+                                      monitor);
+                } finally {
+                    if (workDir != null) {
+                        FileCleaner.addFile(workDir);
+                    }
+                }
+            });
+            // tag image with generated name to allow sysadmin recognize it
+            docker.tag(TagParams.create(cachedImageName, machineImageName));
         } catch (IOException e) {
             throw new MachineException(e.getLocalizedMessage(), e);
-        } finally {
-            if (workDir != null) {
-                FileCleaner.addFile(workDir);
-            }
         }
     }
 
+    /**
+     * Returns suffix of image cache key which identifies registry credentials of current user,
+     * so image pulled with credentials of one user isn't reused by other users without pulling.
+     */
+    private static String getCredentialsKey(AuthConfigs authConfigs) {
+        if (authConfigs == null || authConfigs.getConfigs() == null || authConfigs.getConfigs().isEmpty()) {
+            return "";
+        }
+        final Hasher hasher = Hashing.sha256().newHasher();
+        for (Map.Entry<String, AuthConfig> entry : new TreeMap<>(authConfigs.getConfigs()).entrySet()) {
+            hasher.putString(entry.getKey(), StandardCharsets.UTF_8)
+                  .putChar('\0')
+                  .putString(Strings.nullToEmpty(entry.getValue().getUsername()), StandardCharsets.UTF_8)
+                  .putChar('\0')
+                  .putString(Strings.nullToEmpty(entry.getValue().getPassword()), StandardCharsets.UTF_8)
+                  .putChar('\0');
+        }
+        return "#" + hasher.hash().toString();
+    }
+
     public static Dockerfile parseRecipe(final Recipe recipe) throws InvalidRecipeException {
         if (recipe.getScript() == null) {
             throw new InvalidRecipeException("Unable build docker based machine, recipe isn't set or doesn't provide Dockerfile and " +
@@ -552,11 +615,19 @@ public class DockerInstanceProvider implements InstanceProvider {
                                                                 .withHostConfig(hostConfig)
                                                                 .withEnv(env.toArray(new String[env.size()]));
 
-            final String containerId = docker.createContainer(CreateContainerParams.create(config)
-                                                                                   .withContainerName(containerName))
-                                             .getId();
+            // dev machine container has workspace folder mounted and token of the user in env, docker can't apply them
+            // to started container, and container created for them in advance would keep the token while it waits in pool
+            final String pooledContainerId = machine.getConfig().isDev() ? null : containerPool.acquire(config, containerName);
+            final String containerId;
+            if (pooledContainerId != null) {
+                containerId = pooledContainerId;
+            } else {
+                containerId = docker.createContainer(CreateContainerParams.create(config)
+                                                                          .withContainerName(containerName))
+                                    .getId();
 
-            docker.startContainer(StartContainerParams.create(containerId));
+                docker.startContainer(StartContainerParams.create(containerId));
+            }
 
             executor.execute(() -> {
                 long lastProcessedLogDate = 0;
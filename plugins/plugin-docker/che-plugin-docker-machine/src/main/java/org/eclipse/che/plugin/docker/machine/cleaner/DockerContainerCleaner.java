@@ -16,8 +16,13 @@ import com.google.inject.Singleton;
 import org.eclipse.che.api.machine.server.MachineRegistry;
 import org.eclipse.che.commons.schedule.ScheduleRate;
 import org.eclipse.che.plugin.docker.client.DockerConnector;
+import org.eclipse.che.plugin.docker.client.exception.DockerException;
 import org.eclipse.che.plugin.docker.client.json.ContainerListEntry;
+import org.eclipse.che.plugin.docker.client.json.Image;
+import org.eclipse.che.plugin.docker.client.params.RemoveImageParams;
 import org.eclipse.che.plugin.docker.machine.DockerContainerNameGenerator;
+import org.eclipse.che.plugin.docker.machine.DockerContainerPool;
+import org.eclipse.che.plugin.docker.machine.DockerImageCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -27,10 +32,12 @@ import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
 import static org.eclipse.che.plugin.docker.client.params.RemoveContainerParams.create;
+import static org.eclipse.che.plugin.docker.machine.DockerInstanceProvider.CACHED_IMAGE_PREFIX;
 import static org.eclipse.che.plugin.docker.machine.DockerContainerNameGenerator.ContainerNameInfo;
 
 /**
- * Job for periodically clean up inactive docker containers
+ * Job for periodically clean up inactive docker containers,
+ * images built from recipes which aren't cached anymore and images replaced by rebuilding
  *
  * @author Alexander Andrienko
  */
@@ -42,14 +49,20 @@ public class DockerContainerCleaner implements Runnable {
     private final MachineRegistry              machineRegistry;
     private final DockerConnector              dockerConnector;
     private final DockerContainerNameGenerator nameGenerator;
+    private final DockerContainerPool          containerPool;
+    private final DockerImageCache             imageCache;
 
     @Inject
     public DockerContainerCleaner(MachineRegistry machineRegistry,
                                   DockerConnector dockerConnector,
-                                  DockerContainerNameGenerator nameGenerator) {
+                                  DockerContainerNameGenerator nameGenerator,
+                                  DockerContainerPool containerPool,
+                                  DockerImageCache imageCache) {
         this.machineRegistry = machineRegistry;
         this.dockerConnector = dockerConnector;
         this.nameGenerator = nameGenerator;
+        this.containerPool = containerPool;
+        this.imageCache = imageCache;
     }
 
     @ScheduleRate(periodParameterName = "machine.docker.unused_containers_cleanup_period_min",
@@ -62,6 +75,9 @@ public class DockerContainerCleaner implements Runnable {
                 Optional<ContainerNameInfo> optional = nameGenerator.parse(container.getNames()[0]);
                 if (optional.isPresent() && !machineRegistry.isExist(optional.get().getMachineId())) {
                     cleanUp(container);
+                } else if (containerPool.isOrphan(container.getNames()[0])) {
+                    // pooled container left by previous run of server
+                    cleanUp(container);
                 }
             }
         } catch (IOException e) {
@@ -69,6 +85,57 @@ public class DockerContainerCleaner implements Runnable {
         } catch (Exception e) {
             LOG.error("Failed to clean up inactive containers", e);
         }
+        cleanUpImages();
+    }
+
+    private void cleanUpImages() {
+        try {
+            for (Image image : dockerConnector.listImages()) {
+                if (image.getRepoTags() == null) {
+                    continue;
+                }
+                for (String repoTag : image.getRepoTags()) {
+                    if (repoTag.startsWith(CACHED_IMAGE_PREFIX)) {
+                        removeCachedImage(repoTag);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            LOG.error("Failed to get list docker images", e);
+        }
+        for (String imageId : imageCache.getOrphans()) {
+            removeOrphanImage(imageId);
+        }
+    }
+
+    private void removeCachedImage(String repoTag) {
+        final String repository = repoTag.substring(0, repoTag.lastIndexOf(':'));
+        try {
+            // only the tag is removed if image is used by machines, the rest is removed with the last machine
+            if (imageCache.removeIfUnused(repository,
+                                          image -> dockerConnector.removeImage(RemoveImageParams.create(repoTag).withForce(false)))) {
+                LOG.info("Unused cached image '{}' was removed", repoTag);
+            }
+        } catch (IOException e) {
+            LOG.error(format("Failed to remove unused cached image '%s'", repoTag), e);
+        }
+    }
+
+    private void removeOrphanImage(String imageId) {
+        try {
+            dockerConnector.removeImage(RemoveImageParams.create(imageId).withForce(false));
+            LOG.info("Image '{}' replaced by rebuilding was removed", imageId);
+        } catch (DockerException e) {
+            if (e.getStatus() != 404 && e.getStatus() != 409) {
+                LOG.error(format("Failed to remove image '%s' replaced by rebuilding", imageId), e);
+                return;
+            }
+            // image is already removed or is still used by machines, then it is removed with the last machine
+        } catch (IOException e) {
+            LOG.error(format("Failed to remove image '%s' replaced by rebuilding", imageId), e);
+            return;
+        }
+        imageCache.forgetOrphan(imageId);
     }
 
     private void cleanUp(ContainerListEntry container) {
@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.machine;
+
+import org.eclipse.che.plugin.docker.client.DockerConnector;
+import org.eclipse.che.plugin.docker.client.json.ContainerConfig;
+import org.eclipse.che.plugin.docker.client.json.ContainerCreated;
+import org.eclipse.che.plugin.docker.client.json.ContainerInfo;
+import org.eclipse.che.plugin.docker.client.json.ContainerState;
+import org.eclipse.che.plugin.docker.client.json.HostConfig;
+import org.eclipse.che.plugin.docker.client.json.ImageInfo;
+import org.eclipse.che.plugin.docker.client.params.CreateContainerParams;
+import org.eclipse.che.plugin.docker.client.params.RemoveContainerParams;
+import org.eclipse.che.plugin.docker.client.params.RenameContainerParams;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import static java.util.Collections.singletonMap;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+@Listeners(MockitoTestNGListener.class)
+public class DockerContainerPoolTest {
+    private static final String IMAGE          = "eclipse-che/machine_container";
+    private static final String IMAGE_ID       = "sha256:123";
+    private static final String CONTAINER_ID   = "pooledContainerId";
+    private static final String CONTAINER_NAME = "workspace123_machine123_user_name";
+
+    @Mock
+    private DockerConnector docker;
+    @Mock
+    private ContainerInfo   containerInfo;
+    @Mock
+    private ContainerState  containerState;
+
+    private DockerContainerPool pool;
+    private ContainerConfig     config;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        ImageInfo imageInfo = new ImageInfo();
+        imageInfo.setId(IMAGE_ID);
+        when(docker.inspectImage(anyString())).thenReturn(imageInfo);
+        when(docker.createContainer(any(CreateContainerParams.class))).thenReturn(new ContainerCreated(CONTAINER_ID, new String[0]));
+        when(docker.inspectContainer(anyString())).thenReturn(containerInfo);
+        when(containerInfo.getState()).thenReturn(containerState);
+        when(containerState.isRunning()).thenReturn(true);
+
+        pool = new DockerContainerPool(docker, 2, 30);
+        config = new ContainerConfig().withImage(IMAGE)
+                                      .withEnv("JAVA_OPTS=-Xmx256m")
+                                      .withHostConfig(new HostConfig().withMemory(1024L * 1024L * 1024L));
+    }
+
+    @Test
+    public void shouldNotUseDockerWhenPoolIsDisabled() throws Exception {
+        pool = new DockerContainerPool(docker, 0, 30);
+
+        assertNull(pool.acquire(config, CONTAINER_NAME));
+        pool.refill();
+
+        verifyZeroInteractions(docker);
+    }
+
+    @Test
+    public void shouldCreateContainerForRecentlyStartedConfigurationOnRefill() throws Exception {
+        assertNull(pool.acquire(config, CONTAINER_NAME));
+
+        pool.refill();
+
+        ArgumentCaptor<CreateContainerParams> captor = ArgumentCaptor.forClass(CreateContainerParams.class);
+        verify(docker).createContainer(captor.capture());
+        assertEquals(captor.getValue().getContainerConfig().getImage(), IMAGE_ID);
+        assertTrue(captor.getValue().getContainerName().startsWith(DockerContainerPool.POOLED_CONTAINER_PREFIX));
+        assertEquals(pool.getIdle(), 1);
+        assertEquals(pool.getMisses(), 1);
+    }
+
+    @Test
+    public void shouldCreatePooledContainerWithWholeConfiguration() throws Exception {
+        config.withCmd("tail", "-f", "/dev/null")
+              .withEntrypoint(new String[] {"/bin/sh", "-c"})
+              .withWorkingDir("/projects")
+              .withUser("user")
+              .withLabels(singletonMap("label", "value"));
+        pool.acquire(config, CONTAINER_NAME);
+
+        pool.refill();
+
+        ArgumentCaptor<CreateContainerParams> captor = ArgumentCaptor.forClass(CreateContainerParams.class);
+        verify(docker).createContainer(captor.capture());
+        assertEquals(captor.getValue().getContainerConfig(), config.withImage(IMAGE_ID));
+    }
+
+    @Test
+    public void shouldNotServeContainerOfAnotherConfiguration() throws Exception {
+        pool.acquire(config, CONTAINER_NAME);
+        pool.refill();
+
+        assertNull(pool.acquire(new ContainerConfig().withImage(IMAGE)
+                                                     .withEnv("JAVA_OPTS=-Xmx256m")
+                                                     .withCmd("sleep", "infinity")
+                                                     .withHostConfig(config.getHostConfig()),
+                                CONTAINER_NAME));
+        assertEquals(pool.getIdle(), 1);
+    }
+
+    @Test
+    public void shouldRenamePooledContainerWhenItIsAcquired() throws Exception {
+        pool.acquire(config, CONTAINER_NAME);
+        pool.refill();
+
+        assertEquals(pool.acquire(config, CONTAINER_NAME), CONTAINER_ID);
+
+        verify(docker).renameContainer(RenameContainerParams.create(CONTAINER_ID, CONTAINER_NAME));
+        assertEquals(pool.getHits(), 1);
+        assertEquals(pool.getIdle(), 0);
+    }
+
+    @Test
+    public void shouldNotUsePooledContainerForOtherConfiguration() throws Exception {
+        pool.acquire(config, CONTAINER_NAME);
+        pool.refill();
+
+        ContainerConfig other = new ContainerConfig().withImage(IMAGE)
+                                                     .withEnv("JAVA_OPTS=-Xmx512m")
+                                                     .withHostConfig(new HostConfig().withMemory(1024L * 1024L * 1024L));
+
+        assertNull(pool.acquire(other, CONTAINER_NAME));
+        verify(docker, never()).renameContainer(any(RenameContainerParams.class));
+    }
+
+    @Test
+    public void shouldRemovePooledContainerWhichIsNotRunningAnymore() throws Exception {
+        pool.acquire(config, CONTAINER_NAME);
+        pool.refill();
+        when(containerState.isRunning()).thenReturn(false);
+
+        assertNull(pool.acquire(config, CONTAINER_NAME));
+
+        verify(docker).removeContainer(RemoveContainerParams.create(CONTAINER_ID).withForce(true).withRemoveVolumes(true));
+        verify(docker, never()).renameContainer(any(RenameContainerParams.class));
+    }
+
+    @Test
+    public void shouldRemovePooledContainersOnShutdown() throws Exception {
+        pool.acquire(config, CONTAINER_NAME);
+        pool.refill();
+
+        pool.shutdown();
+
+        verify(docker).removeContainer(RemoveContainerParams.create(CONTAINER_ID).withForce(true).withRemoveVolumes(true));
+        assertEquals(pool.getIdle(), 0);
+        assertEquals(pool.getRemoved(), 1);
+    }
+
+    @Test
+    public void shouldRecognizePooledContainersOfPreviousRunAsOrphans() throws Exception {
+        pool.acquire(config, CONTAINER_NAME);
+        pool.refill();
+        ArgumentCaptor<CreateContainerParams> captor = ArgumentCaptor.forClass(CreateContainerParams.class);
+        verify(docker).createContainer(captor.capture());
+
+        assertFalse(pool.isOrphan('/' + captor.getValue().getContainerName()));
+        assertFalse(pool.isOrphan('/' + CONTAINER_NAME));
+        assertTrue(pool.isOrphan('/' + DockerContainerPool.POOLED_CONTAINER_PREFIX + "previous_1"));
+    }
+}
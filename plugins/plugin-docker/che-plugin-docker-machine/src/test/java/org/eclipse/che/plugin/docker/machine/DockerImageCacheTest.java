@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.machine;
+
+import org.eclipse.che.plugin.docker.client.DockerConnector;
+import org.eclipse.che.plugin.docker.client.ProgressMonitor;
+import org.eclipse.che.plugin.docker.client.json.ImageInfo;
+import org.eclipse.che.plugin.docker.client.json.ProgressStatus;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+@Listeners(MockitoTestNGListener.class)
+public class DockerImageCacheTest {
+    private static final String IMAGE = "codenvy/ubuntu_jdk8:latest";
+
+    @Mock
+    private DockerConnector docker;
+
+    private DockerImageCache cache;
+    private AtomicInteger    loads;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        ImageInfo info = new ImageInfo();
+        info.setId("sha256:123");
+        when(docker.inspectImage(anyString())).thenReturn(info);
+        cache = new DockerImageCache(docker, 60);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    public void shouldNotLoadFreshImageAgain() throws Exception {
+        cache.load(IMAGE, IMAGE, false, ProgressMonitor.DEV_NULL, monitor -> loads.incrementAndGet());
+        cache.load(IMAGE, IMAGE, false, ProgressMonitor.DEV_NULL, monitor -> loads.incrementAndGet());
+
+        assertEquals(loads.get(), 1);
+    }
+
+    @Test
+    public void shouldLoadStaleImageAgain() throws Exception {
+        cache = new DockerImageCache(docker, 0);
+
+        cache.load(IMAGE, IMAGE, false, ProgressMonitor.DEV_NULL, monitor -> loads.incrementAndGet());
+        cache.load(IMAGE, IMAGE, false, ProgressMonitor.DEV_NULL, monitor -> loads.incrementAndGet());
+
+        assertEquals(loads.get(), 2);
+    }
+
+    @Test
+    public void shouldNotLoadPinnedImageAgainEvenIfItIsStale() throws Exception {
+        cache = new DockerImageCache(docker, 0);
+
+        cache.load(IMAGE, IMAGE, true, ProgressMonitor.DEV_NULL, monitor -> loads.incrementAndGet());
+        cache.load(IMAGE, IMAGE, true, ProgressMonitor.DEV_NULL, monitor -> loads.incrementAndGet());
+
+        assertEquals(loads.get(), 1);
+    }
+
+    @Test
+    public void shouldNotRememberFailedLoading() throws Exception {
+        try {
+            cache.load(IMAGE, IMAGE, false, ProgressMonitor.DEV_NULL, monitor -> {
+                loads.incrementAndGet();
+                throw new IOException("registry is unavailable");
+            });
+            fail("Loading error expected");
+        } catch (IOException ignored) {
+        }
+        cache.load(IMAGE, IMAGE, false, ProgressMonitor.DEV_NULL, monitor -> loads.incrementAndGet());
+
+        assertEquals(loads.get(), 2);
+    }
+
+    @Test
+    public void shouldRememberImageReplacedByReloading() throws Exception {
+        ImageInfo replaced = new ImageInfo();
+        replaced.setId("sha256:456");
+        cache = new DockerImageCache(docker, 0);
+        cache.load(IMAGE, IMAGE, false, ProgressMonitor.DEV_NULL, monitor -> loads.incrementAndGet());
+        when(docker.inspectImage(anyString())).thenReturn(replaced);
+
+        cache.load(IMAGE, IMAGE, false, ProgressMonitor.DEV_NULL, monitor -> loads.incrementAndGet());
+
+        assertEquals(cache.getOrphans(), Collections.singleton("sha256:123"));
+        cache.forgetOrphan("sha256:123");
+        assertTrue(cache.getOrphans().isEmpty());
+    }
+
+    @Test
+    public void shouldNotRemoveFreshImage() throws Exception {
+        cache.load(IMAGE, IMAGE, false, ProgressMonitor.DEV_NULL, monitor -> loads.incrementAndGet());
+        DockerImageCache.ImageRemover remover = mock(DockerImageCache.ImageRemover.class);
+
+        assertFalse(cache.removeIfUnused(IMAGE, remover));
+        verify(remover, never()).remove(anyString());
+    }
+
+    @Test
+    public void shouldRemoveStaleImageAndLoadItAgain() throws Exception {
+        cache = new DockerImageCache(docker, 0);
+        cache.load(IMAGE, IMAGE, true, ProgressMonitor.DEV_NULL, monitor -> loads.incrementAndGet());
+        cache.load(IMAGE + "-stale", IMAGE + "-stale", false, ProgressMonitor.DEV_NULL, monitor -> loads.incrementAndGet());
+        DockerImageCache.ImageRemover remover = mock(DockerImageCache.ImageRemover.class);
+
+        assertFalse(cache.removeIfUnused(IMAGE, remover));
+        assertTrue(cache.removeIfUnused(IMAGE + "-stale", remover));
+        verify(remover).remove(IMAGE + "-stale");
+
+        cache.load(IMAGE + "-stale", IMAGE + "-stale", false, ProgressMonitor.DEV_NULL, monitor -> loads.incrementAndGet());
+        assertEquals(loads.get(), 3);
+    }
+
+    @Test
+    public void shouldNotRemoveImageWhichIsBeingLoaded() throws Exception {
+        CountDownLatch loadingStarted = new CountDownLatch(1);
+        CountDownLatch removalChecked = new CountDownLatch(1);
+        DockerImageCache.ImageRemover remover = mock(DockerImageCache.ImageRemover.class);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> loading = executor.submit(() -> {
+                cache.load(IMAGE, IMAGE, false, ProgressMonitor.DEV_NULL, monitor -> {
+                    loadingStarted.countDown();
+                    try {
+                        removalChecked.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+                return null;
+            });
+            assertTrue(loadingStarted.await(10, TimeUnit.SECONDS));
+
+            assertFalse(cache.removeIfUnused(IMAGE, remover));
+            removalChecked.countDown();
+            loading.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(remover, never()).remove(anyString());
+    }
+
+    @Test
+    public void shouldShareLoadingAndItsProgressBetweenConcurrentCallers() throws Exception {
+        CountDownLatch loadingStarted = new CountDownLatch(1);
+        CountDownLatch waiterJoined = new CountDownLatch(1);
+        ProgressStatus status = new ProgressStatus();
+        ProgressMonitor waiterMonitor = mock(ProgressMonitor.class);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> first = executor.submit(() -> {
+                cache.load(IMAGE, IMAGE, false, ProgressMonitor.DEV_NULL, monitor -> {
+                    loads.incrementAndGet();
+                    loadingStarted.countDown();
+                    try {
+                        waiterJoined.await(10, TimeUnit.SECONDS);
+                        // give waiter time to register its monitor
+                        Thread.sleep(200);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    monitor.updateProgress(status);
+                });
+                return null;
+            });
+            assertTrue(loadingStarted.await(10, TimeUnit.SECONDS));
+
+            waiterJoined.countDown();
+            cache.load(IMAGE, IMAGE, false, waiterMonitor, monitor -> loads.incrementAndGet());
+            first.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(loads.get(), 1);
+        verify(waiterMonitor).updateProgress(any(ProgressStatus.class));
+    }
+}
@@ -33,9 +33,14 @@ import org.eclipse.che.plugin.docker.client.DockerConnector;
 import org.eclipse.che.plugin.docker.client.DockerConnectorConfiguration;
 import org.eclipse.che.plugin.docker.client.ProgressMonitor;
 import org.eclipse.che.plugin.docker.client.UserSpecificDockerRegistryCredentialsProvider;
+import org.eclipse.che.plugin.docker.client.dto.AuthConfig;
+import org.eclipse.che.plugin.docker.client.dto.AuthConfigs;
+import org.eclipse.che.plugin.docker.client.exception.ImageNotFoundException;
+import org.eclipse.che.plugin.docker.client.json.ContainerConfig;
 import org.eclipse.che.plugin.docker.client.json.ContainerCreated;
 import org.eclipse.che.plugin.docker.client.json.ContainerInfo;
 import org.eclipse.che.plugin.docker.client.json.ContainerState;
+import org.eclipse.che.plugin.docker.client.json.ImageInfo;
 import org.eclipse.che.plugin.docker.client.params.CreateContainerParams;
 import org.eclipse.che.plugin.docker.client.params.InspectContainerParams;
 import org.eclipse.che.plugin.docker.client.params.BuildImageParams;
@@ -65,6 +70,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import static java.util.Arrays.asList;
+import static org.eclipse.che.plugin.docker.machine.DockerInstanceProvider.CACHED_IMAGE_PREFIX;
 import static org.eclipse.che.plugin.docker.machine.DockerInstanceProvider.DOCKER_FILE_TYPE;
 import static org.eclipse.che.plugin.docker.machine.DockerInstanceProvider.DOCKER_IMAGE_TYPE;
 import static org.eclipse.che.plugin.docker.machine.DockerInstanceProvider.MACHINE_SNAPSHOT_PREFIX;
@@ -72,6 +78,7 @@ import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -93,6 +100,7 @@ public class DockerInstanceProviderTest {
     private static final int     MEMORY_LIMIT_MB        = 64;
     private static final boolean SNAPSHOT_USE_REGISTRY  = true;
     private static final int     MEMORY_SWAP_MULTIPLIER = 0;
+    private static final long    IMAGE_CACHE_TTL_SEC    = 60;
 
     @Mock
     private DockerConnector dockerConnector;
@@ -127,6 +135,9 @@ public class DockerInstanceProviderTest {
     @Mock
     private RecipeRetriever recipeRetriever;
 
+    @Mock
+    private DockerContainerPool containerPool;
+
     private DockerInstanceProvider dockerInstanceProvider;
 
     @BeforeMethod
@@ -152,7 +163,9 @@ public class DockerInstanceProviderTest {
                                                                 Collections.emptySet(),
                                                                 Collections.emptySet(),
                                                                 SNAPSHOT_USE_REGISTRY,
-                                                                MEMORY_SWAP_MULTIPLIER));
+                                                                MEMORY_SWAP_MULTIPLIER,
+                                                                new DockerImageCache(dockerConnector, IMAGE_CACHE_TTL_SEC),
+                                                                containerPool));
 
         EnvironmentContext envCont = new EnvironmentContext();
         envCont.setSubject(new SubjectImpl(USER_NAME, "userId", USER_TOKEN, false));
@@ -202,9 +215,91 @@ public class DockerInstanceProviderTest {
         verify(dockerConnector).buildImage(argumentCaptor.capture(),
                                            any(ProgressMonitor.class));
         BuildImageParams buildImageParams = argumentCaptor.getValue();
-        assertEquals(buildImageParams.getRepository(), "eclipse-che/" + generatedContainerId);
+        assertTrue(buildImageParams.getRepository().startsWith(CACHED_IMAGE_PREFIX));
         assertEquals((long)buildImageParams.getMemoryLimit(), (long)MEMORY_LIMIT_MB * 1024 * 1024);
         assertEquals((long)buildImageParams.getMemorySwapLimit(), (long)-1);
+        verify(dockerConnector).tag(eq(TagParams.create(buildImageParams.getRepository(), "eclipse-che/" + generatedContainerId)));
+    }
+
+    @Test
+    public void shouldBuildDockerfileOnceForMachinesWithTheSameRecipe() throws Exception {
+        ImageInfo builtImage = new ImageInfo();
+        builtImage.setId("sha256:built");
+        when(dockerConnector.inspectImage(anyString())).thenReturn(builtImage);
+
+        createInstanceFromRecipe();
+        createInstanceFromRecipe();
+
+        verify(dockerConnector, times(1)).buildImage(any(BuildImageParams.class), any(ProgressMonitor.class));
+        verify(dockerConnector, times(2)).tag(any(TagParams.class));
+    }
+
+    @Test
+    public void shouldUsePooledContainerForNotDevMachine() throws Exception {
+        String pooledContainerId = "pooledContainerId";
+        when(containerPool.acquire(any(ContainerConfig.class), anyString())).thenReturn(pooledContainerId);
+
+        createInstanceFromRecipe(false);
+
+        verify(dockerConnector, never()).createContainer(any(CreateContainerParams.class));
+        verify(dockerConnector, never()).startContainer(any(StartContainerParams.class));
+        verify(dockerInstanceStopDetector).startDetection(eq(pooledContainerId), anyString());
+    }
+
+    @Test
+    public void shouldNotUsePooledContainerForDevMachine() throws Exception {
+        createInstanceFromRecipe(true);
+
+        verify(containerPool, never()).acquire(any(ContainerConfig.class), anyString());
+        verify(dockerConnector).createContainer(any(CreateContainerParams.class));
+        verify(dockerConnector).startContainer(any(StartContainerParams.class));
+    }
+
+    @Test
+    public void shouldRebuildDockerfileWhenBuiltImageIsRemoved() throws Exception {
+        ImageInfo builtImage = new ImageInfo();
+        builtImage.setId("sha256:built");
+        when(dockerConnector.inspectImage(anyString())).thenReturn(builtImage)
+                                                       .thenThrow(new ImageNotFoundException("removed"));
+
+        createInstanceFromRecipe();
+        createInstanceFromRecipe();
+
+        verify(dockerConnector, times(2)).buildImage(any(BuildImageParams.class), any(ProgressMonitor.class));
+    }
+
+    @Test
+    public void shouldPullImageOnceWhileItIsFresh() throws Exception {
+        ImageInfo pulledImage = new ImageInfo();
+        pulledImage.setId("sha256:pulled");
+        when(dockerConnector.inspectImage(anyString())).thenReturn(pulledImage);
+        DockerMachineSource source = new DockerMachineSource("repo1").withTag("latest").withRegistry("registry1");
+
+        createInstanceFromSnapshot(getMachineBuilder().build(), source);
+        createInstanceFromSnapshot(getMachineBuilder().build(), source);
+
+        verify(dockerConnector, times(1)).pull(any(PullParams.class), any(ProgressMonitor.class));
+        verify(dockerConnector, times(2)).tag(any(TagParams.class));
+    }
+
+    @Test
+    public void shouldPullImageAgainWithOtherRegistryCredentials() throws Exception {
+        ImageInfo pulledImage = new ImageInfo();
+        pulledImage.setId("sha256:pulled");
+        when(dockerConnector.inspectImage(anyString())).thenReturn(pulledImage);
+        DockerMachineSource source = new DockerMachineSource("repo1").withTag("latest").withRegistry("registry1");
+        createInstanceFromSnapshot(getMachineBuilder().build(), source);
+        AuthConfig authConfig = mock(AuthConfig.class);
+        when(authConfig.getUsername()).thenReturn("user");
+        when(authConfig.getPassword()).thenReturn("password");
+        AuthConfigs authConfigs = mock(AuthConfigs.class);
+        when(authConfigs.getConfigs()).thenReturn(Collections.singletonMap("registry1", authConfig));
+        when(credentialsReader.getCredentials()).thenReturn(authConfigs);
+
+        createInstanceFromSnapshot(getMachineBuilder().build(), source);
+        createInstanceFromSnapshot(getMachineBuilder().build(), source);
+
+        verify(dockerConnector, times(2)).pull(any(PullParams.class), any(ProgressMonitor.class));
     }
 
     @Test
@@ -378,7 +473,9 @@ public class DockerInstanceProviderTest {
                                                                 Collections.emptySet(),
                                                                 Collections.emptySet(),
                                                                 SNAPSHOT_USE_REGISTRY,
-                                                                MEMORY_SWAP_MULTIPLIER));
+                                                                MEMORY_SWAP_MULTIPLIER,
+                                                                new DockerImageCache(dockerConnector, IMAGE_CACHE_TTL_SEC),
+                                                                containerPool));
 
         createInstanceFromRecipe();
 
@@ -567,7 +664,9 @@ public class DockerInstanceProviderTest {
                                                                 Collections.emptySet(),
                                                                 Collections.emptySet(),
                                                                 SNAPSHOT_USE_REGISTRY,
-                                                                swapMultiplier));
+                                                                swapMultiplier,
+                                                                new DockerImageCache(dockerConnector, IMAGE_CACHE_TTL_SEC),
+                                                                containerPool));
 
         // when
         createInstanceFromRecipe(memoryMB);
@@ -632,7 +731,9 @@ public class DockerInstanceProviderTest {
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             SNAPSHOT_USE_REGISTRY,
-                                                            MEMORY_SWAP_MULTIPLIER);
+                                                            MEMORY_SWAP_MULTIPLIER,
+                                                            new DockerImageCache(dockerConnector, IMAGE_CACHE_TTL_SEC),
+                                                            containerPool);
 
         final boolean isDev = true;
 
@@ -678,7 +779,9 @@ public class DockerInstanceProviderTest {
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             SNAPSHOT_USE_REGISTRY,
-                                                            MEMORY_SWAP_MULTIPLIER);
+                                                            MEMORY_SWAP_MULTIPLIER,
+                                                            new DockerImageCache(dockerConnector, IMAGE_CACHE_TTL_SEC),
+                                                            containerPool);
 
         final boolean isDev = false;
 
@@ -730,7 +833,9 @@ public class DockerInstanceProviderTest {
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             SNAPSHOT_USE_REGISTRY,
-                                                            MEMORY_SWAP_MULTIPLIER);
+                                                            MEMORY_SWAP_MULTIPLIER,
+                                                            new DockerImageCache(dockerConnector, IMAGE_CACHE_TTL_SEC),
+                                                            containerPool);
 
         final boolean isDev = true;
 
@@ -776,7 +881,9 @@ public class DockerInstanceProviderTest {
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             SNAPSHOT_USE_REGISTRY,
-                                                            MEMORY_SWAP_MULTIPLIER);
+                                                            MEMORY_SWAP_MULTIPLIER,
+                                                            new DockerImageCache(dockerConnector, IMAGE_CACHE_TTL_SEC),
+                                                            containerPool);
 
         final boolean isDev = false;
 
@@ -823,7 +930,9 @@ public class DockerInstanceProviderTest {
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             SNAPSHOT_USE_REGISTRY,
-                                                            MEMORY_SWAP_MULTIPLIER);
+                                                            MEMORY_SWAP_MULTIPLIER,
+                                                            new DockerImageCache(dockerConnector, IMAGE_CACHE_TTL_SEC),
+                                                            containerPool);
 
         final boolean isDev = false;
 
@@ -873,7 +982,9 @@ public class DockerInstanceProviderTest {
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             SNAPSHOT_USE_REGISTRY,
-                                                            MEMORY_SWAP_MULTIPLIER);
+                                                            MEMORY_SWAP_MULTIPLIER,
+                                                            new DockerImageCache(dockerConnector, IMAGE_CACHE_TTL_SEC),
+                                                            containerPool);
 
         final boolean isDev = false;
 
@@ -923,7 +1034,9 @@ public class DockerInstanceProviderTest {
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             SNAPSHOT_USE_REGISTRY,
-                                                            MEMORY_SWAP_MULTIPLIER);
+                                                            MEMORY_SWAP_MULTIPLIER,
+                                                            new DockerImageCache(dockerConnector, IMAGE_CACHE_TTL_SEC),
+                                                            containerPool);
 
         final boolean isDev = true;
 
@@ -973,7 +1086,9 @@ public class DockerInstanceProviderTest {
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             SNAPSHOT_USE_REGISTRY,
-                                                            MEMORY_SWAP_MULTIPLIER);
+                                                            MEMORY_SWAP_MULTIPLIER,
+                                                            new DockerImageCache(dockerConnector, IMAGE_CACHE_TTL_SEC),
+                                                            containerPool);
 
         final boolean isDev = true;
 
@@ -1018,7 +1133,9 @@ public class DockerInstanceProviderTest {
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             SNAPSHOT_USE_REGISTRY,
-                                                            MEMORY_SWAP_MULTIPLIER);
+                                                            MEMORY_SWAP_MULTIPLIER,
+                                                            new DockerImageCache(dockerConnector, IMAGE_CACHE_TTL_SEC),
+                                                            containerPool);
 
         when(workspaceFolderPathProvider.getPath(anyString())).thenReturn(expectedHostPathOfProjects);
 
@@ -1059,7 +1176,9 @@ public class DockerInstanceProviderTest {
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             SNAPSHOT_USE_REGISTRY,
-                                                            MEMORY_SWAP_MULTIPLIER);
+                                                            MEMORY_SWAP_MULTIPLIER,
+                                                            new DockerImageCache(dockerConnector, IMAGE_CACHE_TTL_SEC),
+                                                            containerPool);
 
         when(workspaceFolderPathProvider.getPath(anyString())).thenReturn(expectedHostPathOfProjects);
 
@@ -1099,7 +1218,9 @@ public class DockerInstanceProviderTest {
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             SNAPSHOT_USE_REGISTRY,
-                                                            MEMORY_SWAP_MULTIPLIER);
+                                                            MEMORY_SWAP_MULTIPLIER,
+                                                            new DockerImageCache(dockerConnector, IMAGE_CACHE_TTL_SEC),
+                                                            containerPool);
 
         when(dockerNode.getProjectsFolder()).thenReturn("/tmp/projects");
 
@@ -1139,7 +1260,9 @@ public class DockerInstanceProviderTest {
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             SNAPSHOT_USE_REGISTRY,
-                                                            MEMORY_SWAP_MULTIPLIER);
+                                                            MEMORY_SWAP_MULTIPLIER,
+                                                            new DockerImageCache(dockerConnector, IMAGE_CACHE_TTL_SEC),
+                                                            containerPool);
 
         when(dockerNode.getProjectsFolder()).thenReturn("/tmp/projects");
 
@@ -1186,7 +1309,9 @@ public class DockerInstanceProviderTest {
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             SNAPSHOT_USE_REGISTRY,
-                                                            MEMORY_SWAP_MULTIPLIER);
+                                                            MEMORY_SWAP_MULTIPLIER,
+                                                            new DockerImageCache(dockerConnector, IMAGE_CACHE_TTL_SEC),
+                                                            containerPool);
 
         when(workspaceFolderPathProvider.getPath(anyString())).thenReturn(expectedHostPathOfProjects);
         final boolean isDev = true;
@@ -1234,7 +1359,9 @@ public class DockerInstanceProviderTest {
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             SNAPSHOT_USE_REGISTRY,
-                                                            MEMORY_SWAP_MULTIPLIER);
+                                                            MEMORY_SWAP_MULTIPLIER,
+                                                            new DockerImageCache(dockerConnector, IMAGE_CACHE_TTL_SEC),
+                                                            containerPool);
 
         when(workspaceFolderPathProvider.getPath(anyString())).thenReturn(expectedHostPathOfProjects);
 
@@ -1281,7 +1408,9 @@ public class DockerInstanceProviderTest {
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             SNAPSHOT_USE_REGISTRY,
-                                                            MEMORY_SWAP_MULTIPLIER);
+                                                            MEMORY_SWAP_MULTIPLIER,
+                                                            new DockerImageCache(dockerConnector, IMAGE_CACHE_TTL_SEC),
+                                                            containerPool);
 
         when(dockerNode.getProjectsFolder()).thenReturn(expectedHostPathOfProjects);
 
@@ -1326,7 +1455,9 @@ public class DockerInstanceProviderTest {
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             SNAPSHOT_USE_REGISTRY,
-                                                            MEMORY_SWAP_MULTIPLIER);
+                                                            MEMORY_SWAP_MULTIPLIER,
+                                                            new DockerImageCache(dockerConnector, IMAGE_CACHE_TTL_SEC),
+                                                            containerPool);
 
         when(dockerNode.getProjectsFolder()).thenReturn(expectedHostPathOfProjects);
 
@@ -1371,7 +1502,9 @@ public class DockerInstanceProviderTest {
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             SNAPSHOT_USE_REGISTRY,
-                                                            MEMORY_SWAP_MULTIPLIER);
+                                                            MEMORY_SWAP_MULTIPLIER,
+                                                            new DockerImageCache(dockerConnector, IMAGE_CACHE_TTL_SEC),
+                                                            containerPool);
 
         when(dockerNode.getProjectsFolder()).thenReturn(expectedHostPathOfProjects);
         final boolean isDev = true;
@@ -1416,7 +1549,9 @@ public class DockerInstanceProviderTest {
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             SNAPSHOT_USE_REGISTRY,
-                                                            MEMORY_SWAP_MULTIPLIER);
+                                                            MEMORY_SWAP_MULTIPLIER,
+                                                            new DockerImageCache(dockerConnector, IMAGE_CACHE_TTL_SEC),
+                                                            containerPool);
 
         when(dockerNode.getProjectsFolder()).thenReturn(expectedHostPathOfProjects);
 
@@ -1461,7 +1596,9 @@ public class DockerInstanceProviderTest {
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             SNAPSHOT_USE_REGISTRY,
-                                                            MEMORY_SWAP_MULTIPLIER);
+                                                            MEMORY_SWAP_MULTIPLIER,
+                                                            new DockerImageCache(dockerConnector, IMAGE_CACHE_TTL_SEC),
+                                                            containerPool);
 
         when(dockerNode.getProjectsFolder()).thenReturn(expectedHostPathOfProjects);
         final boolean isDev = false;
@@ -1508,7 +1645,9 @@ public class DockerInstanceProviderTest {
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             SNAPSHOT_USE_REGISTRY,
-                                                            MEMORY_SWAP_MULTIPLIER);
+                                                            MEMORY_SWAP_MULTIPLIER,
+                                                            new DockerImageCache(dockerConnector, IMAGE_CACHE_TTL_SEC),
+                                                            containerPool);
 
         when(dockerNode.getProjectsFolder()).thenReturn(expectedHostPathOfProjects);
 
@@ -1624,7 +1763,9 @@ public class DockerInstanceProviderTest {
                                                             devEnv,
                                                             commonEnv,
                                                             SNAPSHOT_USE_REGISTRY,
-                                                            MEMORY_SWAP_MULTIPLIER);
+                                                            MEMORY_SWAP_MULTIPLIER,
+                                                            new DockerImageCache(dockerConnector, IMAGE_CACHE_TTL_SEC),
+                                                            containerPool);
 
         final boolean isDev = true;
 
@@ -1661,7 +1802,9 @@ public class DockerInstanceProviderTest {
                                                             devEnv,
                                                             commonEnv,
                                                             SNAPSHOT_USE_REGISTRY,
-                                                            MEMORY_SWAP_MULTIPLIER);
+                                                            MEMORY_SWAP_MULTIPLIER,
+                                                            new DockerImageCache(dockerConnector, IMAGE_CACHE_TTL_SEC),
+                                                            containerPool);
 
         final boolean isDev = false;
 
@@ -1703,7 +1846,9 @@ public class DockerInstanceProviderTest {
                                                             devEnv,
                                                             commonEnv,
                                                             SNAPSHOT_USE_REGISTRY,
-                                                            MEMORY_SWAP_MULTIPLIER);
+                                                            MEMORY_SWAP_MULTIPLIER,
+                                                            new DockerImageCache(dockerConnector, IMAGE_CACHE_TTL_SEC),
+                                                            containerPool);
 
         final boolean isDev = true;
 
@@ -1740,7 +1885,9 @@ public class DockerInstanceProviderTest {
                                                             devEnv,
                                                             commonEnv,
                                                             SNAPSHOT_USE_REGISTRY,
-                                                            MEMORY_SWAP_MULTIPLIER);
+                                                            MEMORY_SWAP_MULTIPLIER,
+                                                            new DockerImageCache(dockerConnector, IMAGE_CACHE_TTL_SEC),
+                                                            containerPool);
 
         final boolean isDev = false;
 
@@ -1779,7 +1926,9 @@ public class DockerInstanceProviderTest {
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             SNAPSHOT_USE_REGISTRY,
-                                                            MEMORY_SWAP_MULTIPLIER);
+                                                            MEMORY_SWAP_MULTIPLIER,
+                                                            new DockerImageCache(dockerConnector, IMAGE_CACHE_TTL_SEC),
+                                                            containerPool);
 
         final boolean isDev = false;
 
@@ -1829,7 +1978,9 @@ public class DockerInstanceProviderTest {
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             SNAPSHOT_USE_REGISTRY,
-                                                            MEMORY_SWAP_MULTIPLIER);
+                                                            MEMORY_SWAP_MULTIPLIER,
+                                                            new DockerImageCache(dockerConnector, IMAGE_CACHE_TTL_SEC),
+                                                            containerPool);
 
         final boolean isDev = true;
 
@@ -1879,7 +2030,9 @@ public class DockerInstanceProviderTest {
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             SNAPSHOT_USE_REGISTRY,
-                                                            MEMORY_SWAP_MULTIPLIER);
+                                                            MEMORY_SWAP_MULTIPLIER,
+                                                            new DockerImageCache(dockerConnector, IMAGE_CACHE_TTL_SEC),
+                                                            containerPool);
 
         final boolean isDev = false;
 
@@ -1929,7 +2082,9 @@ public class DockerInstanceProviderTest {
                                                             Collections.emptySet(),
                                                             Collections.emptySet(),
                                                             SNAPSHOT_USE_REGISTRY,
-                                                            MEMORY_SWAP_MULTIPLIER);
+                                                            MEMORY_SWAP_MULTIPLIER,
+                                                            new DockerImageCache(dockerConnector, IMAGE_CACHE_TTL_SEC),
+                                                            containerPool);
 
         final boolean isDev = true;
 
@@ -2053,7 +2208,9 @@ public class DockerInstanceProviderTest {
                                               Collections.emptySet(),
                                               Collections.emptySet(),
                                               snapshotUseRegistry,
-                                              MEMORY_SWAP_MULTIPLIER));
+                                              MEMORY_SWAP_MULTIPLIER,
+                                              new DockerImageCache(dockerConnector, IMAGE_CACHE_TTL_SEC),
+                                              containerPool));
     }
 
     private MachineConfigImpl.MachineConfigImplBuilder getMachineConfigBuilder() {
@@ -14,9 +14,14 @@ import org.eclipse.che.api.machine.server.MachineRegistry;
 import org.eclipse.che.api.machine.server.exception.MachineException;
 import org.eclipse.che.api.machine.server.model.impl.MachineImpl;
 import org.eclipse.che.plugin.docker.client.DockerConnector;
+import org.eclipse.che.plugin.docker.client.exception.DockerException;
 import org.eclipse.che.plugin.docker.client.json.ContainerListEntry;
+import org.eclipse.che.plugin.docker.client.json.Image;
 import org.eclipse.che.plugin.docker.client.params.RemoveContainerParams;
+import org.eclipse.che.plugin.docker.client.params.RemoveImageParams;
 import org.eclipse.che.plugin.docker.machine.DockerContainerNameGenerator;
+import org.eclipse.che.plugin.docker.machine.DockerContainerPool;
+import org.eclipse.che.plugin.docker.machine.DockerImageCache;
 import org.mockito.InjectMocks;
 import org.mockito.Matchers;
 import org.mockito.Mock;
@@ -28,10 +33,15 @@ import org.testng.annotations.Test;
 import java.io.IOException;
 import java.util.Optional;
 
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singleton;
 import static java.util.Optional.of;
 import static java.util.Arrays.asList;
 import static org.eclipse.che.plugin.docker.machine.DockerContainerNameGenerator.ContainerNameInfo;
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -69,6 +79,10 @@ public class DockerContainerCleanerTest {
     private DockerConnector              dockerConnector;
     @Mock
     private DockerContainerNameGenerator nameGenerator;
+    @Mock
+    private DockerContainerPool          containerPool;
+    @Mock
+    private DockerImageCache             imageCache;
 
     @Mock
     private MachineImpl machineImpl1;
@@ -170,4 +184,73 @@ public class DockerContainerCleanerTest {
 
         verify(dockerConnector, never()).removeContainer(Matchers.<RemoveContainerParams>anyObject());
     }
+
+    @Test
+    public void cleanerShouldKillAndRemoveOrphanPooledContainer() throws IOException {
+        when(nameGenerator.parse(containerName3)).thenReturn(Optional.empty());
+        when(containerPool.isOrphan(containerName3)).thenReturn(true);
+
+        cleaner.run();
+
+        verify(dockerConnector).killContainer(containerId3);
+        verify(dockerConnector).removeContainer(RemoveContainerParams.create(containerId3).withForce(true).withRemoveVolumes(true));
+    }
+
+    @Test
+    public void cleanerShouldRemoveTagOfCachedImageWhichIsNotUsedByCache() throws IOException {
+        Image image = new Image();
+        image.setRepoTags(new String[] {"eclipse-che/cache_123:latest", "eclipse-che/machine:latest"});
+        when(dockerConnector.listImages()).thenReturn(singletonList(image));
+        when(imageCache.removeIfUnused(eq("eclipse-che/cache_123"), any())).thenAnswer(invocation -> {
+            ((DockerImageCache.ImageRemover)invocation.getArguments()[1]).remove("eclipse-che/cache_123");
+            return true;
+        });
+
+        cleaner.run();
+
+        verify(dockerConnector).removeImage(RemoveImageParams.create("eclipse-che/cache_123:latest").withForce(false));
+        verify(imageCache, never()).removeIfUnused(eq("eclipse-che/machine"), any());
+    }
+
+    @Test
+    public void cleanerShouldNotRemoveCachedImageWhichIsUsedByCache() throws IOException {
+        Image image = new Image();
+        image.setRepoTags(new String[] {"eclipse-che/cache_123:latest"});
+        when(dockerConnector.listImages()).thenReturn(singletonList(image));
+        when(imageCache.removeIfUnused(eq("eclipse-che/cache_123"), any())).thenReturn(false);
+
+        cleaner.run();
+
+        verify(dockerConnector, never()).removeImage(any(RemoveImageParams.class));
+    }
+
+    @Test
+    public void cleanerShouldRemoveImageReplacedByRebuilding() throws IOException {
+        when(imageCache.getOrphans()).thenReturn(singleton("sha256:old"));
+
+        cleaner.run();
+
+        verify(dockerConnector).removeImage(RemoveImageParams.create("sha256:old").withForce(false));
+        verify(imageCache).forgetOrphan("sha256:old");
+    }
+
+    @Test
+    public void cleanerShouldForgetImageReplacedByRebuildingIfItIsStillUsedByMachines() throws IOException {
+        when(imageCache.getOrphans()).thenReturn(singleton("sha256:old"));
+        doThrow(new DockerException("conflict", 409)).when(dockerConnector).removeImage(any(RemoveImageParams.class));
+
+        cleaner.run();
+
+        verify(imageCache).forgetOrphan("sha256:old");
+    }
+
+    @Test
+    public void cleanerShouldRetryRemovalOfImageReplacedByRebuildingIfDockerFails() throws IOException {
+        when(imageCache.getOrphans()).thenReturn(singleton("sha256:old"));
+        doThrow(new DockerException("internal error", 500)).when(dockerConnector).removeImage(any(RemoveImageParams.class));
+
+        cleaner.run();
+
+        verify(imageCache, never()).forgetOrphan(anyString());
+    }
 }
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.jdt.core.resources;
+
+import org.eclipse.core.resources.IResourceDeltaVisitor;
+import org.eclipse.core.runtime.CoreException;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Delta of a project which groups changes of several resources of the project, so they may be
+ * applied to java model in one operation. Project itself is reported as changed, changes of the
+ * resources are its affected children in the order they must be processed.
+ */
+public class ProjectResourceDelta extends ResourceDeltaImpl {
+
+    private final IResourceDelta[] children;
+
+    public ProjectResourceDelta(File workspace, String projectPath, List<ResourceDeltaImpl> children) {
+        super(workspace, projectPath, CHANGED);
+        this.children = children.toArray(new IResourceDelta[children.size()]);
+    }
+
+    @Override
+    public void accept(IResourceDeltaVisitor visitor) throws CoreException {
+        accept(visitor, 0);
+    }
+
+    @Override
+    public void accept(IResourceDeltaVisitor visitor, boolean includePhantoms) throws CoreException {
+        accept(visitor, 0);
+    }
+
+    @Override
+    public void accept(IResourceDeltaVisitor visitor, int memberFlags) throws CoreException {
+        if (!visitor.visit(this)) {
+            return;
+        }
+        for (IResourceDelta child : children) {
+            child.accept(visitor, memberFlags);
+        }
+    }
+
+    @Override
+    public org.eclipse.core.resources.IResourceDelta[] getAffectedChildren() {
+        return children.clone();
+    }
+
+    @Override
+    public org.eclipse.core.resources.IResourceDelta[] getAffectedChildren(int kindMask) {
+        return getAffectedChildren(kindMask, 0);
+    }
+
+    @Override
+    public org.eclipse.core.resources.IResourceDelta[] getAffectedChildren(int kindMask, int memberFlags) {
+        return Arrays.stream(children)
+                     .filter(child -> (child.getKind() & kindMask) != 0)
+                     .toArray(IResourceDelta[]::new);
+    }
+}
@@ -38,6 +38,10 @@ public class ResourceChangedEvent implements IResourceChangeEvent {
 
     }
 
+    public ResourceChangedEvent(ResourceDeltaImpl resourceDelta) {
+        this.resourceDelta = resourceDelta;
+    }
+
     @Override
     public IMarkerDelta[] findMarkerDeltas(String s, boolean b) {
         return new IMarkerDelta[0];
@@ -57,6 +57,22 @@ public class ResourceDeltaImpl implements IResourceDelta {
 
     }
 
+    /**
+     * @param path
+     *         workspace relative path of the resource
+     * @param status
+     *         kind of the delta combined with its flags, e.g. {@code CHANGED | CONTENT}
+     */
+    public ResourceDeltaImpl(File workspace, String path, int status) {
+        this.workspace = workspace;
+        this.path = path;
+        this.status = status;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
     @Override
     public File getFile() {
         return new File(workspace, path);
@@ -14,30 +14,38 @@ package org.eclipse.che.jdt.javaeditor;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
+import org.eclipse.che.api.core.ConflictException;
+import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.dto.server.DtoFactory;
+import org.eclipse.che.ide.ext.java.shared.dto.Change;
 import org.eclipse.che.ide.ext.java.shared.dto.HighlightedPosition;
 import org.eclipse.che.ide.ext.java.shared.dto.Problem;
 import org.eclipse.che.ide.ext.java.shared.dto.ReconcileResult;
-import org.eclipse.core.resources.IFile;
-import org.eclipse.jdt.core.IBuffer;
-import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
-import org.eclipse.jdt.core.IProblemRequestor;
-import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaModelException;
-import org.eclipse.jdt.core.WorkingCopyOwner;
 import org.eclipse.jdt.core.compiler.IProblem;
-import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.CompilationUnit;
-import org.eclipse.jdt.internal.core.ClassFileWorkingCopy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.PreDestroy;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
+ * Reconciles compilation units opened in editors and computes their problems and semantic highlighting.
+ * <p/>
+ * Editor session remembers the last result sent to the client, so subsequent results of the session contain
+ * only changes of problems and highlighting, see {@link ReconcileState}.
+ *
  * @author Evgen Vidolob
  */
 @Singleton
@@ -45,64 +53,206 @@ public class JavaReconciler {
     private static final Logger LOG = LoggerFactory.getLogger(JavaReconciler.class);
 
 
-    private SemanticHighlightingReconciler semanticHighlighting;
+    /** How long client waits for highlighting of whole compilation unit computed in background. */
+    private static final long FILL_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(10);
+
+    private final SemanticHighlightingReconciler semanticHighlighting;
+    private final WorkingCopySessions            sessions;
+    private final ExecutorService                highlightingExecutor;
 
-    @Inject
     public JavaReconciler(SemanticHighlightingReconciler semanticHighlighting) {
+        this(semanticHighlighting, new WorkingCopySessions());
+    }
+
+    @Inject
+    public JavaReconciler(SemanticHighlightingReconciler semanticHighlighting, WorkingCopySessions sessions) {
         this.semanticHighlighting = semanticHighlighting;
+        this.sessions = sessions;
+        this.highlightingExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "JavaHighlighting");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
+    /**
+     * Reconciles compilation unit of given type with the content of its file.
+     * Working copy is created for this call only.
+     */
     public ReconcileResult reconcile(IJavaProject javaProject, String fqn) throws JavaModelException {
-        final ProblemRequestor requestor = new ProblemRequestor();
-        WorkingCopyOwner wcOwner = new WorkingCopyOwner() {
-            public IProblemRequestor getProblemRequestor(ICompilationUnit unit) {
-                return requestor;
-            }
+        WorkingCopySession session = WorkingCopySession.open(null, javaProject, fqn);
+        if (session == null) {
+            return null;
+        }
+        try {
+            return reconcile(session, javaProject, fqn);
+        } finally {
+            session.close();
+        }
+    }
 
-            @Override
-            public IBuffer createBuffer(ICompilationUnit workingCopy) {
-//                return BufferManager.createBuffer(workingCopy);
-//                ?????
-                return new org.eclipse.jdt.internal.ui.javaeditor.DocumentAdapter(workingCopy, (IFile)workingCopy.getResource());
-            }
-        };
-        List<HighlightedPosition> positions = null;
-        ICompilationUnit compilationUnit = null;
+    /**
+     * Reconciles compilation unit of given type in the editor session with given id.
+     * Session is opened on first call and its working copy is reused by subsequent calls.
+     *
+     * @see #applyChanges(String, int, List)
+     * @see #closeSession(String)
+     */
+    public ReconcileResult reconcile(IJavaProject javaProject, String fqn, String sessionId) throws JavaModelException {
+        return reconcile(javaProject, fqn, sessionId, 0, -1, 0);
+    }
+
+    /**
+     * Reconciles compilation unit of given type in the editor session with given id.
+     * <p/>
+     * If client has result with {@code baseVersion} received from the session, only changes relative to that result
+     * are returned. If visible range is given, highlighting is computed only for this range and highlighting of the
+     * rest of compilation unit is computed in background, it may be received with {@link #getHighlighting(String, int)}.
+     *
+     * @param baseVersion
+     *         version of the last result received by client or {@code 0} to receive full result
+     * @param visibleOffset
+     *         start of visible range of the editor or {@code -1} to compute highlighting for whole compilation unit
+     * @param visibleLength
+     *         length of visible range of the editor
+     */
+    public ReconcileResult reconcile(IJavaProject javaProject,
+                                     String fqn,
+                                     String sessionId,
+                                     int baseVersion,
+                                     int visibleOffset,
+                                     int visibleLength) throws JavaModelException {
+        WorkingCopySession session = sessions.getOrOpen(sessionId, javaProject, fqn);
+        if (session == null) {
+            return null;
+        }
+        final boolean partial = visibleOffset >= 0 && visibleLength > 0;
         try {
-            IType type = javaProject.findType(fqn);
-            if (type == null) {
-                return null;
+            synchronized (session) {
+                final CompilationUnit unit = session.reconcile();
+                final ReconcileState state = session.getReconcileState();
+                state.cancelFill();
+                final List<HighlightedPosition> positions =
+                        partial ? semanticHighlighting.reconcileSemanticHighlight(unit, visibleOffset, visibleLength)
+                                : semanticHighlighting.reconcileSemanticHighlight(unit);
+                final ReconcileResult result = state.update(convertProblems(session.getProblems()),
+                                                            positions,
+                                                            partial ? visibleOffset : -1,
+                                                            visibleLength,
+                                                            baseVersion);
+                result.setDocumentVersion(session.getDocumentVersion());
+                if (partial) {
+                    state.fill = highlightingExecutor.submit(() -> fillHighlighting(session, unit));
+                }
+                return result;
             }
-            if (type.isBinary()) {
-                throw new IllegalArgumentException("Can't reconcile binary type: " + fqn);
-            } else {
-                compilationUnit = type.getCompilationUnit().getWorkingCopy(wcOwner, null);
+        } catch (JavaModelException e) {
+            LOG.error("Can't reconcile class: " + fqn + " in project:" + javaProject.getPath().toOSString(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns highlighting of whole compilation unit after reconcile of visible range. Waits until highlighting
+     * is computed in background. If compilation unit was changed since then, highlighting isn't changed.
+     *
+     * @param baseVersion
+     *         version of the last result received by client, if it's not the last result of the session
+     *         all highlighted positions and problems are returned
+     * @throws NotFoundException
+     *         if session with given id doesn't exist or was expired
+     */
+    public ReconcileResult getHighlighting(String sessionId, int baseVersion) throws JavaModelException, NotFoundException {
+        WorkingCopySession session = sessions.get(sessionId);
+        if (session == null) {
+            throw new NotFoundException("Reconcile session doesn't exist or was expired: " + sessionId);
+        }
+        final Future<?> fill;
+        synchronized (session) {
+            fill = session.getReconcileState().fill;
+        }
+        if (fill != null) {
+            try {
+                fill.get(FILL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | TimeoutException | CancellationException e) {
+                LOG.debug("Highlighting of session {} isn't computed: {}", sessionId, e.getMessage());
             }
-            requestor.reset();
-            CompilationUnit unit = compilationUnit.reconcile(AST.JLS8, true, wcOwner, null);
-            positions = semanticHighlighting.reconcileSemanticHighlight(unit);
-            if (compilationUnit instanceof ClassFileWorkingCopy) {
-                //we don't wont to show any errors from ".class" files
-                requestor.reset();
+        }
+        synchronized (session) {
+            final ReconcileState state = session.getReconcileState();
+            final boolean filled = state.filledPositions != null && state.filledAst == session.getReconciledAST();
+            final List<HighlightedPosition> positions = filled ? state.filledPositions : state.getPositions();
+            final ReconcileResult result = state.update(state.getProblems(), positions, -1, 0, baseVersion);
+            result.setDocumentVersion(session.getDocumentVersion());
+            state.cancelFill();
+            return result;
+        }
+    }
+
+    /** Computes highlighting of whole compilation unit unless it was changed since given AST was built. */
+    private void fillHighlighting(WorkingCopySession session, CompilationUnit unit) {
+        synchronized (session) {
+            if (session.getReconciledAST() != unit) {
+                return;
             }
+            final ReconcileState state = session.getReconcileState();
+            state.filledPositions = semanticHighlighting.reconcileSemanticHighlight(unit);
+            state.filledAst = unit;
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        highlightingExecutor.shutdownNow();
+    }
+
+    /**
+     * Applies editor changes to the working copy of the session.
+     *
+     * @param documentVersion
+     *         version of the session document the changes are made to
+     * @throws NotFoundException
+     *         if session with given id doesn't exist or was expired
+     * @throws ConflictException
+     *         if session document has another version, e.g. it was reloaded from file or client missed
+     *         some changes, client should reopen the session
+     */
+    public void applyChanges(String sessionId, int documentVersion, List<Change> changes) throws JavaModelException,
+                                                                                                 NotFoundException,
+                                                                                                 ConflictException {
+        WorkingCopySession session = sessions.get(sessionId);
+        if (session == null) {
+            throw new NotFoundException("Reconcile session doesn't exist or was expired: " + sessionId);
+        }
+        if (!session.applyChanges(documentVersion, changes)) {
+            throw new ConflictException("Changes are made to version " + documentVersion + " of document but reconcile session " +
+                                        sessionId + " has version " + session.getDocumentVersion());
+        }
+    }
 
+    /** Closes editor session and discards its working copy. */
+    public void closeSession(String sessionId) {
+        sessions.close(sessionId);
+    }
+
+    private ReconcileResult reconcile(WorkingCopySession session, IJavaProject javaProject, String fqn) throws JavaModelException {
+        List<HighlightedPosition> positions;
+        List<IProblem> problems;
+        try {
+            synchronized (session) {
+                CompilationUnit unit = session.reconcile();
+                positions = semanticHighlighting.reconcileSemanticHighlight(unit);
+                problems = session.getProblems();
+            }
         } catch (JavaModelException e) {
             LOG.error("Can't reconcile class: " + fqn + " in project:" + javaProject.getPath().toOSString(), e);
             throw e;
-        } finally {
-            if(compilationUnit!= null && compilationUnit.isWorkingCopy()){
-                try {
-                    //todo close buffer
-                    compilationUnit.getBuffer().close();
-                    compilationUnit.discardWorkingCopy();
-                } catch (JavaModelException e) {
-                    //ignore
-                }
-            }
         }
 
         ReconcileResult result = DtoFactory.getInstance().createDto(ReconcileResult.class);
-        result.setProblems(convertProblems(requestor.problems));
+        result.setProblems(convertProblems(problems));
         result.setHighlightedPositions(positions);
         return result;
     }
@@ -130,33 +280,4 @@ public class JavaReconciler {
 
         return result;
     }
-
-    private static class ProblemRequestor implements IProblemRequestor {
-
-        private List<IProblem> problems = new ArrayList<>();
-
-        @Override
-        public void acceptProblem(IProblem problem) {
-            problems.add(problem);
-        }
-
-        @Override
-        public void beginReporting() {
-
-        }
-
-        @Override
-        public void endReporting() {
-
-        }
-
-        @Override
-        public boolean isActive() {
-            return true;
-        }
-
-        public void reset() {
-            problems.clear();
-        }
-    }
 }
@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.jdt.javaeditor;
+
+import org.eclipse.che.dto.server.DtoFactory;
+import org.eclipse.che.ide.ext.java.shared.dto.HighlightedPosition;
+import org.eclipse.che.ide.ext.java.shared.dto.Problem;
+import org.eclipse.che.ide.ext.java.shared.dto.ReconcileResult;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Future;
+
+/**
+ * Last reconcile result known by the client of an editor session.
+ * <p/>
+ * State is used to send only changes of problems and highlighting when client confirms that it has the previous
+ * result, see {@link ReconcileResult#getVersion()}. If client sends other version, e.g. it missed a response,
+ * full result is sent. State isn't thread safe, it is guarded by lock of its {@link WorkingCopySession}.
+ */
+public class ReconcileState {
+
+    private int                                      version;
+    private Map<PositionKey, HighlightedPosition>    positions = Collections.emptyMap();
+    private Map<ProblemKey, Problem>                 problems  = Collections.emptyMap();
+
+    /** Background computation of highlighting for the whole compilation unit after highlighting of visible range. */
+    Future<?>                 fill;
+    /** AST for which {@link #filledPositions} are computed. */
+    CompilationUnit           filledAst;
+    List<HighlightedPosition> filledPositions;
+
+    /**
+     * Remembers new result and returns result for the client.
+     *
+     * @param newProblems
+     *         all problems of compilation unit
+     * @param newPositions
+     *         highlighted positions of compilation unit or of its range
+     * @param rangeOffset
+     *         start of range for which positions are computed or {@code -1} if positions are computed for whole unit
+     * @param rangeLength
+     *         length of range for which positions are computed
+     * @param baseVersion
+     *         version of result which client has, delta is returned only if it is equal to version of this state
+     */
+    public ReconcileResult update(List<Problem> newProblems,
+                                  List<HighlightedPosition> newPositions,
+                                  int rangeOffset,
+                                  int rangeLength,
+                                  int baseVersion) {
+        final boolean delta = baseVersion > 0 && baseVersion == version;
+        final boolean partial = rangeOffset >= 0;
+
+        final Map<PositionKey, HighlightedPosition> positionsAfter = new LinkedHashMap<>();
+        if (partial && delta) {
+            // client keeps positions outside of range until highlighting of whole unit is computed
+            for (Map.Entry<PositionKey, HighlightedPosition> entry : positions.entrySet()) {
+                if (!entry.getKey().intersects(rangeOffset, rangeLength)) {
+                    positionsAfter.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        for (HighlightedPosition position : newPositions) {
+            positionsAfter.put(new PositionKey(position), position);
+        }
+        final Map<ProblemKey, Problem> problemsAfter = new LinkedHashMap<>();
+        for (Problem problem : newProblems) {
+            problemsAfter.put(new ProblemKey(problem), problem);
+        }
+
+        final ReconcileResult result = DtoFactory.getInstance().createDto(ReconcileResult.class);
+        result.setVersion(++version);
+        result.setDelta(delta);
+        result.setPartial(partial);
+        if (delta) {
+            result.setHighlightedPositions(difference(positionsAfter, positions));
+            result.setRemovedPositions(difference(positions, positionsAfter));
+            result.setProblems(difference(problemsAfter, problems));
+            result.setRemovedProblems(difference(problems, problemsAfter));
+        } else {
+            result.setHighlightedPositions(new ArrayList<>(positionsAfter.values()));
+            result.setProblems(new ArrayList<>(problemsAfter.values()));
+        }
+        positions = positionsAfter;
+        problems = problemsAfter;
+        return result;
+    }
+
+    /** Returns all problems known by the client. */
+    public List<Problem> getProblems() {
+        return new ArrayList<>(problems.values());
+    }
+
+    /** Returns all highlighted positions known by the client. */
+    public List<HighlightedPosition> getPositions() {
+        return new ArrayList<>(positions.values());
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    /** Cancels background highlighting which isn't needed anymore. */
+    void cancelFill() {
+        if (fill != null) {
+            fill.cancel(false);
+            fill = null;
+        }
+        filledAst = null;
+        filledPositions = null;
+    }
+
+    private static <K, V> List<V> difference(Map<K, V> from, Map<K, V> subtract) {
+        final List<V> result = new ArrayList<>();
+        for (Map.Entry<K, V> entry : from.entrySet()) {
+            if (!subtract.containsKey(entry.getKey())) {
+                result.add(entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    private static final class PositionKey {
+        final int    offset;
+        final int    length;
+        final String type;
+
+        PositionKey(HighlightedPosition position) {
+            this.offset = position.getOffset();
+            this.length = position.getLength();
+            this.type = position.getType();
+        }
+
+        boolean intersects(int rangeOffset, int rangeLength) {
+            return offset < rangeOffset + rangeLength && rangeOffset < offset + length;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof PositionKey)) {
+                return false;
+            }
+            final PositionKey other = (PositionKey)obj;
+            return offset == other.offset && length == other.length && Objects.equals(type, other.type);
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = 7;
+            hash = 31 * hash + offset;
+            hash = 31 * hash + length;
+            hash = 31 * hash + Objects.hashCode(type);
+            return hash;
+        }
+    }
+
+    private static final class ProblemKey {
+        final int     id;
+        final int     start;
+        final int     end;
+        final boolean error;
+        final String  message;
+
+        ProblemKey(Problem problem) {
+            this.id = problem.getID();
+            this.start = problem.getSourceStart();
+            this.end = problem.getSourceEnd();
+            this.error = problem.isError();
+            this.message = problem.getMessage();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ProblemKey)) {
+                return false;
+            }
+            final ProblemKey other = (ProblemKey)obj;
+            return id == other.id
+                   && start == other.start
+                   && end == other.end
+                   && error == other.error
+                   && Objects.equals(message, other.message);
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = 7;
+            hash = 31 * hash + id;
+            hash = 31 * hash + start;
+            hash = 31 * hash + end;
+            hash = 31 * hash + (error ? 1 : 0);
+            hash = 31 * hash + Objects.hashCode(message);
+            return hash;
+        }
+    }
+}
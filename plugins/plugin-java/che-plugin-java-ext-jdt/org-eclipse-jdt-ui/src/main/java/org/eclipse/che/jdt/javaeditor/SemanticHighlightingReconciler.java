@@ -59,8 +59,19 @@ public class SemanticHighlightingReconciler {
     }
 
     public List<HighlightedPosition> reconcileSemanticHighlight(CompilationUnit ast) {
+        return collectPositions(ast, new PositionCollector());
+    }
+
+    /**
+     * Computes highlighted positions which intersect with the given range only,
+     * nodes outside of the range aren't visited.
+     */
+    public List<HighlightedPosition> reconcileSemanticHighlight(CompilationUnit ast, int offset, int length) {
+        return collectPositions(ast, new PositionCollector(offset, (int)Math.min((long)offset + length, Integer.MAX_VALUE)));
+    }
+
+    private List<HighlightedPosition> collectPositions(CompilationUnit ast, PositionCollector collector) {
         fAddedPositions.set(new ArrayList<HighlightedPosition>());
-        PositionCollector collector = new PositionCollector();
         ast.accept(collector);
         return fAddedPositions.get();
     }
@@ -73,11 +84,35 @@ public class SemanticHighlightingReconciler {
         /** The semantic token */
         private SemanticToken fToken = new SemanticToken();
 
+        /** Range of the document for which positions are collected, whole unit is collected if there is no range */
+        private final boolean fRangeMode;
+        private final int     fRangeStart;
+        private final int     fRangeEnd;
+
+        PositionCollector() {
+            fRangeMode = false;
+            fRangeStart = 0;
+            fRangeEnd = 0;
+        }
+
+        PositionCollector(int rangeStart, int rangeEnd) {
+            fRangeMode = true;
+            fRangeStart = rangeStart;
+            fRangeEnd = rangeEnd;
+        }
+
+        private boolean isInRange(int offset, int length) {
+            return !fRangeMode || offset < fRangeEnd && fRangeStart < offset + length;
+        }
+
         /*
          * @see org.eclipse.jdt.internal.corext.dom.GenericVisitor#visitNode(org.eclipse.jdt.core.dom.ASTNode)
          */
         @Override
         protected boolean visitNode(ASTNode node) {
+            if (!isInRange(node.getStartPosition(), node.getLength())) {
+                return false;
+            }
             if ((node.getFlags() & ASTNode.MALFORMED) == ASTNode.MALFORMED) {
 //                retainPositions(node.getStartPosition(), node.getLength());
                 return false;
@@ -194,6 +229,9 @@ public class SemanticHighlightingReconciler {
          *         The highlighting
          */
         private void addPosition(int offset, int length, SemanticHighlighting highlighting) {
+            if (!isInRange(offset, length)) {
+                return;
+            }
             HighlightedPosition highlightedPosition = DtoFactory.getInstance().createDto(HighlightedPosition.class);
             highlightedPosition.setLength(length);
             highlightedPosition.setOffset(offset);
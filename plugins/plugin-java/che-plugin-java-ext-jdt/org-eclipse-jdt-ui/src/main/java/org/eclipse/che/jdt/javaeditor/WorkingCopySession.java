@@ -0,0 +1,306 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.jdt.javaeditor;
+
+import org.eclipse.che.ide.ext.java.shared.dto.Change;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IProblemRequestor;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.WorkingCopyOwner;
+import org.eclipse.jdt.core.compiler.IProblem;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.internal.core.ClassFileWorkingCopy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Working copy of a compilation unit opened in an editor.
+ * <p/>
+ * Session keeps working copy and its buffer between reconcile requests. Buffer is updated with text
+ * changes sent by the editor or, when file on disk was changed and the buffer has no unsaved changes,
+ * with the file content. Each update increments version of the document, so changes made by the editor
+ * to another version are rejected instead of being applied to wrong offsets. The AST built by last
+ * reconcile is kept until the buffer is changed, so it can be shared by semantic highlighting, quick
+ * assist and other consumers.
+ */
+public class WorkingCopySession {
+    private static final Logger LOG = LoggerFactory.getLogger(WorkingCopySession.class);
+
+    private final String           id;
+    private final IJavaProject     javaProject;
+    private final String           fqn;
+    private final ICompilationUnit workingCopy;
+    private final ProblemRequestor requestor;
+    private final ReconcileState   reconcileState;
+
+    private long            fileStamp;
+    private long            fileLength;
+    private int             documentVersion;
+    private boolean         dirty;
+    private CompilationUnit ast;
+    private List<IProblem>  problems;
+    private volatile long   lastAccessTime;
+
+    private WorkingCopySession(String id, IJavaProject javaProject, String fqn, ICompilationUnit workingCopy, ProblemRequestor requestor) {
+        this.id = id;
+        this.javaProject = javaProject;
+        this.fqn = fqn;
+        this.workingCopy = workingCopy;
+        this.requestor = requestor;
+        this.reconcileState = new ReconcileState();
+        this.lastAccessTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Opens session for the compilation unit of given type.
+     *
+     * @return opened session or {@code null} if type can't be found
+     * @throws IllegalArgumentException
+     *         if type is binary
+     */
+    public static WorkingCopySession open(String id, IJavaProject javaProject, String fqn) throws JavaModelException {
+        IType type = javaProject.findType(fqn);
+        if (type == null) {
+            return null;
+        }
+        if (type.isBinary()) {
+            throw new IllegalArgumentException("Can't reconcile binary type: " + fqn);
+        }
+
+        final ProblemRequestor requestor = new ProblemRequestor();
+        WorkingCopyOwner wcOwner = new WorkingCopyOwner() {
+            public IProblemRequestor getProblemRequestor(ICompilationUnit unit) {
+                return requestor;
+            }
+
+            @Override
+            public IBuffer createBuffer(ICompilationUnit workingCopy) {
+                return new org.eclipse.jdt.internal.ui.javaeditor.DocumentAdapter(workingCopy, (IFile)workingCopy.getResource());
+            }
+        };
+        WorkingCopySession session =
+                new WorkingCopySession(id, javaProject, fqn, type.getCompilationUnit().getWorkingCopy(wcOwner, null), requestor);
+        session.rememberFileStamp();
+        return session;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /** Returns {@code true} if session is opened for the given type of the given project. */
+    public boolean isFor(IJavaProject javaProject, String fqn) {
+        return this.javaProject.equals(javaProject) && this.fqn.equals(fqn);
+    }
+
+    public ICompilationUnit getWorkingCopy() {
+        return workingCopy;
+    }
+
+    /** Returns version of the document, it is incremented by each update of the buffer. */
+    public synchronized int getDocumentVersion() {
+        return documentVersion;
+    }
+
+    /**
+     * Applies editor changes to the buffer. Each change is relative to the buffer content after applying previous changes.
+     *
+     * @param documentVersion
+     *         version of the document the changes are made to
+     * @return {@code false} if changes are made to another version of the document and weren't applied
+     */
+    public synchronized boolean applyChanges(int documentVersion, List<Change> changes) throws JavaModelException {
+        touch();
+        if (documentVersion != this.documentVersion) {
+            return false;
+        }
+        if (changes.isEmpty()) {
+            return true;
+        }
+        IBuffer buffer = workingCopy.getBuffer();
+        for (Change change : changes) {
+            buffer.replace(change.getOffset(), change.getLength(), change.getText() == null ? "" : change.getText());
+        }
+        ast = null;
+        dirty = true;
+        this.documentVersion++;
+        return true;
+    }
+
+    /**
+     * Reconciles working copy with its buffer.
+     *
+     * @return AST of the working copy
+     */
+    public synchronized CompilationUnit reconcile() throws JavaModelException {
+        touch();
+        syncWithFile();
+        requestor.reset();
+        ast = workingCopy.reconcile(AST.JLS8, true, workingCopy.getOwner(), null);
+        if (workingCopy instanceof ClassFileWorkingCopy) {
+            //we don't wont to show any errors from ".class" files
+            requestor.reset();
+        }
+        problems = new ArrayList<>(requestor.problems);
+        return ast;
+    }
+
+    /** Returns problems found by last reconcile. */
+    public synchronized List<IProblem> getProblems() {
+        return problems == null ? new ArrayList<>() : new ArrayList<>(problems);
+    }
+
+    /**
+     * Returns AST built by last reconcile if buffer wasn't changed since then and has given content.
+     *
+     * @return AST or {@code null} if there is no up to date AST
+     */
+    public synchronized CompilationUnit getAST(String expectedContent) throws JavaModelException {
+        touch();
+        if (ast == null || !workingCopy.getBuffer().getContents().equals(expectedContent)) {
+            return null;
+        }
+        return ast;
+    }
+
+    /** Returns AST built by last reconcile or {@code null} if buffer was changed since then. */
+    synchronized CompilationUnit getReconciledAST() {
+        return ast;
+    }
+
+    /** Returns last reconcile result known by the client, must be used under lock of this session. */
+    ReconcileState getReconcileState() {
+        return reconcileState;
+    }
+
+    long getLastAccessTime() {
+        return lastAccessTime;
+    }
+
+    void touch() {
+        lastAccessTime = System.currentTimeMillis();
+    }
+
+    /** Discards working copy. */
+    public synchronized void close() {
+        reconcileState.cancelFill();
+        ast = null;
+        problems = null;
+        try {
+            workingCopy.getBuffer().close();
+            workingCopy.discardWorkingCopy();
+        } catch (JavaModelException e) {
+            LOG.debug(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reloads buffer from the file if file was modified on disk since last check, e.g. was changed by an
+     * external tool. Buffer which has changes of the editor isn't reloaded, the editor keeps its content
+     * until it's saved. When the file has the same content as the buffer, e.g. it was saved by the editor,
+     * the buffer has no unsaved changes anymore.
+     */
+    private void syncWithFile() throws JavaModelException {
+        File file = getFile();
+        if (file == null || (file.lastModified() == fileStamp && file.length() == fileLength)) {
+            return;
+        }
+        try {
+            String content = new String(Files.readAllBytes(file.toPath()), getCharset());
+            IBuffer buffer = workingCopy.getBuffer();
+            if (content.equals(buffer.getContents())) {
+                dirty = false;
+            } else if (dirty) {
+                LOG.debug("File {} was changed while editor session {} has unsaved changes, keep content of editor", file, id);
+            } else {
+                buffer.setContents(content);
+                ast = null;
+                documentVersion++;
+            }
+        } catch (IOException e) {
+            LOG.error("Can't read file " + file, e);
+        }
+        rememberFileStamp();
+    }
+
+    private Charset getCharset() {
+        IResource resource = workingCopy.getResource();
+        if (resource instanceof IFile) {
+            try {
+                return Charset.forName(((IFile)resource).getCharset());
+            } catch (CoreException | IllegalArgumentException e) {
+                LOG.debug(e.getMessage(), e);
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    private void rememberFileStamp() {
+        File file = getFile();
+        if (file != null) {
+            fileStamp = file.lastModified();
+            fileLength = file.length();
+        }
+    }
+
+    private File getFile() {
+        if (workingCopy.getResource() == null) {
+            return null;
+        }
+        IPath location = workingCopy.getResource().getLocation();
+        return location == null ? null : location.toFile();
+    }
+
+    private static class ProblemRequestor implements IProblemRequestor {
+
+        private List<IProblem> problems = new ArrayList<>();
+
+        @Override
+        public void acceptProblem(IProblem problem) {
+            problems.add(problem);
+        }
+
+        @Override
+        public void beginReporting() {
+
+        }
+
+        @Override
+        public void endReporting() {
+
+        }
+
+        @Override
+        public boolean isActive() {
+            return true;
+        }
+
+        public void reset() {
+            problems.clear();
+        }
+    }
+}
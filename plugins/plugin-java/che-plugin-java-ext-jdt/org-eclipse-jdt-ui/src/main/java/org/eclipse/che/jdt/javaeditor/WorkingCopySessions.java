@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.jdt.javaeditor;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import org.eclipse.che.commons.schedule.ScheduleRate;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaModelException;
+
+import javax.annotation.PreDestroy;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registry of {@link WorkingCopySession}s. Session id is chosen by client and must be unique per opened editor.
+ * Sessions are closed explicitly when editor is closed or after 15 minutes of inactivity,
+ * idle sessions are looked for every minute.
+ */
+@Singleton
+public class WorkingCopySessions {
+    private static final long IDLE_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(15);
+
+    private final ConcurrentMap<String, WorkingCopySession> sessions = new ConcurrentHashMap<>();
+    private final long                                      idleTimeoutMs;
+
+    @Inject
+    public WorkingCopySessions() {
+        this(IDLE_TIMEOUT_MS);
+    }
+
+    /**
+     * @param idleTimeoutMs
+     *         time of inactivity after which session is closed
+     */
+    public WorkingCopySessions(long idleTimeoutMs) {
+        this.idleTimeoutMs = idleTimeoutMs;
+    }
+
+    /**
+     * Returns session with given id, opens new one if there is no such session or
+     * existing session was opened for another file.
+     *
+     * @return session or {@code null} if type can't be found
+     */
+    public WorkingCopySession getOrOpen(String sessionId, IJavaProject javaProject, String fqn) throws JavaModelException {
+        WorkingCopySession session = sessions.get(sessionId);
+        if (session != null && !session.isFor(javaProject, fqn)) {
+            close(sessionId);
+            session = null;
+        }
+        if (session == null) {
+            WorkingCopySession opened = WorkingCopySession.open(sessionId, javaProject, fqn);
+            if (opened == null) {
+                return null;
+            }
+            session = sessions.putIfAbsent(sessionId, opened);
+            if (session == null) {
+                session = opened;
+            } else {
+                opened.close();
+            }
+        }
+        session.touch();
+        return session;
+    }
+
+    /**
+     * Returns session with given id or {@code null} if there is no such session.
+     */
+    public WorkingCopySession get(String sessionId) {
+        if (sessionId == null) {
+            return null;
+        }
+        WorkingCopySession session = sessions.get(sessionId);
+        if (session != null) {
+            session.touch();
+        }
+        return session;
+    }
+
+    /** Closes session with given id if it exists. */
+    public void close(String sessionId) {
+        WorkingCopySession session = sessions.remove(sessionId);
+        if (session != null) {
+            session.close();
+        }
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        sessions.keySet().forEach(this::close);
+    }
+
+    /** Closes sessions which weren't accessed longer than idle timeout. */
+    @ScheduleRate(initialDelay = 1, period = 1, unit = TimeUnit.MINUTES)
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+        for (Iterator<WorkingCopySession> it = sessions.values().iterator(); it.hasNext(); ) {
+            WorkingCopySession session = it.next();
+            if (now - session.getLastAccessTime() > idleTimeoutMs) {
+                it.remove();
+                session.close();
+            }
+        }
+    }
+}
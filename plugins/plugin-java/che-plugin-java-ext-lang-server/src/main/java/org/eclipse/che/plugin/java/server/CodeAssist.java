@@ -15,6 +15,7 @@ import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.RemovalListener;
 import com.google.common.cache.RemovalNotification;
+import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
 import org.eclipse.che.dto.server.DtoFactory;
@@ -30,6 +31,8 @@ import org.eclipse.che.jdt.JavadocFinder;
 import org.eclipse.che.jdt.javadoc.HTMLPrinter;
 import org.eclipse.che.jdt.javaeditor.HasLinkedModel;
 import org.eclipse.che.jdt.javaeditor.TextViewer;
+import org.eclipse.che.jdt.javaeditor.WorkingCopySession;
+import org.eclipse.che.jdt.javaeditor.WorkingCopySessions;
 import org.eclipse.che.jdt.ui.CheActionAcces;
 import org.eclipse.che.jface.text.contentassist.ICompletionProposal;
 import org.eclipse.che.jface.text.contentassist.ICompletionProposalExtension;
@@ -89,8 +92,15 @@ import java.util.concurrent.TimeUnit;
 public class CodeAssist {
     private static final Logger LOG = LoggerFactory.getLogger(CodeAssist.class);
     private final Cache<String, CodeAssistContext> cache;
+    private final WorkingCopySessions              sessions;
 
     public CodeAssist() {
+        this(new WorkingCopySessions());
+    }
+
+    @Inject
+    public CodeAssist(WorkingCopySessions sessions) {
+        this.sessions = sessions;
         //todo configure expire time
         cache = CacheBuilder.newBuilder().expireAfterWrite(15, TimeUnit.MINUTES).removalListener(
                 new RemovalListener<String, CodeAssistContext>() {
@@ -186,8 +196,17 @@ public class CodeAssist {
         }
     }
 
-    @SuppressWarnings("unchecked")
     public Proposals computeAssistProposals(IJavaProject project, String fqn, int offset, List<Problem> problems) throws CoreException {
+        return computeAssistProposals(project, fqn, offset, problems, null);
+    }
+
+    /**
+     * Computes quick assist proposals. If editor session with given id has up to date AST
+     * of the compilation unit, that AST is used instead of building a new one.
+     */
+    @SuppressWarnings("unchecked")
+    public Proposals computeAssistProposals(IJavaProject project, String fqn, int offset, List<Problem> problems, String sessionId)
+            throws CoreException {
         ICompilationUnit compilationUnit;
 
         IType type = project.findType(fqn);
@@ -209,6 +228,13 @@ public class CodeAssist {
         IDocument document = textFileBuffer.getDocument();
         TextViewer viewer = new TextViewer(document, new Point(offset, 0));
         AssistContext context = new AssistContext(compilationUnit, offset, 0);
+        WorkingCopySession session = sessions.get(sessionId);
+        if (session != null && session.isFor(project, fqn)) {
+            org.eclipse.jdt.core.dom.CompilationUnit ast = session.getAST(document.get());
+            if (ast != null) {
+                context.setASTRoot(ast);
+            }
+        }
         ArrayList proposals = new ArrayList<>();
         JavaCorrectionProcessor.collectProposals(context, problems, true, true, proposals);
         return convertProposals(offset, compilationUnit, viewer, proposals);
@@ -0,0 +1,262 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.java.server;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.eclipse.che.api.project.server.ProjectCreatedEvent;
+import org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent;
+import org.eclipse.che.jdt.core.resources.ProjectResourceDelta;
+import org.eclipse.che.jdt.core.resources.ResourceChangedEvent;
+import org.eclipse.che.jdt.core.resources.ResourceDeltaImpl;
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.ITextFileBuffer;
+import org.eclipse.core.filebuffers.ITextFileBufferManager;
+import org.eclipse.core.filebuffers.LocationKind;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.internal.core.JavaModelManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+
+/**
+ * Collects resource changes over a short window and applies them to java model in batches.
+ * <p/>
+ * Changes of the same resource within a batch are merged, e.g. created and then deleted file
+ * is not reported at all, earlier changes of resources inside removed folder are dropped and
+ * folder which is removed and created again is reported as removed and then added, so its old
+ * content is discarded. Remaining changes are grouped into a single {@link ProjectResourceDelta}
+ * per project, so java model, indexes and type hierarchies are updated once per project instead
+ * of once per change.
+ * <p/>
+ * Unless window is {@code 0} java model is updated asynchronously: {@link #add} returns before
+ * the change is applied and java model may reflect it only after the window passes. Code that
+ * needs java model to be consistent with the file system right after changing files must call
+ * {@link #flush()}, which applies collected changes in the caller thread.
+ */
+public class JavaModelDeltaBatcher {
+    private static final Logger LOG = LoggerFactory.getLogger(JavaModelDeltaBatcher.class);
+
+    /** Merged kind of folder which was removed and then created again, it is reported as two deltas. */
+    static final int REPLACED = IResourceDelta.REMOVED | IResourceDelta.ADDED;
+
+    private final File                     workspace;
+    private final long                     windowMs;
+    private final ScheduledExecutorService executor;
+    private final Object                   applyLock = new Object();
+
+    private List<Change> pending = new ArrayList<>();
+
+    /**
+     * @param windowMs
+     *         how long to collect changes before applying them, if {@code 0} each change is applied immediately
+     */
+    public JavaModelDeltaBatcher(File workspace, long windowMs) {
+        this.workspace = workspace;
+        this.windowMs = windowMs;
+        this.executor = newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat("JavaModelDeltaBatcher-%d")
+                                                                                   .setDaemon(true)
+                                                                                   .build());
+    }
+
+    public void add(ProjectItemModifiedEvent event) {
+        final int kind;
+        switch (event.getType()) {
+            case CREATED:
+                kind = IResourceDelta.ADDED;
+                break;
+            case DELETED:
+                kind = IResourceDelta.REMOVED;
+                break;
+            case UPDATED:
+                kind = IResourceDelta.CHANGED;
+                break;
+            default:
+                return;
+        }
+        add(new Change(event.getProject(), event.getPath(), event.isFolder(), kind));
+    }
+
+    public void add(ProjectCreatedEvent event) {
+        add(new Change(event.getProjectPath(), event.getProjectPath(), true, IResourceDelta.ADDED));
+    }
+
+    /** Applies all collected changes in the caller thread. */
+    public void flush() {
+        synchronized (applyLock) {
+            final List<Change> changes;
+            synchronized (this) {
+                changes = pending;
+                pending = new ArrayList<>();
+            }
+            if (changes.isEmpty()) {
+                return;
+            }
+            final long start = System.currentTimeMillis();
+            final Map<String, Map<String, Integer>> merged = merge(changes);
+            int deltas = 0;
+            for (Map.Entry<String, Map<String, Integer>> project : merged.entrySet()) {
+                deltas += project.getValue().size();
+                apply(project.getKey(), project.getValue());
+            }
+            LOG.debug("Applied batch of {} resource changes as {} deltas in {} projects, took {} ms",
+                      changes.size(), deltas, merged.size(), System.currentTimeMillis() - start);
+        }
+    }
+
+    /** Applies collected changes and stops batching. */
+    public void shutdown() {
+        executor.shutdownNow();
+        flush();
+    }
+
+    private void add(Change change) {
+        if (windowMs <= 0) {
+            synchronized (this) {
+                pending.add(change);
+            }
+            flush();
+            return;
+        }
+        synchronized (this) {
+            pending.add(change);
+            if (pending.size() > 1) {
+                return;
+            }
+        }
+        try {
+            executor.schedule(this::flushSafely, windowMs, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            // executor is stopped
+            flush();
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            LOG.error(e.getMessage(), e);
+        }
+    }
+
+    private void apply(String projectPath, Map<String, Integer> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        final List<ResourceDeltaImpl> children = new ArrayList<>(changes.size());
+        for (Map.Entry<String, Integer> change : changes.entrySet()) {
+            final int kind = change.getValue();
+            if (kind == REPLACED) {
+                children.add(new ResourceDeltaImpl(workspace, change.getKey(), IResourceDelta.REMOVED));
+                children.add(new ResourceDeltaImpl(workspace, change.getKey(), IResourceDelta.ADDED));
+            } else {
+                children.add(new ResourceDeltaImpl(workspace,
+                                                   change.getKey(),
+                                                   kind == IResourceDelta.CHANGED ? kind | IResourceDelta.CONTENT : kind));
+            }
+        }
+        try {
+            JavaModelManager.getJavaModelManager().deltaState.resourceChanged(
+                    new ResourceChangedEvent(new ProjectResourceDelta(workspace, projectPath, children)));
+        } catch (Throwable t) {
+            //catch all exceptions that may be happened
+            LOG.error("Can't update java model in " + projectPath, t);
+        }
+
+        final ITextFileBufferManager manager = FileBuffers.getTextFileBufferManager();
+        for (Map.Entry<String, Integer> change : changes.entrySet()) {
+            if (change.getValue() != IResourceDelta.CHANGED) {
+                continue;
+            }
+            final ITextFileBuffer fileBuffer = manager.getTextFileBuffer(new Path(change.getKey()), LocationKind.IFILE);
+            if (fileBuffer != null) {
+                try {
+                    fileBuffer.revert(new NullProgressMonitor());
+                } catch (CoreException e) {
+                    LOG.error("Can't read file content: " + change.getKey(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Merges changes of the same resources.
+     * <p/>
+     * When resource is removed, changes of resources inside of it received so far are dropped,
+     * changes received after it is created again are kept.
+     *
+     * @return project path to the ordered map of resource path and its resulting delta kind,
+     * {@link #REPLACED} means that folder is removed and then added
+     */
+    static Map<String, Map<String, Integer>> merge(List<Change> changes) {
+        final Map<String, Map<String, Integer>> projects = new LinkedHashMap<>();
+        for (Change change : changes) {
+            final Map<String, Integer> resources = projects.computeIfAbsent(change.project, project -> new LinkedHashMap<>());
+            if (change.kind == IResourceDelta.REMOVED) {
+                final String prefix = change.path + '/';
+                resources.keySet().removeIf(path -> path.startsWith(prefix));
+            }
+            final Integer previous = resources.get(change.path);
+            final int kind = previous == null ? change.kind : merge(previous, change);
+            if (kind == 0) {
+                resources.remove(change.path);
+            } else {
+                resources.put(change.path, kind);
+            }
+        }
+        return projects;
+    }
+
+    /** Returns kind of the resulting delta of two consecutive changes, {@code 0} means that there is no change at all. */
+    private static int merge(int previous, Change next) {
+        switch (previous) {
+            case IResourceDelta.ADDED:
+                return next.kind == IResourceDelta.REMOVED ? 0 : IResourceDelta.ADDED;
+            case IResourceDelta.REMOVED:
+                if (next.kind == IResourceDelta.REMOVED) {
+                    return IResourceDelta.REMOVED;
+                }
+                // old content of folder must be discarded, new content is read when folder is added
+                return next.folder ? REPLACED : IResourceDelta.CHANGED;
+            case REPLACED:
+                return next.kind == IResourceDelta.REMOVED ? IResourceDelta.REMOVED : REPLACED;
+            default:
+                return next.kind == IResourceDelta.REMOVED ? IResourceDelta.REMOVED : IResourceDelta.CHANGED;
+        }
+    }
+
+    static class Change {
+        final String  project;
+        final String  path;
+        final boolean folder;
+        final int     kind;
+
+        Change(String project, String path, boolean folder, int kind) {
+            this.project = project;
+            this.path = path;
+            this.folder = folder;
+            this.kind = kind;
+        }
+    }
+}
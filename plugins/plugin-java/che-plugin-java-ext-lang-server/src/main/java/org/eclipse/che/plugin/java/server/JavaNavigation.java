@@ -65,6 +65,7 @@ import org.eclipse.jdt.internal.corext.util.SuperTypeHierarchyCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
@@ -131,11 +132,16 @@ public class JavaNavigation {
     };
     private              Gson                 gson          = new GsonBuilder().disableHtmlEscaping().serializeNulls().create();
     private              boolean              fFoldPackages = true;
-    private SourcesFromBytecodeGenerator sourcesGenerator;
+    private LibraryContentCache libraryCache;
 
     @Inject
+    public JavaNavigation(LibraryContentCache libraryCache) {
+        this.libraryCache = libraryCache;
+    }
+
+    /** Creates navigation which caches content of libraries only in memory. */
     public JavaNavigation(SourcesFromBytecodeGenerator sourcesGenerator) {
-        this.sourcesGenerator = sourcesGenerator;
+        this(new LibraryContentCache((File)null, sourcesGenerator));
     }
 
     /**
@@ -245,9 +251,8 @@ public class JavaNavigation {
             return NO_ENTRIES;
         }
 
-        Object[] rootContent = getPackageFragmentRootContent(packageFragmentRoot);
-
-        return convertToJarEntry(rootContent, packageFragmentRoot);
+        return libraryCache.getEntries(packageFragmentRoot, "",
+                                       () -> convertToJarEntry(getPackageFragmentRootContent(packageFragmentRoot), packageFragmentRoot));
     }
 
     /**
@@ -650,26 +655,27 @@ public class JavaNavigation {
 
         if (path.startsWith("/")) {
             // jar file and folders
-            Object[] resources = root.getNonJavaResources();
-            for (Object resource : resources) {
-                if (resource instanceof JarEntryDirectory) {
-                    JarEntryDirectory directory = (JarEntryDirectory)resource;
-                    Object[] children = findJarDirectoryChildren(directory, path);
-                    if (children != null) {
-                        return convertToJarEntry(children, root);
+            return libraryCache.getEntries(root, path, () -> {
+                Object[] resources = root.getNonJavaResources();
+                for (Object resource : resources) {
+                    if (resource instanceof JarEntryDirectory) {
+                        JarEntryDirectory directory = (JarEntryDirectory)resource;
+                        Object[] children = findJarDirectoryChildren(directory, path);
+                        if (children != null) {
+                            return convertToJarEntry(children, root);
+                        }
                     }
                 }
-            }
-
+                return NO_ENTRIES;
+            });
         } else {
             // packages and class files
             IPackageFragment fragment = root.getPackageFragment(path);
             if (fragment == null) {
                 return NO_ENTRIES;
             }
-            return convertToJarEntry(getPackageContent(fragment), root);
+            return libraryCache.getEntries(root, path, () -> convertToJarEntry(getPackageContent(fragment), root));
         }
-        return NO_ENTRIES;
     }
 
     public ClassContent getContent(IJavaProject project, int rootId, String path) throws CoreException {
@@ -732,7 +738,7 @@ public class JavaNavigation {
                     return createContent(classFile.getSource(), false);
                 } else {
 
-                    return createContent(sourcesGenerator.generateSource(classFile.getType()), true);
+                    return createContent(libraryCache.getSource(classFile.getType()), true);
                 }
             } else {
                 return createContent(type.getCompilationUnit().getSource(), false);
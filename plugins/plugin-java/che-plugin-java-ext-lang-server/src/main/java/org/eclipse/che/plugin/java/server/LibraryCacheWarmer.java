@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.java.server;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PreDestroy;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Builds cached listings of jars in background when classpath of a java project is resolved,
+ * so "External Libraries" are shown from {@link LibraryContentCache} at the first expansion.
+ */
+@Singleton
+public class LibraryCacheWarmer implements IElementChangedListener {
+    private static final Logger LOG = LoggerFactory.getLogger(LibraryCacheWarmer.class);
+
+    private static final int CLASSPATH_CHANGED = IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED;
+
+    private final JavaNavigation      navigation;
+    private final LibraryContentCache cache;
+    private final ExecutorService     executor;
+    private final Set<String>         queued;
+
+    @Inject
+    public LibraryCacheWarmer(JavaNavigation navigation, LibraryContentCache cache) {
+        this.navigation = navigation;
+        this.cache = cache;
+        this.queued = ConcurrentHashMap.newKeySet();
+        this.executor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("LibraryCacheWarmer-%d")
+                                                                                    .setPriority(Thread.MIN_PRIORITY)
+                                                                                    .setDaemon(true)
+                                                                                    .build());
+        JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE);
+    }
+
+    @Override
+    public void elementChanged(ElementChangedEvent event) {
+        for (IJavaElementDelta delta : event.getDelta().getAffectedChildren()) {
+            final IJavaElement element = delta.getElement();
+            if (element instanceof IJavaProject
+                && (delta.getKind() == IJavaElementDelta.ADDED || (delta.getFlags() & CLASSPATH_CHANGED) != 0)) {
+                warmUp((IJavaProject)element);
+            }
+        }
+    }
+
+    /** Schedules building of listings for all jars of the project which aren't cached yet. */
+    public void warmUp(IJavaProject project) {
+        final String name = project.getElementName();
+        if (queued.add(name)) {
+            executor.execute(() -> {
+                queued.remove(name);
+                try {
+                    for (IPackageFragmentRoot root : project.getAllPackageFragmentRoots()) {
+                        if (Thread.currentThread().isInterrupted()) {
+                            return;
+                        }
+                        if (root.isArchive() && !cache.hasEntries(root, "")) {
+                            warmUp(project, root);
+                        }
+                    }
+                } catch (JavaModelException e) {
+                    LOG.debug("Unable to build library listings of project {}: {}", name, e.getMessage());
+                }
+            });
+        }
+    }
+
+    private void warmUp(IJavaProject project, IPackageFragmentRoot root) throws JavaModelException {
+        final int rootId = root.hashCode();
+        for (IJavaElement child : root.getChildren()) {
+            if (child instanceof IPackageFragment) {
+                navigation.getChildren(project, rootId, child.getElementName());
+            }
+        }
+        // root listing is the last one, so it marks whole jar as cached
+        navigation.getPackageFragmentRootContent(project, rootId);
+    }
+
+    @PreDestroy
+    public void stop() {
+        JavaCore.removeElementChangedListener(this);
+        executor.shutdownNow();
+    }
+}
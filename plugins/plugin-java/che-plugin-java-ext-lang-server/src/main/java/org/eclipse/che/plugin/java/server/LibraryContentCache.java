@@ -0,0 +1,262 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.java.server;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.common.io.Files;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+
+import org.eclipse.che.dto.server.DtoFactory;
+import org.eclipse.che.ide.ext.java.shared.JarEntry;
+import org.eclipse.che.ide.ext.java.shared.JarEntry.JarEntryType;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Cache of content of libraries which is expensive to build: source stubs generated from class files and listings
+ * of jar entries shown in "External Libraries".
+ * <p/>
+ * Content is kept in memory and on disk in {@code che.jdt.library.cache.dir}, in a folder per jar. Name of the folder
+ * is built from path of the jar and checksum of its content, so content survives restarts of the agent, is shared by
+ * all projects which use the same jar and is never served for a jar which was changed. Content of classes which are
+ * not in a jar, e.g. in class folders, is not cached.
+ */
+@Singleton
+public class LibraryContentCache {
+    private static final Logger LOG = LoggerFactory.getLogger(LibraryContentCache.class);
+
+    /** Loads content when it isn't cached yet. */
+    public interface Loader<T> {
+        T load() throws JavaModelException;
+    }
+
+    private static final String SOURCES_DIR = "sources";
+    private static final String LISTING_DIR = "listing";
+    private static final char   SEPARATOR   = '\t';
+
+    private final File                                 cacheDir;
+    private final SourcesFromBytecodeGenerator         sourcesGenerator;
+    private final ConcurrentMap<String, JarKey>        jarKeys;
+    private final Cache<String, String>                sources;
+    private final Cache<String, List<JarEntry>>        listings;
+
+    @Inject
+    public LibraryContentCache(@Named("che.jdt.library.cache.dir") String cacheDir, SourcesFromBytecodeGenerator sourcesGenerator) {
+        this(new File(cacheDir), sourcesGenerator);
+    }
+
+    /**
+     * Creates cache which stores content in given folder. If folder is {@code null} content is cached only in memory.
+     */
+    public LibraryContentCache(File cacheDir, SourcesFromBytecodeGenerator sourcesGenerator) {
+        this.cacheDir = cacheDir;
+        this.sourcesGenerator = sourcesGenerator;
+        this.jarKeys = new ConcurrentHashMap<>();
+        this.sources = CacheBuilder.newBuilder().maximumSize(200).build();
+        this.listings = CacheBuilder.newBuilder().maximumSize(2_000).build();
+    }
+
+    /**
+     * Returns source stub of the binary type. Stub is generated by {@link SourcesFromBytecodeGenerator} only if it
+     * isn't cached for the jar of the type.
+     */
+    public String getSource(IType type) throws JavaModelException {
+        final String jarKey = getJarKey((IPackageFragmentRoot)type.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT));
+        if (jarKey == null) {
+            return sourcesGenerator.generateSource(type);
+        }
+        final String key = jarKey + '/' + SOURCES_DIR + '/' + type.getFullyQualifiedName() + ".java";
+        String source = sources.getIfPresent(key);
+        if (source == null) {
+            source = read(key);
+            if (source == null) {
+                source = sourcesGenerator.generateSource(type);
+                write(key, source);
+            }
+            sources.put(key, source);
+        }
+        return source;
+    }
+
+    /**
+     * Returns entries of the jar placed by given path, e.g. packages of the jar for empty path, classes of a package or
+     * files of a folder. Entries are loaded with given {@code loader} only if they aren't cached for the jar.
+     */
+    public List<JarEntry> getEntries(IPackageFragmentRoot root, String path, Loader<List<JarEntry>> loader) throws JavaModelException {
+        final String jarKey = getJarKey(root);
+        if (jarKey == null) {
+            return loader.load();
+        }
+        final String key = jarKey + '/' + LISTING_DIR + '/' + Hashing.sha1().hashString(path, UTF_8);
+        List<JarEntry> entries = listings.getIfPresent(key);
+        if (entries == null) {
+            final String content = read(key);
+            if (content != null) {
+                entries = parseEntries(content);
+            } else {
+                entries = loader.load();
+                write(key, formatEntries(entries));
+            }
+            listings.put(key, entries);
+        }
+        return entries;
+    }
+
+    /** Returns {@code true} if entries of the jar placed by given path are cached. */
+    public boolean hasEntries(IPackageFragmentRoot root, String path) {
+        final String jarKey = getJarKey(root);
+        if (jarKey == null) {
+            return false;
+        }
+        final String key = jarKey + '/' + LISTING_DIR + '/' + Hashing.sha1().hashString(path, UTF_8);
+        return listings.getIfPresent(key) != null || (cacheDir != null && new File(cacheDir, key).isFile());
+    }
+
+    /**
+     * Returns name of folder where content of the jar is cached or {@code null} if root isn't a jar. Checksum of the
+     * jar is computed once and is recomputed only when size or modification time of the jar is changed.
+     */
+    String getJarKey(IPackageFragmentRoot root) {
+        if (root == null || !root.isArchive()) {
+            return null;
+        }
+        final File jar = getJarFile(root);
+        if (jar == null || !jar.isFile()) {
+            return null;
+        }
+        final String path = jar.getAbsolutePath();
+        final long length = jar.length();
+        final long lastModified = jar.lastModified();
+        JarKey jarKey = jarKeys.get(path);
+        if (jarKey == null || jarKey.length != length || jarKey.lastModified != lastModified) {
+            try {
+                final String checksum = Files.hash(jar, Hashing.sha1()).toString();
+                jarKey = new JarKey(Hashing.sha1().hashString(path, UTF_8) + "-" + checksum, length, lastModified);
+                jarKeys.put(path, jarKey);
+            } catch (IOException e) {
+                LOG.warn("Unable to compute checksum of {}: {}", path, e.getMessage());
+                return null;
+            }
+        }
+        return jarKey.key;
+    }
+
+    private static File getJarFile(IPackageFragmentRoot root) {
+        if (root.isExternal()) {
+            return root.getPath().toFile();
+        }
+        final IResource resource = root.getResource();
+        if (resource == null) {
+            return null;
+        }
+        final IPath location = resource.getLocation();
+        return location == null ? null : location.toFile();
+    }
+
+    private String read(String key) {
+        if (cacheDir == null) {
+            return null;
+        }
+        final File file = new File(cacheDir, key);
+        if (!file.isFile()) {
+            return null;
+        }
+        try {
+            return Files.toString(file, UTF_8);
+        } catch (IOException e) {
+            LOG.warn("Unable to read cached library content {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private void write(String key, String content) {
+        if (cacheDir == null) {
+            return;
+        }
+        final File file = new File(cacheDir, key);
+        try {
+            Files.createParentDirs(file);
+            // write to a temporary file first, so concurrent readers never see partially written content
+            final File tmp = File.createTempFile(file.getName(), ".tmp", file.getParentFile());
+            Files.write(content, tmp, UTF_8);
+            try {
+                java.nio.file.Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                java.nio.file.Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            LOG.warn("Unable to cache library content {}: {}", file, e.getMessage());
+        }
+    }
+
+    static String formatEntries(List<JarEntry> entries) {
+        final StringBuilder builder = new StringBuilder();
+        for (JarEntry entry : entries) {
+            builder.append(entry.getType()).append(SEPARATOR)
+                   .append(entry.getName()).append(SEPARATOR)
+                   .append(entry.getPath()).append('\n');
+        }
+        return builder.toString();
+    }
+
+    static List<JarEntry> parseEntries(String content) {
+        final List<JarEntry> entries = new ArrayList<>();
+        int start = 0;
+        while (start < content.length()) {
+            int end = content.indexOf('\n', start);
+            if (end == -1) {
+                end = content.length();
+            }
+            final int typeEnd = content.indexOf(SEPARATOR, start);
+            final int nameEnd = content.indexOf(SEPARATOR, typeEnd + 1);
+            final JarEntry entry = DtoFactory.getInstance().createDto(JarEntry.class);
+            entry.setType(JarEntryType.valueOf(content.substring(start, typeEnd)));
+            entry.setName(content.substring(typeEnd + 1, nameEnd));
+            entry.setPath(content.substring(nameEnd + 1, end));
+            entries.add(entry);
+            start = end + 1;
+        }
+        return entries;
+    }
+
+    private static class JarKey {
+        final String key;
+        final long   length;
+        final long   lastModified;
+
+        JarKey(String key, long length, long lastModified) {
+            this.key = key;
+            this.length = length;
+            this.lastModified = lastModified;
+        }
+    }
+}
@@ -22,39 +22,41 @@ import org.eclipse.che.api.project.server.ProjectCreatedEvent;
 import org.eclipse.che.api.project.server.ProjectRegistry;
 import org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent;
 import org.eclipse.che.api.project.server.type.ProjectTypeRegistry;
-import org.eclipse.che.jdt.core.resources.ResourceChangedEvent;
-import org.eclipse.core.filebuffers.FileBuffers;
-import org.eclipse.core.filebuffers.ITextFileBuffer;
-import org.eclipse.core.filebuffers.ITextFileBufferManager;
-import org.eclipse.core.filebuffers.LocationKind;
-import org.eclipse.core.runtime.CoreException;
-import org.eclipse.core.runtime.NullProgressMonitor;
-import org.eclipse.core.runtime.Path;
-import org.eclipse.jdt.internal.core.JavaModelManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.PreDestroy;
 import java.io.File;
 
 /**
+ * Propagates changes of java projects to java model.
+ * <p/>
+ * Changes are collected by {@link JavaModelDeltaBatcher} during {@code che.java.model.delta.batch_window_ms}
+ * and applied as a single delta per project.
+ * So java model is updated asynchronously, up to the window after the change is made,
+ * {@link #flush()} applies collected changes immediately. Services which read java model on
+ * behalf of the client, e.g. reconcile, search and refactoring, flush changes before reading it,
+ * so client always sees java model consistent with the files it has changed.
+ *
  * @author Evgen Vidolob
  */
 @Singleton
 public class ProjectListeners {
     private static final Logger LOG = LoggerFactory.getLogger(ProjectListeners.class);
 
-    private final File                workspace;
-    private final ProjectRegistry     projectRegistry;
-    private final ProjectTypeRegistry projectTypeRegistry;
+    private final ProjectRegistry       projectRegistry;
+    private final ProjectTypeRegistry   projectTypeRegistry;
+    private final JavaModelDeltaBatcher deltaBatcher;
 
     @Inject
     public ProjectListeners(@Named("che.user.workspaces.storage") String workspacePath,
+                            @Named("che.java.model.delta.batch_window_ms") long batchWindowMs,
                             EventService eventService,
                             ProjectRegistry projectRegistry,
                             ProjectTypeRegistry projectTypeRegistry) {
         this.projectRegistry = projectRegistry;
         this.projectTypeRegistry = projectTypeRegistry;
-        workspace = new File(workspacePath);
+        this.deltaBatcher = new JavaModelDeltaBatcher(new File(workspacePath), batchWindowMs);
         eventService.subscribe(new ProjectCreated());
         eventService.subscribe(new EventSubscriber<ProjectItemModifiedEvent>() {
             @Override
@@ -65,28 +67,20 @@ public class ProjectListeners {
     }
 
     public void handleEvent(ProjectItemModifiedEvent event) {
-        final String eventPath = event.getPath();
         if (!isJavaProject(event.getProject())) {
             return;
         }
-        try {
-            JavaModelManager.getJavaModelManager().deltaState.resourceChanged(
-                    new ResourceChangedEvent(workspace, event));
-        } catch (Throwable t) {
-            //catch all exceptions that may be happened
-            LOG.error("Can't update java model in " + eventPath, t);
-        }
-        if (event.getType() == ProjectItemModifiedEvent.EventType.UPDATED) {
-            ITextFileBufferManager manager = FileBuffers.getTextFileBufferManager();
-            ITextFileBuffer fileBuffer = manager.getTextFileBuffer(new Path(eventPath), LocationKind.IFILE);
-            if (fileBuffer != null) {
-                try {
-                    fileBuffer.revert(new NullProgressMonitor());
-                } catch (CoreException e) {
-                    LOG.error("Can't read file content: " + eventPath, e);
-                }
-            }
-        }
+        deltaBatcher.add(event);
+    }
+
+    /** Applies collected changes to java model in the caller thread. */
+    public void flush() {
+        deltaBatcher.flush();
+    }
+
+    @PreDestroy
+    public void stop() {
+        deltaBatcher.shutdown();
     }
 
     private class ProjectCreated implements EventSubscriber<ProjectCreatedEvent> {
@@ -95,12 +89,7 @@ public class ProjectListeners {
             if (!isJavaProject(event.getProjectPath())) {
                 return;
             }
-            try {
-                JavaModelManager.getJavaModelManager().deltaState.resourceChanged(new ResourceChangedEvent(workspace, event));
-            } catch (Throwable t) {
-                //catch all exceptions that may be happened
-                LOG.error("Can't update java model " + event.getProjectPath(), t);
-            }
+            deltaBatcher.add(event);
         }
     }
 
@@ -17,6 +17,7 @@ import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 
 import org.eclipse.che.inject.DynaModule;
+import org.eclipse.che.plugin.java.server.LibraryCacheWarmer;
 import org.eclipse.che.plugin.java.server.ProjectListeners;
 import org.eclipse.che.plugin.java.server.refactoring.RefactoringManager;
 import org.eclipse.che.plugin.java.server.rest.CodeAssistService;
@@ -51,6 +52,7 @@ public class JdtGuiceModule extends AbstractModule {
         bind(JavaPlugin.class).asEagerSingleton();
         bind(FileBuffersPlugin.class).asEagerSingleton();
         bind(ProjectListeners.class).asEagerSingleton();
+        bind(LibraryCacheWarmer.class).asEagerSingleton();
         bind(RefactoringManager.class).asEagerSingleton();
         bind(RefactoringService.class);
         bind(SearchService.class);
@@ -70,5 +72,12 @@ public class JdtGuiceModule extends AbstractModule {
         return Paths.get(System.getProperty("user.home"), wsMetadata, "index").toString();
     }
 
+    @Provides
+    @Named("che.jdt.library.cache.dir")
+    @Singleton
+    protected String provideLibraryCache(@Named("che.workspace.metadata") String wsMetadata) {
+        return Paths.get(System.getProperty("user.home"), wsMetadata, "libraries").toString();
+    }
+
 
 }
@@ -85,9 +85,10 @@ public class CodeAssistService {
     public Proposals computeAssistProposals(@QueryParam("projectpath") String projectPath,
                                             @QueryParam("fqn") String fqn,
                                             @QueryParam("offset") int offset,
+                                            @QueryParam("sessionid") String sessionId,
                                             List<Problem> problems) throws CoreException {
         IJavaProject javaProject = model.getJavaProject(projectPath);
-        return codeAssist.computeAssistProposals(javaProject, fqn, offset, problems);
+        return codeAssist.computeAssistProposals(javaProject, fqn, offset, problems, sessionId);
 
     }
 
@@ -13,17 +13,27 @@ package org.eclipse.che.plugin.java.server.rest;
 
 import com.google.inject.Inject;
 
+import org.eclipse.che.api.core.ConflictException;
+import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.ide.ext.java.shared.dto.Change;
 import org.eclipse.che.ide.ext.java.shared.dto.ReconcileResult;
 import org.eclipse.che.jdt.javaeditor.JavaReconciler;
+import org.eclipse.che.plugin.java.server.ProjectListeners;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.internal.core.JavaModel;
 import org.eclipse.jdt.internal.core.JavaModelManager;
 
+import javax.ws.rs.Consumes;
+import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
+import javax.ws.rs.POST;
 import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import java.util.List;
 
 /**
  * @author Evgen Vidolob
@@ -34,13 +44,87 @@ public class JavaReconcileService {
     private static final JavaModel model = JavaModelManager.getJavaModelManager().getJavaModel();
 
     @Inject
-    private JavaReconciler reconciler;
+    private JavaReconciler   reconciler;
+    @Inject
+    private ProjectListeners projectListeners;
 
+    /**
+     * Reconciles compilation unit of given type.
+     *
+     * @param sessionId
+     *         id of the editor session, if it isn't set working copy is created for this request only
+     * @param baseVersion
+     *         version of the last result of the editor session received by client, if it is set and it is
+     *         the last result sent by the session only changes of problems and highlighting are returned
+     * @param visibleOffset
+     *         start of visible range of the editor, if it is set highlighting is computed for visible range
+     *         and the rest of highlighting may be received with {@link #getHighlighting(String, int)}
+     * @param visibleLength
+     *         length of visible range of the editor
+     */
     @GET
     @Produces("application/json")
-    public ReconcileResult reconcile(@QueryParam("projectpath") String projectPath, @QueryParam("fqn") String fqn)
-            throws JavaModelException {
+    public ReconcileResult reconcile(@QueryParam("projectpath") String projectPath,
+                                     @QueryParam("fqn") String fqn,
+                                     @QueryParam("sessionid") String sessionId,
+                                     @DefaultValue("0") @QueryParam("baseversion") int baseVersion,
+                                     @DefaultValue("-1") @QueryParam("visibleoffset") int visibleOffset,
+                                     @DefaultValue("0") @QueryParam("visiblelength") int visibleLength) throws JavaModelException {
+        projectListeners.flush();
         IJavaProject javaProject = model.getJavaProject(projectPath);
-        return reconciler.reconcile(javaProject, fqn);
+        if (sessionId == null) {
+            return reconciler.reconcile(javaProject, fqn);
+        }
+        return reconciler.reconcile(javaProject, fqn, sessionId, baseVersion, visibleOffset, visibleLength);
+    }
+
+    /**
+     * Returns highlighting of whole compilation unit after reconcile of visible range of the editor session.
+     *
+     * @param sessionId
+     *         id of the editor session
+     * @param baseVersion
+     *         version of the last result of the editor session received by client
+     */
+    @GET
+    @Path("session/{sessionid}/highlighting")
+    @Produces("application/json")
+    public ReconcileResult getHighlighting(@PathParam("sessionid") String sessionId,
+                                           @DefaultValue("0") @QueryParam("baseversion") int baseVersion) throws JavaModelException,
+                                                                                                                 NotFoundException {
+        return reconciler.getHighlighting(sessionId, baseVersion);
+    }
+
+    /**
+     * Applies editor changes to the working copy of the editor session.
+     * Changes are applied in given order, each one is relative to the result of the previous one.
+     * Applied changes increment version of the session document by one.
+     *
+     * @param sessionId
+     *         id of the editor session
+     * @param documentVersion
+     *         version of the session document the changes are made to, see {@link ReconcileResult#getDocumentVersion()}
+     * @param changes
+     *         text changes made in the editor
+     */
+    @POST
+    @Path("session/{sessionid}/changes")
+    @Consumes("application/json")
+    public void applyChanges(@PathParam("sessionid") String sessionId,
+                             @DefaultValue("0") @QueryParam("documentversion") int documentVersion,
+                             List<Change> changes) throws JavaModelException, NotFoundException, ConflictException {
+        reconciler.applyChanges(sessionId, documentVersion, changes);
+    }
+
+    /**
+     * Closes editor session and discards its working copy.
+     *
+     * @param sessionId
+     *         id of the editor session
+     */
+    @DELETE
+    @Path("session/{sessionid}")
+    public void closeSession(@PathParam("sessionid") String sessionId) {
+        reconciler.closeSession(sessionId);
     }
 }
@@ -30,6 +30,7 @@ import org.eclipse.che.ide.ext.java.shared.dto.refactoring.RenameRefactoringSess
 import org.eclipse.che.ide.ext.java.shared.dto.refactoring.RenameSettings;
 import org.eclipse.che.ide.ext.java.shared.dto.refactoring.ReorgDestination;
 import org.eclipse.che.ide.ext.java.shared.dto.refactoring.ValidateNewName;
+import org.eclipse.che.plugin.java.server.ProjectListeners;
 import org.eclipse.che.plugin.java.server.refactoring.RefactoringException;
 import org.eclipse.che.plugin.java.server.refactoring.RefactoringManager;
 import org.eclipse.core.resources.IResource;
@@ -60,10 +61,12 @@ import java.util.function.Function;
 public class RefactoringService {
     private static final JavaModel model = JavaModelManager.getJavaModelManager().getJavaModel();
     private RefactoringManager manager;
+    private ProjectListeners   projectListeners;
 
     @Inject
-    public RefactoringService(RefactoringManager manager) {
+    public RefactoringService(RefactoringManager manager, ProjectListeners projectListeners) {
         this.manager = manager;
+        this.projectListeners = projectListeners;
     }
 
     /**
@@ -82,6 +85,7 @@ public class RefactoringService {
     @Consumes("application/json")
     @Produces("text/plain")
     public String createMoveRefactoring(CreateMoveRefactoring cmr) throws JavaModelException, RefactoringException {
+        projectListeners.flush();
         IJavaProject javaProject = model.getJavaProject(cmr.getProjectPath());
         IJavaElement[] javaElements;
         try {
@@ -164,6 +168,7 @@ public class RefactoringService {
     @Produces("application/json")
     @Consumes("application/json")
     public ChangeCreationResult createChange(RefactoringSession refactoringSession) throws RefactoringException {
+        projectListeners.flush();
         return manager.createChange(refactoringSession.getSessionId());
     }
 
@@ -228,6 +233,7 @@ public class RefactoringService {
     @Produces("application/json")
     @Consumes("application/json")
     public RefactoringResult applyRefactoring(RefactoringSession session) throws RefactoringException, JavaModelException {
+        projectListeners.flush();
         return manager.applyRefactoring(session.getSessionId());
     }
 
@@ -248,6 +254,7 @@ public class RefactoringService {
     @Consumes("application/json")
     public RenameRefactoringSession createRenameRefactoring(CreateRenameRefactoring settings)
             throws CoreException, RefactoringException {
+        projectListeners.flush();
         IJavaProject javaProject = model.getJavaProject(settings.getProjectPath());
         IJavaElement elementToRename;
         ICompilationUnit cu = null;
@@ -289,6 +296,7 @@ public class RefactoringService {
     @Produces("application/json")
     public RefactoringResult applyLinkedModeRename(LinkedRenameRefactoringApply refactoringApply) throws RefactoringException,
                                                                                                          CoreException {
+        projectListeners.flush();
         return manager.applyLinkedRename(refactoringApply);
     }
 
@@ -13,8 +13,12 @@ package org.eclipse.che.plugin.java.server.rest;
 
 import com.google.inject.Inject;
 
+import org.eclipse.che.api.core.ConflictException;
+import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.ide.ext.java.shared.dto.search.FindUsagesRequest;
 import org.eclipse.che.ide.ext.java.shared.dto.search.FindUsagesResponse;
+import org.eclipse.che.ide.ext.java.shared.dto.search.FindUsagesSession;
+import org.eclipse.che.plugin.java.server.ProjectListeners;
 import org.eclipse.che.plugin.java.server.search.SearchException;
 import org.eclipse.che.plugin.java.server.search.SearchManager;
 import org.eclipse.jdt.core.IJavaProject;
@@ -22,9 +26,12 @@ import org.eclipse.jdt.internal.core.JavaModel;
 import org.eclipse.jdt.internal.core.JavaModelManager;
 
 import javax.ws.rs.Consumes;
+import javax.ws.rs.DELETE;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 
@@ -37,15 +44,49 @@ import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 public class SearchService {
 
     @Inject
-    private SearchManager manager;
+    private SearchManager    manager;
+    @Inject
+    private ProjectListeners projectListeners;
 
     @POST
     @Consumes(APPLICATION_JSON)
     @Produces(APPLICATION_JSON)
     @Path("find/usages")
     public FindUsagesResponse findUsages(FindUsagesRequest request) throws SearchException {
+        projectListeners.flush();
         JavaModel javaModel = JavaModelManager.getJavaModelManager().getJavaModel();
         IJavaProject javaProject = javaModel.getJavaProject(request.getProjectPath());
         return manager.findUsage(javaProject, request.getFQN(), request.getOffset());
     }
+
+    /**
+     * Starts find usages session. Matches are sent to websocket channel from request while they are found.
+     */
+    @POST
+    @Consumes(APPLICATION_JSON)
+    @Produces(APPLICATION_JSON)
+    @Path("find/usages/session")
+    public FindUsagesSession startFindUsages(FindUsagesRequest request) throws SearchException {
+        projectListeners.flush();
+        JavaModel javaModel = JavaModelManager.getJavaModelManager().getJavaModel();
+        IJavaProject javaProject = javaModel.getJavaProject(request.getProjectPath());
+        return manager.startFindUsages(javaProject,
+                                       request.getFQN(),
+                                       request.getOffset(),
+                                       request.getChannel(),
+                                       request.getMaxResults());
+    }
+
+    @POST
+    @Path("session/{id}/continue")
+    public void continueSession(@PathParam("id") String id, @QueryParam("cursor") int cursor) throws NotFoundException,
+                                                                                                     ConflictException {
+        manager.continueSession(id, cursor);
+    }
+
+    @DELETE
+    @Path("session/{id}")
+    public void cancelSession(@PathParam("id") String id) {
+        manager.cancelSession(id);
+    }
 }
@@ -11,17 +11,26 @@
 
 package org.eclipse.che.plugin.java.server.search;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Singleton;
 
+import org.eclipse.che.api.core.ConflictException;
+import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.commons.lang.NameGenerator;
 import org.eclipse.che.dto.server.DtoFactory;
 import org.eclipse.che.ide.ext.java.shared.dto.Region;
 import org.eclipse.che.ide.ext.java.shared.dto.model.JavaProject;
+import org.eclipse.che.ide.ext.java.shared.dto.search.FindUsagesPage;
 import org.eclipse.che.ide.ext.java.shared.dto.search.FindUsagesResponse;
+import org.eclipse.che.ide.ext.java.shared.dto.search.FindUsagesSession;
+import org.eclipse.jdt.core.ElementChangedEvent;
 import org.eclipse.jdt.core.IBuffer;
 import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
 import org.eclipse.jdt.core.IField;
 import org.eclipse.jdt.core.IImportDeclaration;
 import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.ILocalVariable;
 import org.eclipse.jdt.core.IMember;
@@ -30,8 +39,10 @@ import org.eclipse.jdt.core.IPackageDeclaration;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeParameter;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
 import org.eclipse.jdt.internal.core.DefaultWorkingCopyOwner;
 import org.eclipse.jdt.internal.core.DocumentAdapter;
 import org.eclipse.jdt.internal.ui.search.JavaSearchQuery;
@@ -46,16 +57,33 @@ import org.eclipse.jface.text.IRegion;
 import org.eclipse.search.NewSearchUI;
 import org.eclipse.search.ui.ISearchResult;
 import org.eclipse.search.ui.text.Match;
+import org.everrest.websockets.WSConnectionContext;
+import org.everrest.websockets.message.ChannelBroadcastMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.PreDestroy;
+import javax.websocket.EncodeException;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Performs all Java related search.
+ * <p/>
+ * Find usages may be performed at once or as {@link SearchSession} which streams matches over websocket and may be
+ * suspended or cancelled. Workspace search scopes are built once and reused until classpath of any project is changed.
  *
  * @author Evgen Vidolob
  */
@@ -73,35 +101,44 @@ public class SearchManager {
                                                                         ILocalVariable.class,
                                                                         ITypeParameter.class};
 
+    /**
+     * Max number of find usages sessions which search at the same time, other sessions wait for their turn.
+     * Suspended sessions aren't counted, they keep their threads but don't search.
+     */
+    private static final int MAX_RUNNING_SESSIONS = 2;
+    /** Changes of java model after which cached search scopes are rebuilt. */
+    private static final int SCOPE_CHANGED        = IJavaElementDelta.F_CLASSPATH_CHANGED
+                                                    | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+                                                    | IJavaElementDelta.F_OPENED
+                                                    | IJavaElementDelta.F_CLOSED;
 
-    public FindUsagesResponse findUsage(IJavaProject javaProject, String fqn, int offset) throws SearchException {
-        try {
-            ICompilationUnit compilationUnit;
-            IType type = javaProject.findType(fqn);
-            if (type == null) {
-                throw new SearchException("Can't find type: " + fqn);
-            }
-            if (type.isBinary()) {
-                compilationUnit = type.getClassFile().getWorkingCopy(DefaultWorkingCopyOwner.PRIMARY, null);
-                if (compilationUnit == null) {
-                    throw new SearchException("Can't find sources for: " + fqn + " type");
-                }
-            } else {
-                compilationUnit = type.getCompilationUnit();
-            }
-            IJavaElement[] elements = compilationUnit.codeSelect(offset, 0);
-            if (elements != null && elements.length == 1) {
-                IJavaElement element = elements[0];
-                if (isTypeValid(element, TYPES_FOR_FIND_USAGE)) {
-                    return performFindUsageSearch(element);
-                } else {
-                    throw new SearchException("Find usage can't search for element: " + element.getElementName());
-                }
+    private final ConcurrentMap<Boolean, IJavaSearchScope> scopes;
+    private final ConcurrentMap<String, SearchSession>     sessions;
+    private final ExecutorService                          executor;
+    private final Semaphore                                running;
+    private final IElementChangedListener                  scopeInvalidator;
 
-            } else {
-                throw new SearchException("Can't find element to search, try to move cursor to another place and invoke search again");
+    public SearchManager() {
+        this.scopes = new ConcurrentHashMap<>();
+        this.sessions = new ConcurrentHashMap<>();
+        this.executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("JavaSearch-%d")
+                                                                                .setDaemon(true)
+                                                                                .build());
+        this.running = new Semaphore(MAX_RUNNING_SESSIONS, true);
+        this.scopeInvalidator = event -> {
+            for (IJavaElementDelta delta : event.getDelta().getAffectedChildren()) {
+                if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & SCOPE_CHANGED) != 0) {
+                    scopes.clear();
+                    return;
+                }
             }
+        };
+        JavaCore.addElementChangedListener(scopeInvalidator, ElementChangedEvent.POST_CHANGE);
+    }
 
+    public FindUsagesResponse findUsage(IJavaProject javaProject, String fqn, int offset) throws SearchException {
+        try {
+            return performFindUsageSearch(findElement(javaProject, fqn, offset));
         } catch (JavaModelException e) {
             LOG.error(e.getMessage(), e);
             throw new SearchException(String.format("Can't find project: %s or file for FQN: %s", javaProject.getPath().toOSString(), fqn),
@@ -112,21 +149,150 @@ public class SearchManager {
         }
     }
 
-    private FindUsagesResponse performFindUsageSearch(IJavaElement element) throws JavaModelException, BadLocationException {
+    /**
+     * Starts find usages session which sends found matches to given websocket channel as {@link FindUsagesPage}s.
+     * If {@code maxResults} is greater than zero session is suspended each time it sent {@code maxResults} matches
+     * until it is continued with {@link #continueSession(String, int)}.
+     */
+    public FindUsagesSession startFindUsages(IJavaProject javaProject, String fqn, int offset, String channel, int maxResults)
+            throws SearchException {
+        if (channel == null || channel.isEmpty()) {
+            throw new SearchException("Channel for search results is required");
+        }
+        final IJavaElement element;
+        try {
+            element = findElement(javaProject, fqn, offset);
+        } catch (JavaModelException e) {
+            LOG.error(e.getMessage(), e);
+            throw new SearchException(String.format("Can't find project: %s or file for FQN: %s", javaProject.getPath().toOSString(), fqn),
+                                      e);
+        }
+        final SearchSession session = new SearchSession(NameGenerator.generate("search", 16), channel, element, maxResults, this);
+        sessions.put(session.getId(), session);
+        try {
+            executor.execute(session);
+        } catch (RejectedExecutionException e) {
+            sessions.remove(session.getId());
+            throw new SearchException("Search can't be started, server is shutting down");
+        }
+        final FindUsagesSession dto = DtoFactory.newDto(FindUsagesSession.class);
+        dto.setId(session.getId());
+        dto.setSearchElementLabel(JavaElementLabels.getElementLabel(element, JavaElementLabels.ALL_DEFAULT));
+        return dto;
+    }
+
+    /**
+     * Continues suspended session.
+     *
+     * @param cursor
+     *         cursor of the last page received from session
+     */
+    public void continueSession(String sessionId, int cursor) throws NotFoundException, ConflictException {
+        final SearchSession session = sessions.get(sessionId);
+        if (session == null) {
+            throw new NotFoundException("Search session " + sessionId + " is not found");
+        }
+        if (!session.resume(cursor)) {
+            throw new ConflictException("Search session " + sessionId + " can't be continued from " + cursor);
+        }
+    }
+
+    /** Cancels search session, does nothing if session is already finished. */
+    public void cancelSession(String sessionId) {
+        final SearchSession session = sessions.get(sessionId);
+        if (session != null) {
+            session.cancel();
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        JavaCore.removeElementChangedListener(scopeInvalidator);
+        sessions.values().forEach(SearchSession::cancel);
+        executor.shutdownNow();
+    }
+
+    void sessionFinished(SearchSession session) {
+        sessions.remove(session.getId());
+    }
+
+    /** Waits until session may search, returns {@code false} if it doesn't get its turn during given time. */
+    boolean startSearching(long timeout, TimeUnit unit) throws InterruptedException {
+        return running.tryAcquire(timeout, unit);
+    }
+
+    /** Lets other session search, called when session is suspended or finished. */
+    void stopSearching() {
+        running.release();
+    }
+
+    /** Sends page of find usages session to websocket channel. */
+    void sendPage(String channel, FindUsagesPage page) {
+        final ChannelBroadcastMessage message = new ChannelBroadcastMessage();
+        message.setChannel(channel);
+        message.setBody(DtoFactory.getInstance().toJson(page));
+        try {
+            WSConnectionContext.sendMessage(message);
+        } catch (EncodeException | IOException e) {
+            LOG.warn("Unable to send search results to channel {}: {}", channel, e.getMessage());
+        }
+    }
+
+    JavaSearchQuery createQuery(IJavaElement element) {
         JavaSearchScopeFactory factory = JavaSearchScopeFactory.getInstance();
         boolean isInsideJRE = factory.isInsideJRE(element);
-        JavaSearchQuery
-                query = new JavaSearchQuery(new ElementQuerySpecification(element, IJavaSearchConstants.REFERENCES,
-                                                                          factory.createWorkspaceScope(isInsideJRE),
-                                                                          "workspace scope"));
+        return new JavaSearchQuery(new ElementQuerySpecification(element, IJavaSearchConstants.REFERENCES,
+                                                                 scopes.computeIfAbsent(isInsideJRE, factory::createWorkspaceScope),
+                                                                 "workspace scope"));
+    }
+
+    private IJavaElement findElement(IJavaProject javaProject, String fqn, int offset) throws SearchException, JavaModelException {
+        ICompilationUnit compilationUnit;
+        IType type = javaProject.findType(fqn);
+        if (type == null) {
+            throw new SearchException("Can't find type: " + fqn);
+        }
+        if (type.isBinary()) {
+            compilationUnit = type.getClassFile().getWorkingCopy(DefaultWorkingCopyOwner.PRIMARY, null);
+            if (compilationUnit == null) {
+                throw new SearchException("Can't find sources for: " + fqn + " type");
+            }
+        } else {
+            compilationUnit = type.getCompilationUnit();
+        }
+        IJavaElement[] elements = compilationUnit.codeSelect(offset, 0);
+        if (elements != null && elements.length == 1) {
+            IJavaElement element = elements[0];
+            if (isTypeValid(element, TYPES_FOR_FIND_USAGE)) {
+                return element;
+            } else {
+                throw new SearchException("Find usage can't search for element: " + element.getElementName());
+            }
+        } else {
+            throw new SearchException("Can't find element to search, try to move cursor to another place and invoke search again");
+        }
+    }
+
+    private FindUsagesResponse performFindUsageSearch(IJavaElement element) throws JavaModelException, BadLocationException {
+        JavaSearchQuery query = createQuery(element);
         NewSearchUI.runQueryInForeground(null, query);
         ISearchResult result = query.getSearchResult();
         JavaSearchResult javaResult = ((JavaSearchResult)result);
+        Map<IJavaElement, List<Match>> matches = new LinkedHashMap<>();
+        for (Object o : javaResult.getElements()) {
+            matches.put((IJavaElement)o, Arrays.asList(javaResult.getMatches(o)));
+        }
+        return toResponse(javaResult, element, matches);
+    }
+
+    /** Converts matches of found elements into response, {@code javaResult} is used only as root of project hierarchy. */
+    FindUsagesResponse toResponse(JavaSearchResult javaResult, IJavaElement element, Map<IJavaElement, List<Match>> matches)
+            throws JavaModelException, BadLocationException {
         FindUsagesResponse response = DtoFactory.newDto(FindUsagesResponse.class);
         Map<String, List<org.eclipse.che.ide.ext.java.shared.dto.search.Match>> mapMaches = new HashMap<>();
         JavaElementToDtoConverter converter = new JavaElementToDtoConverter(javaResult);
-        for (Object o : javaResult.getElements()) {
-            IJavaElement javaElement = (IJavaElement)o;
+        for (Map.Entry<IJavaElement, List<Match>> entry : matches.entrySet()) {
+            IJavaElement javaElement = entry.getKey();
             IDocument document = null;
             if (javaElement instanceof IMember) {
                 IMember member = ((IMember)javaElement);
@@ -144,10 +310,8 @@ public class SearchManager {
             }
             converter.addElementToProjectHierarchy(javaElement);
 
-            Match[] matches = javaResult.getMatches(o);
-
             List<org.eclipse.che.ide.ext.java.shared.dto.search.Match> matchList = new ArrayList<>();
-            for (Match match : matches) {
+            for (Match match : entry.getValue()) {
                 org.eclipse.che.ide.ext.java.shared.dto.search.Match dtoMatch = DtoFactory.newDto(
                         org.eclipse.che.ide.ext.java.shared.dto.search.Match.class);
                 if (document != null) {
@@ -0,0 +1,235 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.java.server.search;
+
+import org.eclipse.che.dto.server.DtoFactory;
+import org.eclipse.che.ide.ext.java.shared.dto.search.FindUsagesPage;
+import org.eclipse.che.ide.ext.java.shared.dto.search.FindUsagesResponse;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.internal.ui.search.JavaSearchQuery;
+import org.eclipse.jdt.internal.ui.search.JavaSearchResult;
+import org.eclipse.search.ui.ISearchResultListener;
+import org.eclipse.search.ui.SearchResultEvent;
+import org.eclipse.search.ui.text.Match;
+import org.eclipse.search.ui.text.MatchEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Find usages search which sends matches to websocket channel while they are found.
+ * <p/>
+ * Matches are collected into pages which are sent when {@link #PAGE_SIZE} matches are found or
+ * {@link #PAGE_INTERVAL_MS} is passed since the previous page. Matches are dropped from search result
+ * as soon as they are collected, so memory used by session doesn't depend on number of matches.
+ * When session has sent max number of matches it waits for continuation, session which isn't continued
+ * during {@link #SUSPEND_TIMEOUT_MS} is cancelled. Session searches only when it gets its turn from
+ * {@link SearchManager}, suspended session gives its turn to other sessions and waits for it again when it is continued.
+ * <p/>
+ * Search runs in its own thread, {@link #resume(int)} and {@link #cancel()} are called from request threads,
+ * {@code cursor} and {@code limit} are guarded by monitor of the session.
+ */
+class SearchSession implements Runnable, ISearchResultListener {
+    private static final Logger LOG = LoggerFactory.getLogger(SearchSession.class);
+
+    static final int  PAGE_SIZE          = 100;
+    static final long PAGE_INTERVAL_MS   = 200;
+    static final long SUSPEND_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(5);
+    /** How often session which waits for its turn checks whether it is cancelled. */
+    static final long TURN_CHECK_MS      = 100;
+
+    private final String                        id;
+    private final String                        channel;
+    private final IJavaElement                  element;
+    private final int                           maxResults;
+    private final SearchManager                 manager;
+    private final IProgressMonitor              monitor;
+    private final Map<IJavaElement, List<Match>> pending;
+    private final long                          suspendTimeoutMs;
+
+    private JavaSearchResult result;
+    private int              pendingCount;
+    private int              cursor;
+    private int              limit;
+    private long             lastPageTime;
+    /** Whether session has its turn to search, it's accessed only by the search thread. */
+    private boolean          searching;
+
+    SearchSession(String id, String channel, IJavaElement element, int maxResults, SearchManager manager) {
+        this(id, channel, element, maxResults, manager, SUSPEND_TIMEOUT_MS);
+    }
+
+    SearchSession(String id, String channel, IJavaElement element, int maxResults, SearchManager manager, long suspendTimeoutMs) {
+        this.id = id;
+        this.channel = channel;
+        this.element = element;
+        this.maxResults = maxResults;
+        this.manager = manager;
+        this.monitor = new NullProgressMonitor();
+        this.pending = new LinkedHashMap<>();
+        this.limit = maxResults > 0 ? maxResults : Integer.MAX_VALUE;
+        this.suspendTimeoutMs = suspendTimeoutMs;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    @Override
+    public void run() {
+        String error = null;
+        try {
+            if (monitor.isCanceled()) {
+                return;
+            }
+            awaitTurn();
+            final JavaSearchQuery query = manager.createQuery(element);
+            result = (JavaSearchResult)query.getSearchResult();
+            result.addListener(this);
+            lastPageTime = System.currentTimeMillis();
+            try {
+                final IStatus status = query.run(monitor);
+                if (status.getSeverity() == IStatus.ERROR) {
+                    error = status.getMessage();
+                }
+            } finally {
+                result.removeListener(this);
+            }
+        } catch (OperationCanceledException e) {
+            error = "Search was cancelled";
+        } catch (RuntimeException e) {
+            LOG.error(e.getMessage(), e);
+            error = e.getMessage();
+        } finally {
+            if (searching) {
+                searching = false;
+                manager.stopSearching();
+            }
+            if (monitor.isCanceled() && error == null) {
+                error = "Search was cancelled";
+            }
+            sendPage(false, true, error);
+            manager.sessionFinished(this);
+        }
+    }
+
+    @Override
+    public void searchResultChanged(SearchResultEvent event) {
+        if (!(event instanceof MatchEvent) || ((MatchEvent)event).getKind() != MatchEvent.ADDED) {
+            return;
+        }
+        // event may be reused by search result, so matches are copied before anything is removed from result
+        final Match[] matches = ((MatchEvent)event).getMatches().clone();
+        for (Match match : matches) {
+            pending.computeIfAbsent((IJavaElement)match.getElement(), key -> new ArrayList<>()).add(match);
+        }
+        pendingCount += matches.length;
+        result.removeMatches(matches);
+
+        final boolean suspend;
+        synchronized (this) {
+            cursor += matches.length;
+            suspend = cursor >= limit;
+        }
+        if (suspend) {
+            sendPage(true, false, null);
+            searching = false;
+            manager.stopSearching();
+            awaitContinuation();
+            awaitTurn();
+        } else if (pendingCount >= PAGE_SIZE || System.currentTimeMillis() - lastPageTime >= PAGE_INTERVAL_MS) {
+            sendPage(false, false, null);
+        }
+    }
+
+    /** Continues suspended session. Cursor must be equal to cursor of the last sent page. */
+    synchronized boolean resume(int fromCursor) {
+        if (fromCursor != cursor || limit > cursor) {
+            return false;
+        }
+        limit = cursor + maxResults;
+        notifyAll();
+        return true;
+    }
+
+    synchronized void cancel() {
+        monitor.setCanceled(true);
+        notifyAll();
+    }
+
+    private synchronized void awaitContinuation() {
+        final long deadline = System.currentTimeMillis() + suspendTimeoutMs;
+        while (cursor >= limit && !monitor.isCanceled()) {
+            final long timeout = deadline - System.currentTimeMillis();
+            if (timeout <= 0) {
+                monitor.setCanceled(true);
+                break;
+            }
+            try {
+                wait(timeout);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                monitor.setCanceled(true);
+            }
+        }
+        if (monitor.isCanceled()) {
+            throw new OperationCanceledException();
+        }
+        lastPageTime = System.currentTimeMillis();
+    }
+
+    private void awaitTurn() {
+        try {
+            while (!manager.startSearching(TURN_CHECK_MS, TimeUnit.MILLISECONDS)) {
+                if (monitor.isCanceled()) {
+                    throw new OperationCanceledException();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            monitor.setCanceled(true);
+            throw new OperationCanceledException();
+        }
+        searching = true;
+    }
+
+    private void sendPage(boolean suspended, boolean completed, String error) {
+        final FindUsagesPage page = DtoFactory.newDto(FindUsagesPage.class);
+        page.setSessionId(id);
+        synchronized (this) {
+            page.setCursor(cursor);
+        }
+        page.setSuspended(suspended);
+        page.setCompleted(completed);
+        page.setError(error);
+        try {
+            final FindUsagesResponse response = manager.toResponse(result, element, pending);
+            page.setResponse(response);
+        } catch (Exception e) {
+            LOG.error(e.getMessage(), e);
+            page.setError(e.getMessage());
+        }
+        pending.clear();
+        pendingCount = 0;
+        lastPageTime = System.currentTimeMillis();
+
+        manager.sendPage(channel, page);
+    }
+}
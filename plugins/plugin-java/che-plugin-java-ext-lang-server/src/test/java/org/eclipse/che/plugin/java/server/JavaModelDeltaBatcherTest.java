@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.java.server;
+
+import org.eclipse.che.plugin.java.server.JavaModelDeltaBatcher.Change;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.eclipse.che.plugin.java.server.JavaModelDeltaBatcher.REPLACED;
+import static org.eclipse.core.resources.IResourceDelta.ADDED;
+import static org.eclipse.core.resources.IResourceDelta.CHANGED;
+import static org.eclipse.core.resources.IResourceDelta.REMOVED;
+import static org.fest.assertions.Assertions.assertThat;
+
+public class JavaModelDeltaBatcherTest {
+
+    @Test
+    public void shouldMergeChangesOfSameResource() throws Exception {
+        Map<String, Map<String, Integer>> merged =
+                JavaModelDeltaBatcher.merge(Arrays.asList(new Change("/test", "/test/A.java", false, ADDED),
+                                                          new Change("/test", "/test/A.java", false, CHANGED),
+                                                          new Change("/test", "/test/B.java", false, CHANGED),
+                                                          new Change("/test", "/test/B.java", false, CHANGED),
+                                                          new Change("/test", "/test/C.java", false, REMOVED),
+                                                          new Change("/test", "/test/C.java", false, ADDED),
+                                                          new Change("/test", "/test/D.java", false, CHANGED),
+                                                          new Change("/test", "/test/D.java", false, REMOVED)));
+
+        assertThat(merged).hasSize(1);
+        Map<String, Integer> resources = merged.get("/test");
+        assertThat(new ArrayList<>(resources.keySet())).containsExactly("/test/A.java", "/test/B.java", "/test/C.java", "/test/D.java");
+        assertThat(resources.get("/test/A.java")).isEqualTo(ADDED);
+        assertThat(resources.get("/test/B.java")).isEqualTo(CHANGED);
+        assertThat(resources.get("/test/C.java")).isEqualTo(CHANGED);
+        assertThat(resources.get("/test/D.java")).isEqualTo(REMOVED);
+    }
+
+    @Test
+    public void shouldDropResourceCreatedAndRemovedInSameBatch() throws Exception {
+        Map<String, Map<String, Integer>> merged =
+                JavaModelDeltaBatcher.merge(Arrays.asList(new Change("/test", "/test/A.java", false, ADDED),
+                                                          new Change("/test", "/test/A.java", false, CHANGED),
+                                                          new Change("/test", "/test/A.java", false, REMOVED)));
+
+        assertThat(merged.get("/test")).isEmpty();
+    }
+
+    @Test
+    public void shouldDropChangesInsideRemovedFolder() throws Exception {
+        Map<String, Map<String, Integer>> merged =
+                JavaModelDeltaBatcher.merge(Arrays.asList(new Change("/test", "/test/src/a/A.java", false, CHANGED),
+                                                          new Change("/test", "/test/src/ab/B.java", false, CHANGED),
+                                                          new Change("/test", "/test/src/a", true, REMOVED)));
+
+        assertThat(new ArrayList<>(merged.get("/test").keySet())).containsExactly("/test/src/ab/B.java", "/test/src/a");
+    }
+
+    @Test
+    public void shouldDropChangesInsideCreatedAndRemovedFolder() throws Exception {
+        Map<String, Map<String, Integer>> merged =
+                JavaModelDeltaBatcher.merge(Arrays.asList(new Change("/test", "/test/src/a", true, ADDED),
+                                                          new Change("/test", "/test/src/a/A.java", false, ADDED),
+                                                          new Change("/test", "/test/src/a", true, REMOVED)));
+
+        assertThat(merged.get("/test")).isEmpty();
+    }
+
+    @Test
+    public void shouldReplaceFolderRemovedAndAddedInSameBatch() throws Exception {
+        Map<String, Map<String, Integer>> merged =
+                JavaModelDeltaBatcher.merge(Arrays.asList(new Change("/test", "/test/src/a/A.java", false, CHANGED),
+                                                          new Change("/test", "/test/src/a/B.java", false, CHANGED),
+                                                          new Change("/test", "/test/src/a", true, REMOVED),
+                                                          new Change("/test", "/test/src/a", true, ADDED),
+                                                          new Change("/test", "/test/src/a/A.java", false, ADDED),
+                                                          new Change("/test", "/test/src/a/A.java", false, CHANGED)));
+
+        Map<String, Integer> resources = merged.get("/test");
+        assertThat(new ArrayList<>(resources.keySet())).containsExactly("/test/src/a", "/test/src/a/A.java");
+        assertThat(resources.get("/test/src/a")).isEqualTo(REPLACED);
+        assertThat(resources.get("/test/src/a/A.java")).isEqualTo(ADDED);
+    }
+
+    @Test
+    public void shouldGroupChangesByProject() throws Exception {
+        Map<String, Map<String, Integer>> merged =
+                JavaModelDeltaBatcher.merge(Arrays.asList(new Change("/one", "/one/A.java", false, CHANGED),
+                                                          new Change("/two", "/two/A.java", false, CHANGED),
+                                                          new Change("/one", "/one/B.java", false, ADDED)));
+
+        assertThat(new ArrayList<>(merged.keySet())).containsExactly("/one", "/two");
+        assertThat(new ArrayList<>(merged.get("/one").keySet())).containsExactly("/one/A.java", "/one/B.java");
+        assertThat(new ArrayList<>(merged.get("/two").keySet())).containsExactly("/two/A.java");
+    }
+}
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.java.server;
+
+import com.google.common.io.Files;
+
+import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.che.dto.server.DtoFactory;
+import org.eclipse.che.ide.ext.java.shared.JarEntry;
+import org.eclipse.che.ide.ext.java.shared.JarEntry.JarEntryType;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class LibraryContentCacheTest {
+
+    private File                         root;
+    private File                         jar;
+    private SourcesFromBytecodeGenerator generator;
+    private IPackageFragmentRoot         jarRoot;
+    private IType                        type;
+
+    @Before
+    public void setUp() throws Exception {
+        root = Files.createTempDir();
+        jar = new File(root, "lib.jar");
+        Files.write("jar content", jar, UTF_8);
+
+        jarRoot = mock(IPackageFragmentRoot.class);
+        when(jarRoot.isArchive()).thenReturn(true);
+        when(jarRoot.isExternal()).thenReturn(true);
+        when(jarRoot.getPath()).thenReturn(new Path(jar.getAbsolutePath()));
+
+        type = mock(IType.class);
+        when(type.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT)).thenReturn(jarRoot);
+        when(type.getFullyQualifiedName()).thenReturn("a.b.C");
+
+        generator = mock(SourcesFromBytecodeGenerator.class);
+        when(generator.generateSource(type)).thenReturn("class C {}");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        IoUtil.deleteRecursive(root);
+    }
+
+    @Test
+    public void shouldGenerateSourceOnceAndShareItThroughDisk() throws Exception {
+        File cacheDir = new File(root, "cache");
+
+        assertThat(new LibraryContentCache(cacheDir, generator).getSource(type)).isEqualTo("class C {}");
+        assertThat(new LibraryContentCache(cacheDir, generator).getSource(type)).isEqualTo("class C {}");
+
+        verify(generator, times(1)).generateSource(type);
+    }
+
+    @Test
+    public void shouldNotServeCachedSourceWhenJarIsChanged() throws Exception {
+        File cacheDir = new File(root, "cache");
+        new LibraryContentCache(cacheDir, generator).getSource(type);
+
+        Files.write("new jar content", jar, UTF_8);
+        new LibraryContentCache(cacheDir, generator).getSource(type);
+
+        verify(generator, times(2)).generateSource(type);
+    }
+
+    @Test
+    public void shouldNotCacheSourcesOfClassFolders() throws Exception {
+        when(jarRoot.isArchive()).thenReturn(false);
+        LibraryContentCache cache = new LibraryContentCache(new File(root, "cache"), generator);
+
+        cache.getSource(type);
+        cache.getSource(type);
+
+        verify(generator, times(2)).generateSource(type);
+    }
+
+    @Test
+    public void shouldLoadEntriesOnce() throws Exception {
+        File cacheDir = new File(root, "cache");
+        AtomicInteger loads = new AtomicInteger();
+        LibraryContentCache.Loader<List<JarEntry>> loader = () -> {
+            loads.incrementAndGet();
+            return Arrays.asList(entry(JarEntryType.PACKAGE, "java", "java"), entry(JarEntryType.FOLDER, "META-INF", "/META-INF"));
+        };
+
+        assertThat(new LibraryContentCache(cacheDir, generator).hasEntries(jarRoot, "")).isFalse();
+        new LibraryContentCache(cacheDir, generator).getEntries(jarRoot, "", loader);
+        LibraryContentCache cache = new LibraryContentCache(cacheDir, generator);
+        List<JarEntry> entries = cache.getEntries(jarRoot, "", loader);
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.hasEntries(jarRoot, "")).isTrue();
+        assertThat(entries).onProperty("name").containsExactly("java", "META-INF");
+        assertThat(entries).onProperty("path").containsExactly("java", "/META-INF");
+        assertThat(entries).onProperty("type").containsExactly(JarEntryType.PACKAGE, JarEntryType.FOLDER);
+    }
+
+    private static JarEntry entry(JarEntryType type, String name, String path) {
+        JarEntry entry = DtoFactory.getInstance().createDto(JarEntry.class);
+        entry.setType(type);
+        entry.setName(name);
+        entry.setPath(path);
+        return entry;
+    }
+}
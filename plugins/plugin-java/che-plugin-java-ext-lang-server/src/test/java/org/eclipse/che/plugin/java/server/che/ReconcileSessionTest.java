@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.java.server.che;
+
+import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.ide.ext.java.shared.dto.ReconcileResult;
+import org.eclipse.che.jdt.javaeditor.JavaReconciler;
+import org.eclipse.che.jdt.javaeditor.SemanticHighlightingReconciler;
+import org.eclipse.che.plugin.java.server.ProjectListeners;
+import org.eclipse.che.plugin.java.server.jdt.testplugin.Java18ProjectTestSetup;
+import org.eclipse.che.plugin.java.server.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.che.plugin.java.server.rest.JavaReconcileService;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for reconcile of visible range in editor sessions of {@link JavaReconcileService}.
+ */
+public class ReconcileSessionTest extends BaseTest {
+    private static final String SOURCE = "package p;\n" +
+                                         "public class A {\n" +
+                                         "    private int field;\n" +
+                                         "    void foo() {\n" +
+                                         "        field = 1;\n" +
+                                         "    }\n" +
+                                         "    void bar() {\n" +
+                                         "        field = 2;\n" +
+                                         "    }\n" +
+                                         "}\n";
+
+    private final Java18ProjectTestSetup setup;
+
+    @Spy
+    private JavaReconciler       reconciler = new JavaReconciler(new SemanticHighlightingReconciler());
+    @Mock
+    private ProjectListeners     projectListeners;
+    @InjectMocks
+    private JavaReconcileService service;
+
+    private IJavaProject javaProject;
+
+    public ReconcileSessionTest() {
+        setup = new Java18ProjectTestSetup();
+    }
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        setup.setUp();
+        MockitoAnnotations.initMocks(this);
+        javaProject = Java18ProjectTestSetup.getProject();
+        IPackageFragment packageFragment = JavaProjectHelper.addSourceContainer(javaProject, "src").createPackageFragment("p", true, null);
+        packageFragment.createCompilationUnit("A.java", SOURCE, true, null);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        reconciler.closeSession("session1");
+        reconciler.stop();
+        JavaProjectHelper.clear(javaProject, Java18ProjectTestSetup.getDefaultClasspath());
+        setup.tearDown();
+    }
+
+    @Test
+    public void shouldHighlightWholeUnitWithoutVisibleRange() throws Exception {
+        ReconcileResult result = service.reconcile(Java18ProjectTestSetup.PROJECT_NAME18, "p.A", "session1", 0, -1, 0);
+
+        assertThat(result.isPartial()).isFalse();
+        assertThat(result.getHighlightedPositions()).onProperty("offset").contains(SOURCE.indexOf("field;"),
+                                                                                   SOURCE.indexOf("field = 1"),
+                                                                                   SOURCE.indexOf("field = 2"));
+    }
+
+    @Test
+    public void shouldHighlightOnlyVisibleRange() throws Exception {
+        final int visibleOffset = SOURCE.indexOf("    void foo()");
+        final int visibleLength = SOURCE.indexOf("    void bar()") - visibleOffset;
+
+        ReconcileResult result = service.reconcile(Java18ProjectTestSetup.PROJECT_NAME18, "p.A", "session1", 0, visibleOffset, visibleLength);
+
+        assertThat(result.isPartial()).isTrue();
+        assertThat(result.getHighlightedPositions()).onProperty("offset").contains(SOURCE.indexOf("field = 1"));
+        assertThat(result.getHighlightedPositions()).onProperty("offset").excludes(SOURCE.indexOf("field;"),
+                                                                                   SOURCE.indexOf("field = 2"));
+    }
+
+    @Test
+    public void shouldReturnHighlightingOfRestOfUnitAfterVisibleRange() throws Exception {
+        final int visibleOffset = SOURCE.indexOf("    void foo()");
+        final int visibleLength = SOURCE.indexOf("    void bar()") - visibleOffset;
+        ReconcileResult partial =
+                service.reconcile(Java18ProjectTestSetup.PROJECT_NAME18, "p.A", "session1", 0, visibleOffset, visibleLength);
+
+        ReconcileResult result = service.getHighlighting("session1", partial.getVersion());
+
+        assertThat(result.isDelta()).isTrue();
+        assertThat(result.isPartial()).isFalse();
+        assertThat(result.getHighlightedPositions()).onProperty("offset").contains(SOURCE.indexOf("field;"),
+                                                                                   SOURCE.indexOf("field = 2"));
+        assertThat(result.getHighlightedPositions()).onProperty("offset").excludes(SOURCE.indexOf("field = 1"));
+        assertThat(result.getRemovedPositions()).isEmpty();
+    }
+
+    @Test
+    public void shouldApplyCollectedProjectChangesBeforeReconcile() throws Exception {
+        service.reconcile(Java18ProjectTestSetup.PROJECT_NAME18, "p.A", "session1", 0, -1, 0);
+
+        verify(projectListeners).flush();
+    }
+
+    @Test(expected = NotFoundException.class)
+    public void shouldNotReturnHighlightingOfUnknownSession() throws Exception {
+        service.getHighlighting("unknown", 0);
+    }
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.java.server.che;
+
+import org.eclipse.che.dto.server.DtoFactory;
+import org.eclipse.che.ide.ext.java.shared.dto.HighlightedPosition;
+import org.eclipse.che.ide.ext.java.shared.dto.Problem;
+import org.eclipse.che.ide.ext.java.shared.dto.ReconcileResult;
+import org.eclipse.che.jdt.javaeditor.ReconcileState;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class ReconcileStateTest {
+
+    private final ReconcileState state = new ReconcileState();
+
+    @Test
+    public void shouldReturnFullResultFirst() throws Exception {
+        ReconcileResult result = state.update(Arrays.asList(problem(1, 10)), Arrays.asList(position(0, 5), position(10, 3)), -1, 0, 0);
+
+        assertThat(result.getVersion()).isEqualTo(1);
+        assertThat(result.isDelta()).isFalse();
+        assertThat(result.getProblems()).hasSize(1);
+        assertThat(result.getHighlightedPositions()).onProperty("offset").containsExactly(0, 10);
+    }
+
+    @Test
+    public void shouldReturnOnlyChangesRelativeToBaseVersion() throws Exception {
+        state.update(Arrays.asList(problem(1, 10), problem(2, 20)), Arrays.asList(position(0, 5), position(10, 3)), -1, 0, 0);
+
+        ReconcileResult result = state.update(Arrays.asList(problem(2, 20), problem(3, 30)),
+                                              Arrays.asList(position(0, 5), position(12, 3)),
+                                              -1, 0, 1);
+
+        assertThat(result.getVersion()).isEqualTo(2);
+        assertThat(result.isDelta()).isTrue();
+        assertThat(result.getProblems()).onProperty("ID").containsExactly(3);
+        assertThat(result.getRemovedProblems()).onProperty("ID").containsExactly(1);
+        assertThat(result.getHighlightedPositions()).onProperty("offset").containsExactly(12);
+        assertThat(result.getRemovedPositions()).onProperty("offset").containsExactly(10);
+    }
+
+    @Test
+    public void shouldReturnFullResultWhenClientHasOtherVersion() throws Exception {
+        state.update(Collections.emptyList(), Arrays.asList(position(0, 5)), -1, 0, 0);
+        state.update(Collections.emptyList(), Arrays.asList(position(0, 5), position(10, 3)), -1, 0, 1);
+
+        ReconcileResult result = state.update(Collections.emptyList(), Arrays.asList(position(0, 5), position(10, 3)), -1, 0, 1);
+
+        assertThat(result.isDelta()).isFalse();
+        assertThat(result.getHighlightedPositions()).onProperty("offset").containsExactly(0, 10);
+    }
+
+    @Test
+    public void shouldKeepPositionsOutsideOfVisibleRange() throws Exception {
+        state.update(Collections.emptyList(), Arrays.asList(position(0, 5), position(100, 5), position(200, 5)), -1, 0, 0);
+
+        ReconcileResult result = state.update(Collections.emptyList(), Arrays.asList(position(102, 5)), 90, 50, 1);
+
+        assertThat(result.isPartial()).isTrue();
+        assertThat(result.getHighlightedPositions()).onProperty("offset").containsExactly(102);
+        assertThat(result.getRemovedPositions()).onProperty("offset").containsExactly(100);
+        assertThat(state.getPositions()).onProperty("offset").containsExactly(0, 200, 102);
+    }
+
+    private static Problem problem(int id, int start) {
+        Problem problem = DtoFactory.getInstance().createDto(Problem.class);
+        problem.setID(id);
+        problem.setSourceStart(start);
+        problem.setSourceEnd(start + 1);
+        problem.setMessage("problem " + id);
+        problem.setError(true);
+        return problem;
+    }
+
+    private static HighlightedPosition position(int offset, int length) {
+        HighlightedPosition position = DtoFactory.getInstance().createDto(HighlightedPosition.class);
+        position.setOffset(offset);
+        position.setLength(length);
+        position.setType(HighlightedPosition.FIELD);
+        return position;
+    }
+}
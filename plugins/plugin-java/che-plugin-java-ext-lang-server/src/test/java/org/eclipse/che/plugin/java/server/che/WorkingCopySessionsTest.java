@@ -0,0 +1,185 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.java.server.che;
+
+import org.eclipse.che.api.core.ConflictException;
+import org.eclipse.che.ide.ext.java.shared.dto.Change;
+import org.eclipse.che.ide.ext.java.shared.dto.ReconcileResult;
+import org.eclipse.che.jdt.javaeditor.JavaReconciler;
+import org.eclipse.che.jdt.javaeditor.SemanticHighlightingReconciler;
+import org.eclipse.che.jdt.javaeditor.WorkingCopySession;
+import org.eclipse.che.jdt.javaeditor.WorkingCopySessions;
+import org.eclipse.che.plugin.java.server.jdt.testplugin.Java18ProjectTestSetup;
+import org.eclipse.che.plugin.java.server.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singletonList;
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
+import static org.fest.assertions.Assertions.assertThat;
+
+/**
+ * Tests for lifecycle of editor sessions of {@link WorkingCopySessions}.
+ */
+public class WorkingCopySessionsTest extends BaseTest {
+    private static final String SOURCE = "package p;\n" +
+                                         "public class A {\n" +
+                                         "    void foo() {\n" +
+                                         "    }\n" +
+                                         "}\n";
+
+    private final Java18ProjectTestSetup setup;
+
+    private WorkingCopySessions sessions;
+    private IJavaProject        javaProject;
+    private ICompilationUnit    unit;
+
+    public WorkingCopySessionsTest() {
+        setup = new Java18ProjectTestSetup();
+    }
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        setup.setUp();
+        sessions = new WorkingCopySessions();
+        javaProject = Java18ProjectTestSetup.getProject();
+        IPackageFragment packageFragment = JavaProjectHelper.addSourceContainer(javaProject, "src").createPackageFragment("p", true, null);
+        unit = packageFragment.createCompilationUnit("A.java", SOURCE, true, null);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        sessions.closeAll();
+        JavaProjectHelper.clear(javaProject, Java18ProjectTestSetup.getDefaultClasspath());
+        setup.tearDown();
+    }
+
+    @Test
+    public void shouldOpenSessionOnceForEditor() throws Exception {
+        WorkingCopySession session = sessions.getOrOpen("session1", javaProject, "p.A");
+
+        assertThat(session).isNotNull();
+        assertThat(session.getWorkingCopy().isOpen()).isTrue();
+        assertThat(session.getDocumentVersion()).isEqualTo(0);
+        assertThat(sessions.getOrOpen("session1", javaProject, "p.A")).isSameAs(session);
+        assertThat(sessions.get("session1")).isSameAs(session);
+    }
+
+    @Test
+    public void shouldApplyChangesToCurrentDocumentVersion() throws Exception {
+        WorkingCopySession session = sessions.getOrOpen("session1", javaProject, "p.A");
+
+        boolean applied = session.applyChanges(0, singletonList(insert(SOURCE.indexOf("    }"), "        int x = \"\";\n")));
+        session.reconcile();
+
+        assertThat(applied).isTrue();
+        assertThat(session.getDocumentVersion()).isEqualTo(1);
+        assertThat(session.getWorkingCopy().getBuffer().getContents()).contains("int x = \"\";");
+        assertThat(session.getProblems()).isNotEmpty();
+    }
+
+    @Test
+    public void shouldNotApplyChangesToAnotherDocumentVersion() throws Exception {
+        WorkingCopySession session = sessions.getOrOpen("session1", javaProject, "p.A");
+        session.applyChanges(0, singletonList(insert(0, "// first\n")));
+
+        boolean applied = session.applyChanges(0, singletonList(insert(0, "// second\n")));
+
+        assertThat(applied).isFalse();
+        assertThat(session.getDocumentVersion()).isEqualTo(1);
+        assertThat(session.getWorkingCopy().getBuffer().getContents()).isEqualTo("// first\n" + SOURCE);
+    }
+
+    @Test(expected = ConflictException.class)
+    public void shouldRespondWithConflictToChangesOfAnotherDocumentVersion() throws Exception {
+        JavaReconciler reconciler = new JavaReconciler(new SemanticHighlightingReconciler(), sessions);
+        try {
+            ReconcileResult result = reconciler.reconcile(javaProject, "p.A", "session1");
+
+            reconciler.applyChanges("session1", result.getDocumentVersion() + 1, singletonList(insert(0, "// comment\n")));
+        } finally {
+            reconciler.stop();
+        }
+    }
+
+    @Test
+    public void shouldReloadDocumentFromChangedFileWhenThereAreNoUnsavedChanges() throws Exception {
+        WorkingCopySession session = sessions.getOrOpen("session1", javaProject, "p.A");
+        String changed = "// changed on disk\n" + SOURCE;
+
+        Files.write(getFile().toPath(), changed.getBytes(UTF_8));
+        session.reconcile();
+
+        assertThat(session.getWorkingCopy().getBuffer().getContents()).isEqualTo(changed);
+        assertThat(session.getDocumentVersion()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldKeepUnsavedChangesWhenFileIsChanged() throws Exception {
+        WorkingCopySession session = sessions.getOrOpen("session1", javaProject, "p.A");
+        session.applyChanges(0, singletonList(insert(0, "// edited\n")));
+
+        Files.write(getFile().toPath(), ("// changed on disk\n" + SOURCE).getBytes(UTF_8));
+        session.reconcile();
+
+        assertThat(session.getWorkingCopy().getBuffer().getContents()).isEqualTo("// edited\n" + SOURCE);
+        assertThat(session.getDocumentVersion()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldEvictIdleSessions() throws Exception {
+        sessions = new WorkingCopySessions(0);
+        WorkingCopySession session = sessions.getOrOpen("session1", javaProject, "p.A");
+        Thread.sleep(10);
+
+        sessions.evictIdle();
+
+        assertThat(sessions.get("session1")).isNull();
+        assertThat(session.getWorkingCopy().isOpen()).isFalse();
+    }
+
+    @Test
+    public void shouldNotEvictActiveSessions() throws Exception {
+        WorkingCopySession session = sessions.getOrOpen("session1", javaProject, "p.A");
+
+        sessions.evictIdle();
+
+        assertThat(sessions.get("session1")).isSameAs(session);
+    }
+
+    @Test
+    public void shouldCloseSession() throws Exception {
+        WorkingCopySession session = sessions.getOrOpen("session1", javaProject, "p.A");
+
+        sessions.close("session1");
+
+        assertThat(sessions.get("session1")).isNull();
+        assertThat(session.getWorkingCopy().isOpen()).isFalse();
+    }
+
+    private File getFile() {
+        return unit.getResource().getLocation().toFile();
+    }
+
+    private static Change insert(int offset, String text) {
+        return newDto(Change.class).withOffset(offset).withLength(0).withText(text);
+    }
+}
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.java.server.jdt.search;
+
+import org.eclipse.che.api.core.ConflictException;
+import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.ide.ext.java.shared.dto.search.FindUsagesSession;
+import org.eclipse.che.plugin.java.server.che.BaseTest;
+import org.eclipse.che.plugin.java.server.search.SearchException;
+import org.eclipse.che.plugin.java.server.search.SearchManager;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.internal.core.JavaProject;
+import org.fest.assertions.Assertions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for find usages sessions of {@link SearchManager}.
+ */
+public class FindUsagesSessionTest extends BaseTest {
+    private final JUnitSourceSetup setup;
+
+    private SearchManager manager;
+
+    public FindUsagesSessionTest() {
+        setup = new JUnitSourceSetup();
+    }
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        setup.setUp();
+        IPackageFragmentRoot root = ((JavaProject)JUnitSourceSetup.getProject()).getPackageFragmentRoot(
+                new Path(JUnitSourceSetup.SRC_CONTAINER));
+        IPackageFragment packageFragment = root.createPackageFragment("che", true, null);
+        StringBuilder a = new StringBuilder();
+        a.append("package che;\n");
+        a.append("public class A{}\n");
+        packageFragment.createCompilationUnit("A.java", a.toString(), true, null);
+        StringBuilder b = new StringBuilder();
+        b.append("package che;\n");
+        b.append("public class B extends A {\n");
+        b.append("   private A a = null;\n");
+        b.append("   public A foo(A a) {\n");
+        b.append("       return a;\n");
+        b.append("   }\n");
+        b.append("}\n");
+        packageFragment.createCompilationUnit("B.java", b.toString(), true, null);
+        manager = new SearchManager();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        manager.stop();
+        setup.tearDown();
+    }
+
+    @Test
+    public void shouldStartFindUsagesSession() throws Exception {
+        FindUsagesSession session = manager.startFindUsages(JUnitSourceSetup.getProject(), "che.A", 26, "search:output", 0);
+
+        Assertions.assertThat(session.getId()).isNotNull();
+        Assertions.assertThat(session.getSearchElementLabel()).isEqualTo("A");
+    }
+
+    @Test(expected = SearchException.class)
+    public void shouldNotStartFindUsagesSessionWithoutChannel() throws Exception {
+        manager.startFindUsages(JUnitSourceSetup.getProject(), "che.A", 26, "", 0);
+    }
+
+    @Test(expected = NotFoundException.class)
+    public void shouldNotContinueUnknownSession() throws Exception {
+        manager.continueSession("unknown", 0);
+    }
+
+    @Test
+    public void shouldIgnoreCancellationOfUnknownSession() throws Exception {
+        manager.cancelSession("unknown");
+    }
+
+    @Test
+    public void shouldRemoveCancelledSession() throws Exception {
+        FindUsagesSession session = manager.startFindUsages(JUnitSourceSetup.getProject(), "che.A", 26, "search:output", 1);
+
+        manager.cancelSession(session.getId());
+
+        Assertions.assertThat(awaitRemoval(session.getId())).isTrue();
+    }
+
+    @Test
+    public void shouldRemoveCompletedSession() throws Exception {
+        FindUsagesSession session = manager.startFindUsages(JUnitSourceSetup.getProject(), "che.A", 26, "search:output", 0);
+
+        Assertions.assertThat(awaitRemoval(session.getId())).isTrue();
+    }
+
+    /** Waits until session is finished, session which is still running can't be continued from negative cursor. */
+    private boolean awaitRemoval(String sessionId) throws Exception {
+        final long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                manager.continueSession(sessionId, -1);
+            } catch (NotFoundException e) {
+                return true;
+            } catch (ConflictException ignored) {
+            }
+            Thread.sleep(50);
+        }
+        return false;
+    }
+}
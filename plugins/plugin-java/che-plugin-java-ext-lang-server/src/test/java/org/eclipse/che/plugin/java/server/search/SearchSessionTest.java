@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.java.server.search;
+
+import org.eclipse.che.ide.ext.java.shared.dto.search.FindUsagesPage;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.internal.ui.search.JavaSearchQuery;
+import org.eclipse.jdt.internal.ui.search.JavaSearchResult;
+import org.eclipse.search.ui.text.Match;
+import org.eclipse.search.ui.text.MatchEvent;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link SearchSession}.
+ */
+public class SearchSessionTest {
+
+    private SearchManager    manager;
+    private JavaSearchQuery  query;
+    private JavaSearchResult result;
+    private IJavaElement     element;
+    private CountDownLatch   suspended;
+    private Thread           searchThread;
+
+    @Before
+    public void setUp() throws Exception {
+        manager = mock(SearchManager.class);
+        query = mock(JavaSearchQuery.class);
+        result = mock(JavaSearchResult.class);
+        element = mock(IJavaElement.class);
+        suspended = new CountDownLatch(1);
+        when(manager.createQuery(element)).thenReturn(query);
+        when(manager.startSearching(anyLong(), any(TimeUnit.class))).thenReturn(true);
+        when(query.getSearchResult()).thenReturn(result);
+        doAnswer(invocation -> {
+            if (((FindUsagesPage)invocation.getArguments()[1]).isSuspended()) {
+                suspended.countDown();
+            }
+            return null;
+        }).when(manager).sendPage(anyString(), any(FindUsagesPage.class));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (searchThread != null) {
+            searchThread.interrupt();
+        }
+    }
+
+    @Test
+    public void shouldSendAllMatchesAndCompleteSession() throws Exception {
+        final SearchSession session = new SearchSession("search1", "channel", element, 0, manager);
+        findMatches(session, 2, 1);
+
+        session.run();
+
+        final FindUsagesPage last = lastPage();
+        assertThat(last.isCompleted()).isTrue();
+        assertThat(last.getCursor()).isEqualTo(3);
+        assertThat(last.getError()).isNull();
+        verify(manager).sessionFinished(session);
+    }
+
+    @Test
+    public void shouldSuspendSessionAfterMaxResultsUntilItIsResumed() throws Exception {
+        final SearchSession session = new SearchSession("search1", "channel", element, 2, manager);
+        findMatches(session, 2, 1);
+
+        start(session);
+
+        assertThat(suspended.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(session.resume(1)).isFalse();
+        assertThat(session.resume(2)).isTrue();
+        searchThread.join(5000);
+
+        final FindUsagesPage last = lastPage();
+        assertThat(last.isCompleted()).isTrue();
+        assertThat(last.getCursor()).isEqualTo(3);
+        assertThat(last.getError()).isNull();
+    }
+
+    @Test
+    public void shouldGiveTurnToOtherSessionsWhileSuspended() throws Exception {
+        final SearchSession session = new SearchSession("search1", "channel", element, 2, manager);
+        findMatches(session, 2, 1);
+
+        start(session);
+
+        assertThat(suspended.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(manager, timeout(1000)).stopSearching();
+        session.resume(2);
+        searchThread.join(5000);
+
+        verify(manager, times(2)).startSearching(anyLong(), any(TimeUnit.class));
+        verify(manager, times(2)).stopSearching();
+    }
+
+    @Test
+    public void shouldCancelSessionWhichWaitsForItsTurn() throws Exception {
+        when(manager.startSearching(anyLong(), any(TimeUnit.class))).thenReturn(false);
+        final SearchSession session = new SearchSession("search1", "channel", element, 0, manager);
+
+        start(session);
+        session.cancel();
+        searchThread.join(5000);
+
+        assertThat(searchThread.isAlive()).isFalse();
+        assertThat(lastPage().getError()).isEqualTo("Search was cancelled");
+        verify(query, never()).run(any(IProgressMonitor.class));
+        verify(manager, never()).stopSearching();
+    }
+
+    @Test
+    public void shouldNotResumeSessionWhichIsNotSuspended() throws Exception {
+        final SearchSession session = new SearchSession("search1", "channel", element, 2, manager);
+
+        assertThat(session.resume(0)).isFalse();
+    }
+
+    @Test
+    public void shouldFinishSuspendedSessionWhenItIsCancelled() throws Exception {
+        final SearchSession session = new SearchSession("search1", "channel", element, 2, manager);
+        findMatches(session, 2, 1);
+
+        start(session);
+        assertThat(suspended.await(5, TimeUnit.SECONDS)).isTrue();
+        session.cancel();
+        searchThread.join(5000);
+
+        final FindUsagesPage last = lastPage();
+        assertThat(last.isCompleted()).isTrue();
+        assertThat(last.getCursor()).isEqualTo(2);
+        assertThat(last.getError()).isEqualTo("Search was cancelled");
+        verify(manager).sessionFinished(session);
+    }
+
+    @Test
+    public void shouldCancelSessionWhichIsNotResumedInTime() throws Exception {
+        final SearchSession session = new SearchSession("search1", "channel", element, 2, manager, 100);
+        findMatches(session, 2, 1);
+
+        start(session);
+        searchThread.join(5000);
+
+        assertThat(searchThread.isAlive()).isFalse();
+        final FindUsagesPage last = lastPage();
+        assertThat(last.isCompleted()).isTrue();
+        assertThat(last.getError()).isEqualTo("Search was cancelled");
+        verify(manager, timeout(1000)).sessionFinished(session);
+    }
+
+    @Test
+    public void shouldNotRunCancelledSession() throws Exception {
+        final SearchSession session = new SearchSession("search1", "channel", element, 0, manager);
+
+        session.cancel();
+        session.run();
+
+        assertThat(lastPage().getError()).isEqualTo("Search was cancelled");
+        verify(query, never()).run(any(IProgressMonitor.class));
+    }
+
+    /** Makes query report matches to the session by groups of given sizes. */
+    private void findMatches(SearchSession session, int... groups) {
+        when(query.run(any(IProgressMonitor.class))).thenAnswer(invocation -> {
+            for (int size : groups) {
+                final Match[] matches = new Match[size];
+                for (int i = 0; i < size; i++) {
+                    matches[i] = new Match(element, i, 1);
+                }
+                final MatchEvent event = mock(MatchEvent.class);
+                when(event.getKind()).thenReturn(MatchEvent.ADDED);
+                when(event.getMatches()).thenReturn(matches);
+                session.searchResultChanged(event);
+            }
+            return Status.OK_STATUS;
+        });
+    }
+
+    private void start(SearchSession session) {
+        searchThread = new Thread(session);
+        searchThread.setDaemon(true);
+        searchThread.start();
+    }
+
+    private FindUsagesPage lastPage() {
+        final ArgumentCaptor<FindUsagesPage> captor = ArgumentCaptor.forClass(FindUsagesPage.class);
+        verify(manager, atLeastOnce()).sendPage(anyString(), captor.capture());
+        final List<FindUsagesPage> pages = captor.getAllValues();
+        return pages.get(pages.size() - 1);
+    }
+}
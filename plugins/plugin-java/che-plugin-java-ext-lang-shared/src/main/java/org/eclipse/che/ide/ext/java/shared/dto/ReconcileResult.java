@@ -16,6 +16,12 @@ import org.eclipse.che.dto.shared.DTO;
 import java.util.List;
 
 /**
+ * Problems and semantic highlighting of a compilation unit.
+ * <p/>
+ * Result of reconcile in an editor session may be a delta relative to the previous result received by the client.
+ * In this case {@link #getProblems()} and {@link #getHighlightedPositions()} contain only added items and removed
+ * items are listed in {@link #getRemovedProblems()} and {@link #getRemovedPositions()}.
+ *
  * @author Evgen Vidolob
  */
 @DTO
@@ -29,4 +35,39 @@ public interface ReconcileResult {
 
     void setHighlightedPositions(List<HighlightedPosition> positions);
 
+    /** Version of result, results of editor session are numbered starting from 1. Client sends it back to receive delta. */
+    int getVersion();
+
+    void setVersion(int version);
+
+    /**
+     * Version of the editor session document the result is computed for. Editor changes must be sent relative to
+     * this version, the version is incremented by each batch of changes and by reload of the document from its file.
+     */
+    int getDocumentVersion();
+
+    void setDocumentVersion(int documentVersion);
+
+    /** Returns {@code true} if result contains only changes relative to the previous result of the editor session. */
+    boolean isDelta();
+
+    void setDelta(boolean delta);
+
+    /** Problems which are removed since the previous result, set only for delta. */
+    List<Problem> getRemovedProblems();
+
+    void setRemovedProblems(List<Problem> problems);
+
+    /** Highlighted positions which are removed since the previous result, set only for delta. */
+    List<HighlightedPosition> getRemovedPositions();
+
+    void setRemovedPositions(List<HighlightedPosition> positions);
+
+    /**
+     * Returns {@code true} if highlighting was computed only for visible range of the editor.
+     * Highlighting of the rest of compilation unit is computed in background and may be requested separately.
+     */
+    boolean isPartial();
+
+    void setPartial(boolean partial);
 }
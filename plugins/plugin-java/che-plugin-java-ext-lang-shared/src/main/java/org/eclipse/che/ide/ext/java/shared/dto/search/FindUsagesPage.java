@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.ext.java.shared.dto.search;
+
+import org.eclipse.che.dto.shared.DTO;
+
+/**
+ * Portion of matches found by find usages session.
+ */
+@DTO
+public interface FindUsagesPage {
+
+    /** @return the id of the session */
+    String getSessionId();
+
+    void setSessionId(String sessionId);
+
+    /** @return projects and matches found since the previous page */
+    FindUsagesResponse getResponse();
+
+    void setResponse(FindUsagesResponse response);
+
+    /**
+     * Number of matches sent by the session including this page.
+     * Session which is suspended is continued from this cursor.
+     *
+     * @return the cursor
+     */
+    int getCursor();
+
+    void setCursor(int cursor);
+
+    /** @return {@code true} if session has sent max number of matches and waits for continuation */
+    boolean isSuspended();
+
+    void setSuspended(boolean suspended);
+
+    /** @return {@code true} if it is the last page of the session */
+    boolean isCompleted();
+
+    void setCompleted(boolean completed);
+
+    /** @return the error message if search failed or was cancelled */
+    String getError();
+
+    void setError(String error);
+}
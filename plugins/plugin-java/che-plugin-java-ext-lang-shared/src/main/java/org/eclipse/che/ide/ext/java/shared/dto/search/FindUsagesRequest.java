@@ -46,4 +46,22 @@ public interface FindUsagesRequest {
      * @param offset the cursor position in file
      */
     void setOffset(int offset);
+
+    /** @return the websocket channel to which results of search session are sent */
+    String getChannel();
+
+    /**
+     * Set websocket channel of search session.
+     * @param channel the channel to which client is subscribed
+     */
+    void setChannel(String channel);
+
+    /** @return the max number of matches which are sent before session waits for continuation, 0 means no limit */
+    int getMaxResults();
+
+    /**
+     * Set max number of matches sent before session waits for continuation.
+     * @param maxResults the max number of matches
+     */
+    void setMaxResults(int maxResults);
 }
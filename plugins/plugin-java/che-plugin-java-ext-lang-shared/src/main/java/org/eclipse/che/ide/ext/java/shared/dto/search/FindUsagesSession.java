@@ -0,0 +1,31 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.ext.java.shared.dto.search;
+
+import org.eclipse.che.dto.shared.DTO;
+
+/**
+ * Describes started find usages session. Results of the session are sent as {@link FindUsagesPage}
+ * to the channel given in {@link FindUsagesRequest}.
+ */
+@DTO
+public interface FindUsagesSession {
+
+    /** @return the id of the session */
+    String getId();
+
+    void setId(String id);
+
+    /** @return the label of element which usages are searched */
+    String getSearchElementLabel();
+
+    void setSearchElementLabel(String label);
+}
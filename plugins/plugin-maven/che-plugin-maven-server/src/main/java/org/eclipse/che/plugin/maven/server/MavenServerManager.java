@@ -97,7 +97,7 @@ public class MavenServerManager extends RmiObjectWrapper<MavenRemoteServer> {
                 MavenSettings mavenSettings = new MavenSettings();
                 //TODO add more user settings
                 mavenSettings.setMavenHome(new File(System.getenv("M2_HOME")));
-                mavenSettings.setGlobalSettings(new File(System.getProperty("user.home"), ".m2/settings.xml"));
+                mavenSettings.setGlobalSettings(getUserSettings());
                 mavenSettings.setLoggingLevel(MavenTerminal.LEVEL_INFO);
                 if (localRepository != null) {
                     mavenSettings.setLocalRepository(localRepository);
@@ -116,6 +116,30 @@ public class MavenServerManager extends RmiObjectWrapper<MavenRemoteServer> {
         this.localRepository = localRepository;
     }
 
+    /**
+     * Returns local maven repository set for maven servers or {@code null} if it is defined by maven settings.
+     */
+    public File getLocalRepository() {
+        return localRepository;
+    }
+
+    /**
+     * Returns settings files which affect resolution of projects by maven servers, files may not exist.
+     */
+    public List<File> getSettingsFiles() {
+        List<File> files = new ArrayList<>(2);
+        String mavenHome = System.getenv("M2_HOME");
+        if (mavenHome != null) {
+            files.add(new File(mavenHome, "conf/settings.xml"));
+        }
+        files.add(getUserSettings());
+        return files;
+    }
+
+    private static File getUserSettings() {
+        return new File(System.getProperty("user.home"), ".m2/settings.xml");
+    }
+
     public MavenModel interpolateModel(MavenModel model, File projectDir) {
         return perform(() -> getOrCreateWrappedObject().interpolateModel(model, projectDir));
     }
@@ -114,6 +114,33 @@ public abstract class MavenServerWrapper extends RmiObjectWrapper<MavenServer> {
         return perform(() -> getOrCreateWrappedObject().getLocalRepository());
     }
 
+    /**
+     * Eagerly creates remote maven server, so first real request doesn't pay its startup cost.
+     */
+    public void warmUp() {
+        perform(() -> getOrCreateWrappedObject());
+    }
+
+    /**
+     * Checks that remote maven server is created and still responds.
+     *
+     * @return {@code true} if remote server is reachable, {@code false} otherwise
+     */
+    public boolean isAlive() {
+        MavenServer wrapped = getWrapped();
+        if (wrapped == null) {
+            return false;
+        }
+        try {
+            wrapped.getLocalRepository();
+            return true;
+        } catch (RemoteException e) {
+            LOG.debug(e.getMessage(), e);
+            onError();
+            return false;
+        }
+    }
+
     private <T> T perform(RunnableRemoteWithResult<T> runnable) {
         RemoteException exception = null;
         for (int i = 0; i < 2; i++) {
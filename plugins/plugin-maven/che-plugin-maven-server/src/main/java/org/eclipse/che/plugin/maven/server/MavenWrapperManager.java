@@ -10,60 +10,250 @@
  *******************************************************************************/
 package org.eclipse.che.plugin.maven.server;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import com.google.inject.name.Named;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
- *
- * Manages and cache MavenServerWrapper instances
+ * Manages pools of {@link MavenServerWrapper} instances, one pool per {@link ServerType}.
+ * <p/>
+ * Each pool holds at most {@code che.maven.server.pool.size} servers. Servers are leased with
+ * {@link #getMavenServer(ServerType)} and must be returned with {@link #release(MavenServerWrapper)}.
+ * Returned servers are reset, checked for liveness and put back to the pool unless they are older
+ * than {@code che.maven.server.pool.max_age_ms}. When pool is exhausted caller waits up to
+ * {@code che.maven.server.pool.wait_timeout_ms} for a returned server, after that temporary
+ * server is created and disposed on release. Pool keeps {@code che.maven.server.pool.min_idle}
+ * servers started in background.
  *
  * @author Evgen Vidolob
  */
 @Singleton
 public class MavenWrapperManager {
+    private static final Logger LOG = LoggerFactory.getLogger(MavenWrapperManager.class);
 
+    private final MavenServerManager            serverManager;
+    private final int                           poolSize;
+    private final int                           minIdle;
+    private final long                          maxAgeMs;
+    private final long                          waitTimeoutMs;
+    private final Map<ServerType, Pool>         pools  = new EnumMap<>(ServerType.class);
+    private final Map<MavenServerWrapper, PooledServer> leased = new HashMap<>();
+    private final ExecutorService               warmUpExecutor;
 
-    private final MavenServerManager    serverManager;
-    private final Map<ServerType, MavenServerWrapper> cache = new HashMap<>();
-    private final Set<MavenServerWrapper> usedServers = new HashSet<>();
+    private boolean closed;
 
+    /**
+     * Creates manager which keeps single server per {@link ServerType} and never waits for it.
+     */
+    public MavenWrapperManager(MavenServerManager serverManager) {
+        this(serverManager, 1, 0, 0, 0);
+    }
 
     @Inject
-    public MavenWrapperManager(MavenServerManager serverManager) {
+    public MavenWrapperManager(MavenServerManager serverManager,
+                               @Named("che.maven.server.pool.size") int poolSize,
+                               @Named("che.maven.server.pool.min_idle") int minIdle,
+                               @Named("che.maven.server.pool.max_age_ms") long maxAgeMs,
+                               @Named("che.maven.server.pool.wait_timeout_ms") long waitTimeoutMs) {
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("Maven server pool size must be positive, but was " + poolSize);
+        }
         this.serverManager = serverManager;
+        this.poolSize = poolSize;
+        this.minIdle = Math.max(0, Math.min(minIdle, poolSize));
+        this.maxAgeMs = maxAgeMs;
+        this.waitTimeoutMs = waitTimeoutMs;
+        for (ServerType type : ServerType.values()) {
+            pools.put(type, new Pool());
+        }
+        this.warmUpExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("MavenServerWarmUp-%d")
+                                                                                          .setDaemon(true)
+                                                                                          .build());
+        for (ServerType type : ServerType.values()) {
+            scheduleWarmUp(type);
+        }
     }
 
-    public synchronized MavenServerWrapper getMavenServer(ServerType type) {
-        MavenServerWrapper wrapper = cache.get(type);
-        if (wrapper == null) {
-            wrapper = serverManager.createMavenServer();
-            cache.put(type, wrapper);
+    /**
+     * Leases server of given type. Returned server must be passed to {@link #release(MavenServerWrapper)}
+     * after usage.
+     */
+    public MavenServerWrapper getMavenServer(ServerType type) {
+        final Pool pool = pools.get(type);
+        final long deadline = System.currentTimeMillis() + waitTimeoutMs;
+        final List<PooledServer> expired = new ArrayList<>();
+        try {
+            synchronized (this) {
+                while (!closed) {
+                    PooledServer server;
+                    while ((server = pool.idle.poll()) != null) {
+                        if (server.isExpired()) {
+                            pool.size--;
+                            expired.add(server);
+                        } else {
+                            leased.put(server.wrapper, server);
+                            return server.wrapper;
+                        }
+                    }
+                    if (pool.size < poolSize) {
+                        server = new PooledServer(type, serverManager.createMavenServer());
+                        pool.size++;
+                        leased.put(server.wrapper, server);
+                        return server.wrapper;
+                    }
+                    final long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    try {
+                        wait(remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+            }
+        } finally {
+            expired.forEach(server -> server.wrapper.dispose());
+            if (!expired.isEmpty()) {
+                scheduleWarmUp(type);
+            }
         }
 
-        if (usedServers.contains(wrapper)) {
-            //need to warn here
-            return serverManager.createMavenServer();
+        LOG.warn("All {} maven servers are in use, creating temporary one", type);
+        return serverManager.createMavenServer();
+    }
+
+    /**
+     * Returns server to the pool. Temporary, expired and broken servers are disposed.
+     */
+    public void release(MavenServerWrapper wrapper) {
+        final PooledServer server;
+        synchronized (this) {
+            server = leased.remove(wrapper);
+        }
+        if (server == null) {
+            wrapper.dispose();
+            return;
         }
 
-        usedServers.add(wrapper);
-        return wrapper;
+        wrapper.reset();
+        final boolean reusable = !server.isExpired() && wrapper.isAlive();
+        synchronized (this) {
+            final Pool pool = pools.get(server.type);
+            if (reusable && !closed) {
+                pool.idle.push(server);
+            } else {
+                pool.size--;
+            }
+            notifyAll();
+        }
+        if (!reusable) {
+            wrapper.dispose();
+            scheduleWarmUp(server.type);
+        }
     }
 
-    public synchronized void release(MavenServerWrapper wrapper) {
-        if (usedServers.contains(wrapper)) {
-            wrapper.reset();
-            usedServers.remove(wrapper);
-        } else {
-            wrapper.dispose();
+    @PreDestroy
+    public void shutdown() {
+        final List<PooledServer> idle = new ArrayList<>();
+        synchronized (this) {
+            closed = true;
+            for (Pool pool : pools.values()) {
+                idle.addAll(pool.idle);
+                pool.size -= pool.idle.size();
+                pool.idle.clear();
+            }
+            notifyAll();
+        }
+        warmUpExecutor.shutdownNow();
+        idle.forEach(server -> server.wrapper.dispose());
+    }
+
+    private void scheduleWarmUp(ServerType type) {
+        if (minIdle == 0) {
+            return;
+        }
+        try {
+            warmUpExecutor.execute(() -> warmUp(type));
+        } catch (RuntimeException e) {
+            LOG.debug("Can't schedule warm up of maven server", e);
+        }
+    }
+
+    private void warmUp(ServerType type) {
+        final Pool pool = pools.get(type);
+        while (!Thread.currentThread().isInterrupted()) {
+            final PooledServer server;
+            synchronized (this) {
+                if (closed || pool.size >= poolSize || pool.idle.size() >= minIdle) {
+                    return;
+                }
+                server = new PooledServer(type, serverManager.createMavenServer());
+                pool.size++;
+            }
+            try {
+                server.wrapper.warmUp();
+            } catch (RuntimeException e) {
+                LOG.warn("Can't start maven server", e);
+                synchronized (this) {
+                    pool.size--;
+                }
+                server.wrapper.dispose();
+                return;
+            }
+            synchronized (this) {
+                if (closed) {
+                    pool.size--;
+                } else {
+                    pool.idle.push(server);
+                    notifyAll();
+                    continue;
+                }
+            }
+            server.wrapper.dispose();
+            return;
         }
     }
 
     public enum ServerType {
         RESOLVE, DOWNLOAD
     }
+
+    private static class Pool {
+        private final Deque<PooledServer> idle = new ArrayDeque<>();
+        /** Number of idle and leased servers of the pool. */
+        private int size;
+    }
+
+    private class PooledServer {
+        private final ServerType         type;
+        private final MavenServerWrapper wrapper;
+        private final long               created;
+
+        PooledServer(ServerType type, MavenServerWrapper wrapper) {
+            this.type = type;
+            this.wrapper = wrapper;
+            this.created = System.currentTimeMillis();
+        }
+
+        boolean isExpired() {
+            return maxAgeMs > 0 && System.currentTimeMillis() - created > maxAgeMs;
+        }
+    }
 }
@@ -11,14 +11,22 @@
 package org.eclipse.che.plugin.maven.server.core;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import com.google.inject.name.Named;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
@@ -31,18 +39,52 @@ public class MavenExecutorService {
     private static final Logger LOG = LoggerFactory.getLogger(MavenExecutorService.class);
 
     private final ExecutorService service;
+    private final ExecutorService parallelService;
 
     public MavenExecutorService() {
+        this(1);
+    }
+
+    /**
+     * @param parallelism
+     *         number of threads used for running tasks passed to {@link #invokeAll(Collection)}
+     */
+    @Inject
+    public MavenExecutorService(@Named("che.maven.resolve.threads") int parallelism) {
         ThreadFactory threadFactory = new ThreadFactoryBuilder().setNameFormat("Maven Executor - %d").build();
         service = Executors.newFixedThreadPool(1, threadFactory);
+        ThreadFactory parallelThreadFactory = new ThreadFactoryBuilder().setNameFormat("Maven Parallel Executor - %d").build();
+        parallelService = Executors.newFixedThreadPool(Math.max(1, parallelism), parallelThreadFactory);
     }
 
     public void submit(Runnable task) {
         service.execute(task);
     }
 
+    /**
+     * Runs given tasks in parallel and waits until all of them are done.
+     * Failures of the tasks are logged and don't affect other tasks.
+     *
+     * @throws InterruptedException
+     *         if current thread was interrupted while waiting
+     */
+    public void invokeAll(Collection<? extends Callable<Void>> tasks) throws InterruptedException {
+        List<Future<Void>> futures = new ArrayList<>(tasks.size());
+        for (Callable<Void> task : tasks) {
+            futures.add(parallelService.submit(task));
+        }
+        for (Future<Void> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                LOG.error(e.getCause().getMessage(), e.getCause());
+            }
+        }
+    }
+
     @PreDestroy
     public void shutdown() throws InterruptedException {
+        parallelService.shutdownNow();
         // Tell threads to finish off.
         service.shutdown(); // Disable new tasks from being submitted
         try {
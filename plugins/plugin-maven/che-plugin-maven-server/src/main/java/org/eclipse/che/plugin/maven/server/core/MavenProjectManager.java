@@ -14,18 +14,26 @@ import com.google.inject.Inject;
 import com.google.inject.Provider;
 import com.google.inject.Singleton;
 
+import org.eclipse.che.ide.maven.tools.Model;
+import org.eclipse.che.ide.maven.tools.Parent;
 import org.eclipse.che.maven.data.MavenArtifact;
+import org.eclipse.che.maven.data.MavenConstants;
 import org.eclipse.che.maven.data.MavenKey;
+import org.eclipse.che.maven.data.MavenModel;
 import org.eclipse.che.maven.data.MavenWorkspaceCache;
 import org.eclipse.che.maven.server.MavenTerminal;
 import org.eclipse.che.plugin.maven.server.MavenServerManager;
 import org.eclipse.che.plugin.maven.server.MavenServerWrapper;
 import org.eclipse.che.plugin.maven.server.MavenWrapperManager;
+import org.eclipse.che.plugin.maven.server.core.classpath.MavenLocalRepositoryUtil;
+import org.eclipse.che.plugin.maven.server.core.project.MavenModelReaderResult;
 import org.eclipse.che.plugin.maven.server.core.project.MavenProject;
 import org.eclipse.che.plugin.maven.server.core.project.MavenProjectModifications;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IWorkspace;
 
+import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.Proxy;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -66,6 +74,7 @@ public class MavenProjectManager {
     private final MavenTerminal         terminal;
     private final MavenProgressNotifier mavenNotifier;
     private final Provider<IWorkspace>  workspaceProvider;
+    private final MavenResolveCache     resolveCache;
 
     private final ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
     private final Lock                   readLock      = readWriteLock.readLock();
@@ -73,17 +82,27 @@ public class MavenProjectManager {
 
     private final MavenProjectListener dispatcher;
 
-    @Inject
     public MavenProjectManager(MavenWrapperManager wrapperManager,
                                MavenServerManager serverManager,
                                MavenTerminal terminal,
                                MavenProgressNotifier mavenNotifier,
                                EclipseWorkspaceProvider workspaceProvider) {
+        this(wrapperManager, serverManager, terminal, mavenNotifier, workspaceProvider, new MavenResolveCache(null));
+    }
+
+    @Inject
+    public MavenProjectManager(MavenWrapperManager wrapperManager,
+                               MavenServerManager serverManager,
+                               MavenTerminal terminal,
+                               MavenProgressNotifier mavenNotifier,
+                               EclipseWorkspaceProvider workspaceProvider,
+                               MavenResolveCache resolveCache) {
         this.wrapperManager = wrapperManager;
         this.serverManager = serverManager;
         this.terminal = terminal;
         this.mavenNotifier = mavenNotifier;
         this.workspaceProvider = workspaceProvider;
+        this.resolveCache = resolveCache;
         mavenWorkspaceCache = new MavenWorkspaceCache();
         keyToProjectMap = new HashMap<>();
         projectToMavenProjectMap = new HashMap<>();
@@ -113,12 +132,38 @@ public class MavenProjectManager {
     }
 
     public void resolveMavenProject(IProject project, MavenProject mavenProject) {
+        File pom = mavenProject.getPomFile();
+        String location = pom == null ? null : pom.getParent();
+        String cacheKey = null;
+        MavenWorkspaceCache workspaceCache = copyWorkspaceCache();
+        if (location != null) {
+            cacheKey = resolveCache.computeKey(location,
+                                               getPomHierarchy(mavenProject),
+                                               mavenProject.getActiveProfiles(),
+                                               mavenProject.getInactiveProfiles(),
+                                               serverManager.getSettingsFiles(),
+                                               serverManager.getLocalRepository(),
+                                               workspaceCache);
+            MavenModelReaderResult cached = resolveCache.get(location, cacheKey);
+            if (cached != null) {
+                dispatcher.projectResolved(mavenProject, mavenProject.setResolveResult(cached));
+                return;
+            }
+        }
+
         MavenServerWrapper mavenServer = wrapperManager.getMavenServer(MavenWrapperManager.ServerType.RESOLVE);
         try {
 
             mavenNotifier.setText("Resolving project: " + mavenProject.getName());
-            mavenServer.customize(copyWorkspaceCache(), terminal, mavenNotifier, false, true);
-            MavenProjectModifications modifications = mavenProject.resolve(project, mavenServer, serverManager);
+            mavenServer.customize(workspaceCache, terminal, mavenNotifier, false, true);
+            MavenModelReaderResult result = mavenProject.resolveModel(project, mavenServer, serverManager);
+            MavenProjectModifications modifications = mavenProject.setResolveResult(result);
+            if (location != null) {
+                resolveCache.put(location,
+                                 cacheKey,
+                                 result,
+                                 getExternalParentPoms(result.getMavenModel(), mavenServer.getLocalRepository(), workspaceCache));
+            }
             dispatcher.projectResolved(mavenProject, modifications);
 
         } finally {
@@ -127,6 +172,59 @@ public class MavenProjectManager {
 
     }
 
+    /**
+     * Returns pom.xml of the project followed by pom.xml files of its parents which exist in workspace.
+     */
+    private List<File> getPomHierarchy(MavenProject mavenProject) {
+        List<File> poms = new ArrayList<>();
+        Set<MavenProject> visited = new HashSet<>();
+        readLock.lock();
+        try {
+            MavenProject current = mavenProject;
+            while (current != null && visited.add(current)) {
+                File pom = current.getPomFile();
+                if (pom != null) {
+                    poms.add(pom);
+                }
+                MavenKey parentKey = current.getParentKey();
+                current = parentKey == null ? null : keyToProjectMap.get(parentKey);
+            }
+        } finally {
+            readLock.unlock();
+        }
+        return poms;
+    }
+
+    /**
+     * Returns pom.xml files of parents of the model which are read from local repository,
+     * starting from the nearest parent which is not in workspace.
+     */
+    private static List<File> getExternalParentPoms(MavenModel model, File localRepository, MavenWorkspaceCache workspace) {
+        List<File> poms = new ArrayList<>();
+        Set<MavenKey> visited = new HashSet<>();
+        MavenKey parentKey = model.getParent() == null ? null : model.getParent().getMavenKey();
+        while (parentKey != null && parentKey.getGroupId() != null && visited.add(parentKey)) {
+            if (workspace.findEntry(parentKey) != null) {
+                // parent in workspace is a part of cache key
+                return poms;
+            }
+            File pom = MavenLocalRepositoryUtil.getFileForArtifact(localRepository,
+                                                                   parentKey.getGroupId(),
+                                                                   parentKey.getArtifactId(),
+                                                                   parentKey.getVersion(),
+                                                                   null,
+                                                                   MavenConstants.POM_EXTENSION);
+            poms.add(pom);
+            try {
+                Parent parent = pom.exists() ? Model.readFrom(pom).getParent() : null;
+                parentKey = parent == null ? null : new MavenKey(parent.getGroupId(), parent.getArtifactId(), parent.getVersion());
+            } catch (IOException e) {
+                // resolution of project with unreadable parent has problems and isn't cached
+                parentKey = null;
+            }
+        }
+        return poms;
+    }
 
     public void update(List<IProject> projects, boolean recursive) {
         if (projects.isEmpty()) {
@@ -279,6 +377,11 @@ public class MavenProjectManager {
             writeLock.unlock();
         }
 
+        File pom = removedModule.getPomFile();
+        if (pom != null) {
+            resolveCache.invalidate(pom.getParent());
+        }
+
         state.remove(removedModule);
 
     }
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.maven.server.core;
+
+import org.eclipse.che.maven.data.MavenArtifact;
+import org.eclipse.che.maven.data.MavenKey;
+import org.eclipse.che.plugin.maven.server.core.project.MavenProject;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Splits maven projects into resolve waves according to reactor order.
+ * <p/>
+ * Project is placed in a wave after its parent and after all projects it depends on, if those
+ * projects are also going to be resolved. Projects of one wave don't depend on each other and
+ * may be resolved in parallel. Projects with cyclic dependencies are placed in the last wave.
+ */
+public final class MavenProjectResolveOrder {
+
+    private static final Comparator<MavenProject> BY_PATH =
+            Comparator.comparing(project -> project.getProject().getFullPath().toOSString());
+
+    private MavenProjectResolveOrder() {
+    }
+
+    /**
+     * Returns waves of projects, each wave sorted by project path.
+     */
+    public static List<List<MavenProject>> computeWaves(Collection<MavenProject> projects) {
+        Map<MavenKey, MavenProject> keyToProject = new HashMap<>();
+        for (MavenProject project : projects) {
+            MavenKey key = project.getMavenKey();
+            if (key != null) {
+                keyToProject.put(key, project);
+            }
+        }
+
+        Map<MavenProject, Set<MavenProject>> projectToRequired = new LinkedHashMap<>();
+        for (MavenProject project : projects) {
+            Set<MavenProject> required = new HashSet<>();
+            MavenProject parent = find(keyToProject, project.getParentKey());
+            if (parent != null) {
+                required.add(parent);
+            }
+            List<MavenArtifact> dependencies = project.getDependencies();
+            if (dependencies != null) {
+                for (MavenArtifact dependency : dependencies) {
+                    MavenProject dependencyProject =
+                            find(keyToProject, new MavenKey(dependency.getGroupId(), dependency.getArtifactId(), dependency.getVersion()));
+                    if (dependencyProject != null) {
+                        required.add(dependencyProject);
+                    }
+                }
+            }
+            required.remove(project);
+            projectToRequired.put(project, required);
+        }
+
+        List<List<MavenProject>> waves = new ArrayList<>();
+        Set<MavenProject> done = new HashSet<>();
+        while (!projectToRequired.isEmpty()) {
+            List<MavenProject> wave = new ArrayList<>();
+            for (Map.Entry<MavenProject, Set<MavenProject>> entry : projectToRequired.entrySet()) {
+                if (done.containsAll(entry.getValue())) {
+                    wave.add(entry.getKey());
+                }
+            }
+            if (wave.isEmpty()) {
+                //cyclic dependencies, resolve rest of the projects together
+                wave.addAll(projectToRequired.keySet());
+            }
+            wave.sort(BY_PATH);
+            wave.forEach(projectToRequired::remove);
+            done.addAll(wave);
+            waves.add(wave);
+        }
+        return waves;
+    }
+
+    private static MavenProject find(Map<MavenKey, MavenProject> keyToProject, MavenKey key) {
+        return key == null ? null : keyToProject.get(key);
+    }
+}
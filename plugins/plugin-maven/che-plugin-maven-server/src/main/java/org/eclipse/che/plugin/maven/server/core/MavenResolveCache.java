@@ -0,0 +1,276 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.maven.server.core;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+
+import org.eclipse.che.maven.data.MavenArtifact;
+import org.eclipse.che.maven.data.MavenConstants;
+import org.eclipse.che.maven.data.MavenKey;
+import org.eclipse.che.maven.data.MavenModel;
+import org.eclipse.che.maven.data.MavenWorkspaceCache;
+import org.eclipse.che.plugin.maven.server.core.project.MavenModelReaderResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * On-disk cache of maven project resolution results.
+ * <p/>
+ * Result is stored per project and is keyed by a hash of the project location, content of pom.xml
+ * of the project and its parents in workspace, active/inactive profiles, content of maven settings,
+ * location of local repository and set of projects in workspace. Stamps of all resolved artifact
+ * files and parent pom.xml files outside of workspace are stored with the result, so entry is treated
+ * as stale when local repository content for any of them has been changed or removed. Only results
+ * without problems and unresolved artifacts are cached.
+ */
+@Singleton
+public class MavenResolveCache {
+    private static final Logger LOG = LoggerFactory.getLogger(MavenResolveCache.class);
+
+    private final Path cacheDir;
+
+    /**
+     * @param cacheDir
+     *         directory for cache entries, if {@code null} caching is disabled
+     */
+    @Inject
+    public MavenResolveCache(@Named("che.maven.resolve.cache.dir") String cacheDir) {
+        this.cacheDir = cacheDir == null ? null : Paths.get(cacheDir);
+    }
+
+    /**
+     * Computes cache key for the resolution of the project.
+     *
+     * @param projectLocation
+     *         absolute location of the project
+     * @param pomFiles
+     *         pom.xml of the project followed by pom.xml files of its parents
+     * @param activeProfiles
+     *         explicitly activated profiles
+     * @param inactiveProfiles
+     *         explicitly deactivated profiles
+     * @param settingsFiles
+     *         maven settings files used for resolution, files may not exist
+     * @param localRepository
+     *         local repository set explicitly for resolution or {@code null} if it is defined by settings
+     * @param workspace
+     *         projects of workspace which are resolved from workspace instead of local repository
+     * @return cache key or {@code null} if any of pom or settings files can't be read
+     */
+    public String computeKey(String projectLocation,
+                             List<File> pomFiles,
+                             List<String> activeProfiles,
+                             List<String> inactiveProfiles,
+                             List<File> settingsFiles,
+                             File localRepository,
+                             MavenWorkspaceCache workspace) {
+        Hasher hasher = Hashing.sha1().newHasher().putString(projectLocation, StandardCharsets.UTF_8);
+        try {
+            for (File pom : pomFiles) {
+                hasher.putBytes(Files.readAllBytes(pom.toPath()));
+            }
+            for (File settings : settingsFiles) {
+                hasher.putChar('s');
+                if (settings.exists()) {
+                    hasher.putBytes(Files.readAllBytes(settings.toPath()));
+                }
+            }
+        } catch (IOException e) {
+            LOG.debug(e.getMessage(), e);
+            return null;
+        }
+        hasher.putChar('r').putString(String.valueOf(localRepository), StandardCharsets.UTF_8);
+        putStrings(hasher.putChar('+'), activeProfiles);
+        putStrings(hasher.putChar('-'), inactiveProfiles);
+        putStrings(hasher.putChar('w'), getWorkspaceProjects(workspace));
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Returns cached resolution result of project or {@code null} when there is no valid cached result for given key.
+     */
+    public MavenModelReaderResult get(String projectLocation, String key) {
+        if (cacheDir == null || key == null) {
+            return null;
+        }
+        Path entryFile = getEntryFile(projectLocation);
+        if (!Files.exists(entryFile)) {
+            return null;
+        }
+        Entry entry;
+        try (InputStream in = Files.newInputStream(entryFile);
+             ObjectInputStream objectIn = new ObjectInputStream(in)) {
+            entry = (Entry)objectIn.readObject();
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            LOG.debug("Can't read maven resolve cache entry " + entryFile, e);
+            return null;
+        }
+        if (!key.equals(entry.key) || !isUpToDate(entry.artifactStamps)) {
+            return null;
+        }
+        return new MavenModelReaderResult(entry.model,
+                                          new ArrayList<>(entry.activeProfiles),
+                                          new ArrayList<>(entry.inactiveProfiles),
+                                          new ArrayList<>(),
+                                          new HashSet<>());
+    }
+
+    /**
+     * Stores resolution result of project. Results which contain problems are not cached and
+     * remove previously cached result of the project.
+     *
+     * @param externalPoms
+     *         pom.xml files of parents of the project which are read from local repository
+     */
+    public void put(String projectLocation, String key, MavenModelReaderResult result, List<File> externalPoms) {
+        if (cacheDir == null) {
+            return;
+        }
+        Path entryFile = getEntryFile(projectLocation);
+        try {
+            if (key == null || !result.getProblems().isEmpty() || !result.getUnresolvedArtifacts().isEmpty()) {
+                Files.deleteIfExists(entryFile);
+                return;
+            }
+            HashMap<String, Long> stamps = collectStamps(result.getMavenModel().getDependencies());
+            for (File pom : externalPoms) {
+                if (pom.exists()) {
+                    stamps.put(pom.getPath(), pom.lastModified());
+                }
+            }
+            Entry entry = new Entry(key,
+                                    result.getMavenModel(),
+                                    copyOf(result.getActiveProfiles()),
+                                    copyOf(result.getInactiveProfiles()),
+                                    stamps);
+            Files.createDirectories(cacheDir);
+            Path tmp = Files.createTempFile(cacheDir, "entry", ".tmp");
+            try {
+                try (OutputStream out = Files.newOutputStream(tmp);
+                     ObjectOutputStream objectOut = new ObjectOutputStream(out)) {
+                    objectOut.writeObject(entry);
+                }
+                Files.move(tmp, entryFile, REPLACE_EXISTING, ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            LOG.warn("Can't write maven resolve cache entry " + entryFile, e);
+        }
+    }
+
+    /** Removes cached resolution result of project. */
+    public void invalidate(String projectLocation) {
+        if (cacheDir == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(getEntryFile(projectLocation));
+        } catch (IOException e) {
+            LOG.warn(e.getMessage(), e);
+        }
+    }
+
+    private Path getEntryFile(String projectLocation) {
+        return cacheDir.resolve(Hashing.sha1().hashString(projectLocation, StandardCharsets.UTF_8).toString() + ".ser");
+    }
+
+    private static void putStrings(Hasher hasher, List<String> values) {
+        if (values != null) {
+            for (String value : values) {
+                hasher.putString(value, StandardCharsets.UTF_8).putChar(',');
+            }
+        }
+    }
+
+    /** Returns sorted keys and locations of workspace projects, so key doesn't depend on order of map. */
+    private static List<String> getWorkspaceProjects(MavenWorkspaceCache workspace) {
+        List<String> projects = new ArrayList<>();
+        for (MavenKey key : workspace.getAllKeys()) {
+            File pom = workspace.findEntry(key).getFile(MavenConstants.POM_EXTENSION);
+            projects.add(key + "=" + pom);
+        }
+        Collections.sort(projects);
+        return projects;
+    }
+
+    private static ArrayList<String> copyOf(List<String> values) {
+        return values == null ? new ArrayList<>() : new ArrayList<>(values);
+    }
+
+    private static HashMap<String, Long> collectStamps(List<MavenArtifact> artifacts) {
+        HashMap<String, Long> stamps = new HashMap<>();
+        for (MavenArtifact artifact : artifacts) {
+            File file = artifact.getFile();
+            if (file != null) {
+                stamps.put(file.getPath(), file.lastModified());
+            }
+        }
+        return stamps;
+    }
+
+    private static boolean isUpToDate(Map<String, Long> stamps) {
+        for (Map.Entry<String, Long> stamp : stamps.entrySet()) {
+            File file = new File(stamp.getKey());
+            if (!file.exists() || file.lastModified() != stamp.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class Entry implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final String                key;
+        private final MavenModel            model;
+        private final ArrayList<String>     activeProfiles;
+        private final ArrayList<String>     inactiveProfiles;
+        private final HashMap<String, Long> artifactStamps;
+
+        private Entry(String key,
+                      MavenModel model,
+                      ArrayList<String> activeProfiles,
+                      ArrayList<String> inactiveProfiles,
+                      HashMap<String, Long> artifactStamps) {
+            this.key = key;
+            this.model = model;
+            this.activeProfiles = activeProfiles;
+            this.inactiveProfiles = inactiveProfiles;
+            this.artifactStamps = artifactStamps;
+        }
+    }
+}
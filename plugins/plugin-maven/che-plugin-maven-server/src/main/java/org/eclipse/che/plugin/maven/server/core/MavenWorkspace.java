@@ -46,7 +46,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.stream.Collectors;
 
 import static org.eclipse.che.plugin.maven.shared.MavenAttributes.MAVEN_ID;
 
@@ -62,11 +65,14 @@ public class MavenWorkspace {
     private final Provider<ProjectRegistry> projectRegistryProvider;
     private final MavenCommunication        communication;
     private final ClasspathManager          classpathManager;
+    private final MavenExecutorService      executorService;
 
     private MavenTaskExecutor resolveExecutor;
     private MavenTaskExecutor classPathExecutor;
 
     private Set<MavenProject> projectsToResolve = new CopyOnWriteArraySet<>();
+    //projects which are submitted for resolving but not started yet
+    private Set<MavenProject> scheduledProjects = ConcurrentHashMap.newKeySet();
 
 
     @Inject
@@ -82,6 +88,7 @@ public class MavenWorkspace {
         this.communication = communication;
         this.classpathManager = classpathManager;
         this.manager = manager;
+        this.executorService = executorService;
         resolveExecutor = new MavenTaskExecutor(executorService, notifier);
         eventService.subscribe(new EventSubscriber<ProjectDeletedEvent>() {
             @Override
@@ -148,18 +155,41 @@ public class MavenWorkspace {
     }
 
     private void runResolve() {
-        //TODO synchronise on projectsToResolve change
         Set<MavenProject> needResolve = new HashSet<>(projectsToResolve);
-        projectsToResolve.clear();
+        projectsToResolve.removeAll(needResolve);
+        //skip projects which are already waiting for resolving
+        needResolve.removeIf(project -> !scheduledProjects.add(project));
+        if (needResolve.isEmpty()) {
+            return;
+        }
 
-        for (MavenProject mavenProject : needResolve) {
+        resolveExecutor.submitTask(() -> resolveInReactorOrder(needResolve));
+    }
 
-            resolveExecutor.submitTask(new MavenProjectResolveTask(mavenProject, manager, () -> {
-                addSourcesFromBuildHelperPlugin(mavenProject);
-                classpathManager.updateClasspath(mavenProject);
-            }));
+    /**
+     * Resolves projects wave by wave, projects of a wave are resolved in parallel.
+     * Classpath of all projects of a wave is updated in single JDT operation.
+     */
+    private void resolveInReactorOrder(Set<MavenProject> projects) {
+        for (List<MavenProject> wave : MavenProjectResolveOrder.computeWaves(projects)) {
+            //changes made after this point must schedule new resolving
+            scheduledProjects.removeAll(wave);
+            List<Callable<Void>> tasks = wave.stream()
+                                             .map(project -> (Callable<Void>)() -> {
+                                                 new MavenProjectResolveTask(project, manager, null).perform();
+                                                 return null;
+                                             })
+                                             .collect(Collectors.toList());
+            try {
+                executorService.invokeAll(tasks);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                projects.forEach(scheduledProjects::remove);
+                return;
+            }
+            wave.forEach(this::addSourcesFromBuildHelperPlugin);
+            classpathManager.updateClasspath(wave);
         }
-
     }
 
     private void updateJavaProject(MavenProject project) {
@@ -191,6 +221,10 @@ public class MavenWorkspace {
             Element pluginConfigurationTestSource =
                     project.getPluginConfiguration("org.codehaus.mojo", "build-helper-maven-plugin", "add-test-source");
 
+            if (pluginConfigurationSource == null && pluginConfigurationTestSource == null) {
+                return;
+            }
+
             IPath projectPath = project.getProject().getFullPath();
             RegisteredProject registeredProject = projectRegistryProvider.get().getProject(projectPath.toOSString());
 
@@ -10,6 +10,8 @@
  *******************************************************************************/
 package org.eclipse.che.plugin.maven.server.execution;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,9 +37,16 @@ import java.util.concurrent.TimeUnit;
 public class ProcessHandler implements Executor {
     private static final Logger LOG = LoggerFactory.getLogger(ProcessHandler.class);
 
+    /** Output readers and waiters of all processes share threads, threads which are idle for a minute are stopped. */
+    private static final ExecutorService EXECUTOR = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 1, TimeUnit.MINUTES,
+                                                                           new SynchronousQueue<>(),
+                                                                           new ThreadFactoryBuilder()
+                                                                                   .setNameFormat("Native process polled Thread-%d")
+                                                                                   .setDaemon(true)
+                                                                                   .build());
+
     private final Process               process;
     private final WaitForProcessEnd     waitForProcess;
-    private final ExecutorService       executorService;
     private final ProcessListener       listenerNotifier;
     private final TerminatingTaskRunner terminatingListener;
     private final CountDownLatch        latch;
@@ -47,7 +56,6 @@ public class ProcessHandler implements Executor {
     private volatile ProcessState state = ProcessState.INITIAL;
 
     public ProcessHandler(Process process) {
-        executorService = createExecutorService();
         this.process = process;
         waitForProcess = new WaitForProcessEnd(process, this);
         listenerNotifier = createNotifier();
@@ -69,11 +77,6 @@ public class ProcessHandler implements Executor {
                 .newProxyInstance(ProcessListener.class.getClassLoader(), new Class[] {ProcessListener.class}, invocationHandler);
     }
 
-    private ExecutorService createExecutorService() {
-        return new ThreadPoolExecutor(10, Integer.MAX_VALUE, 1, TimeUnit.MINUTES, new SynchronousQueue<>(),
-                                      (r -> new Thread(r, "Native process polled Thread")));
-    }
-
     public boolean isProcessTerminating() {
         return false;
     }
@@ -171,7 +174,7 @@ public class ProcessHandler implements Executor {
 
     @Override
     public Future<?> execute(Runnable runnable) {
-        return executorService.submit(runnable);
+        return EXECUTOR.submit(runnable);
     }
 
     public boolean isStarted() {
@@ -14,6 +14,7 @@ import org.eclipse.che.api.core.ForbiddenException;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.project.server.FileEntry;
 import org.eclipse.che.api.project.server.FolderEntry;
+import org.eclipse.che.api.project.server.type.DescriptorCache;
 import org.eclipse.che.api.project.server.type.ReadonlyValueProvider;
 import org.eclipse.che.api.project.server.type.ValueProvider;
 import org.eclipse.che.api.project.server.type.ValueProviderFactory;
@@ -23,6 +24,7 @@ import org.eclipse.che.ide.maven.tools.Build;
 import org.eclipse.che.ide.maven.tools.Model;
 import org.eclipse.che.ide.maven.tools.Resource;
 
+import javax.inject.Inject;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
@@ -49,12 +51,26 @@ import static org.eclipse.che.plugin.maven.shared.MavenAttributes.VERSION;
  */
 public class MavenValueProviderFactory implements ValueProviderFactory {
 
+    private final DescriptorCache descriptorCache;
+
+    public MavenValueProviderFactory() {
+        this(new DescriptorCache());
+    }
+
+    @Inject
+    public MavenValueProviderFactory(DescriptorCache descriptorCache) {
+        this.descriptorCache = descriptorCache;
+    }
+
+    /**
+     * Returns model of pom.xml of the project. Model is shared by all value providers and must not be modified.
+     */
     protected Model readModel(FolderEntry projectFolder) throws ValueStorageException, ServerException, ForbiddenException, IOException {
         FileEntry pomFile = (FileEntry)projectFolder.getChild("pom.xml");
         if (pomFile == null) {
             throw new ValueStorageException("pom.xml does not exist.");
         }
-        return Model.readFrom(pomFile.getInputStream());
+        return descriptorCache.get(pomFile.getVirtualFile(), Model.class, Model::readFrom);
     }
 
     protected void throwReadException(Exception e) throws ValueStorageException {
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.maven.server;
+
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import static org.eclipse.che.plugin.maven.server.MavenWrapperManager.ServerType.DOWNLOAD;
+import static org.eclipse.che.plugin.maven.server.MavenWrapperManager.ServerType.RESOLVE;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Tests for {@link MavenWrapperManager}.
+ */
+@Listeners(MockitoTestNGListener.class)
+public class MavenWrapperManagerTest {
+
+    @Mock
+    private MavenServerManager serverManager;
+
+    private MavenWrapperManager wrapperManager;
+
+    @BeforeMethod
+    public void setUp() {
+        when(serverManager.createMavenServer()).thenAnswer(invocation -> {
+            MavenServerWrapper wrapper = mock(MavenServerWrapper.class);
+            when(wrapper.isAlive()).thenReturn(true);
+            return wrapper;
+        });
+        wrapperManager = new MavenWrapperManager(serverManager, 2, 0, 0, 0);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        wrapperManager.shutdown();
+    }
+
+    @Test
+    public void shouldReuseReleasedServer() {
+        MavenServerWrapper first = wrapperManager.getMavenServer(RESOLVE);
+        wrapperManager.release(first);
+
+        MavenServerWrapper second = wrapperManager.getMavenServer(RESOLVE);
+
+        assertSame(second, first);
+        verify(first).reset();
+        verify(first, never()).dispose();
+    }
+
+    @Test
+    public void shouldKeepSeparatePoolsPerServerType() {
+        MavenServerWrapper resolve = wrapperManager.getMavenServer(RESOLVE);
+        wrapperManager.release(resolve);
+
+        MavenServerWrapper download = wrapperManager.getMavenServer(DOWNLOAD);
+
+        assertNotSame(download, resolve);
+    }
+
+    @Test
+    public void shouldCreateTemporaryServerWhenPoolIsExhausted() {
+        MavenServerWrapper first = wrapperManager.getMavenServer(RESOLVE);
+        MavenServerWrapper second = wrapperManager.getMavenServer(RESOLVE);
+        MavenServerWrapper temporary = wrapperManager.getMavenServer(RESOLVE);
+
+        wrapperManager.release(temporary);
+
+        verify(temporary).dispose();
+        verify(temporary, never()).reset();
+        wrapperManager.release(first);
+        wrapperManager.release(second);
+        verify(first, never()).dispose();
+        verify(second, never()).dispose();
+    }
+
+    @Test
+    public void shouldDisposeDeadServerOnRelease() {
+        MavenServerWrapper first = wrapperManager.getMavenServer(RESOLVE);
+        when(first.isAlive()).thenReturn(false);
+
+        wrapperManager.release(first);
+        MavenServerWrapper second = wrapperManager.getMavenServer(RESOLVE);
+
+        verify(first).dispose();
+        assertNotSame(second, first);
+    }
+
+    @Test
+    public void shouldWaitForReleasedServerWhenPoolIsExhausted() throws Exception {
+        wrapperManager.shutdown();
+        wrapperManager = new MavenWrapperManager(serverManager, 1, 0, 0, 10_000);
+        MavenServerWrapper first = wrapperManager.getMavenServer(RESOLVE);
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException ignored) {
+            }
+            wrapperManager.release(first);
+        });
+        releaser.start();
+
+        MavenServerWrapper second = wrapperManager.getMavenServer(RESOLVE);
+        releaser.join();
+
+        assertSame(second, first);
+    }
+
+    @Test
+    public void shouldDisposeExpiredServer() throws Exception {
+        wrapperManager.shutdown();
+        wrapperManager = new MavenWrapperManager(serverManager, 1, 0, 1, 0);
+        MavenServerWrapper first = wrapperManager.getMavenServer(RESOLVE);
+        Thread.sleep(5);
+
+        wrapperManager.release(first);
+
+        verify(first).dispose();
+    }
+}
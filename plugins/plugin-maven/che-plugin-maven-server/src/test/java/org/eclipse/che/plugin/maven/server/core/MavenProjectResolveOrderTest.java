@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.maven.server.core;
+
+import org.eclipse.che.maven.data.MavenArtifact;
+import org.eclipse.che.maven.data.MavenKey;
+import org.eclipse.che.plugin.maven.server.core.project.MavenProject;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.Path;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Tests for {@link MavenProjectResolveOrder}.
+ */
+public class MavenProjectResolveOrderTest {
+
+    @Test
+    public void shouldResolveParentBeforeModules() {
+        MavenProject parent = project("parent", null);
+        MavenProject moduleA = project("moduleA", parent.getMavenKey());
+        MavenProject moduleB = project("moduleB", parent.getMavenKey());
+
+        List<List<MavenProject>> waves = MavenProjectResolveOrder.computeWaves(asList(moduleB, moduleA, parent));
+
+        assertEquals(waves, asList(singletonList(parent), asList(moduleA, moduleB)));
+    }
+
+    @Test
+    public void shouldResolveDependencyBeforeDependentProject() {
+        MavenProject core = project("core", null);
+        MavenProject api = project("api", null, core);
+        MavenProject independent = project("independent", null);
+
+        List<List<MavenProject>> waves = MavenProjectResolveOrder.computeWaves(asList(api, independent, core));
+
+        assertEquals(waves, asList(asList(core, independent), singletonList(api)));
+    }
+
+    @Test
+    public void shouldPutProjectsWithCyclicDependenciesInOneWave() {
+        MavenProject first = project("first", null);
+        MavenProject second = project("second", null, first);
+        List<MavenArtifact> firstDependencies = singletonList(artifact(second));
+        when(first.getDependencies()).thenReturn(firstDependencies);
+
+        List<List<MavenProject>> waves = MavenProjectResolveOrder.computeWaves(asList(second, first));
+
+        assertEquals(waves, singletonList(asList(first, second)));
+    }
+
+    private MavenProject project(String name, MavenKey parentKey, MavenProject... dependencies) {
+        MavenProject project = mock(MavenProject.class);
+        IProject iProject = mock(IProject.class);
+        when(iProject.getFullPath()).thenReturn(new Path("/" + name));
+        when(project.getProject()).thenReturn(iProject);
+        when(project.getMavenKey()).thenReturn(new MavenKey("group", name, "1.0"));
+        when(project.getParentKey()).thenReturn(parentKey);
+        List<MavenArtifact> artifacts = new ArrayList<>();
+        for (MavenProject dependency : dependencies) {
+            artifacts.add(artifact(dependency));
+        }
+        when(project.getDependencies()).thenReturn(artifacts.isEmpty() ? emptyList() : artifacts);
+        return project;
+    }
+
+    private MavenArtifact artifact(MavenProject project) {
+        MavenKey key = project.getMavenKey();
+        return new MavenArtifact(key.getGroupId(), key.getArtifactId(), key.getVersion(), key.getVersion(), "jar", null, "compile",
+                                 false, "jar", null, null, true, false);
+    }
+}
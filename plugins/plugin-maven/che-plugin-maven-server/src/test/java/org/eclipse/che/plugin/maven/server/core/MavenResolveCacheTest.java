@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.maven.server.core;
+
+import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.che.maven.data.MavenArtifact;
+import org.eclipse.che.maven.data.MavenKey;
+import org.eclipse.che.maven.data.MavenModel;
+import org.eclipse.che.maven.data.MavenProjectProblem;
+import org.eclipse.che.maven.data.MavenWorkspaceCache;
+import org.eclipse.che.plugin.maven.server.core.project.MavenModelReaderResult;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static java.util.Collections.singletonList;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Tests for {@link MavenResolveCache}.
+ */
+public class MavenResolveCacheTest {
+
+    private File                root;
+    private File                pom;
+    private File                jar;
+    private File                settings;
+    private String              location;
+    private MavenWorkspaceCache workspace;
+    private MavenResolveCache   cache;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        root = Files.createTempDirectory("resolve-cache").toFile();
+        File project = new File(root, "project");
+        project.mkdirs();
+        location = project.getPath();
+        pom = new File(project, "pom.xml");
+        Files.write(pom.toPath(), "<project/>".getBytes());
+        jar = new File(root, "dependency.jar");
+        Files.write(jar.toPath(), "jar".getBytes());
+        settings = new File(root, "settings.xml");
+        workspace = new MavenWorkspaceCache();
+        workspace.put(new MavenKey("group", "artifact", "1.0"), pom);
+        cache = new MavenResolveCache(new File(root, "cache").getPath());
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        IoUtil.deleteRecursive(root);
+    }
+
+    @Test
+    public void shouldReturnCachedResult() throws Exception {
+        String key = computeKey();
+        cache.put(location, key, createResult(), Collections.emptyList());
+
+        MavenModelReaderResult cached = cache.get(location, key);
+
+        assertNotNull(cached);
+        assertEquals(cached.getMavenModel().getMavenKey(), new MavenKey("group", "artifact", "1.0"));
+        assertEquals(cached.getMavenModel().getDependencies().size(), 1);
+    }
+
+    @Test
+    public void keyShouldChangeWhenPomChanges() throws Exception {
+        String key = computeKey();
+
+        Files.write(pom.toPath(), "<project><packaging>pom</packaging></project>".getBytes());
+
+        assertNotEquals(computeKey(), key);
+    }
+
+    @Test
+    public void keyShouldChangeWhenSettingsChange() throws Exception {
+        String key = computeKey();
+
+        Files.write(settings.toPath(), "<settings/>".getBytes());
+
+        assertNotEquals(computeKey(), key);
+    }
+
+    @Test
+    public void keyShouldChangeWhenLocalRepositoryChanges() throws Exception {
+        String key = computeKey();
+
+        assertNotEquals(cache.computeKey(location, singletonList(pom), Collections.emptyList(), Collections.emptyList(),
+                                         singletonList(settings), new File(root, "repository"), workspace),
+                        key);
+    }
+
+    @Test
+    public void keyShouldChangeWhenProjectIsAddedToWorkspace() throws Exception {
+        String key = computeKey();
+
+        workspace.put(new MavenKey("group", "dependency", "1.0"), new File(root, "dependency/pom.xml"));
+
+        assertNotEquals(computeKey(), key);
+    }
+
+    @Test
+    public void shouldNotReturnResultWhenExternalParentPomChanged() throws Exception {
+        File parentPom = new File(root, "parent.pom");
+        Files.write(parentPom.toPath(), "<project/>".getBytes());
+        String key = computeKey();
+        cache.put(location, key, createResult(), singletonList(parentPom));
+
+        parentPom.setLastModified(parentPom.lastModified() - 10_000);
+
+        assertNull(cache.get(location, key));
+    }
+
+    @Test
+    public void shouldNotReturnResultForAnotherKey() throws Exception {
+        cache.put(location, computeKey(), createResult(), Collections.emptyList());
+
+        assertNull(cache.get(location, "another"));
+    }
+
+    @Test
+    public void shouldNotReturnResultWhenDependencyFileChanged() throws Exception {
+        String key = computeKey();
+        cache.put(location, key, createResult(), Collections.emptyList());
+
+        jar.setLastModified(jar.lastModified() - 10_000);
+
+        assertNull(cache.get(location, key));
+    }
+
+    @Test
+    public void shouldNotCacheResultWithProblems() throws Exception {
+        String key = computeKey();
+        MavenModelReaderResult result = createResult();
+        result.getProblems().add(MavenProjectProblem.newStructureProblem(pom.getPath(), "problem"));
+
+        cache.put(location, key, result, Collections.emptyList());
+
+        assertNull(cache.get(location, key));
+    }
+
+    @Test
+    public void shouldNotReturnInvalidatedResult() throws Exception {
+        String key = computeKey();
+        cache.put(location, key, createResult(), Collections.emptyList());
+
+        cache.invalidate(location);
+
+        assertNull(cache.get(location, key));
+    }
+
+    private String computeKey() {
+        return cache.computeKey(location, singletonList(pom), Collections.emptyList(), Collections.emptyList(),
+                                singletonList(settings), null, workspace);
+    }
+
+    private MavenModelReaderResult createResult() {
+        MavenModel model = new MavenModel();
+        model.setMavenKey(new MavenKey("group", "artifact", "1.0"));
+        model.setDependencies(singletonList(new MavenArtifact("group", "dependency", "1.0", "1.0", "jar", null, "compile",
+                                                              false, "jar", jar, root, true, false)));
+        return new MavenModelReaderResult(model, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new HashSet<>());
+    }
+}
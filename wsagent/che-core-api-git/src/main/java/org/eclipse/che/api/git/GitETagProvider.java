@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.git;
+
+import org.eclipse.che.api.project.server.FolderChangeStamps;
+import org.eclipse.che.everrest.ETagProvider;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.UriInfo;
+import java.util.regex.Pattern;
+
+/**
+ * Supplies tags of committers returned by {@link GitService} from {@link FolderChangeStamps stamp} of the project,
+ * which is changed on every change of the project including its git repository.
+ * Other git GET requests are not tagged, e.g. deletion of repository must always reach the service.
+ */
+@Singleton
+public class GitETagProvider implements ETagProvider {
+    private static final Pattern COMMITERS_PATH = Pattern.compile("/?git/commiters/?");
+
+    private final FolderChangeStamps changeStamps;
+
+    @Inject
+    public GitETagProvider(FolderChangeStamps changeStamps) {
+        this.changeStamps = changeStamps;
+    }
+
+    @Override
+    public EntityTag getETag(UriInfo uriInfo) {
+        if (!COMMITERS_PATH.matcher(uriInfo.getPath()).matches()) {
+            return null;
+        }
+        final String projectPath = uriInfo.getQueryParameters().getFirst("projectPath");
+        if (projectPath == null) {
+            return null;
+        }
+        return changeStamps.getEntityTag(projectPath, uriInfo);
+    }
+}
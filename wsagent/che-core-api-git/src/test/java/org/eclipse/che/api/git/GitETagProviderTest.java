@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.git;
+
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.project.server.FolderChangeStamps;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.UriInfo;
+import java.net.URI;
+
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Tests for {@link GitETagProvider}.
+ */
+@Listeners(MockitoTestNGListener.class)
+public class GitETagProviderTest {
+
+    @Mock
+    private UriInfo                        uriInfo;
+    @Mock
+    private MultivaluedMap<String, String> queryParameters;
+
+    private FolderChangeStamps changeStamps;
+    private GitETagProvider    provider;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        changeStamps = new FolderChangeStamps(new EventService());
+        when(uriInfo.getQueryParameters()).thenReturn(queryParameters);
+        provider = new GitETagProvider(changeStamps);
+    }
+
+    @Test
+    public void shouldSupplyTagOfCommitersUntilProjectIsChanged() throws Exception {
+        request("/git/commiters", "/project");
+        final EntityTag tag = provider.getETag(uriInfo);
+
+        assertEquals(provider.getETag(uriInfo), tag);
+        changeStamps.changed("/project/.git/refs/heads/master");
+        assertNotEquals(provider.getETag(uriInfo), tag);
+    }
+
+    @Test
+    public void shouldNotSupplyTagOfCommitersWithoutProject() throws Exception {
+        request("/git/commiters", null);
+
+        assertNull(provider.getETag(uriInfo));
+    }
+
+    @Test
+    public void shouldNotSupplyTagOfOtherResources() throws Exception {
+        request("/git/delete-repository", "/project");
+
+        assertNull(provider.getETag(uriInfo));
+    }
+
+    private void request(String path, String projectPath) {
+        when(uriInfo.getPath()).thenReturn(path);
+        when(uriInfo.getRequestUri()).thenReturn(URI.create("http://localhost/api" + path + "?projectPath=" + projectPath));
+        when(queryParameters.getFirst("projectPath")).thenReturn(projectPath);
+    }
+}
@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.bench;
+
+import org.eclipse.che.api.core.rest.shared.dto.Link;
+import org.eclipse.che.api.project.shared.dto.ItemReference;
+import org.eclipse.che.api.project.shared.dto.TreeElement;
+import org.eclipse.che.dto.server.DtoFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
+
+/**
+ * JSON serialization of project tree as it is returned by project service, see {@link TreeElement}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class DtoJsonBenchmark {
+
+    @Param({"4", "10"})
+    public int width;
+
+    private DtoFactory  dtoFactory;
+    private TreeElement tree;
+    private String      json;
+
+    @Setup
+    public void setUp() {
+        dtoFactory = DtoFactory.getInstance();
+        tree = treeElement("/project", width, 3);
+        json = dtoFactory.toJson(tree);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return dtoFactory.toJson(tree);
+    }
+
+    @Benchmark
+    public TreeElement fromJson() {
+        return dtoFactory.createDtoFromJson(json, TreeElement.class);
+    }
+
+    @Benchmark
+    public TreeElement roundTrip() {
+        return dtoFactory.createDtoFromJson(dtoFactory.toJson(tree), TreeElement.class);
+    }
+
+    private static TreeElement treeElement(String path, int width, int depth) {
+        final List<TreeElement> children = new ArrayList<>();
+        if (depth > 1) {
+            for (int i = 0; i < width; i++) {
+                children.add(treeElement(path + "/folder" + i, width, depth - 1));
+            }
+        }
+        for (int i = 0; i < width; i++) {
+            children.add(newDto(TreeElement.class).withNode(itemReference(path + "/File" + i + ".java", "file"))
+                                                  .withChildren(Collections.emptyList()));
+        }
+        return newDto(TreeElement.class).withNode(itemReference(path, "folder")).withChildren(children);
+    }
+
+    private static ItemReference itemReference(String path, String type) {
+        final Link link = newDto(Link.class).withRel("children")
+                                            .withMethod("GET")
+                                            .withHref("http://localhost:8080/api/ext/project/children" + path)
+                                            .withProduces("application/json");
+        return newDto(ItemReference.class).withName(path.substring(path.lastIndexOf('/') + 1))
+                                          .withPath(path)
+                                          .withType(type)
+                                          .withProject("/project")
+                                          .withModified(1460000000000L)
+                                          .withContentLength("file".equals(type) ? 2048 : 0)
+                                          .withAttributes(Collections.singletonMap("vcs", "git"))
+                                          .withLinks(Collections.singletonList(link));
+    }
+}
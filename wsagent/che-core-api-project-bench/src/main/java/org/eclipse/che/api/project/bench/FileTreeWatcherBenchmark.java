@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.bench;
+
+import org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType;
+import org.eclipse.che.api.vfs.impl.file.FileTreeWatcher;
+import org.eclipse.che.api.vfs.impl.file.FileWatcherNotificationHandler;
+import org.eclipse.che.api.vfs.impl.file.FileWatcherNotificationListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Throughput of {@link FileTreeWatcher}: time from creation of a batch of files spread over the watched tree
+ * till notification about the last of them, divided by size of batch. Result includes quiet period which
+ * watcher waits for before it processes pending events.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class FileTreeWatcherBenchmark {
+    private static final int BATCH = 500;
+
+    private SyntheticTree   tree;
+    private FileTreeWatcher watcher;
+    private CountingHandler handler;
+    private List<String>    folders;
+    private int             created;
+
+    @Setup
+    public void setUp() throws Exception {
+        tree = SyntheticTree.generate(4, 4, 3, 10, 256);
+        folders = tree.getFolders();
+        handler = new CountingHandler();
+        watcher = new FileTreeWatcher(tree.getRoot(), new HashSet<>(), handler);
+        watcher.startup();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        watcher.shutdown();
+        tree.delete();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void createFiles() throws Exception {
+        for (int i = 0; i < BATCH; i++) {
+            final File folder = new File(tree.getRoot(), folders.get(i % folders.size()));
+            Files.createFile(new File(folder, "created" + created++ + ".txt").toPath());
+        }
+        if (!handler.created.tryAcquire(BATCH, 60, SECONDS)) {
+            throw new IllegalStateException("Not all events are received, watcher failed: " + handler.error);
+        }
+    }
+
+    private static class CountingHandler implements FileWatcherNotificationHandler {
+        final Semaphore created = new Semaphore(0);
+        volatile Throwable error;
+
+        @Override
+        public void handleFileWatcherEvent(FileWatcherEventType eventType, File watchRoot, String subPath, boolean isDir) {
+            if (eventType == FileWatcherEventType.CREATED && !isDir) {
+                created.release();
+            }
+        }
+
+        @Override
+        public void started(File watchRoot) {
+        }
+
+        @Override
+        public void errorOccurred(File watchRoot, Throwable cause) {
+            error = cause;
+        }
+
+        @Override
+        public boolean addNotificationListener(FileWatcherNotificationListener fileWatcherNotificationListener) {
+            return false;
+        }
+
+        @Override
+        public boolean removeNotificationListener(FileWatcherNotificationListener fileWatcherNotificationListener) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.bench;
+
+import org.eclipse.che.api.vfs.HashSumsCounter;
+import org.eclipse.che.api.vfs.Path;
+import org.eclipse.che.api.vfs.VirtualFile;
+import org.eclipse.che.api.vfs.VirtualFileSystem;
+import org.eclipse.che.api.vfs.impl.file.LocalVirtualFileSystemProvider;
+import org.eclipse.che.commons.lang.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+
+import static com.google.common.hash.Hashing.md5;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Hash sums of all files of a project, the same as {@link VirtualFile#countMd5Sums()} computes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class HashSumsCounterBenchmark {
+
+    @Param({"1024", "65536"})
+    public int fileSize;
+
+    private SyntheticTree tree;
+    private VirtualFile   project;
+
+    @Setup
+    public void setUp() throws Exception {
+        tree = SyntheticTree.generate(1, 4, 3, 10, fileSize);
+        final VirtualFileSystem vfs = new LocalVirtualFileSystemProvider(tree.getRoot(), null).getVirtualFileSystem();
+        project = vfs.getRoot().getChild(Path.of(tree.getProjects().get(0)));
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        project.getFileSystem().close();
+        tree.delete();
+    }
+
+    @Benchmark
+    public List<Pair<String, String>> countHashSums() throws Exception {
+        return new HashSumsCounter(project, md5()).countHashSums();
+    }
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.bench;
+
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.RAMDirectory;
+import org.eclipse.che.api.vfs.Path;
+import org.eclipse.che.api.vfs.VirtualFileSystem;
+import org.eclipse.che.api.vfs.impl.file.LocalVirtualFileSystemProvider;
+import org.eclipse.che.api.vfs.search.QueryExpression;
+import org.eclipse.che.api.vfs.search.SearchResult;
+import org.eclipse.che.api.vfs.search.impl.LuceneSearcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Indexing and search of {@link LuceneSearcher} with in-memory index of whole synthetic tree.
+ * Index is built once per trial, so search measures queries against index of stable size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class LuceneSearcherBenchmark {
+
+    @Param({"10", "50"})
+    public int filesPerFolder;
+
+    private SyntheticTree     tree;
+    private VirtualFileSystem vfs;
+    private LuceneSearcher    searcher;
+    private List<String>      files;
+    private int               nextFile;
+
+    @Setup
+    public void setUp() throws Exception {
+        tree = SyntheticTree.generate(4, 4, 3, filesPerFolder, 2048);
+        files = tree.getFiles();
+        vfs = new LocalVirtualFileSystemProvider(tree.getRoot(), null).getVirtualFileSystem();
+        searcher = new LuceneSearcher() {
+            @Override
+            protected Directory makeDirectory() {
+                return new RAMDirectory();
+            }
+        };
+        searcher.init(vfs);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        searcher.close();
+        vfs.close();
+        tree.delete();
+    }
+
+    /** Re-indexes existing file, document of file is replaced, so size of index doesn't grow. */
+    @Benchmark
+    public void add() throws Exception {
+        searcher.add(vfs.getRoot().getChild(Path.of(files.get(nextFile++ % files.size()))));
+    }
+
+    @Benchmark
+    public SearchResult searchText() throws Exception {
+        return searcher.search(new QueryExpression().setText(SyntheticTree.MARKER).setMaxItems(100));
+    }
+
+    @Benchmark
+    public SearchResult searchName() throws Exception {
+        return searcher.search(new QueryExpression().setName("File1.java").setMaxItems(100));
+    }
+}
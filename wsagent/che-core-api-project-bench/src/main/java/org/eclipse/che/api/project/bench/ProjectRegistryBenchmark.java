@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.bench;
+
+import org.eclipse.che.api.core.model.project.ProjectConfig;
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.project.server.ProjectRegistry;
+import org.eclipse.che.api.project.server.RegisteredProject;
+import org.eclipse.che.api.project.server.WorkspaceProjectsSyncer;
+import org.eclipse.che.api.project.server.handlers.ProjectHandlerRegistry;
+import org.eclipse.che.api.project.server.type.ProjectTypeRegistry;
+import org.eclipse.che.api.vfs.impl.file.LocalVirtualFileSystemProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Lookups of {@link ProjectRegistry}. Top level folders of synthetic tree aren't configured in workspace,
+ * so they are registered as blank projects, the same as folders which are created on the file system by user.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ProjectRegistryBenchmark {
+
+    @Param({"10", "100"})
+    public int projects;
+
+    private SyntheticTree                  tree;
+    private LocalVirtualFileSystemProvider vfsProvider;
+    private ProjectRegistry                projectRegistry;
+    private List<String>                   files;
+    private int                            nextProject;
+    private int                            nextFile;
+
+    @Setup
+    public void setUp() throws Exception {
+        tree = SyntheticTree.generate(projects, 2, 3, 2, 64);
+        files = tree.getFiles();
+        vfsProvider = new LocalVirtualFileSystemProvider(tree.getRoot(), null);
+        projectRegistry = new ProjectRegistry(new NoProjectsSyncer(),
+                                              vfsProvider,
+                                              new ProjectTypeRegistry(new HashSet<>()),
+                                              new ProjectHandlerRegistry(new HashSet<>()),
+                                              new EventService());
+        projectRegistry.initProjects();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        vfsProvider.close();
+        tree.delete();
+    }
+
+    @Benchmark
+    public RegisteredProject getProject() {
+        return projectRegistry.getProject(tree.getProjects().get(nextProject++ % projects));
+    }
+
+    @Benchmark
+    public RegisteredProject getParentProject() {
+        return projectRegistry.getParentProject(files.get(nextFile++ % files.size()));
+    }
+
+    @Benchmark
+    public List<RegisteredProject> getProjects() {
+        return projectRegistry.getProjects();
+    }
+
+    private static class NoProjectsSyncer extends WorkspaceProjectsSyncer {
+        @Override
+        public List<? extends ProjectConfig> getProjects() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public String getWorkspaceId() {
+            return "bench";
+        }
+
+        @Override
+        protected void addProject(ProjectConfig project) {
+        }
+
+        @Override
+        protected void updateProject(ProjectConfig project) {
+        }
+
+        @Override
+        protected void removeProject(ProjectConfig project) {
+        }
+    }
+}
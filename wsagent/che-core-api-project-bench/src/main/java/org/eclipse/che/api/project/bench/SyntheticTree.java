@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.bench;
+
+import com.google.common.io.Files;
+
+import org.eclipse.che.commons.lang.IoUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Generates tree of projects on local file system which is used by benchmarks instead of real projects.
+ * <p/>
+ * Each project contains {@code width} folders on each of {@code depth} levels and each folder contains
+ * {@code filesPerFolder} files with random words. Tree is generated with the same seed, so results of
+ * different runs are comparable. Word {@link #MARKER} is added into every tenth file, so text search
+ * has predictable number of hits.
+ */
+public class SyntheticTree {
+    public static final String MARKER = "checheckmarker";
+
+    private static final String[] WORDS = {"public", "class", "void", "return", "import", "static", "final", "string",
+                                           "workspace", "project", "folder", "file", "content", "search", "index", "event"};
+
+    private final File         root;
+    private final List<String> projects;
+    private final List<String> folders;
+    private final List<String> files;
+
+    private SyntheticTree(File root) {
+        this.root = root;
+        this.projects = new ArrayList<>();
+        this.folders = new ArrayList<>();
+        this.files = new ArrayList<>();
+    }
+
+    /**
+     * Generates tree in new temporary directory.
+     *
+     * @param projects
+     *         number of top level folders
+     * @param width
+     *         number of sub-folders of each folder
+     * @param depth
+     *         number of folder levels in each project
+     * @param filesPerFolder
+     *         number of files in each folder
+     * @param fileSize
+     *         approximate size of each file in bytes
+     */
+    public static SyntheticTree generate(int projects, int width, int depth, int filesPerFolder, int fileSize) throws IOException {
+        final SyntheticTree tree = new SyntheticTree(Files.createTempDir());
+        final Random random = new Random(projects * 31 + width * 17 + depth * 7 + filesPerFolder);
+        for (int i = 0; i < projects; i++) {
+            final String project = "/project" + i;
+            tree.projects.add(project);
+            tree.generateFolder(project, width, depth, filesPerFolder, fileSize, random);
+        }
+        return tree;
+    }
+
+    private void generateFolder(String path, int width, int depth, int filesPerFolder, int fileSize, Random random)
+            throws IOException {
+        final File folder = new File(root, path);
+        if (!folder.mkdirs()) {
+            throw new IOException("Unable create folder " + folder);
+        }
+        folders.add(path);
+        for (int i = 0; i < filesPerFolder; i++) {
+            final String file = path + "/File" + i + ".java";
+            Files.write(text(fileSize, files.size() % 10 == 0, random), new File(root, file), UTF_8);
+            files.add(file);
+        }
+        if (depth > 1) {
+            for (int i = 0; i < width; i++) {
+                generateFolder(path + "/folder" + i, width, depth - 1, filesPerFolder, fileSize, random);
+            }
+        }
+    }
+
+    private static String text(int size, boolean marked, Random random) {
+        final StringBuilder text = new StringBuilder(size + 32);
+        if (marked) {
+            text.append(MARKER).append(' ');
+        }
+        while (text.length() < size) {
+            text.append(WORDS[random.nextInt(WORDS.length)]).append(random.nextInt(10) == 0 ? '\n' : ' ');
+        }
+        return text.toString();
+    }
+
+    public File getRoot() {
+        return root;
+    }
+
+    /** Paths of top level folders. */
+    public List<String> getProjects() {
+        return projects;
+    }
+
+    /** Paths of all folders including top level ones. */
+    public List<String> getFolders() {
+        return folders;
+    }
+
+    /** Paths of all files. */
+    public List<String> getFiles() {
+        return files;
+    }
+
+    public void delete() {
+        IoUtil.deleteRecursive(root);
+    }
+}
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.bench;
+
+import org.eclipse.che.api.vfs.Path;
+import org.eclipse.che.api.vfs.VirtualFile;
+import org.eclipse.che.api.vfs.VirtualFileSystem;
+import org.eclipse.che.api.vfs.impl.file.LocalVirtualFileSystemProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Children listing and content reads of {@link org.eclipse.che.api.vfs.impl.file.LocalVirtualFileSystem}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class VirtualFileSystemBenchmark {
+
+    @Param({"10", "100"})
+    public int filesPerFolder;
+
+    private SyntheticTree     tree;
+    private VirtualFileSystem vfs;
+    private List<String>      folders;
+    private List<String>      files;
+    private int               nextFolder;
+    private int               nextFile;
+
+    @Setup
+    public void setUp() throws Exception {
+        tree = SyntheticTree.generate(4, 4, 3, filesPerFolder, 2048);
+        folders = tree.getFolders();
+        files = tree.getFiles();
+        vfs = new LocalVirtualFileSystemProvider(tree.getRoot(), null).getVirtualFileSystem();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        vfs.close();
+        tree.delete();
+    }
+
+    @Benchmark
+    public List<VirtualFile> getChildren() throws Exception {
+        final String folder = folders.get(nextFolder++ % folders.size());
+        return vfs.getRoot().getChild(Path.of(folder)).getChildren();
+    }
+
+    @Benchmark
+    public byte[] getContent() throws Exception {
+        final String file = files.get(nextFile++ % files.size());
+        return vfs.getRoot().getChild(Path.of(file)).getContentAsBytes();
+    }
+}
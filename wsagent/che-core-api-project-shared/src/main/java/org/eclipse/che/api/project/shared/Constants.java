@@ -31,6 +31,9 @@ public class Constants {
 
     public static final String LINK_REL_PROJECT_TYPES = "project types";
 
+    /** Header which contains cursor of the next page of folder children. */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     public static final String CODENVY_DIR = ".codenvy";
 
     private Constants() {
@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.shared.dto;
+
+import io.swagger.annotations.ApiModelProperty;
+
+import org.eclipse.che.api.workspace.shared.dto.ProjectConfigDto;
+import org.eclipse.che.dto.shared.DTO;
+
+/**
+ * Result of import of one project of a batch import.
+ */
+@DTO
+public interface ProjectImportResultDto {
+
+    @ApiModelProperty("Path of the project")
+    String getPath();
+
+    void setPath(String path);
+
+    ProjectImportResultDto withPath(String path);
+
+    @ApiModelProperty("Configuration of imported project, it is not set if import failed")
+    ProjectConfigDto getProject();
+
+    void setProject(ProjectConfigDto project);
+
+    ProjectImportResultDto withProject(ProjectConfigDto project);
+
+    @ApiModelProperty("Error message, it is set only if import failed")
+    String getError();
+
+    void setError(String error);
+
+    ProjectImportResultDto withError(String error);
+}
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.server;
+
+import com.google.common.hash.Hashing;
+
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.core.notification.EventSubscriber;
+import org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent;
+import org.eclipse.che.api.vfs.Path;
+import org.eclipse.che.api.vfs.impl.file.event.LoEvent;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.UriInfo;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps change stamps of folders.
+ * <p/>
+ * Stamp of a folder is changed when any item inside of the folder, at any depth, is created, modified or
+ * removed, either through project API or detected by file watcher. So stamp may be used for building
+ * ETag of a folder listing or of a subtree.
+ */
+@Singleton
+public class FolderChangeStamps {
+    /** When number of tracked paths exceeds this limit all stamps are reset. */
+    private static final int MAX_TRACKED_PATHS = 100_000;
+
+    private final ConcurrentMap<String, Long> stamps  = new ConcurrentHashMap<>();
+    private final AtomicLong                  counter = new AtomicLong();
+
+    private volatile long epoch = System.currentTimeMillis();
+
+    @Inject
+    public FolderChangeStamps(EventService eventService) {
+        eventService.subscribe(new EventSubscriber<ProjectItemModifiedEvent>() {
+            @Override
+            public void onEvent(ProjectItemModifiedEvent event) {
+                changed(event.getPath());
+                if (event.getOldPath() != null) {
+                    changed(event.getOldPath());
+                }
+            }
+        });
+        eventService.subscribe(new EventSubscriber<LoEvent>() {
+            @Override
+            public void onEvent(LoEvent event) {
+                changed(event.getPath());
+            }
+        });
+        eventService.subscribe(new EventSubscriber<ProjectCreatedEvent>() {
+            @Override
+            public void onEvent(ProjectCreatedEvent event) {
+                changed(event.getProjectPath());
+            }
+        });
+        eventService.subscribe(new EventSubscriber<ProjectDeletedEvent>() {
+            @Override
+            public void onEvent(ProjectDeletedEvent event) {
+                changed(event.getProjectPath());
+            }
+        });
+    }
+
+    /**
+     * Returns current stamp of the folder. Stamps are unique within server lifetime,
+     * so the same stamp means that nothing was changed in the folder.
+     */
+    public String getStamp(String path) {
+        final Long stamp = stamps.get(normalize(path));
+        return Long.toHexString(epoch) + '-' + Long.toHexString(stamp == null ? 0 : stamp);
+    }
+
+    /**
+     * Returns tag of response to GET request about item with given path, e.g. of folder listing or of file content.
+     * Requests with different uri, e.g. with different query parameters, get different tags.
+     * Returns {@code null} if path is not canonical, such path can't be matched with paths of changed items.
+     *
+     * @param path
+     *         path of item as it is given in uri of request
+     * @param uriInfo
+     *         info about uri of request
+     */
+    public EntityTag getEntityTag(String path, UriInfo uriInfo) {
+        final String canonical;
+        try {
+            canonical = Path.of(path).toString();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (canonical.contains("//")) {
+            return null;
+        }
+        return new EntityTag(getStamp(canonical) + '-' +
+                             Hashing.murmur3_128().hashString(uriInfo.getRequestUri().toString(), StandardCharsets.UTF_8));
+    }
+
+    /** Changes stamps of item with given path and of all its parent folders. */
+    public void changed(String path) {
+        if (path == null) {
+            return;
+        }
+        if (stamps.size() > MAX_TRACKED_PATHS) {
+            stamps.clear();
+            epoch = System.currentTimeMillis() + counter.incrementAndGet();
+        }
+        final long stamp = counter.incrementAndGet();
+        String current = normalize(path);
+        while (true) {
+            stamps.merge(current, stamp, Math::max);
+            if ("/".equals(current)) {
+                break;
+            }
+            final int lastSlash = current.lastIndexOf('/');
+            current = lastSlash == 0 ? "/" : current.substring(0, lastSlash);
+        }
+    }
+
+    private static String normalize(String path) {
+        String result = path.startsWith("/") ? path : '/' + path;
+        while (result.length() > 1 && result.endsWith("/")) {
+            result = result.substring(0, result.length() - 1);
+        }
+        return result;
+    }
+}
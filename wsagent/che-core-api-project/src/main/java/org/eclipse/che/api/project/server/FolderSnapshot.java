@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.server;
+
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.project.server.type.ValueProviderFactory;
+import org.eclipse.che.api.project.server.type.ValueStorageException;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Snapshot of a folder used while project types are resolved for it.
+ * <p/>
+ * Snapshot remembers children looked up in the folder and attribute values computed by value providers,
+ * so project types which check the same descriptor files or share value provider factories don't repeat
+ * the work. Snapshot is thread safe and may be used by several project types at the same time. It must not
+ * be used after the folder is modified.
+ */
+public class FolderSnapshot {
+
+    private final FolderEntry                                        folder;
+    private final ConcurrentMap<ValueKey, FutureTask<List<String>>> values = new ConcurrentHashMap<>();
+
+    public FolderSnapshot(FolderEntry folder) {
+        this.folder = new SnapshotFolderEntry(folder);
+    }
+
+    /** Returns folder which caches results of children lookups. */
+    public FolderEntry getFolder() {
+        return folder;
+    }
+
+    /**
+     * Returns values of attribute provided by value provider of given factory. Values are computed once per snapshot
+     * for each pair of factory and attribute name, concurrent callers wait for the first one.
+     */
+    public List<String> getValues(ValueProviderFactory factory, String attributeName) throws ValueStorageException {
+        final ValueKey key = new ValueKey(factory, attributeName);
+        FutureTask<List<String>> task = values.get(key);
+        if (task == null) {
+            final FutureTask<List<String>> newTask = new FutureTask<>(() -> factory.newInstance(folder).getValues(attributeName));
+            task = values.putIfAbsent(key, newTask);
+            if (task == null) {
+                task = newTask;
+                task.run();
+            }
+        }
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValueStorageException("Interrupted while reading attribute " + attributeName);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof ValueStorageException) {
+                throw (ValueStorageException)cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error)cause;
+            }
+            throw new ValueStorageException(cause.getLocalizedMessage());
+        }
+    }
+
+    private static class SnapshotFolderEntry extends FolderEntry {
+        private final ConcurrentMap<String, Optional<VirtualFileEntry>> children = new ConcurrentHashMap<>();
+
+        private volatile List<VirtualFileEntry> allChildren;
+
+        SnapshotFolderEntry(FolderEntry folder) {
+            super(folder.getVirtualFile());
+            this.projectRegistry = folder.projectRegistry;
+            this.attributes = folder.attributes;
+        }
+
+        @Override
+        public VirtualFileEntry getChild(String path) throws ServerException {
+            Optional<VirtualFileEntry> child = children.get(path);
+            if (child == null) {
+                child = Optional.ofNullable(super.getChild(path));
+                children.putIfAbsent(path, child);
+            }
+            return child.orElse(null);
+        }
+
+        @Override
+        public List<VirtualFileEntry> getChildren() throws ServerException {
+            List<VirtualFileEntry> result = allChildren;
+            if (result == null) {
+                allChildren = result = super.getChildren();
+            }
+            return result;
+        }
+    }
+
+    private static class ValueKey {
+        private final ValueProviderFactory factory;
+        private final String               attributeName;
+
+        ValueKey(ValueProviderFactory factory, String attributeName) {
+            this.factory = factory;
+            this.attributeName = attributeName;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ValueKey)) {
+                return false;
+            }
+            final ValueKey other = (ValueKey)obj;
+            return factory == other.factory && Objects.equals(attributeName, other.attributeName);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(factory) + Objects.hashCode(attributeName);
+        }
+    }
+}
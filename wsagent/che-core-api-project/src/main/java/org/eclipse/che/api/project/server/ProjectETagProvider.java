@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.server;
+
+import org.eclipse.che.everrest.ETagProvider;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.UriInfo;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Supplies tags of folder children and trees returned by {@link ProjectService} from {@link FolderChangeStamps stamp}
+ * of the folder, so refresh of unchanged project tree doesn't list folders.
+ */
+@Singleton
+public class ProjectETagProvider implements ETagProvider {
+    private static final Pattern TREE_PATH = Pattern.compile("/?project/(?:stream/)?(?:children|tree)/(.*)");
+
+    private final FolderChangeStamps changeStamps;
+
+    @Inject
+    public ProjectETagProvider(FolderChangeStamps changeStamps) {
+        this.changeStamps = changeStamps;
+    }
+
+    @Override
+    public EntityTag getETag(UriInfo uriInfo) {
+        final Matcher matcher = TREE_PATH.matcher(uriInfo.getPath());
+        if (!matcher.matches()) {
+            return null;
+        }
+        return changeStamps.getEntityTag(matcher.group(1), uriInfo);
+    }
+}
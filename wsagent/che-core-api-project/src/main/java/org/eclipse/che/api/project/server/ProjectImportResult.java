@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.server;
+
+/**
+ * Result of import of one project by {@link ProjectManager#importProjects(java.util.List, boolean)}.
+ * Either imported project or error is set.
+ */
+public class ProjectImportResult {
+    private final String            path;
+    private final RegisteredProject project;
+    private final Exception         error;
+
+    private ProjectImportResult(String path, RegisteredProject project, Exception error) {
+        this.path = path;
+        this.project = project;
+        this.error = error;
+    }
+
+    public static ProjectImportResult imported(String path, RegisteredProject project) {
+        return new ProjectImportResult(path, project, null);
+    }
+
+    public static ProjectImportResult failed(String path, Exception error) {
+        return new ProjectImportResult(path, null, error);
+    }
+
+    /** Returns normalized path of the project. */
+    public String getPath() {
+        return path;
+    }
+
+    /** Returns imported project or {@code null} if import failed. */
+    public RegisteredProject getProject() {
+        return project;
+    }
+
+    /** Returns error of import or {@code null} if project was imported. */
+    public Exception getError() {
+        return error;
+    }
+
+    public boolean isImported() {
+        return error == null;
+    }
+}
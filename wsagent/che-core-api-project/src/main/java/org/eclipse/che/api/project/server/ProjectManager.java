@@ -19,7 +19,6 @@ import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.UnauthorizedException;
 import org.eclipse.che.api.core.model.project.ProjectConfig;
 import org.eclipse.che.api.core.model.project.SourceStorage;
-import org.eclipse.che.api.core.model.project.type.ProjectType;
 import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.core.util.LineConsumerFactory;
 import org.eclipse.che.api.project.server.handlers.CreateProjectHandler;
@@ -55,10 +54,15 @@ import java.io.IOException;
 import java.nio.file.PathMatcher;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Facade for all project related operations.
@@ -69,6 +73,9 @@ import java.util.concurrent.Executors;
 public final class ProjectManager {
     private static final Logger LOG = LoggerFactory.getLogger(ProjectManager.class);
 
+    /** Max number of projects which sources are imported at the same time by {@link #importProjects(List, boolean)}. */
+    private static final int MAX_CONCURRENT_IMPORTS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
     private final VirtualFileSystem              vfs;
     private final EventService                   eventService;
     private final ProjectTypeRegistry            projectTypeRegistry;
@@ -78,6 +85,8 @@ public final class ProjectManager {
     private final FileTreeWatcher                fileWatcher;
     private final FileWatcherNotificationHandler fileWatchNotifier;
     private final ExecutorService                executor;
+    private final ExecutorService                typeResolver;
+    private final ExecutorService                importExecutor;
     private final WorkspaceProjectsSyncer        workspaceProjectsHolder;
 
     @Inject
@@ -103,6 +112,12 @@ public final class ProjectManager {
         executor = Executors.newFixedThreadPool(1 + Runtime.getRuntime().availableProcessors(),
                                                 new ThreadFactoryBuilder().setNameFormat("ProjectService-IndexingThread-")
                                                                           .setDaemon(true).build());
+        typeResolver = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+                                                    new ThreadFactoryBuilder().setNameFormat("ProjectTypeResolver-%d")
+                                                                              .setDaemon(true).build());
+        importExecutor = Executors.newFixedThreadPool(MAX_CONCURRENT_IMPORTS,
+                                                      new ThreadFactoryBuilder().setNameFormat("ProjectImporter-%d")
+                                                                                .setDaemon(true).build());
     }
 
     @PostConstruct
@@ -135,6 +150,8 @@ public final class ProjectManager {
     @PreDestroy
     void stop() {
         executor.shutdownNow();
+        typeResolver.shutdownNow();
+        importExecutor.shutdownNow();
     }
 
     public FolderEntry getProjectsRoot() throws ServerException {
@@ -312,25 +329,151 @@ public final class ProjectManager {
                                                                                                              UnauthorizedException,
                                                                                                              ConflictException,
                                                                                                              NotFoundException {
+        final ProjectImporter importer = getImporter(sourceStorage);
+        final String normalizePath = (path.startsWith("/")) ? path : "/".concat(path);
+        final FolderEntry folder = prepareImportFolder(normalizePath, rewrite);
+
+        importSources(importer, normalizePath, folder, sourceStorage);
+
+        final RegisteredProject rp = registerImported(normalizePath, folder, sourceStorage);
+        workspaceProjectsHolder.sync(projectRegistry);
+        return rp;
+    }
+
+    /**
+     * Imports sources of several projects at once. Sources are imported concurrently by a bounded pool of workers,
+     * all successfully imported projects are registered together and workspace configuration is synchronized once
+     * at the end, so importing of many projects doesn't pay for registration and synchronization of each of them.
+     * <p/>
+     * All the projects are checked before any import is started and any problem found by the check fails the whole
+     * batch. After that failure of a project, either preparing of its folder, import of its sources or registration,
+     * doesn't stop the others and is reported in the result of this project.
+     *
+     * @param projects
+     *         configurations of projects to import, each of them must have path and source
+     * @param rewrite
+     *         whether to rewrite existing folders
+     * @return results of import in the same order as incoming configurations
+     */
+    public List<ProjectImportResult> importProjects(List<? extends ProjectConfig> projects, boolean rewrite) throws ServerException,
+                                                                                                                   ForbiddenException,
+                                                                                                                   ConflictException,
+                                                                                                                   NotFoundException {
+        final Map<String, ProjectConfig> configs = new LinkedHashMap<>();
+        final Map<String, ProjectImporter> projectImporters = new HashMap<>();
+        for (ProjectConfig project : projects) {
+            if (project.getPath() == null || project.getSource() == null) {
+                throw new ConflictException("Path and source are required for importing of project " + project.getName());
+            }
+            final String normalizePath = ProjectRegistry.absolutizePath(project.getPath());
+            if (configs.put(normalizePath, project) != null) {
+                throw new ConflictException(String.format("Project %s is imported more than once", normalizePath));
+            }
+            projectImporters.put(normalizePath, getImporter(project.getSource()));
+            if (!rewrite && asFolder(normalizePath) != null) {
+                throw new ConflictException(String.format("Project %s already exists ", normalizePath));
+            }
+        }
+
+        final Map<String, ProjectImportResult> failures = new HashMap<>();
+        final Map<String, FolderEntry> folders = new HashMap<>();
+        final Map<String, Future<Void>> imports = new HashMap<>();
+        for (Map.Entry<String, ProjectConfig> entry : configs.entrySet()) {
+            final String path = entry.getKey();
+            final FolderEntry folder;
+            try {
+                folder = prepareImportFolder(path, rewrite);
+            } catch (ServerException | ForbiddenException | ConflictException | NotFoundException | RuntimeException e) {
+                LOG.warn(String.format("Unable to prepare folder for project %s: %s", path, e.getMessage()));
+                failures.put(path, ProjectImportResult.failed(path, e));
+                continue;
+            }
+            folders.put(path, folder);
+            final FutureTask<Void> task = new FutureTask<>(() -> {
+                importSources(projectImporters.get(path), path, folder, entry.getValue().getSource());
+                return null;
+            });
+            try {
+                importExecutor.execute(task);
+            } catch (RejectedExecutionException e) {
+                // importer pool is stopped
+                task.run();
+            }
+            imports.put(path, task);
+        }
+
+        final List<ProjectImportResult> results = new ArrayList<>(configs.size());
+        boolean registered = false;
+        for (String path : configs.keySet()) {
+            final Future<Void> task = imports.get(path);
+            if (task == null) {
+                results.add(failures.get(path));
+                continue;
+            }
+            try {
+                task.get();
+            } catch (InterruptedException e) {
+                imports.values().forEach(f -> f.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new ServerException("Interrupted while importing projects");
+            } catch (ExecutionException e) {
+                final Throwable cause = e.getCause();
+                LOG.warn(String.format("Unable to import project %s: %s", path, cause.getMessage()));
+                results.add(ProjectImportResult.failed(path, cause instanceof Exception ? (Exception)cause
+                                                                                        : new ServerException(cause.getMessage(), cause)));
+                continue;
+            }
+            try {
+                results.add(ProjectImportResult.imported(path, registerImported(path, folders.get(path), configs.get(path).getSource())));
+                registered = true;
+            } catch (ServerException | ConflictException | NotFoundException | RuntimeException e) {
+                LOG.warn(String.format("Unable to register imported project %s: %s", path, e.getMessage()));
+                results.add(ProjectImportResult.failed(path, e));
+            }
+        }
+
+        if (registered) {
+            workspaceProjectsHolder.sync(projectRegistry);
+        }
+        return results;
+    }
+
+    private ProjectImporter getImporter(SourceStorage sourceStorage) throws NotFoundException {
         final ProjectImporter importer = importers.getImporter(sourceStorage.getType());
         if (importer == null) {
             throw new NotFoundException(String.format("Unable import sources project from '%s'. Sources type '%s' is not supported.",
                                                       sourceStorage.getLocation(), sourceStorage.getType()));
         }
+        return importer;
+    }
 
-        // Preparing websocket output publisher to broadcast output of import process to the ide clients while importing
-        final LineConsumerFactory outputOutputConsumerFactory =
-                () -> new ProjectImportOutputWSLineConsumer(path, workspaceProjectsHolder.getWorkspaceId(), 300);
-
-        String normalizePath = (path.startsWith("/")) ? path : "/".concat(path);
+    private FolderEntry prepareImportFolder(String normalizePath, boolean rewrite) throws ServerException,
+                                                                                         ForbiddenException,
+                                                                                         ConflictException,
+                                                                                         NotFoundException {
         FolderEntry folder = asFolder(normalizePath);
         if (folder != null && !rewrite) {
-            throw new ConflictException(String.format("Project %s already exists ", path));
+            throw new ConflictException(String.format("Project %s already exists ", normalizePath));
         }
 
         if (folder == null) {
             folder = getProjectsRoot().createFolder(normalizePath);
         }
+        return folder;
+    }
+
+    private void importSources(ProjectImporter importer,
+                               String normalizePath,
+                               FolderEntry folder,
+                               SourceStorage sourceStorage) throws ServerException,
+                                                                   IOException,
+                                                                   ForbiddenException,
+                                                                   UnauthorizedException,
+                                                                   ConflictException,
+                                                                   NotFoundException {
+        // Preparing websocket output publisher to broadcast output of import process to the ide clients while importing
+        final LineConsumerFactory outputOutputConsumerFactory =
+                () -> new ProjectImportOutputWSLineConsumer(normalizePath, workspaceProjectsHolder.getWorkspaceId(), 300);
 
         try {
             importer.importSources(folder, sourceStorage, outputOutputConsumerFactory);
@@ -338,7 +481,14 @@ public final class ProjectManager {
             folder.remove();
             throw e;
         }
+    }
 
+    /** Registers imported project, caller is responsible for synchronization of workspace configuration. */
+    private RegisteredProject registerImported(String normalizePath,
+                                               FolderEntry folder,
+                                               SourceStorage sourceStorage) throws ServerException,
+                                                                                   ConflictException,
+                                                                                   NotFoundException {
         final String name = folder.getPath().getName();
         for (ProjectConfig project : workspaceProjectsHolder.getProjects()) {
             if (normalizePath.equals(project.getPath())) {
@@ -348,15 +498,11 @@ public final class ProjectManager {
                     RegisteredProject registeredProject = projectRegistry.getProject(innerProject);
                     projectRegistry.putProject(registeredProject, asFolder(registeredProject.getPath()), true, false);
                 }
-                RegisteredProject rp = projectRegistry.putProject(project, folder, true, false);
-                workspaceProjectsHolder.sync(projectRegistry);
-                return rp;
+                return projectRegistry.putProject(project, folder, true, false);
             }
         }
 
-        RegisteredProject rp = projectRegistry.putProject(new NewProjectConfig(normalizePath, name, BaseProjectType.ID, sourceStorage), folder, true, false);
-        workspaceProjectsHolder.sync(projectRegistry);
-        return rp;
+        return projectRegistry.putProject(new NewProjectConfig(normalizePath, name, BaseProjectType.ID, sourceStorage), folder, true, false);
     }
 
     public ProjectTypeResolution estimateProject(String path, String projectTypeId) throws ServerException,
@@ -377,21 +523,55 @@ public final class ProjectManager {
     }
 
     // ProjectSuggestion
+    /**
+     * Resolves sources of the folder against all registered project types. Project types are checked in parallel
+     * against the same {@link FolderSnapshot}, so descriptors and values shared by several project types are read once.
+     * Returned resolutions are ordered from child project types to parent ones regardless of the order of completion.
+     */
     public List<ProjectTypeResolution> resolveSources(String path, boolean transientOnly) throws ServerException, NotFoundException {
-        final List<ProjectTypeResolution> resolutions = new ArrayList<>();
+        final FolderEntry baseFolder = asFolder(path);
+        if (baseFolder == null) {
+            throw new NotFoundException("Folder not found: " + path);
+        }
+        final FolderSnapshot snapshot = new FolderSnapshot(baseFolder);
 
-        for (ProjectType type : projectTypeRegistry.getProjectTypes(ProjectTypeRegistry.CHILD_TO_PARENT_COMPARATOR)) {
+        final List<Future<ProjectTypeResolution>> futures = new ArrayList<>();
+        for (ProjectTypeDef type : projectTypeRegistry.getProjectTypes(ProjectTypeRegistry.CHILD_TO_PARENT_COMPARATOR)) {
             if (transientOnly && type.isPersisted()) {
                 continue;
             }
+            final FutureTask<ProjectTypeResolution> task = new FutureTask<>(() -> type.resolveSources(snapshot));
+            try {
+                typeResolver.execute(task);
+            } catch (RejectedExecutionException e) {
+                // resolver is stopped
+                task.run();
+            }
+            futures.add(task);
+        }
 
+        final List<ProjectTypeResolution> resolutions = new ArrayList<>();
+        for (Future<ProjectTypeResolution> future : futures) {
             try {
-                final ProjectTypeResolution resolution = estimateProject(path, type.getId());
+                final ProjectTypeResolution resolution = future.get();
                 if (resolution.matched()) {
                     resolutions.add(resolution);
                 }
-            } catch (ValueStorageException e) {
-                LOG.warn(e.getLocalizedMessage(), e);
+            } catch (InterruptedException e) {
+                futures.forEach(f -> f.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new ServerException("Interrupted while resolving project types of " + path);
+            } catch (ExecutionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof ValueStorageException) {
+                    LOG.warn(cause.getLocalizedMessage(), cause);
+                } else if (cause instanceof RuntimeException) {
+                    throw (RuntimeException)cause;
+                } else if (cause instanceof Error) {
+                    throw (Error)cause;
+                } else {
+                    throw new ServerException(cause.getLocalizedMessage(), cause);
+                }
             }
         }
 
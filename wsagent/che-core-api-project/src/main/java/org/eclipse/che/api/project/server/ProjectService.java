@@ -36,6 +36,7 @@ import org.eclipse.che.api.project.server.type.ProjectTypeResolution;
 import org.eclipse.che.api.project.shared.dto.CopyOptions;
 import org.eclipse.che.api.project.shared.dto.ItemReference;
 import org.eclipse.che.api.project.shared.dto.MoveOptions;
+import org.eclipse.che.api.project.shared.dto.ProjectImportResultDto;
 import org.eclipse.che.api.project.shared.dto.SourceEstimation;
 import org.eclipse.che.api.project.shared.dto.TreeElement;
 import org.eclipse.che.api.vfs.VirtualFile;
@@ -67,10 +68,15 @@ import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriBuilder;
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
@@ -94,6 +100,7 @@ import static org.eclipse.che.api.project.shared.Constants.LINK_REL_GET_PROJECTS
 import static org.eclipse.che.api.project.shared.Constants.LINK_REL_TREE;
 import static org.eclipse.che.api.project.shared.Constants.LINK_REL_UPDATE_CONTENT;
 import static org.eclipse.che.api.project.shared.Constants.LINK_REL_UPDATE_PROJECT;
+import static org.eclipse.che.api.project.shared.Constants.NEXT_CURSOR_HEADER;
 import static org.eclipse.che.dto.server.DtoFactory.newDto;
 
 /**
@@ -112,14 +119,21 @@ public class ProjectService extends Service {
     private static final Logger LOG  = LoggerFactory.getLogger(ProjectService.class);
     private static final Tika   TIKA = new Tika();
 
-    private final ProjectManager projectManager;
-    private final EventService   eventService;
-    private final String         workspace;
+    private final ProjectManager     projectManager;
+    private final EventService       eventService;
+    private final FolderChangeStamps changeStamps;
+    private final SortedChildren     sortedChildren;
+    private final String             workspace;
 
     @Inject
-    public ProjectService(ProjectManager projectManager, EventService eventService) {
+    public ProjectService(ProjectManager projectManager,
+                          EventService eventService,
+                          FolderChangeStamps changeStamps,
+                          SortedChildren sortedChildren) {
         this.projectManager = projectManager;
         this.eventService = eventService;
+        this.changeStamps = changeStamps;
+        this.sortedChildren = sortedChildren;
         this.workspace = WorkspaceIdProvider.getWorkspaceId();
     }
 
@@ -219,7 +233,9 @@ public class ProjectService extends Service {
             projectConfigDto.setPath(path);
         }
 
-        return asDto(projectManager.updateProject(projectConfigDto));
+        final ProjectConfigDto updated = asDto(projectManager.updateProject(projectConfigDto));
+        changeStamps.changed(updated.getPath());
+        return updated;
     }
 
     @DELETE
@@ -234,6 +250,7 @@ public class ProjectService extends Service {
     public void delete(@ApiParam("Path to a resource to be deleted")
                        @PathParam("path") String path) throws NotFoundException, ForbiddenException, ConflictException, ServerException {
         projectManager.delete(path);
+        changeStamps.changed(path);
     }
 
     @GET
@@ -316,6 +333,40 @@ public class ProjectService extends Service {
         projectManager.importProject(path, sourceStorage, force);
     }
 
+    @POST
+    @Path("/batch/import")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    @ApiOperation(value = "Import several projects",
+                  notes = "Imports sources of several projects concurrently and registers them at once. JSON array of project " +
+                          "configurations with path and source is sent. Result of import is returned for each project, " +
+                          "failure of one project doesn't stop import of the others",
+                  response = ProjectImportResultDto.class,
+                  responseContainer = "List")
+    @ApiResponses({@ApiResponse(code = 200, message = "OK"),
+                   @ApiResponse(code = 401, message = "User not authorized to call this operation"),
+                   @ApiResponse(code = 403, message = "Forbidden operation"),
+                   @ApiResponse(code = 409, message = "Resource already exists"),
+                   @ApiResponse(code = 500, message = "Unsupported source type")})
+    public List<ProjectImportResultDto> importProjects(@ApiParam(value = "Force rewrite existing projects", allowableValues = "true,false")
+                                                       @QueryParam("force") boolean force,
+                                                       List<ProjectConfigDto> projects) throws ConflictException,
+                                                                                               ForbiddenException,
+                                                                                               ServerException,
+                                                                                               NotFoundException {
+        final List<ProjectImportResultDto> results = new ArrayList<>();
+        for (ProjectImportResult result : projectManager.importProjects(projects, force)) {
+            final ProjectImportResultDto resultDto = newDto(ProjectImportResultDto.class).withPath(result.getPath());
+            if (result.isImported()) {
+                resultDto.setProject(injectProjectLinks(asDto(result.getProject())));
+            } else {
+                resultDto.setError(result.getError().getMessage());
+            }
+            results.add(resultDto);
+        }
+        return results;
+    }
+
     @POST
     @Path("/file/{parent:.*}")
     @Consumes({MediaType.MEDIA_TYPE_WILDCARD})
@@ -782,6 +833,106 @@ public class ProjectService extends Service {
                                         .withChildren(getTree(folder, depth, includeFiles));
     }
 
+    @GET
+    @Path("/stream/children/{parent:.*}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @ApiOperation(value = "Get page of folder children items",
+                  notes = "Children are sorted by name and written as they are visited. If there are more children than requested, " +
+                          "name of the last returned child is sent in " + NEXT_CURSOR_HEADER + " header and should be used as " +
+                          "'after' parameter of the next request. Response has ETag which is changed when anything in the folder " +
+                          "is changed",
+                  response = ItemReference.class,
+                  responseContainer = "List")
+    @ApiResponses({@ApiResponse(code = 200, message = "OK"),
+                   @ApiResponse(code = 304, message = "Folder wasn't changed"),
+                   @ApiResponse(code = 403, message = "User not authorized to call this operation"),
+                   @ApiResponse(code = 404, message = "Not found"),
+                   @ApiResponse(code = 500, message = "Internal Server Error")})
+    public Response streamChildren(@ApiParam(value = "Path to a folder", required = true)
+                                   @PathParam("parent") String path,
+                                   @ApiParam(value = "Return children which names follow this name")
+                                   @QueryParam("after") String after,
+                                   @ApiParam(value = "Maximum number of children to return. If not specified all children are returned")
+                                   @DefaultValue("-1") @QueryParam("limit") int limit,
+                                   @ApiParam(value = "Include links of items. If not specified ?links=true is used by default")
+                                   @DefaultValue("true") @QueryParam("links") boolean links) throws NotFoundException,
+                                                                                                    ForbiddenException,
+                                                                                                    ServerException {
+        final FolderEntry folder = projectManager.asFolder(path);
+
+        if (folder == null) {
+            throw new NotFoundException("Parent not found for " + path);
+        }
+
+        final Page page = Page.of(folder, sortedChildren.get(folder), true, after, limit);
+        final UriBuilder serviceUri = links ? getServiceContext().getServiceUriBuilder() : null;
+        final StreamingOutput output = stream -> {
+            final Writer writer = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8));
+            writer.write('[');
+            for (int i = 0; i < page.items.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(DtoFactory.getInstance().toJson(asItemReference(page.items.get(i), serviceUri)));
+            }
+            writer.write(']');
+            writer.flush();
+        };
+        // tag is supplied by ProjectETagProvider
+        final Response.ResponseBuilder response = Response.ok(output, MediaType.APPLICATION_JSON_TYPE);
+        if (page.nextCursor != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor);
+        }
+        return response.build();
+    }
+
+    @GET
+    @Path("/stream/tree/{parent:.*}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @ApiOperation(value = "Get project tree",
+                  notes = "Get project tree, nodes are written as they are visited. Children of each folder are sorted by name " +
+                          "and limited with 'limit' parameter, folders which have more children have 'nextCursor' field that " +
+                          "may be used for getting rest of children with /stream/children. Response has ETag which is changed " +
+                          "when anything in the tree is changed",
+                  response = TreeElement.class)
+    @ApiResponses({@ApiResponse(code = 200, message = "OK"),
+                   @ApiResponse(code = 304, message = "Tree wasn't changed"),
+                   @ApiResponse(code = 403, message = "User not authorized to call this operation"),
+                   @ApiResponse(code = 404, message = "Not found"),
+                   @ApiResponse(code = 500, message = "Internal Server Error")})
+    public Response streamTree(@ApiParam(value = "Path to resource. Can be project or its folders", required = true)
+                               @PathParam("parent") String path,
+                               @ApiParam(value = "Tree depth. If not specified ?depth=1 is used by default")
+                               @DefaultValue("1") @QueryParam("depth") int depth,
+                               @ApiParam(value = "Include children files (in addition to children folders). " +
+                                                 "If not specified ?includeFiles=false is used by default")
+                               @DefaultValue("false") @QueryParam("includeFiles") boolean includeFiles,
+                               @ApiParam(value = "Maximum number of children of each folder. If not specified all children are returned")
+                               @DefaultValue("-1") @QueryParam("limit") int limit,
+                               @ApiParam(value = "Include links of items. If not specified ?links=true is used by default")
+                               @DefaultValue("true") @QueryParam("links") boolean links) throws NotFoundException,
+                                                                                                ForbiddenException,
+                                                                                                ServerException {
+        final FolderEntry folder = projectManager.asFolder(path);
+
+        if (folder == null) {
+            throw new NotFoundException("Folder not found " + path);
+        }
+
+        final UriBuilder serviceUri = links ? getServiceContext().getServiceUriBuilder() : null;
+        final StreamingOutput output = stream -> {
+            final Writer writer = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8));
+            try {
+                writeTree(writer, folder, depth, includeFiles, limit, serviceUri);
+            } catch (ServerException e) {
+                throw new IOException(e.getLocalizedMessage(), e);
+            }
+            writer.flush();
+        };
+        // tag is supplied by ProjectETagProvider
+        return Response.ok(output, MediaType.APPLICATION_JSON_TYPE).build();
+    }
+
     @GET
     @Path("/item/{path:.*}")
     @Produces(MediaType.APPLICATION_JSON)
@@ -925,6 +1076,124 @@ public class ProjectService extends Service {
         return nodes;
     }
 
+    /**
+     * Writes node of the folder in the same format as {@link TreeElement}. Children of folders are written
+     * until depth is exhausted, when children list of a folder is truncated its {@code nextCursor} is written.
+     */
+    private void writeTree(Writer writer,
+                           FolderEntry folder,
+                           int depth,
+                           boolean includeFiles,
+                           int limit,
+                           UriBuilder serviceUri) throws IOException, ServerException {
+        writer.write("{\"node\":");
+        writer.write(DtoFactory.getInstance().toJson(asItemReference(folder, serviceUri)));
+        if (depth > 0) {
+            final Page page = Page.of(folder, sortedChildren.get(folder), includeFiles, null, limit);
+            writer.write(",\"children\":[");
+            for (int i = 0; i < page.items.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                final VirtualFileEntry child = page.items.get(i);
+                if (child.isFolder()) {
+                    writeTree(writer, (FolderEntry)child, depth - 1, includeFiles, limit, serviceUri);
+                } else {
+                    writer.write("{\"node\":");
+                    writer.write(DtoFactory.getInstance().toJson(asItemReference(child, serviceUri)));
+                    writer.write('}');
+                }
+            }
+            writer.write(']');
+            if (page.nextCursor != null) {
+                writer.write(",\"nextCursor\":");
+                writeJsonString(writer, page.nextCursor);
+            }
+        }
+        writer.write('}');
+    }
+
+    /** Converts entry to DTO, links are injected only if service URI builder is provided. */
+    private ItemReference asItemReference(VirtualFileEntry entry, UriBuilder serviceUri) {
+        try {
+            if (entry.isFile()) {
+                final ItemReference item = asDto((FileEntry)entry);
+                return serviceUri == null ? item : injectFileLinks(item, serviceUri);
+            }
+            final ItemReference item = asDto((FolderEntry)entry);
+            return serviceUri == null ? item : injectFolderLinks(item, serviceUri);
+        } catch (ServerException e) {
+            throw new IllegalStateException(e.getLocalizedMessage(), e);
+        }
+    }
+
+    private static void writeJsonString(Writer writer, String value) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                writer.write('\\');
+                writer.write(c);
+            } else if (c < 0x20) {
+                writer.write(String.format("\\u%04x", (int)c));
+            } else {
+                writer.write(c);
+            }
+        }
+        writer.write('"');
+    }
+
+    /** Page of folder children sorted by name. */
+    private static class Page {
+        private final List<VirtualFileEntry> items;
+        /** Name of the last item of the page if there are more items, otherwise {@code null}. */
+        private final String                 nextCursor;
+
+        private Page(List<VirtualFileEntry> items, String nextCursor) {
+            this.items = items;
+            this.nextCursor = nextCursor;
+        }
+
+        /**
+         * Looks up only children of the page, children which are removed since they were listed are skipped.
+         *
+         * @param children
+         *         children of the folder sorted by name
+         * @param includeFiles
+         *         if {@code false} only child folders are included
+         * @param after
+         *         name of the last item of previous page or {@code null} for the first page
+         * @param limit
+         *         maximum number of items, negative value means no limit
+         */
+        static Page of(FolderEntry folder,
+                       List<SortedChildren.Child> children,
+                       boolean includeFiles,
+                       String after,
+                       int limit) throws ServerException {
+            int index = 0;
+            if (after != null) {
+                index = Collections.binarySearch(children, new SortedChildren.Child(after, false));
+                index = index >= 0 ? index + 1 : -index - 1;
+            }
+            final List<VirtualFileEntry> items = new ArrayList<>(limit < 0 ? 16 : Math.min(limit, 1024));
+            for (; index < children.size(); index++) {
+                final SortedChildren.Child child = children.get(index);
+                if (!includeFiles && !child.isFolder()) {
+                    continue;
+                }
+                if (limit >= 0 && items.size() == limit) {
+                    break;
+                }
+                final VirtualFileEntry entry = folder.getChild(child.getName());
+                if (entry != null) {
+                    items.add(entry);
+                }
+            }
+            return new Page(items, index < children.size() && !items.isEmpty() ? items.get(items.size() - 1).getName() : null);
+        }
+    }
+
     /* --------------------------------------------------------------------------- */
     /* TODO check "upload" methods below, they were copied from old VFS as is      */
     /* --------------------------------------------------------------------------- */
@@ -1025,7 +1294,10 @@ public class ProjectService extends Service {
     }
 
     private ItemReference injectFileLinks(ItemReference itemReference) {
-        final UriBuilder uriBuilder = getServiceContext().getServiceUriBuilder();
+        return injectFileLinks(itemReference, getServiceContext().getServiceUriBuilder());
+    }
+
+    private ItemReference injectFileLinks(ItemReference itemReference, UriBuilder uriBuilder) {
         final List<Link> links = new ArrayList<>();
         final String relPath = itemReference.getPath().substring(1);
 
@@ -1055,7 +1327,10 @@ public class ProjectService extends Service {
     }
 
     private ItemReference injectFolderLinks(ItemReference itemReference) {
-        final UriBuilder uriBuilder = getServiceContext().getServiceUriBuilder();
+        return injectFolderLinks(itemReference, getServiceContext().getServiceUriBuilder());
+    }
+
+    private ItemReference injectFolderLinks(ItemReference itemReference, UriBuilder uriBuilder) {
         final List<Link> links = new ArrayList<>();
         final String relPath = itemReference.getPath().substring(1);
 
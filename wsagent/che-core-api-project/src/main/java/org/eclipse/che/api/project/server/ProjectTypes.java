@@ -120,9 +120,10 @@ public class ProjectTypes {
                                                         NotFoundException,
                                                         ProjectTypeConstraintException,
                                                         ValueStorageException {
+        final FolderSnapshot snapshot = new FolderSnapshot(projectFolder);
         for (ProjectTypeDef pt : projectTypeRegistry.getProjectTypes()) {
             // NOTE: Only mixable types allowed
-            if (pt.isMixable() && !pt.isPersisted() && pt.resolveSources(projectFolder).matched()) {
+            if (pt.isMixable() && !pt.isPersisted() && pt.resolveSources(snapshot).matched()) {
                 all.put(pt.getId(), pt);
                 mixins.put(pt.getId(), pt);
                 for (Attribute attr : pt.getAttributes()) {
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.server;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import org.eclipse.che.api.core.ServerException;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Names of folder children sorted by name.
+ * <p/>
+ * Sorted names are kept per folder while {@link FolderChangeStamps stamp} of the folder is the same,
+ * so paging through a big folder lists and sorts its children once instead of once per page.
+ * Cache is limited by total number of kept names.
+ */
+@Singleton
+public class SortedChildren {
+    private static final int MAX_NAMES = 500_000;
+
+    private final FolderChangeStamps    changeStamps;
+    private final Cache<String, Entry> entries = CacheBuilder.newBuilder()
+                                                             .maximumWeight(MAX_NAMES)
+                                                             .<String, Entry>weigher((path, entry) -> entry.children.size() + 1)
+                                                             .build();
+
+    @Inject
+    public SortedChildren(FolderChangeStamps changeStamps) {
+        this.changeStamps = changeStamps;
+    }
+
+    /** Returns children of the folder sorted by name. Returned list must not be modified. */
+    public List<Child> get(FolderEntry folder) throws ServerException {
+        final String path = folder.getPath().toString();
+        // stamp is taken before listing, so children changed while listing get another stamp
+        final String stamp = changeStamps.getStamp(path);
+        final Entry entry = entries.getIfPresent(path);
+        if (entry != null && entry.stamp.equals(stamp)) {
+            return entry.children;
+        }
+        final List<Child> children = new ArrayList<>();
+        for (VirtualFileEntry child : folder.getChildren()) {
+            children.add(new Child(child.getName(), child.isFolder()));
+        }
+        Collections.sort(children);
+        final List<Child> result = Collections.unmodifiableList(children);
+        entries.put(path, new Entry(stamp, result));
+        return result;
+    }
+
+    /** Name and kind of folder child. */
+    public static class Child implements Comparable<Child> {
+        private final String  name;
+        private final boolean folder;
+
+        Child(String name, boolean folder) {
+            this.name = name;
+            this.folder = folder;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isFolder() {
+            return folder;
+        }
+
+        @Override
+        public int compareTo(Child other) {
+            return name.compareTo(other.name);
+        }
+    }
+
+    private static class Entry {
+        final String      stamp;
+        final List<Child> children;
+
+        Entry(String stamp, List<Child> children) {
+            this.stamp = stamp;
+            this.children = children;
+        }
+    }
+}
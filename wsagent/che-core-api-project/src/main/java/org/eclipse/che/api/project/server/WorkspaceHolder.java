@@ -13,8 +13,10 @@ package org.eclipse.che.api.project.server;
 import org.eclipse.che.api.core.ApiException;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.project.ProjectConfig;
+import org.eclipse.che.api.core.rest.HttpJsonRequest;
 import org.eclipse.che.api.core.rest.HttpJsonRequestFactory;
 import org.eclipse.che.api.workspace.server.WorkspaceService;
+import org.eclipse.che.api.workspace.shared.dto.ProjectConfigDto;
 import org.eclipse.che.api.workspace.shared.dto.WorkspaceDto;
 
 import javax.inject.Inject;
@@ -22,6 +24,7 @@ import javax.inject.Named;
 import javax.inject.Singleton;
 import javax.ws.rs.core.UriBuilder;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.eclipse.che.api.project.server.DtoConverter.asDto;
@@ -40,10 +43,22 @@ public class WorkspaceHolder extends WorkspaceProjectsSyncer {
 
     private HttpJsonRequestFactory httpJsonRequestFactory;
 
+    public WorkspaceHolder(String apiEndpoint,
+                           String workspaceId,
+                           HttpJsonRequestFactory httpJsonRequestFactory) throws ServerException {
+        this(apiEndpoint, workspaceId, httpJsonRequestFactory, 0);
+    }
+
+    /**
+     * @param syncWindowMillis
+     *         how long changes of projects are collected before they are sent to WS-master in one request
+     */
     @Inject
     public WorkspaceHolder(@Named("api.endpoint") String apiEndpoint,
                            @Named("env.CHE_WORKSPACE_ID") String workspaceId,
-                           HttpJsonRequestFactory httpJsonRequestFactory) throws ServerException {
+                           HttpJsonRequestFactory httpJsonRequestFactory,
+                           @Named("che.workspace.projects.sync_window_ms") long syncWindowMillis) throws ServerException {
+        super(syncWindowMillis);
 
         this.apiEndpoint = apiEndpoint;
         this.httpJsonRequestFactory = httpJsonRequestFactory;
@@ -75,6 +90,36 @@ public class WorkspaceHolder extends WorkspaceProjectsSyncer {
     }
 
 
+    /**
+     * Sends all the changes of projects to WS-master in one request,
+     * WS-master updates only projects of workspace.
+     */
+    @Override
+    protected void updateProjects(List<? extends ProjectConfig> added,
+                                  List<? extends ProjectConfig> updated,
+                                  List<? extends ProjectConfig> removed) throws ServerException {
+        final String href = UriBuilder.fromUri(apiEndpoint)
+                                      .path(WorkspaceService.class)
+                                      .path(WorkspaceService.class, "updateProjects")
+                                      .build(workspaceId).toString();
+        final List<ProjectConfigDto> update = new ArrayList<>(added.size() + updated.size());
+        for (ProjectConfig project : added) {
+            update.add(asDto(project));
+        }
+        for (ProjectConfig project : updated) {
+            update.add(asDto(project));
+        }
+        final HttpJsonRequest request = httpJsonRequestFactory.fromUrl(href).usePutMethod().setBody(update);
+        for (ProjectConfig project : removed) {
+            request.addQueryParam("remove", project.getPath());
+        }
+        try {
+            request.request();
+        } catch (IOException | ApiException e) {
+            throw new ServerException(e.getMessage());
+        }
+    }
+
     /**
      * Add project on WS-master side.
      *
@@ -10,18 +10,66 @@
  *******************************************************************************/
 package org.eclipse.che.api.project.server;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.project.ProjectConfig;
+import org.eclipse.che.api.workspace.shared.dto.ProjectConfigDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import javax.annotation.PreDestroy;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.eclipse.che.api.project.server.DtoConverter.asDto;
 
 /**
  * Synchronizer for Project Configurations stored in Workspace Configuration with Agent's state
  *
+ * <p>Synchronizer fetches configurations of projects from Workspace Configuration once per synchronization
+ * and sends only projects which differ from them. If synchronization window is set, all the changes made during
+ * the window, e.g. when many projects are imported or detected, are sent in one batch at the end of window,
+ * errors of such delayed synchronization are only logged.
+ *
  * @author gazarenkov
  */
 public abstract class WorkspaceProjectsSyncer {
+    private static final Logger LOG = LoggerFactory.getLogger(WorkspaceProjectsSyncer.class);
+
+    private final long                     syncWindowMillis;
+    private final ScheduledExecutorService executor;
+    private final Object                   syncLock = new Object();
+
+    // guarded by this
+    private ProjectRegistry    pendingRegistry;
+    private ScheduledFuture<?> pendingSync;
+    private boolean            stopped;
+
+    /** Creates synchronizer which sends changes immediately. */
+    protected WorkspaceProjectsSyncer() {
+        this(0);
+    }
+
+    /**
+     * @param syncWindowMillis
+     *         how long changes are collected before they are sent to Workspace Configuration,
+     *         changes are sent immediately if it is 0
+     */
+    protected WorkspaceProjectsSyncer(long syncWindowMillis) {
+        this.syncWindowMillis = syncWindowMillis;
+        this.executor = syncWindowMillis > 0
+                        ? Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat("WorkspaceProjectsSyncer-%d")
+                                                                                               .setDaemon(true)
+                                                                                               .build())
+                        : null;
+    }
 
     /**
      * Synchronizes Project Config state on Agent and Master
@@ -29,51 +77,146 @@ public abstract class WorkspaceProjectsSyncer {
      * @throws ServerException
      */
     public final void sync(ProjectRegistry projectRegistry) throws ServerException {
-
-        List<? extends ProjectConfig> remote = getProjects();
-
-        // check on removed
-        List <ProjectConfig> removed = new ArrayList<>();
-        for(ProjectConfig r  : remote) {
-            if(projectRegistry.getProject(r.getPath()) == null)
-                removed.add(r);
+        synchronized (this) {
+            if (executor != null && !stopped) {
+                pendingRegistry = projectRegistry;
+                if (pendingSync == null) {
+                    pendingSync = executor.schedule(this::syncPending, syncWindowMillis, MILLISECONDS);
+                }
+                return;
+            }
         }
+        doSync(projectRegistry);
+    }
 
-        for(ProjectConfig r : removed)
-            removeProject(r);
+    /**
+     * Sends changes which wait for the end of current synchronization window immediately.
+     *
+     * @throws ServerException
+     */
+    public void flush() throws ServerException {
+        final ProjectRegistry projectRegistry;
+        synchronized (this) {
+            if (pendingSync == null) {
+                return;
+            }
+            pendingSync.cancel(false);
+            pendingSync = null;
+            projectRegistry = pendingRegistry;
+            pendingRegistry = null;
+        }
+        doSync(projectRegistry);
+    }
 
+    /** Sends pending changes and stops collecting of changes, after that changes are sent immediately. */
+    @PreDestroy
+    public void stop() {
+        synchronized (this) {
+            stopped = true;
+        }
+        try {
+            flush();
+        } catch (ServerException e) {
+            LOG.error("Unable to synchronize projects of workspace {}: {}", getWorkspaceId(), e.getMessage());
+        }
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
 
-        // update or add
-        for(RegisteredProject project : projectRegistry.getProjects()) {
+    private void syncPending() {
+        final ProjectRegistry projectRegistry;
+        synchronized (this) {
+            if (pendingSync == null) {
+                // flushed already
+                return;
+            }
+            pendingSync = null;
+            projectRegistry = pendingRegistry;
+            pendingRegistry = null;
+        }
+        try {
+            doSync(projectRegistry);
+        } catch (ServerException | RuntimeException e) {
+            LOG.error("Unable to synchronize projects of workspace {}: {}", getWorkspaceId(), e.getMessage());
+        }
+    }
 
-            if(!project.isSynced() && !project.isDetected()) {
+    private void doSync(ProjectRegistry projectRegistry) throws ServerException {
+        synchronized (syncLock) {
+            // Workspace Configuration may be changed by others, so it is fetched for each batch
+            final Map<String, ProjectConfigDto> remoteProjects = new HashMap<>();
+            for (ProjectConfig r : getProjects()) {
+                remoteProjects.put(r.getPath(), asDto(r));
+            }
 
-                final ProjectConfig config = new NewProjectConfig(project.getPath(),
-                                                                  project.getType(),
-                                                                  project.getMixins(),
-                                                                  project.getName(),
-                                                                  project.getDescription(),
-                                                                  project.getPersistableAttributes(),
-                                                                  project.getSource());
+            // check on removed
+            final List<ProjectConfigDto> removed = new ArrayList<>();
+            for (ProjectConfigDto r : remoteProjects.values()) {
+                if (projectRegistry.getProject(r.getPath()) == null) {
+                    removed.add(r);
+                }
+            }
 
-                boolean found = false;
-                for(ProjectConfig r  : remote) {
-                    if(r.getPath().equals(project.getPath())) {
-                        updateProject(config);
-                        found = true;
+            // update or add
+            final List<RegisteredProject> changed = new ArrayList<>();
+            final List<ProjectConfigDto> added = new ArrayList<>();
+            final List<ProjectConfigDto> updated = new ArrayList<>();
+            for (RegisteredProject project : projectRegistry.getProjects()) {
+                if (!project.isSynced() && !project.isDetected()) {
+                    changed.add(project);
+                    final ProjectConfigDto config = asDto(new NewProjectConfig(project.getPath(),
+                                                                               project.getType(),
+                                                                               project.getMixins(),
+                                                                               project.getName(),
+                                                                               project.getDescription(),
+                                                                               project.getPersistableAttributes(),
+                                                                               project.getSource()));
+                    final ProjectConfigDto remote = remoteProjects.get(project.getPath());
+                    if (remote == null) {
+                        added.add(config);
+                    } else if (!remote.equals(config)) {
+                        updated.add(config);
                     }
                 }
+            }
 
-                if(!found)
-                    addProject(config);
+            if (!removed.isEmpty() || !added.isEmpty() || !updated.isEmpty()) {
+                updateProjects(added, updated, removed);
+            }
 
+            for (RegisteredProject project : changed) {
                 project.setSync();
-
             }
-
-
         }
+    }
 
+    /**
+     * Applies all the changes found during synchronization to Workspace Config.
+     *
+     * <p>Default implementation makes separate call for every project,
+     * implementations are encouraged to send all the changes at once.
+     *
+     * @param added
+     *         projects which don't exist in Workspace Config
+     * @param updated
+     *         projects which are changed since last synchronization
+     * @param removed
+     *         projects which should be removed from Workspace Config
+     * @throws ServerException
+     */
+    protected void updateProjects(List<? extends ProjectConfig> added,
+                                  List<? extends ProjectConfig> updated,
+                                  List<? extends ProjectConfig> removed) throws ServerException {
+        for (ProjectConfig project : removed) {
+            removeProject(project);
+        }
+        for (ProjectConfig project : updated) {
+            updateProject(project);
+        }
+        for (ProjectConfig project : added) {
+            addProject(project);
+        }
     }
 
     /**
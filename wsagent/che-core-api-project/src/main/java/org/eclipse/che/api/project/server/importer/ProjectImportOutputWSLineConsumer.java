@@ -20,58 +20,58 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Send project import output to WS by skipping output messages written below the delay specified.
+ * <p/>
+ * Writing of line never blocks importer, only the last line written since the previous message is kept.
+ * All consumers share a single sender thread, so concurrent imports of many projects don't produce
+ * more than one message per project per delay.
  */
 public class ProjectImportOutputWSLineConsumer implements LineConsumer {
     private static final Logger LOG = LoggerFactory.getLogger(ProjectImportOutputWSLineConsumer.class);
 
-    protected final AtomicInteger            lineCounter;
-    protected final String                   projectName;
-    protected final String                   workspaceId;
-    protected final BlockingQueue<String>    lineToSendQueue;
-    protected final ScheduledExecutorService executor;
+    private static final ScheduledExecutorService SENDER = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat(ProjectImportOutputWSLineConsumer.class.getSimpleName() + "-%d")
+                                      .setDaemon(true)
+                                      .build());
+
+    protected final AtomicInteger           lineCounter;
+    protected final String                  projectName;
+    protected final String                  workspaceId;
+    protected final AtomicReference<String> lineToSend;
+
+    private final ScheduledFuture<?> sendTask;
 
     public ProjectImportOutputWSLineConsumer(String projectName, String workspaceId, int delayBetweenMessages) {
         this.projectName = projectName;
         this.workspaceId = workspaceId;
-        lineToSendQueue = new ArrayBlockingQueue<>(1024);
-        executor = Executors.newSingleThreadScheduledExecutor(
-                new ThreadFactoryBuilder().setNameFormat(ProjectImportOutputWSLineConsumer.class.getSimpleName()+"-%d").setDaemon(true).build());
-        executor.scheduleAtFixedRate(new Runnable() {
-            @Override
-            public void run() {
-                String lineToSend = null;
-                while (!lineToSendQueue.isEmpty()) {
-                    lineToSend = lineToSendQueue.poll();
-                }
-                if (lineToSend == null) {
-                    return;
-                }
-                sendMessage(lineToSend);
-            }
-        }, 0, delayBetweenMessages, TimeUnit.MILLISECONDS);
+        lineToSend = new AtomicReference<>();
         lineCounter = new AtomicInteger(1);
+        sendTask = SENDER.scheduleAtFixedRate(this::sendLastLine, 0, delayBetweenMessages, TimeUnit.MILLISECONDS);
     }
 
     @Override
     public void close() throws IOException {
-        executor.shutdown();
+        sendTask.cancel(false);
+        SENDER.execute(this::sendLastLine);
     }
 
     @Override
     public void writeLine(String line) throws IOException {
-        try {
-            lineToSendQueue.put(line);
-        } catch (InterruptedException ignored) {
-            // ignore if interrupted
+        lineToSend.set(line);
+    }
+
+    private void sendLastLine() {
+        final String line = lineToSend.getAndSet(null);
+        if (line != null) {
+            sendMessage(line);
         }
     }
 
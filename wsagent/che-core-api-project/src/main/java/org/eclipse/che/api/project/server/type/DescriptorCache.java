@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.server.type;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import org.eclipse.che.api.core.ForbiddenException;
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.core.notification.EventSubscriber;
+import org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent;
+import org.eclipse.che.api.vfs.VirtualFile;
+import org.eclipse.che.api.vfs.impl.file.event.LoEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of parsed project descriptors (pom.xml, build.xml, etc.) shared by {@link ValueProvider}s.
+ * <p/>
+ * Value providers are asked for every attribute separately, so without cache the same descriptor
+ * is parsed once per attribute. Cached descriptor is keyed by file path and type of the parsed
+ * model and is valid while modification date and length of the file are the same. In addition
+ * entries are dropped when file or any of its parent folders are modified through project API or
+ * changes are detected by file watcher.
+ * <p/>
+ * Cached models are shared between callers and must not be modified.
+ */
+@Singleton
+public class DescriptorCache {
+    private static final Logger LOG = LoggerFactory.getLogger(DescriptorCache.class);
+
+    private static final int MAX_SIZE = 1000;
+
+    private final Cache<String, Entry> entries = CacheBuilder.newBuilder().maximumSize(MAX_SIZE).build();
+
+    private final AtomicLong parses        = new AtomicLong();
+    private final AtomicLong hits          = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /** Creates cache which relies on file modification stamps only. */
+    public DescriptorCache() {
+    }
+
+    @Inject
+    public DescriptorCache(EventService eventService) {
+        eventService.subscribe(new EventSubscriber<ProjectItemModifiedEvent>() {
+            @Override
+            public void onEvent(ProjectItemModifiedEvent event) {
+                invalidate(event.getPath());
+                if (event.getOldPath() != null) {
+                    invalidate(event.getOldPath());
+                }
+            }
+        });
+        eventService.subscribe(new EventSubscriber<LoEvent>() {
+            @Override
+            public void onEvent(LoEvent event) {
+                invalidate(event.getPath());
+            }
+        });
+    }
+
+    /**
+     * Returns parsed descriptor, parses file if there is no up to date parsed descriptor of given type.
+     *
+     * @param file
+     *         descriptor file
+     * @param type
+     *         type of parsed descriptor
+     * @param parser
+     *         parses file, it is not called when cached descriptor is up to date
+     */
+    public <T> T get(VirtualFile file, Class<T> type, Parser<T> parser) throws ServerException, ForbiddenException, IOException {
+        final String path = file.getPath().toString();
+        final String key = type.getName() + ':' + path;
+        final long modified = file.getLastModificationDate();
+        final long length = file.getLength();
+
+        final Entry entry = entries.getIfPresent(key);
+        if (entry != null && entry.modified == modified && entry.length == length) {
+            hits.incrementAndGet();
+            return type.cast(entry.descriptor);
+        }
+
+        final T descriptor = parser.parse(file);
+        parses.incrementAndGet();
+        LOG.debug("Parsed {} as {}", path, type.getSimpleName());
+        entries.put(key, new Entry(path, modified, length, descriptor));
+        return descriptor;
+    }
+
+    /** Drops cached descriptors of the file with given path and of all files under it. */
+    public void invalidate(String path) {
+        if (path == null) {
+            return;
+        }
+        final String folderPrefix = path.endsWith("/") ? path : path + '/';
+        entries.asMap().values().removeIf(entry -> {
+            if (entry.path.equals(path) || entry.path.startsWith(folderPrefix)) {
+                invalidations.incrementAndGet();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /** Returns number of times descriptors were parsed. */
+    public long getParseCount() {
+        return parses.get();
+    }
+
+    /** Returns number of times cached descriptors were reused. */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /** Returns number of cached descriptors dropped because of file changes. */
+    public long getInvalidationCount() {
+        return invalidations.get();
+    }
+
+    /** Parses descriptor file. */
+    public interface Parser<T> {
+        T parse(VirtualFile file) throws ServerException, ForbiddenException, IOException;
+    }
+
+    private static class Entry {
+        private final String path;
+        private final long   modified;
+        private final long   length;
+        private final Object descriptor;
+
+        private Entry(String path, long modified, long length, Object descriptor) {
+            this.path = path;
+            this.modified = modified;
+            this.length = length;
+            this.descriptor = descriptor;
+        }
+    }
+}
@@ -14,6 +14,7 @@ import org.eclipse.che.api.core.model.project.type.Attribute;
 import org.eclipse.che.api.core.model.project.type.ProjectType;
 import org.eclipse.che.api.core.model.project.type.Value;
 import org.eclipse.che.api.project.server.FolderEntry;
+import org.eclipse.che.api.project.server.FolderSnapshot;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -170,6 +171,14 @@ public abstract class ProjectTypeDef implements ProjectType {
     }
 
     public ProjectTypeResolution resolveSources(FolderEntry projectFolder) throws ValueStorageException {
+        return resolveSources(new FolderSnapshot(projectFolder));
+    }
+
+    /**
+     * Resolves sources of the folder against this project type. Values of attributes are read through
+     * the snapshot, so they are shared with other project types resolved against the same snapshot.
+     */
+    public ProjectTypeResolution resolveSources(FolderSnapshot projectFolder) throws ValueStorageException {
         Map<String, Value> matchAttrs = new HashMap<>();
         for (Map.Entry<String, Attribute> entry : attributes.entrySet()) {
             Attribute attr = entry.getValue();
@@ -178,7 +187,7 @@ public abstract class ProjectTypeDef implements ProjectType {
                 Variable var = (Variable)attr;
                 ValueProviderFactory factory = var.getValueProviderFactory();
                 if (factory != null) {
-                    Value value = new AttributeValue(factory.newInstance(projectFolder).getValues(name));
+                    Value value = new AttributeValue(projectFolder.getValues(factory, name));
                     if (value.isEmpty()) {
                         if (var.isRequired()) {
                             // this PT is not match
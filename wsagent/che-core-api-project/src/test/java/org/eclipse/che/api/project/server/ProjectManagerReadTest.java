@@ -14,6 +14,7 @@ import org.eclipse.che.api.core.model.project.ProjectConfig;
 import org.eclipse.che.api.project.server.handlers.ProjectHandlerRegistry;
 import org.eclipse.che.api.project.server.type.BaseProjectType;
 import org.eclipse.che.api.project.server.type.ProjectTypeRegistry;
+import org.eclipse.che.api.project.server.type.ProjectTypeResolution;
 import org.eclipse.che.api.workspace.shared.dto.ProjectConfigDto;
 import org.eclipse.che.dto.server.DtoFactory;
 import org.junit.Before;
@@ -25,6 +26,8 @@ import java.util.HashSet;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
@@ -219,6 +222,17 @@ public class ProjectManagerReadTest extends WsAgentTestBase {
     @Test
     public void testResolveSources() throws Exception {
 
+        assertFalse(pm.resolveSources("/fromFolder", false).stream().anyMatch(r -> "pt3".equals(r.getType())));
+
+        new File(root, "/fromFolder/file1").mkdir();
+
+        ProjectTypeResolution pt3 = pm.resolveSources("/fromFolder", false).stream()
+                                      .filter(r -> "pt3".equals(r.getType()))
+                                      .findFirst()
+                                      .orElse(null);
+        assertNotNull(pt3);
+        assertEquals("pt2-provided1", pt3.getProvidedAttributes().get("pt2-provided1").getString());
+
     }
 
 
@@ -41,6 +41,7 @@ import java.util.Map;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
+import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -453,6 +454,90 @@ public class ProjectManagerWriteTest extends WsAgentTestBase {
         assertFalse(projectFolderExist);
     }
 
+    @Test
+    public void testImportProjects() throws Exception {
+        registerImporter("_first_", zipWithFile("file1", "first"));
+        registerImporter("_second_", zipWithFile("file2", "second"));
+
+        List<ProjectImportResult> results =
+                pm.importProjects(asList(new NewProjectConfig("/first", "first", BaseProjectType.ID,
+                                                              DtoFactory.newDto(SourceStorageDto.class).withType("_first_")),
+                                         new NewProjectConfig("/second", "second", BaseProjectType.ID,
+                                                              DtoFactory.newDto(SourceStorageDto.class).withType("_second_"))),
+                                  false);
+
+        assertEquals(2, results.size());
+        assertTrue(results.get(0).isImported());
+        assertEquals("/first", results.get(0).getProject().getPath());
+        assertTrue(results.get(1).isImported());
+        assertEquals("/second", results.get(1).getProject().getPath());
+        assertEquals("first", projectRegistry.getProject("/first").getBaseFolder().getChild("file1").getVirtualFile().getContentAsString());
+        assertEquals("second", projectRegistry.getProject("/second").getBaseFolder().getChild("file2").getVirtualFile().getContentAsString());
+        assertTrue(workspaceHolder.getProjects().stream().anyMatch(p -> "/first".equals(p.getPath())));
+        assertTrue(workspaceHolder.getProjects().stream().anyMatch(p -> "/second".equals(p.getPath())));
+    }
+
+    @Test
+    public void testImportProjectsRegistersSucceededWhenOneFailed() throws Exception {
+        registerImporter("_good_", zipWithFile("file1", "good"));
+        registerImporter("_bad_", null);
+
+        List<ProjectImportResult> results =
+                pm.importProjects(asList(new NewProjectConfig("/good", "good", BaseProjectType.ID,
+                                                              DtoFactory.newDto(SourceStorageDto.class).withType("_good_")),
+                                         new NewProjectConfig("/bad", "bad", BaseProjectType.ID,
+                                                              DtoFactory.newDto(SourceStorageDto.class).withType("_bad_"))),
+                                  false);
+
+        assertEquals(2, results.size());
+        assertTrue(results.get(0).isImported());
+        assertEquals("/bad", results.get(1).getPath());
+        assertFalse(results.get(1).isImported());
+        assertNotNull(results.get(1).getError());
+        assertNotNull(projectRegistry.getProject("/good"));
+        assertNull(projectRegistry.getProject("/bad"));
+        assertFalse(vfsProvider.getVirtualFileSystem().getRoot().hasChild(Path.of("/bad")));
+        assertTrue(workspaceHolder.getProjects().stream().anyMatch(p -> "/good".equals(p.getPath())));
+    }
+
+    @Test
+    public void testImportProjectsReportsProjectWhichFolderCannotBePrepared() throws Exception {
+        registerImporter("_good_", zipWithFile("file1", "good"));
+        registerImporter("_file_", zipWithFile("file2", "file"));
+        pm.getProjectsRoot().createFile("file", "content".getBytes());
+
+        List<ProjectImportResult> results =
+                pm.importProjects(asList(new NewProjectConfig("/file", "file", BaseProjectType.ID,
+                                                              DtoFactory.newDto(SourceStorageDto.class).withType("_file_")),
+                                         new NewProjectConfig("/good", "good", BaseProjectType.ID,
+                                                              DtoFactory.newDto(SourceStorageDto.class).withType("_good_"))),
+                                  true);
+
+        assertEquals(2, results.size());
+        assertFalse(results.get(0).isImported());
+        assertTrue(results.get(0).getError() instanceof NotFoundException);
+        assertTrue(results.get(1).isImported());
+        assertNull(projectRegistry.getProject("/file"));
+        assertNotNull(projectRegistry.getProject("/good"));
+    }
+
+    @Test
+    public void testImportProjectsChecksAllProjectsBeforeImport() throws Exception {
+        registerImporter("_first_", zipWithFile("file1", "first"));
+
+        try {
+            pm.importProjects(asList(new NewProjectConfig("/first", "first", BaseProjectType.ID,
+                                                          DtoFactory.newDto(SourceStorageDto.class).withType("_first_")),
+                                     new NewProjectConfig("/second", "second", BaseProjectType.ID,
+                                                          DtoFactory.newDto(SourceStorageDto.class).withType("nothing"))),
+                              false);
+            fail("NotFoundException: Sources type 'nothing' is not supported.");
+        } catch (NotFoundException e) {
+        }
+
+        assertFalse(vfsProvider.getVirtualFileSystem().getRoot().hasChild(Path.of("/first")));
+    }
+
     @Test
     public void testImportProjectWithoutImporterFailed() throws Exception {
         SourceStorage sourceConfig = DtoFactory.newDto(SourceStorageDto.class).withType("nothing");
@@ -519,6 +604,15 @@ public class ProjectManagerWriteTest extends WsAgentTestBase {
     /* private */
     /* ---------------------------------- */
 
+    private InputStream zipWithFile(String name, String content) throws Exception {
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        ZipOutputStream zipOut = new ZipOutputStream(bout);
+        zipOut.putNextEntry(new ZipEntry(name));
+        zipOut.write(content.getBytes());
+        zipOut.close();
+        return new ByteArrayInputStream(bout.toByteArray());
+    }
+
     private void registerImporter(String importType, InputStream zip) throws Exception {
         final ValueHolder<FolderEntry> folderHolder = new ValueHolder<>();
         importerRegistry.register(new ProjectImporter() {
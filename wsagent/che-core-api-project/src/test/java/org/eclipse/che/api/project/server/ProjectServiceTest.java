@@ -60,6 +60,10 @@ import org.eclipse.che.commons.lang.ws.rs.ExtMediaType;
 import org.eclipse.che.commons.test.SelfReturningAnswer;
 import org.eclipse.che.commons.subject.SubjectImpl;
 import org.eclipse.che.dto.server.DtoFactory;
+import org.eclipse.che.everrest.ETagMetrics;
+import org.eclipse.che.everrest.ETagProvider;
+import org.eclipse.che.everrest.ETagRequestFilter;
+import org.eclipse.che.everrest.ETagResponseFilter;
 import org.everrest.core.ResourceBinder;
 import org.everrest.core.impl.ApplicationContextImpl;
 import org.everrest.core.impl.ApplicationProviderBinder;
@@ -113,6 +117,7 @@ import static javax.ws.rs.HttpMethod.POST;
 import static javax.ws.rs.HttpMethod.PUT;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 import static javax.ws.rs.core.MediaType.TEXT_PLAIN;
+import static org.eclipse.che.api.project.shared.Constants.NEXT_CURSOR_HEADER;
 import static org.eclipse.che.commons.lang.ws.rs.ExtMediaType.APPLICATION_ZIP;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
@@ -120,7 +125,9 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertEqualsNoOrder;
+import static org.testng.Assert.assertNotEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
 
 /**
  * @author andrew00x
@@ -255,6 +262,9 @@ public class ProjectServiceTest {
         dependencies.addComponent(ProjectImporterRegistry.class, importerRegistry);
         dependencies.addComponent(ProjectHandlerRegistry.class, phRegistry);
         dependencies.addComponent(EventService.class, eventService);
+        FolderChangeStamps changeStamps = new FolderChangeStamps(eventService);
+        dependencies.addComponent(FolderChangeStamps.class, changeStamps);
+        dependencies.addComponent(SortedChildren.class, new SortedChildren(changeStamps));
 
         ResourceBinder resources = new ResourceBinderImpl();
         ProviderBinder providers = new ApplicationProviderBinder();
@@ -269,7 +279,11 @@ public class ProjectServiceTest {
 
             @Override
             public Set<Object> getSingletons() {
-                return new HashSet<>(Arrays.asList(new ApiExceptionMapper()));
+                final Set<ETagProvider> eTagProviders = new HashSet<>(Arrays.asList(new ProjectETagProvider(changeStamps),
+                                                                                    new VirtualFileETagProvider(changeStamps)));
+                return new HashSet<>(Arrays.asList(new ApiExceptionMapper(),
+                                                   new ETagRequestFilter(eTagProviders, new ETagMetrics()),
+                                                   new ETagResponseFilter()));
             }
         });
 
@@ -828,6 +842,30 @@ public class ProjectServiceTest {
         assertEquals(new String(writer.getBody()), myContent);
     }
 
+    @Test
+    public void testGetFileContentNotModified() throws Exception {
+        pm.getProject("my_project").getBaseFolder().createFile("test.txt", "to be or not to be".getBytes());
+        String url = "http://localhost:8080/api/project/file/my_project/test.txt";
+
+        ContainerResponse response = launcher.service(GET, url, "http://localhost:8080/api", null, null,
+                                                      new ByteArrayContainerResponseWriter(), null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        String etag = response.getHttpHeaders().getFirst("ETag").toString();
+
+        Map<String, List<String>> headers = new HashMap<>();
+        headers.put("If-None-Match", singletonList(etag));
+        response = launcher.service(GET, url, "http://localhost:8080/api", headers, null, new ByteArrayContainerResponseWriter(), null);
+        assertEquals(response.getStatus(), 304);
+
+        response = launcher.service(PUT, url, "http://localhost:8080/api", null, "changed".getBytes(), null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+
+        ByteArrayContainerResponseWriter writer = new ByteArrayContainerResponseWriter();
+        response = launcher.service(GET, url, "http://localhost:8080/api", headers, null, writer, null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        assertEquals(new String(writer.getBody()), "changed");
+    }
+
     @Test
     public void testUpdateFileContent() throws Exception {
         String myContent = "<test>hello</test>";
@@ -1537,6 +1575,121 @@ public class ProjectServiceTest {
         Assert.assertTrue(names.contains("x"));
     }
 
+    @Test
+    public void testStreamChildrenByPages() throws Exception {
+        FolderEntry a = pm.getProject("my_project").getBaseFolder().createFolder("a");
+        a.createFile("3.txt", "3".getBytes());
+        a.createFile("1.txt", "1".getBytes());
+        a.createFolder("2");
+
+        ByteArrayContainerResponseWriter writer = new ByteArrayContainerResponseWriter();
+        ContainerResponse response = launcher.service(GET,
+                                                      "http://localhost:8080/api/project/stream/children/my_project/a?limit=2&links=false",
+                                                      "http://localhost:8080/api", null, null, writer, null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        List<ItemReference> items = DtoFactory.getInstance().createListDtoFromJson(new String(writer.getBody()), ItemReference.class);
+        assertEquals(items.size(), 2);
+        assertEquals(items.get(0).getName(), "1.txt");
+        assertEquals(items.get(1).getName(), "2");
+        Assert.assertTrue(items.get(0).getLinks().isEmpty());
+        assertEquals(response.getHttpHeaders().getFirst(NEXT_CURSOR_HEADER), "2");
+
+        writer = new ByteArrayContainerResponseWriter();
+        response = launcher.service(GET,
+                                    "http://localhost:8080/api/project/stream/children/my_project/a?limit=2&after=2",
+                                    "http://localhost:8080/api", null, null, writer, null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        items = DtoFactory.getInstance().createListDtoFromJson(new String(writer.getBody()), ItemReference.class);
+        assertEquals(items.size(), 1);
+        assertEquals(items.get(0).getName(), "3.txt");
+        validateFileLinks(items.get(0));
+        assertNull(response.getHttpHeaders().getFirst(NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    public void testStreamChildrenNotModified() throws Exception {
+        pm.getProject("my_project").getBaseFolder().createFolder("a").createFile("test.txt", "test".getBytes());
+        String url = "http://localhost:8080/api/project/stream/children/my_project/a";
+
+        ContainerResponse response = launcher.service(GET, url, "http://localhost:8080/api", null, null,
+                                                      new ByteArrayContainerResponseWriter(), null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        String etag = response.getHttpHeaders().getFirst("ETag").toString();
+
+        Map<String, List<String>> headers = new HashMap<>();
+        headers.put("If-None-Match", singletonList(etag));
+        response = launcher.service(GET, url, "http://localhost:8080/api", headers, null, new ByteArrayContainerResponseWriter(), null);
+        assertEquals(response.getStatus(), 304);
+
+        response = launcher.service(POST, "http://localhost:8080/api/project/file/my_project/a?name=new.txt",
+                                    "http://localhost:8080/api", null, "new".getBytes(), null);
+        assertEquals(response.getStatus(), 201, "Error: " + response.getEntity());
+
+        response = launcher.service(GET, url, "http://localhost:8080/api", headers, null, new ByteArrayContainerResponseWriter(), null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+    }
+
+    @Test
+    public void testStreamChildrenListsItemsCreatedAfterPreviousRequest() throws Exception {
+        pm.getProject("my_project").getBaseFolder().createFolder("a").createFile("test.txt", "test".getBytes());
+        String url = "http://localhost:8080/api/project/stream/children/my_project/a?links=false";
+
+        ContainerResponse response = launcher.service(GET, url, "http://localhost:8080/api", null, null,
+                                                      new ByteArrayContainerResponseWriter(), null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+
+        response = launcher.service(POST, "http://localhost:8080/api/project/file/my_project/a?name=new.txt",
+                                    "http://localhost:8080/api", null, "new".getBytes(), null);
+        assertEquals(response.getStatus(), 201, "Error: " + response.getEntity());
+
+        ByteArrayContainerResponseWriter writer = new ByteArrayContainerResponseWriter();
+        response = launcher.service(GET, url, "http://localhost:8080/api", null, null, writer, null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        List<ItemReference> items = DtoFactory.getInstance().createListDtoFromJson(new String(writer.getBody()), ItemReference.class);
+        assertEquals(items.stream().map(ItemReference::getName).collect(Collectors.toList()), Arrays.asList("new.txt", "test.txt"));
+    }
+
+    @Test
+    public void testStreamChildrenPagesHaveDifferentTags() throws Exception {
+        pm.getProject("my_project").getBaseFolder().createFolder("a").createFile("test.txt", "test".getBytes());
+        String url = "http://localhost:8080/api/project/stream/children/my_project/a?after=";
+
+        // names with the same String#hashCode
+        ContainerResponse first = launcher.service(GET, url + "Aa", "http://localhost:8080/api", null, null,
+                                                   new ByteArrayContainerResponseWriter(), null);
+        ContainerResponse second = launcher.service(GET, url + "BB", "http://localhost:8080/api", null, null,
+                                                    new ByteArrayContainerResponseWriter(), null);
+
+        assertEquals(first.getStatus(), 200, "Error: " + first.getEntity());
+        assertEquals(second.getStatus(), 200, "Error: " + second.getEntity());
+        assertNotEquals(first.getHttpHeaders().getFirst("ETag").toString(), second.getHttpHeaders().getFirst("ETag").toString());
+    }
+
+    @Test
+    public void testStreamTree() throws Exception {
+        FolderEntry a = pm.getProject("my_project").getBaseFolder().createFolder("a");
+        a.createFolder("b/c");
+        a.createFolder("x/y");
+        a.createFile("test.txt", "test".getBytes());
+
+        ByteArrayContainerResponseWriter writer = new ByteArrayContainerResponseWriter();
+        ContainerResponse response = launcher.service(GET,
+                                                      "http://localhost:8080/api/project/stream/tree/my_project/a?depth=2&includeFiles=true&limit=2",
+                                                      "http://localhost:8080/api", null, null, writer, null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        String json = new String(writer.getBody());
+        TreeElement tree = DtoFactory.getInstance().createDtoFromJson(json, TreeElement.class);
+        assertEquals(tree.getNode().getName(), "a");
+        validateFolderLinks(tree.getNode());
+        List<TreeElement> children = tree.getChildren();
+        assertEquals(children.size(), 2);
+        assertEquals(children.get(0).getNode().getName(), "b");
+        assertEquals(children.get(0).getChildren().get(0).getNode().getName(), "c");
+        assertEquals(children.get(1).getNode().getName(), "test.txt");
+        validateFileLinks(children.get(1).getNode());
+        Assert.assertTrue(json.endsWith(",\"nextCursor\":\"test.txt\"}"));
+    }
+
     @Test
     public void testGetTreeWithDepth() throws Exception {
         RegisteredProject myProject = pm.getProject("my_project");
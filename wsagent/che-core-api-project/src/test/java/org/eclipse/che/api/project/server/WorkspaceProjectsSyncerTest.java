@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.server;
+
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.core.model.project.ProjectConfig;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+public class WorkspaceProjectsSyncerTest {
+
+    private ProjectRegistry         registry;
+    private List<RegisteredProject> projects;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        projects = new ArrayList<>();
+        registry = mock(ProjectRegistry.class);
+        when(registry.getProjects()).thenReturn(projects);
+    }
+
+    @Test
+    public void shouldNotSendProjectWhichIsNotChangedSinceLastSync() throws Exception {
+        final RecordingSyncer syncer = new RecordingSyncer(0);
+        final RegisteredProject project = project("/project", "blank");
+
+        syncer.sync(registry);
+        syncer.sync(registry);
+
+        assertEquals(syncer.batches, singletonList(asList("+/project")));
+        verify(project, atLeastOnce()).setSync();
+    }
+
+    @Test
+    public void shouldSendChangedAndRemovedProjects() throws Exception {
+        final RecordingSyncer syncer = new RecordingSyncer(0, new NewProjectConfig("/project", "maven", null, "project", null, null, null),
+                                                           new NewProjectConfig("/removed", "blank", null, "removed", null, null, null));
+        project("/project", "blank");
+
+        syncer.sync(registry);
+
+        assertEquals(syncer.batches, singletonList(asList("-/removed", "*/project")));
+    }
+
+    @Test
+    public void shouldSendAllChangesMadeDuringWindowInOneBatch() throws Exception {
+        final RecordingSyncer syncer = new RecordingSyncer(60_000);
+
+        project("/project1", "blank");
+        syncer.sync(registry);
+        project("/project2", "blank");
+        syncer.sync(registry);
+        assertEquals(syncer.batches, emptyList());
+
+        syncer.flush();
+
+        assertEquals(syncer.batches.size(), 1);
+        final List<String> batch = syncer.batches.get(0);
+        Collections.sort(batch);
+        assertEquals(batch, asList("+/project1", "+/project2"));
+        syncer.stop();
+    }
+
+    @Test
+    public void shouldCompareProjectsWithWorkspaceConfigFetchedForEachSync() throws Exception {
+        final RecordingSyncer syncer = new RecordingSyncer(0);
+        project("/project", "blank");
+        syncer.sync(registry);
+
+        // project is changed in workspace config by someone else
+        syncer.remote.put("/project", new NewProjectConfig("/project", "maven", null, "project", null, null, null));
+        syncer.sync(registry);
+
+        assertEquals(syncer.batches, asList(asList("+/project"), asList("*/project")));
+    }
+
+    private RegisteredProject project(String path, String type) {
+        final RegisteredProject project = mock(RegisteredProject.class);
+        when(project.getPath()).thenReturn(path);
+        when(project.getName()).thenReturn(path.substring(1));
+        when(project.getType()).thenReturn(type);
+        projects.add(project);
+        when(registry.getProject(path)).thenReturn(project);
+        return project;
+    }
+
+    private static class RecordingSyncer extends WorkspaceProjectsSyncer {
+        final Map<String, ProjectConfig> remote  = new LinkedHashMap<>();
+        final List<List<String>>         batches = new ArrayList<>();
+
+        RecordingSyncer(long syncWindowMillis, ProjectConfig... remote) {
+            super(syncWindowMillis);
+            for (ProjectConfig project : remote) {
+                this.remote.put(project.getPath(), project);
+            }
+        }
+
+        @Override
+        protected void updateProjects(List<? extends ProjectConfig> added,
+                                      List<? extends ProjectConfig> updated,
+                                      List<? extends ProjectConfig> removed) throws ServerException {
+            final List<String> batch = new ArrayList<>();
+            removed.forEach(project -> batch.add("-" + project.getPath()));
+            updated.forEach(project -> batch.add("*" + project.getPath()));
+            added.forEach(project -> batch.add("+" + project.getPath()));
+            batches.add(batch);
+            removed.forEach(project -> remote.remove(project.getPath()));
+            updated.forEach(project -> remote.put(project.getPath(), project));
+            added.forEach(project -> remote.put(project.getPath(), project));
+        }
+
+        @Override
+        public List<? extends ProjectConfig> getProjects() throws ServerException {
+            return new ArrayList<>(remote.values());
+        }
+
+        @Override
+        public String getWorkspaceId() {
+            return "ws";
+        }
+
+        @Override
+        protected void addProject(ProjectConfig project) throws ServerException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected void updateProject(ProjectConfig project) throws ServerException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected void removeProject(ProjectConfig project) throws ServerException {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
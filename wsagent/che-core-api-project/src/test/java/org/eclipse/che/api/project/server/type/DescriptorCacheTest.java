@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.server.type;
+
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent;
+import org.eclipse.che.api.vfs.Path;
+import org.eclipse.che.api.vfs.VirtualFile;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DescriptorCacheTest {
+
+    private EventService    eventService;
+    private DescriptorCache cache;
+    private VirtualFile     file;
+    private AtomicInteger   parsed;
+
+    @Before
+    public void setUp() throws Exception {
+        eventService = new EventService();
+        cache = new DescriptorCache(eventService);
+        file = mock(VirtualFile.class);
+        when(file.getPath()).thenReturn(Path.of("/project/pom.xml"));
+        when(file.getLastModificationDate()).thenReturn(1000L);
+        when(file.getLength()).thenReturn(10L);
+        parsed = new AtomicInteger();
+    }
+
+    @Test
+    public void parsesFileOnlyOnceWhileItIsNotModified() throws Exception {
+        String first = cache.get(file, String.class, f -> "model-" + parsed.incrementAndGet());
+        String second = cache.get(file, String.class, f -> "model-" + parsed.incrementAndGet());
+
+        assertEquals("model-1", first);
+        assertEquals("model-1", second);
+        assertEquals(1, cache.getParseCount());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void parsesFileAgainWhenModificationStampChanged() throws Exception {
+        cache.get(file, String.class, f -> "model-" + parsed.incrementAndGet());
+        when(file.getLastModificationDate()).thenReturn(2000L);
+
+        assertEquals("model-2", cache.get(file, String.class, f -> "model-" + parsed.incrementAndGet()));
+        assertEquals(2, cache.getParseCount());
+    }
+
+    @Test
+    public void keepsDescriptorsOfDifferentTypesSeparately() throws Exception {
+        cache.get(file, String.class, f -> "model");
+
+        assertEquals(Integer.valueOf(1), cache.get(file, Integer.class, f -> 1));
+        assertEquals(2, cache.getParseCount());
+    }
+
+    @Test
+    public void dropsDescriptorWhenParentFolderIsModified() throws Exception {
+        cache.get(file, String.class, f -> "model-" + parsed.incrementAndGet());
+
+        eventService.publish(new ProjectItemModifiedEvent(ProjectItemModifiedEvent.EventType.DELETED, "ws", "/project", "/project", true));
+
+        assertEquals("model-2", cache.get(file, String.class, f -> "model-" + parsed.incrementAndGet()));
+        assertEquals(1, cache.getInvalidationCount());
+    }
+
+    @Test
+    public void doesNotDropDescriptorsOfSiblingFolders() throws Exception {
+        cache.get(file, String.class, f -> "model-" + parsed.incrementAndGet());
+
+        cache.invalidate("/proj");
+
+        assertEquals("model-1", cache.get(file, String.class, f -> "model-" + parsed.incrementAndGet()));
+        assertEquals(0, cache.getInvalidationCount());
+    }
+}
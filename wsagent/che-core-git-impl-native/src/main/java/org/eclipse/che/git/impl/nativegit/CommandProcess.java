@@ -16,7 +16,7 @@ import org.eclipse.che.api.core.util.CommandLine;
 import org.eclipse.che.api.core.util.CompositeLineConsumer;
 import org.eclipse.che.api.core.util.LineConsumer;
 import org.eclipse.che.api.core.util.LineConsumerFactory;
-import org.eclipse.che.api.core.util.ProcessUtil;
+import org.eclipse.che.api.core.util.ProcessReactor;
 import org.eclipse.che.api.core.util.Watchdog;
 import org.eclipse.che.api.git.GitException;
 import org.eclipse.che.git.impl.nativegit.commands.GitCommand;
@@ -69,14 +69,15 @@ public class CommandProcess {
 
         // Add an external line consumer that comes with factory. It is typically a consumer that sends message events to the client.
         try (LineConsumer consumer = new CompositeLineConsumer(lineConsumer, command)) {
+            pb.redirectErrorStream(true);
             Process process;
             try {
-                process = ProcessUtil.execute(pb, consumer);
+                process = pb.start();
             } catch (IOException e) {
                 LOG.error("Process creating failed", e);
                 throw new GitException("It is not possible to execute command");
             }
-            // process will be stopped after timeout
+            // process will be stopped after timeout, it is watched while its output is read
             Watchdog watcher = null;
             if (command.getTimeout() > 0) {
                 watcher = new Watchdog(command.getTimeout(), TimeUnit.SECONDS);
@@ -84,7 +85,15 @@ public class CommandProcess {
             }
 
             try {
+                final ProcessReactor.Pump output;
+                try {
+                    output = ProcessReactor.getInstance().process(process, consumer, null);
+                } catch (IOException e) {
+                    LOG.error("Reading of process output failed", e);
+                    throw new GitException("It is not possible to execute command");
+                }
                 process.waitFor();
+                LOG.debug("Command {} is done in {} ms, cpu time {} ms", commandLine, output.getWallTime(), output.getCpuTime());
                 /*
                  * Check process exit value and search for correct error message without hint and warning messages ant throw it to user.
                  */
@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.workspace.server;
+
+import org.eclipse.che.commons.env.EnvironmentContext;
+import org.eclipse.che.everrest.ETagProvider;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.UriInfo;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Supplies tags of workspaces returned by {@link WorkspaceService#getWorkspaces},
+ * {@link WorkspaceService#getByNamespace} and {@link WorkspaceService#getByKey} from
+ * {@link WorkspaceManager#getChangeStamp() version} of workspaces, so polling of unchanged workspaces
+ * doesn't reach workspace storage.
+ */
+@Singleton
+public class WorkspaceETagProvider implements ETagProvider {
+    private static final Pattern WORKSPACES_PATH = Pattern.compile("/?workspace(/namespace)?(/[^/]+)?/?");
+    private static final Pattern NAMESPACE_PATH  = Pattern.compile("/?workspace/namespace/([^/]+)/?");
+
+    private final WorkspaceManager workspaceManager;
+
+    @Inject
+    public WorkspaceETagProvider(WorkspaceManager workspaceManager) {
+        this.workspaceManager = workspaceManager;
+    }
+
+    @Override
+    public EntityTag getETag(UriInfo uriInfo) {
+        final String path = uriInfo.getPath();
+        if (!WORKSPACES_PATH.matcher(path).matches()) {
+            return null;
+        }
+        // workspaces of another namespace are forbidden, request must reach the check of the service
+        final Matcher namespace = NAMESPACE_PATH.matcher(path);
+        if (namespace.matches() && !namespace.group(1).equals(EnvironmentContext.getCurrent().getSubject().getUserName())) {
+            return null;
+        }
+        return workspaceManager.getChangeStamp().getEntityTag(uriInfo);
+    }
+}
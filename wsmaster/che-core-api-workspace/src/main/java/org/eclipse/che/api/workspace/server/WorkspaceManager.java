@@ -19,13 +19,17 @@ import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.ForbiddenException;
 import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.core.model.project.ProjectConfig;
 import org.eclipse.che.api.core.model.workspace.Workspace;
 import org.eclipse.che.api.core.model.workspace.WorkspaceConfig;
 import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
 import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.core.notification.EventSubscriber;
+import org.eclipse.che.api.core.rest.ChangeStamp;
 import org.eclipse.che.api.machine.server.MachineManager;
 import org.eclipse.che.api.machine.server.model.impl.MachineImpl;
 import org.eclipse.che.api.machine.server.model.impl.SnapshotImpl;
+import org.eclipse.che.api.machine.shared.dto.event.MachineStatusEvent;
 import org.eclipse.che.api.workspace.server.WorkspaceRuntimes.RuntimeDescriptor;
 import org.eclipse.che.api.workspace.server.event.WorkspaceCreatedEvent;
 import org.eclipse.che.api.workspace.server.event.WorkspaceRemovedEvent;
@@ -43,6 +47,8 @@ import org.eclipse.che.commons.subject.Subject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.inject.Named;
 import javax.inject.Singleton;
 import java.util.List;
@@ -83,13 +89,16 @@ public class WorkspaceManager {
     /** This attribute describes time when workspace was last update or started/stopped/recovered. */
     public static final String UPDATED_ATTRIBUTE_NAME = "updated";
 
-    private final WorkspaceDao      workspaceDao;
-    private final WorkspaceRuntimes runtimes;
-    private final EventService      eventService;
-    private final ExecutorService   executor;
-    private final MachineManager    machineManager;
-    private final boolean           defaultAutoSnapshot;
-    private final boolean           defaultAutoRestore;
+    private final WorkspaceDao             workspaceDao;
+    private final WorkspaceRuntimes        runtimes;
+    private final EventService             eventService;
+    private final ExecutorService          executor;
+    private final MachineManager           machineManager;
+    private final boolean                  defaultAutoSnapshot;
+    private final boolean                  defaultAutoRestore;
+    private final ChangeStamp              changeStamp;
+    private final RuntimeChangesSubscriber runtimeChangesSubscriber;
+    private final MachineChangesSubscriber machineChangesSubscriber;
 
     private WorkspaceHooks hooks = new NoopWorkspaceHooks();
 
@@ -106,6 +115,9 @@ public class WorkspaceManager {
         this.machineManager = machineManager;
         this.defaultAutoSnapshot = defaultAutoSnapshot;
         this.defaultAutoRestore = defaultAutoRestore;
+        this.changeStamp = new ChangeStamp();
+        this.runtimeChangesSubscriber = new RuntimeChangesSubscriber();
+        this.machineChangesSubscriber = new MachineChangesSubscriber();
 
         executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("WorkspaceManager-%d")
                                                                            .setDaemon(true)
@@ -117,6 +129,14 @@ public class WorkspaceManager {
         this.hooks = hooks;
     }
 
+    /**
+     * Returns stamp which is incremented after every change of workspaces made through this manager
+     * and every change of their runtimes, so it may be used as version of all the workspaces.
+     */
+    public ChangeStamp getChangeStamp() {
+        return changeStamp;
+    }
+
     /**
      * Creates a new {@link WorkspaceImpl} instance based on the given configuration.
      *
@@ -311,7 +331,40 @@ public class WorkspaceManager {
         workspace.setConfig(new WorkspaceConfigImpl(update.getConfig()));
         update.getAttributes().put(UPDATED_ATTRIBUTE_NAME, Long.toString(currentTimeMillis()));
         workspace.setAttributes(update.getAttributes());
-        return normalizeState(workspaceDao.update(workspace));
+        final WorkspaceImpl updated = workspaceDao.update(workspace);
+        changeStamp.increment();
+        return normalizeState(updated);
+    }
+
+    /**
+     * Updates projects of the workspace, other configuration and attributes of the workspace are not changed.
+     *
+     * <p>Unlike {@link #updateWorkspace(String, Workspace)} doesn't require whole workspace,
+     * so it is used for applying batches of project changes made in workspace agent.
+     *
+     * @param id
+     *         workspace id
+     * @param update
+     *         new or updated projects, project with the same path is replaced
+     * @param removedPaths
+     *         paths of projects to remove
+     * @throws NullPointerException
+     *         when any of parameters is null
+     * @throws NotFoundException
+     *         when workspace with given id doesn't exist
+     * @throws ConflictException
+     *         when any conflict occurs
+     * @throws ServerException
+     *         when any other error occurs
+     */
+    public void updateProjects(String id,
+                               List<? extends ProjectConfig> update,
+                               List<String> removedPaths) throws ConflictException, ServerException, NotFoundException {
+        requireNonNull(id, "Required non-null workspace id");
+        requireNonNull(update, "Required non-null projects update");
+        requireNonNull(removedPaths, "Required non-null paths of removed projects");
+        workspaceDao.updateProjects(id, update, removedPaths);
+        changeStamp.increment();
     }
 
     /**
@@ -337,6 +390,7 @@ public class WorkspaceManager {
             throw new ConflictException("The workspace '" + workspaceId + "' is currently running and cannot be removed.");
         }
         workspaceDao.remove(workspaceId);
+        changeStamp.increment();
         hooks.afterRemove(workspaceId);
         eventService.publish(new WorkspaceRemovedEvent(workspaceId));
         LOG.info("Workspace '{}' removed by user '{}'", workspaceId, sessionUserNameOr("undefined"));
@@ -543,6 +597,7 @@ public class WorkspaceManager {
 
         workspace.getAttributes().put(UPDATED_ATTRIBUTE_NAME, Long.toString(currentTimeMillis()));
         workspaceDao.update(workspace);
+        changeStamp.increment();
 
         executor.execute(ThreadLocalPropagateContext.wrap(() -> {
             try {
@@ -600,6 +655,7 @@ public class WorkspaceManager {
                     workspace.getAttributes().put(UPDATED_ATTRIBUTE_NAME, Long.toString(currentTimeMillis()));
                     workspaceDao.update(workspace);
                 }
+                changeStamp.increment();
                 LOG.info("Workspace '{}:{}' with id '{}' stopped by user '{}'",
                          workspace.getNamespace(),
                          workspace.getConfig().getName(),
@@ -703,6 +759,7 @@ public class WorkspaceManager {
         workspace.getAttributes().put(CREATED_ATTRIBUTE_NAME, Long.toString(currentTimeMillis()));
         hooks.beforeCreate(workspace, accountId);
         workspaceDao.create(workspace);
+        changeStamp.increment();
         hooks.afterCreate(workspace, accountId);
         LOG.info("Workspace '{}:{}' with id '{}' created by user '{}'",
                  namespace,
@@ -728,6 +785,36 @@ public class WorkspaceManager {
         return workspaceDao.get(wsName, namespace);
     }
 
+    /*
+     * Runtimes are changed by WorkspaceRuntimes which subscribes to events earlier than this manager,
+     * so the stamp is incremented after runtime is changed as ChangeStamp requires.
+     */
+    @PostConstruct
+    private void subscribe() {
+        eventService.subscribe(runtimeChangesSubscriber);
+        eventService.subscribe(machineChangesSubscriber);
+    }
+
+    @PreDestroy
+    private void unsubscribe() {
+        eventService.unsubscribe(runtimeChangesSubscriber);
+        eventService.unsubscribe(machineChangesSubscriber);
+    }
+
+    private class RuntimeChangesSubscriber implements EventSubscriber<WorkspaceStatusEvent> {
+        @Override
+        public void onEvent(WorkspaceStatusEvent event) {
+            changeStamp.increment();
+        }
+    }
+
+    private class MachineChangesSubscriber implements EventSubscriber<MachineStatusEvent> {
+        @Override
+        public void onEvent(MachineStatusEvent event) {
+            changeStamp.increment();
+        }
+    }
+
     /** No-operations workspace hooks. Each method does nothing */
     private static class NoopWorkspaceHooks implements WorkspaceHooks {
         @Override
@@ -62,6 +62,7 @@ import java.util.Map;
 
 import static com.google.common.base.MoreObjects.firstNonNull;
 import static java.lang.String.format;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.stream.Collectors.toList;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
@@ -152,8 +153,10 @@ public class WorkspaceService extends Service {
     @Produces(APPLICATION_JSON)
     @ApiOperation(value = "Get the workspace by the composite key",
                   notes = "Composite key can be just workspace ID or in the " +
-                          "namespace:workspace_name form, where namespace is optional (e.g :workspace_name is valid key too.")
+                          "namespace:workspace_name form, where namespace is optional (e.g :workspace_name is valid key too.",
+                  response = WorkspaceDto.class)
     @ApiResponses({@ApiResponse(code = 200, message = "The response contains requested workspace entity"),
+                   @ApiResponse(code = 304, message = "The workspace is not modified since the version given in If-None-Match"),
                    @ApiResponse(code = 404, message = "The workspace with specified id does not exist"),
                    @ApiResponse(code = 403, message = "The user is not workspace owner"),
                    @ApiResponse(code = 500, message = "Internal server error occurred")})
@@ -166,6 +169,7 @@ public class WorkspaceService extends Service {
                                                                       ForbiddenException,
                                                                       BadRequestException {
         validateKey(key);
+        // tag is supplied by WorkspaceETagProvider
         final WorkspaceImpl workspace = workspaceManager.getWorkspace(key);
         return linksInjector.injectLinks(asDto(workspace), getServiceContext());
     }
@@ -178,6 +182,7 @@ public class WorkspaceService extends Service {
                   response = WorkspaceDto.class,
                   responseContainer = "List")
     @ApiResponses({@ApiResponse(code = 200, message = "The workspaces successfully fetched"),
+                   @ApiResponse(code = 304, message = "The workspaces are not modified since the version given in If-None-Match"),
                    @ApiResponse(code = 500, message = "Internal server error occurred during workspaces fetching")})
     public List<WorkspaceDto> getWorkspaces(@ApiParam("The number of the items to skip")
                                             @DefaultValue("0")
@@ -198,6 +203,37 @@ public class WorkspaceService extends Service {
                                .collect(toList());
     }
 
+    @GET
+    @Path("/namespace/{namespace}")
+    @Produces(APPLICATION_JSON)
+    @ApiOperation(value = "Get workspaces by given namespace",
+                  notes = "This operation can be performed only by the owner of the namespace",
+                  response = WorkspaceDto.class,
+                  responseContainer = "List")
+    @ApiResponses({@ApiResponse(code = 200, message = "The workspaces successfully fetched"),
+                   @ApiResponse(code = 304, message = "The workspaces are not modified since the version given in If-None-Match"),
+                   @ApiResponse(code = 403, message = "The user is not the owner of the namespace"),
+                   @ApiResponse(code = 500, message = "Internal server error occurred during workspaces fetching")})
+    public List<WorkspaceDto> getByNamespace(@ApiParam("Workspace status")
+                                             @QueryParam("status")
+                                             String status,
+                                             @ApiParam("The namespace")
+                                             @PathParam("namespace")
+                                             String namespace) throws ServerException,
+                                                                      BadRequestException,
+                                                                      ForbiddenException {
+        // namespace of workspace is the name of its owner, see create
+        final String userName = EnvironmentContext.getCurrent().getSubject().getUserName();
+        if (!namespace.equals(userName)) {
+            throw new ForbiddenException(format("User '%s' is not allowed to get workspaces of namespace '%s'", userName, namespace));
+        }
+        return workspaceManager.getByNamespace(namespace)
+                               .stream()
+                               .filter(ws -> status == null || status.equalsIgnoreCase(ws.getStatus().toString()))
+                               .map(workspace -> linksInjector.injectLinks(asDto(workspace), getServiceContext()))
+                               .collect(toList());
+    }
+
     @PUT
     @Path("/{id}")
     @Consumes(APPLICATION_JSON)
@@ -605,6 +641,44 @@ public class WorkspaceService extends Service {
         return linksInjector.injectLinks(asDto(workspaceManager.updateWorkspace(id, workspace)), getServiceContext());
     }
 
+    @PUT
+    @Path("/{id}/project")
+    @Consumes(APPLICATION_JSON)
+    @ApiOperation(value = "Apply batch of changes to the workspace projects",
+                  notes = "New and updated projects replace projects with the same paths, other workspace data stays untouched. " +
+                          "This operation can be performed only by the workspace owner")
+    @ApiResponses({@ApiResponse(code = 204, message = "The projects successfully updated"),
+                   @ApiResponse(code = 400, message = "Missed required parameters, parameters are not valid"),
+                   @ApiResponse(code = 403, message = "The user does not have access to update the projects"),
+                   @ApiResponse(code = 404, message = "The workspace not found"),
+                   @ApiResponse(code = 409, message = "Any conflict error occurs"),
+                   @ApiResponse(code = 500, message = "Internal server error occurred")})
+    public void updateProjects(@ApiParam("The workspace id")
+                               @PathParam("id")
+                               String id,
+                               @ApiParam("The paths of the projects to remove")
+                               @QueryParam("remove")
+                               List<String> removedPaths,
+                               @ApiParam("New or updated projects")
+                               List<ProjectConfigDto> update) throws ServerException,
+                                                                     BadRequestException,
+                                                                     NotFoundException,
+                                                                     ConflictException,
+                                                                     ForbiddenException {
+        final List<ProjectConfigDto> projects = update == null ? emptyList() : update;
+        for (ProjectConfigDto project : projects) {
+            requiredNotNull(project.getPath(), "Project path");
+        }
+        final List<String> removed = removedPaths == null ? emptyList() : removedPaths.stream()
+                                                                                      .map(p -> p.startsWith("/") ? p : '/' + p)
+                                                                                      .collect(toList());
+        // validate the result of changes, only projects are updated in storage
+        final WorkspaceImpl workspace = workspaceManager.getWorkspace(id);
+        workspace.getConfig().updateProjects(projects, removed);
+        validator.validateConfig(workspace.getConfig());
+        workspaceManager.updateProjects(id, projects, removed);
+    }
+
     @PUT
     @Path("/{id}/project/{path:.*}")
     @Consumes(APPLICATION_JSON)
@@ -18,9 +18,12 @@ import org.eclipse.che.api.machine.server.model.impl.CommandImpl;
 import org.eclipse.che.commons.annotation.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -127,6 +130,27 @@ public class WorkspaceConfigImpl implements WorkspaceConfig {
         this.projects = projects;
     }
 
+    /**
+     * Replaces projects which have the same paths as updated projects, adds other updated projects
+     * and removes projects with given paths, other projects are left as is.
+     *
+     * @param update
+     *         new or updated projects
+     * @param removedPaths
+     *         paths of removed projects
+     */
+    public void updateProjects(List<? extends ProjectConfig> update, Collection<String> removedPaths) {
+        final Set<String> replaced = new HashSet<>(removedPaths);
+        for (ProjectConfig project : update) {
+            replaced.add(project.getPath());
+        }
+        final List<ProjectConfigImpl> projects = getProjects();
+        projects.removeIf(project -> replaced.contains(project.getPath()));
+        for (ProjectConfig project : update) {
+            projects.add(new ProjectConfigImpl(project));
+        }
+    }
+
     @Override
     public List<EnvironmentImpl> getEnvironments() {
         return environments;
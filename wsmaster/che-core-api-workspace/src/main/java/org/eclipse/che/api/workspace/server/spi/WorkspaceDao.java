@@ -13,6 +13,7 @@ package org.eclipse.che.api.workspace.server.spi;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.core.model.project.ProjectConfig;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
 
 import java.util.List;
@@ -67,6 +68,35 @@ public interface WorkspaceDao {
      */
     WorkspaceImpl update(WorkspaceImpl update) throws NotFoundException, ConflictException, ServerException;
 
+    /**
+     * Updates projects of workspace, other data of workspace is not changed.
+     *
+     * <p>Default implementation fetches and rewrites whole workspace,
+     * implementations are encouraged to update only projects.
+     *
+     * @param id
+     *         workspace identifier
+     * @param update
+     *         new or updated projects, project with the same path is replaced
+     * @param removedPaths
+     *         paths of projects to remove
+     * @throws NullPointerException
+     *         when any of parameters is null
+     * @throws NotFoundException
+     *         when workspace with given {@code id} was not found
+     * @throws ConflictException
+     *         when any conflict occurs during workspace updating
+     * @throws ServerException
+     *         when any other error occurs during workspace updating
+     */
+    default void updateProjects(String id,
+                                List<? extends ProjectConfig> update,
+                                List<String> removedPaths) throws NotFoundException, ConflictException, ServerException {
+        final WorkspaceImpl workspace = get(id);
+        workspace.getConfig().updateProjects(update, removedPaths);
+        update(workspace);
+    }
+
     /**
      * Removes workspace.
      *
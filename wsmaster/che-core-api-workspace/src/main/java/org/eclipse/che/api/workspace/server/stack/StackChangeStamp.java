@@ -0,0 +1,23 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.workspace.server.stack;
+
+import org.eclipse.che.api.core.rest.ChangeStamp;
+
+import javax.inject.Singleton;
+
+/**
+ * Version of all the stacks and their icons, it is shared by instances of {@link StackService}
+ * which are created per request and is incremented after every change of stacks made through the service.
+ */
+@Singleton
+public class StackChangeStamp extends ChangeStamp {
+}
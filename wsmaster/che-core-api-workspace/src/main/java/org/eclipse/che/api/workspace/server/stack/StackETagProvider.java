@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.workspace.server.stack;
+
+import org.eclipse.che.everrest.ETagProvider;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.UriInfo;
+import java.util.regex.Pattern;
+
+/**
+ * Supplies tags of stacks and their icons returned by {@link StackService} from {@link StackChangeStamp}.
+ */
+@Singleton
+public class StackETagProvider implements ETagProvider {
+    private static final Pattern STACKS_PATH = Pattern.compile("/?stack(/[^/]+(/icon)?)?/?");
+
+    private final StackChangeStamp changeStamp;
+
+    @Inject
+    public StackETagProvider(StackChangeStamp changeStamp) {
+        this.changeStamp = changeStamp;
+    }
+
+    @Override
+    public EntityTag getETag(UriInfo uriInfo) {
+        if (!STACKS_PATH.matcher(uriInfo.getPath()).matches()) {
+            return null;
+        }
+        return changeStamp.getEntityTag(uriInfo);
+    }
+}
@@ -75,11 +75,13 @@ import static org.eclipse.che.api.workspace.shared.Constants.LINK_REL_UPLOAD_ICO
 @Path("/stack")
 public class StackService extends Service {
 
-    private final StackDao stackDao;
+    private final StackDao         stackDao;
+    private final StackChangeStamp changeStamp;
 
     @Inject
-    public StackService(StackDao stackDao) {
+    public StackService(StackDao stackDao, StackChangeStamp changeStamp) {
         this.stackDao = stackDao;
+        this.changeStamp = changeStamp;
     }
 
     @POST
@@ -117,6 +119,7 @@ public class StackService extends Service {
                                       .build();
 
         stackDao.create(newStack);
+        changeStamp.increment();
 
         return Response.status(CREATED)
                        .entity(asStackDto(newStack))
@@ -128,12 +131,15 @@ public class StackService extends Service {
     @Produces(APPLICATION_JSON)
     @GenerateLink(rel = LINK_REL_GET_STACK_BY_ID)
     @ApiOperation(value = "Get the stack by id",
-                  notes = "This operation can be performed for stack owner, or for predefined stacks")
+                  notes = "This operation can be performed for stack owner, or for predefined stacks",
+                  response = StackDto.class)
     @ApiResponses({@ApiResponse(code = 200, message = "The response contains requested stack entity"),
+                   @ApiResponse(code = 304, message = "The stack is not modified since the version given in If-None-Match"),
                    @ApiResponse(code = 404, message = "The requested stack was not found"),
                    @ApiResponse(code = 403, message = "The user has not permission get requested stack"),
                    @ApiResponse(code = 500, message = "Internal server error occurred")})
     public StackDto getStack(@ApiParam("The stack id") @PathParam("id") final String id) throws ApiException {
+        // tag is supplied by StackETagProvider
         return asStackDto(stackDao.getById(id));
     }
 
@@ -174,7 +180,9 @@ public class StackService extends Service {
                                             .setComponents(updateDto.getComponents())
                                             .build();
 
-        return asStackDto(stackDao.update(stackForUpdate));
+        final StackImpl updated = stackDao.update(stackForUpdate);
+        changeStamp.increment();
+        return asStackDto(updated);
     }
 
     @DELETE
@@ -187,6 +195,7 @@ public class StackService extends Service {
                    @ApiResponse(code = 500, message = "Internal server error occurred")})
     public void removeStack(@ApiParam("The stack id") @PathParam("id") final String id) throws ApiException {
         stackDao.remove(id);
+        changeStamp.increment();
     }
 
     @GET
@@ -197,6 +206,7 @@ public class StackService extends Service {
                   response = StackDto.class,
                   responseContainer = "List")
     @ApiResponses({@ApiResponse(code = 200, message = "The response contains requested list stack entity with required tags"),
+                   @ApiResponse(code = 304, message = "The stacks are not modified since the version given in If-None-Match"),
                    @ApiResponse(code = 403, message = "The user does not have access to get stack entity list with required tags"),
                    @ApiResponse(code = 500, message = "Internal server error occurred")})
     public List<StackDto> searchStacks(@ApiParam("List tags for search")
@@ -225,6 +235,7 @@ public class StackService extends Service {
                   notes = "This operation can be performed only by authorized user",
                   response = byte[].class)
     @ApiResponses({@ApiResponse(code = 200, message = "The response contains requested image entity"),
+                   @ApiResponse(code = 304, message = "The image is not modified since the version given in If-None-Match"),
                    @ApiResponse(code = 403, message = "The user does not have access to get image entity"),
                    @ApiResponse(code = 500, message = "Internal server error occurred")})
     public Response getIcon(@ApiParam("The stack id") @PathParam("id") final String id)
@@ -269,6 +280,7 @@ public class StackService extends Service {
 
             stack.setStackIcon(stackIcon);
             stackDao.update(stack);
+            changeStamp.increment();
         }
         return Response.ok().build();
     }
@@ -290,6 +302,7 @@ public class StackService extends Service {
         StackImpl stack = stackDao.getById(id);
         stack.setStackIcon(null);
         stackDao.update(stack);
+        changeStamp.increment();
     }
 
     private StackDto asStackDto(StackImpl stack) {
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.workspace.server;
+
+import org.eclipse.che.api.core.rest.ChangeStamp;
+import org.eclipse.che.commons.env.EnvironmentContext;
+import org.eclipse.che.commons.subject.SubjectImpl;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.UriInfo;
+import java.net.URI;
+
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Tests for {@link WorkspaceETagProvider}.
+ */
+@Listeners(MockitoTestNGListener.class)
+public class WorkspaceETagProviderTest {
+
+    @Mock
+    private WorkspaceManager workspaceManager;
+    @Mock
+    private UriInfo          uriInfo;
+
+    private ChangeStamp           stamp;
+    private WorkspaceETagProvider provider;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        stamp = new ChangeStamp();
+        when(workspaceManager.getChangeStamp()).thenReturn(stamp);
+        EnvironmentContext.getCurrent().setSubject(new SubjectImpl("user", "user123", "token", false));
+        provider = new WorkspaceETagProvider(workspaceManager);
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        EnvironmentContext.reset();
+    }
+
+    @Test
+    public void shouldSupplyTagOfWorkspacesUntilTheyAreChanged() throws Exception {
+        request("/workspace/workspace123");
+        final EntityTag tag = provider.getETag(uriInfo);
+
+        assertEquals(provider.getETag(uriInfo), tag);
+        stamp.increment();
+        assertNotEquals(provider.getETag(uriInfo), tag);
+    }
+
+    @Test
+    public void shouldSupplyTagOfWorkspacesList() throws Exception {
+        request("/workspace");
+
+        assertEquals(provider.getETag(uriInfo), stamp.getEntityTag(uriInfo));
+    }
+
+    @Test
+    public void shouldSupplyTagOfWorkspacesInNamespace() throws Exception {
+        request("/workspace/namespace/user");
+
+        assertEquals(provider.getETag(uriInfo), stamp.getEntityTag(uriInfo));
+    }
+
+    @Test
+    public void shouldNotSupplyTagOfWorkspacesInAnotherNamespace() throws Exception {
+        request("/workspace/namespace/another-user");
+
+        assertNull(provider.getETag(uriInfo));
+    }
+
+    @Test
+    public void shouldNotSupplyTagOfOtherResources() throws Exception {
+        request("/workspace/workspace123/snapshot");
+
+        assertNull(provider.getETag(uriInfo));
+    }
+
+    private void request(String path) {
+        when(uriInfo.getPath()).thenReturn(path);
+        when(uriInfo.getRequestUri()).thenReturn(URI.create("http://localhost/api" + path));
+    }
+}
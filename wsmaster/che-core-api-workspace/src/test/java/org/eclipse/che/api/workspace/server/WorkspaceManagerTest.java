@@ -25,6 +25,7 @@ import org.eclipse.che.api.machine.server.model.impl.ServerConfImpl;
 import org.eclipse.che.api.machine.server.model.impl.SnapshotImpl;
 import org.eclipse.che.api.workspace.server.WorkspaceRuntimes.RuntimeDescriptor;
 import org.eclipse.che.api.workspace.server.model.impl.EnvironmentImpl;
+import org.eclipse.che.api.workspace.server.model.impl.ProjectConfigImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceConfigImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceRuntimeImpl;
@@ -46,6 +47,7 @@ import java.util.List;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
@@ -61,6 +63,7 @@ import static org.mockito.Matchers.anyObject;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
@@ -308,6 +311,27 @@ public class WorkspaceManagerTest {
         assertEquals(updated.getStatus(), STARTING);
     }
 
+    @Test
+    public void shouldUpdateOnlyProjectsOfWorkspace() throws Exception {
+        final WorkspaceImpl workspace = workspaceManager.createWorkspace(createConfig(), "user123", "account");
+        final List<ProjectConfigImpl> update = workspace.getConfig().getProjects();
+
+        workspaceManager.updateProjects(workspace.getId(), update, singletonList("/removed"));
+
+        verify(workspaceDao).updateProjects(workspace.getId(), update, singletonList("/removed"));
+        verify(workspaceDao, never()).update(any(WorkspaceImpl.class));
+    }
+
+    @Test
+    public void shouldIncrementChangeStampAfterWorkspaceIsChanged() throws Exception {
+        final long initial = workspaceManager.getChangeStamp().get();
+
+        final WorkspaceImpl workspace = workspaceManager.createWorkspace(createConfig(), "user123", "account");
+        workspaceManager.updateProjects(workspace.getId(), emptyList(), singletonList("/removed"));
+
+        assertEquals(workspaceManager.getChangeStamp().get(), initial + 2);
+    }
+
     @Test
     public void shouldRemoveWorkspace() throws Exception {
         final WorkspaceImpl workspace = workspaceManager.createWorkspace(createConfig(), "user123", "account");
@@ -15,11 +15,13 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Sets;
 import com.jayway.restassured.response.Response;
 
+import org.eclipse.che.api.core.BadRequestException;
 import org.eclipse.che.api.core.model.machine.MachineStatus;
 import org.eclipse.che.api.core.model.project.ProjectConfig;
 import org.eclipse.che.api.core.model.workspace.WorkspaceConfig;
 import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
 import org.eclipse.che.api.core.rest.ApiExceptionMapper;
+import org.eclipse.che.api.core.rest.ChangeStamp;
 import org.eclipse.che.api.core.rest.shared.dto.Link;
 import org.eclipse.che.api.core.rest.shared.dto.ServiceError;
 import org.eclipse.che.api.machine.server.MachineManager;
@@ -34,6 +36,7 @@ import org.eclipse.che.api.machine.server.model.impl.ServerImpl;
 import org.eclipse.che.api.machine.server.model.impl.SnapshotImpl;
 import org.eclipse.che.api.machine.shared.dto.CommandDto;
 import org.eclipse.che.api.workspace.server.model.impl.EnvironmentImpl;
+import org.eclipse.che.api.workspace.server.model.impl.ProjectConfigImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceConfigImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceRuntimeImpl;
@@ -45,6 +48,9 @@ import org.eclipse.che.api.workspace.shared.dto.WorkspaceDto;
 import org.eclipse.che.commons.env.EnvironmentContext;
 import org.eclipse.che.commons.subject.SubjectImpl;
 import org.eclipse.che.dto.server.DtoFactory;
+import org.eclipse.che.everrest.ETagMetrics;
+import org.eclipse.che.everrest.ETagRequestFilter;
+import org.eclipse.che.everrest.ETagResponseFilter;
 import org.everrest.assured.EverrestJetty;
 import org.everrest.core.Filter;
 import org.everrest.core.GenericContainerRequest;
@@ -92,8 +98,10 @@ import static org.mockito.Matchers.anyBoolean;
 import static org.mockito.Matchers.anyObject;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
@@ -123,6 +131,10 @@ public class WorkspaceServiceTest {
     private WorkspaceValidator validator;
     @InjectMocks
     private WorkspaceService   service;
+    @SuppressWarnings("unused")
+    private ETagRequestFilter  eTagRequestFilter;
+    @SuppressWarnings("unused")
+    private ETagResponseFilter eTagResponseFilter = new ETagResponseFilter();
 
     @BeforeMethod
     public void setup() {
@@ -130,6 +142,8 @@ public class WorkspaceServiceTest {
                                        machineManager,
                                        validator,
                                        new WorkspaceServiceLinksInjector(new MachineServiceLinksInjector()));
+        when(wsManager.getChangeStamp()).thenReturn(new ChangeStamp());
+        eTagRequestFilter = new ETagRequestFilter(singleton(new WorkspaceETagProvider(wsManager)), new ETagMetrics());
     }
 
     @Test
@@ -245,6 +259,70 @@ public class WorkspaceServiceTest {
                      asList(workspace1, workspace2));
     }
 
+    @Test
+    public void shouldNotReadWorkspacesIfTheyAreNotModifiedSinceGivenVersion() throws Exception {
+        final ChangeStamp stamp = new ChangeStamp();
+        when(wsManager.getChangeStamp()).thenReturn(stamp);
+        when(wsManager.getWorkspaces(USER_ID)).thenReturn(singletonList(createWorkspace(createConfigDto())));
+        final String etag = given().auth()
+                                   .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+                                   .when()
+                                   .get(SECURE_PATH + "/workspace")
+                                   .header("ETag");
+
+        final Response notModified = given().auth()
+                                            .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+                                            .header("If-None-Match", etag)
+                                            .when()
+                                            .get(SECURE_PATH + "/workspace");
+        stamp.increment();
+        final Response modified = given().auth()
+                                         .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+                                         .header("If-None-Match", etag)
+                                         .when()
+                                         .get(SECURE_PATH + "/workspace");
+
+        assertNotNull(etag);
+        assertEquals(notModified.getStatusCode(), 304);
+        assertEquals(modified.getStatusCode(), 200);
+        verify(wsManager, times(2)).getWorkspaces(USER_ID);
+    }
+
+    @Test
+    public void shouldGetWorkspacesByNamespaceUntilTheyAreModified() throws Exception {
+        final WorkspaceImpl workspace = createWorkspace(createConfigDto());
+        when(wsManager.getByNamespace(NAMESPACE)).thenReturn(singletonList(workspace));
+
+        final Response response = given().auth()
+                                         .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+                                         .when()
+                                         .get(SECURE_PATH + "/workspace/namespace/" + NAMESPACE);
+        final Response notModified = given().auth()
+                                            .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+                                            .header("If-None-Match", response.header("ETag"))
+                                            .when()
+                                            .get(SECURE_PATH + "/workspace/namespace/" + NAMESPACE);
+
+        assertEquals(response.getStatusCode(), 200);
+        assertEquals(unwrapDtoList(response, WorkspaceDto.class).stream()
+                                                                .map(WorkspaceImpl::new)
+                                                                .collect(toList()),
+                     singletonList(workspace));
+        assertEquals(notModified.getStatusCode(), 304);
+        verify(wsManager).getByNamespace(NAMESPACE);
+    }
+
+    @Test
+    public void shouldNotGetWorkspacesOfAnotherNamespace() throws Exception {
+        final Response response = given().auth()
+                                         .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+                                         .when()
+                                         .get(SECURE_PATH + "/workspace/namespace/another-namespace");
+
+        assertEquals(response.getStatusCode(), 403);
+        verify(wsManager, never()).getByNamespace(any());
+    }
+
     @Test
     public void shouldGetWorkspacesByStatus() throws Exception {
         final WorkspaceImpl workspace1 = createWorkspace(createConfigDto());
@@ -584,6 +662,45 @@ public class WorkspaceServiceTest {
         verify(wsManager).updateWorkspace(any(), any());
     }
 
+    @Test
+    public void shouldApplyBatchOfProjectChangesWithoutUpdatingWholeWorkspace() throws Exception {
+        final WorkspaceImpl workspace = createWorkspace(createConfigDto());
+        when(wsManager.getWorkspace(workspace.getId())).thenReturn(workspace);
+        final ProjectConfigDto projectDto = createProjectDto();
+
+        final Response response = given().auth()
+                                         .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+                                         .contentType("application/json")
+                                         .body("[" + DtoFactory.getInstance().toJson(projectDto) + "]")
+                                         .when()
+                                         .put(SECURE_PATH + "/workspace/" + workspace.getId()
+                                              + "/project?remove=removed&remove=/removed2");
+
+        assertEquals(response.getStatusCode(), 204);
+        verify(validator).validateConfig(workspace.getConfig());
+        assertTrue(workspace.getConfig().getProjects().contains(new ProjectConfigImpl(projectDto)));
+        verify(wsManager).updateProjects(eq(workspace.getId()), eq(singletonList(projectDto)), eq(asList("/removed", "/removed2")));
+        verify(wsManager, never()).updateWorkspace(any(), any());
+    }
+
+    @Test
+    public void shouldNotApplyBatchOfProjectChangesWhichMakesWorkspaceConfigInvalid() throws Exception {
+        final WorkspaceImpl workspace = createWorkspace(createConfigDto());
+        when(wsManager.getWorkspace(workspace.getId())).thenReturn(workspace);
+        doThrow(new BadRequestException("Invalid project")).when(validator).validateConfig(workspace.getConfig());
+
+        final Response response = given().auth()
+                                         .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+                                         .contentType("application/json")
+                                         .body("[" + DtoFactory.getInstance().toJson(createProjectDto()) + "]")
+                                         .when()
+                                         .put(SECURE_PATH + "/workspace/" + workspace.getId() + "/project");
+
+        assertEquals(response.getStatusCode(), 400);
+        assertEquals(unwrapError(response), "Invalid project");
+        verify(wsManager, never()).updateProjects(any(), any(), any());
+    }
+
     @Test
     public void shouldRespond404WhenUpdatingProjectWhichDoesNotExist() throws Exception {
         final WorkspaceImpl workspace = createWorkspace(createConfigDto());
@@ -37,6 +37,9 @@ import org.eclipse.che.api.workspace.shared.stack.StackComponent;
 import org.eclipse.che.commons.env.EnvironmentContext;
 import org.eclipse.che.commons.subject.SubjectImpl;
 import org.eclipse.che.dto.server.DtoFactory;
+import org.eclipse.che.everrest.ETagMetrics;
+import org.eclipse.che.everrest.ETagRequestFilter;
+import org.eclipse.che.everrest.ETagResponseFilter;
 import org.everrest.assured.EverrestJetty;
 import org.everrest.core.Filter;
 import org.everrest.core.GenericContainerRequest;
@@ -44,6 +47,7 @@ import org.everrest.core.RequestFilter;
 import org.everrest.core.impl.uri.UriBuilderImpl;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.testng.MockitoTestNGListener;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
@@ -62,6 +66,7 @@ import java.util.List;
 import static com.jayway.restassured.RestAssured.given;
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 import static javax.ws.rs.core.MediaType.MULTIPART_FORM_DATA;
@@ -76,6 +81,7 @@ import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.anyList;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
@@ -145,9 +151,17 @@ public class StackServiceTest {
     @Mock
     StackComponentImpl stackComponent;
 
+    @Spy
+    StackChangeStamp changeStamp = new StackChangeStamp();
+
     @InjectMocks
     StackService service;
 
+    @SuppressWarnings("unused")
+    ETagRequestFilter  eTagRequestFilter;
+    @SuppressWarnings("unused")
+    ETagResponseFilter eTagResponseFilter = new ETagResponseFilter();
+
     @BeforeClass
     public void setUp() throws IOException, ConflictException {
         byte[] fileContent = STACK_ID.getBytes();
@@ -228,6 +242,8 @@ public class StackServiceTest {
                                       .getDeclaredField("uriInfo");
         uriField.setAccessible(true);
         uriField.set(service, uriInfo);
+
+        eTagRequestFilter = new ETagRequestFilter(singleton(new StackETagProvider(changeStamp)), new ETagMetrics());
     }
 
     /** Create stack */
@@ -546,6 +562,32 @@ public class StackServiceTest {
         verify(stackDao).getById(stackImpl.getId());
     }
 
+    @Test
+    public void shouldNotReadIconIfItIsNotModifiedSinceGivenVersion() throws NotFoundException, ServerException {
+        when(stackDao.getById(stackImpl.getId())).thenReturn(stackImpl);
+        final String etag = given().auth()
+                                   .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+                                   .when()
+                                   .get(SECURE_PATH + "/stack/" + stackImpl.getId() + "/icon")
+                                   .header("ETag");
+
+        final Response notModified = given().auth()
+                                            .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+                                            .header("If-None-Match", etag)
+                                            .when()
+                                            .get(SECURE_PATH + "/stack/" + stackImpl.getId() + "/icon");
+        changeStamp.increment();
+        final Response modified = given().auth()
+                                         .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+                                         .header("If-None-Match", etag)
+                                         .when()
+                                         .get(SECURE_PATH + "/stack/" + stackImpl.getId() + "/icon");
+
+        assertEquals(notModified.getStatusCode(), 304);
+        assertEquals(modified.getStatusCode(), 200);
+        verify(stackDao, times(2)).getById(stackImpl.getId());
+    }
+
     @Test
     public void shouldThrowNotFoundExceptionWhenIconStackWasNotFound() throws NotFoundException, ServerException {
         Response response = given().auth()
@@ -106,6 +106,18 @@ public class LocalWorkspaceDaoImpl implements WorkspaceDao {
         return workspace;
     }
 
+    @Override
+    public synchronized void updateProjects(String id,
+                                            List<? extends ProjectConfig> update,
+                                            List<String> removedPaths) throws NotFoundException, ServerException {
+        final WorkspaceImpl workspace = workspaces.get(id);
+        if (workspace == null) {
+            throw new NotFoundException("Workspace with id " + id + " was not found");
+        }
+        // stored instance is not shared, so it's updated in place without copying the rest of workspace
+        workspace.getConfig().updateProjects(update, removedPaths);
+    }
+
     @Override
     public synchronized void remove(String id) throws ConflictException, ServerException {
         workspaces.remove(id);
@@ -41,6 +41,7 @@ import java.util.Map;
 import static java.nio.file.Files.readAllBytes;
 import static java.nio.file.Files.write;
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.eclipse.che.commons.lang.NameGenerator.generate;
@@ -88,6 +89,30 @@ public class LocalWorkspaceDaoTest {
         assertEquals(result, workspace);
     }
 
+    @Test
+    public void shouldUpdateOnlyProjectsOfWorkspace() throws Exception {
+        final WorkspaceImpl workspace = createWorkspace();
+        workspaceDao.create(workspace);
+        final ProjectConfigImpl existing = workspace.getConfig().getProjects().get(0);
+        final ProjectConfigImpl updated = new ProjectConfigImpl(existing);
+        updated.setDescription("updated description");
+        final ProjectConfigImpl added = new ProjectConfigImpl();
+        added.setName("new-project");
+        added.setPath("/new-project");
+        added.setType("blank");
+
+        workspaceDao.updateProjects(workspace.getId(), asList(updated, added), emptyList());
+
+        final WorkspaceImpl result = workspaceDao.get(workspace.getId());
+        assertEquals(result.getConfig().getProjects(), asList(updated, added));
+        assertEquals(result.getConfig().getCommands(), workspace.getConfig().getCommands());
+        assertEquals(result.getConfig().getEnvironments(), workspace.getConfig().getEnvironments());
+
+        workspaceDao.updateProjects(workspace.getId(), emptyList(), singletonList(existing.getPath()));
+
+        assertEquals(workspaceDao.get(workspace.getId()).getConfig().getProjects(), singletonList(added));
+    }
+
     private static WorkspaceImpl createWorkspace() {
         // environments
         final RecipeImpl recipe = new RecipeImpl();